@@ -33,6 +33,8 @@ import com.kickstarter.libs.InternalToolsType;
 import com.kickstarter.libs.KSCurrency;
 import com.kickstarter.libs.KSString;
 import com.kickstarter.libs.Logout;
+import com.kickstarter.libs.ProjectPrefetcher;
+import com.kickstarter.libs.ReferenceDataStore;
 import com.kickstarter.libs.PushNotifications;
 import com.kickstarter.libs.SegmentTrackingClient;
 import com.kickstarter.libs.TrackingClientType;
@@ -41,9 +43,13 @@ import com.kickstarter.libs.braze.RemotePushClientType;
 import com.kickstarter.libs.featureflag.FeatureFlagClient;
 import com.kickstarter.libs.featureflag.FeatureFlagClientType;
 import com.kickstarter.libs.featureflag.StatsigClient;
+import com.kickstarter.libs.graphql.ApolloNormalizedCache;
+import com.kickstarter.libs.graphql.ApolloPersistedQueries;
+import com.kickstarter.libs.graphql.DedupApolloInterceptor;
 import com.kickstarter.libs.graphql.DateAdapter;
 import com.kickstarter.libs.graphql.DateTimeAdapter;
 import com.kickstarter.libs.graphql.Iso8601DateTimeAdapter;
+import com.kickstarter.libs.htmlparser.StoryViewElementCache;
 import com.kickstarter.libs.keystore.EncryptionEngine;
 import com.kickstarter.libs.preferences.BooleanPreference;
 import com.kickstarter.libs.preferences.BooleanPreferenceType;
@@ -57,6 +63,7 @@ import com.kickstarter.libs.qualifiers.ApiRetrofit;
 import com.kickstarter.libs.qualifiers.ApiRetrofitV2;
 import com.kickstarter.libs.qualifiers.AppRatingPreference;
 import com.kickstarter.libs.qualifiers.ApplicationContext;
+import com.kickstarter.libs.qualifiers.BaseOkHttpClient;
 import com.kickstarter.libs.qualifiers.ConfigPreference;
 import com.kickstarter.libs.qualifiers.FirstSessionPreference;
 import com.kickstarter.libs.qualifiers.GamesNewsletterPreference;
@@ -65,13 +72,16 @@ import com.kickstarter.libs.qualifiers.UserPreference;
 import com.kickstarter.libs.qualifiers.WebEndpoint;
 import com.kickstarter.libs.qualifiers.WebRetrofit;
 import com.kickstarter.libs.utils.PlayServicesCapability;
+import com.kickstarter.libs.utils.RefTagStore;
 import com.kickstarter.libs.utils.Secrets;
 import com.kickstarter.services.ApiClientTypeV2;
 import com.kickstarter.services.ApiServiceV2;
 import com.kickstarter.services.ApolloClientTypeV2;
 import com.kickstarter.services.KSWebViewClient;
 import com.kickstarter.services.interceptors.ApiRequestInterceptor;
+import com.kickstarter.services.interceptors.CacheControlInterceptor;
 import com.kickstarter.services.interceptors.GraphQLInterceptor;
+import com.kickstarter.services.interceptors.GraphQLMetricsInterceptor;
 import com.kickstarter.services.interceptors.KSRequestInterceptor;
 import com.kickstarter.services.interceptors.WebRequestInterceptor;
 import com.kickstarter.type.Date;
@@ -81,6 +91,7 @@ import com.stripe.android.Stripe;
 
 import org.joda.time.DateTime;
 
+import java.io.File;
 import java.net.CookieManager;
 import java.util.Arrays;
 import java.util.List;
@@ -94,6 +105,7 @@ import androidx.preference.PreferenceManager;
 import dagger.Module;
 import dagger.Provides;
 import io.reactivex.Scheduler;
+import okhttp3.Cache;
 import okhttp3.CookieJar;
 import okhttp3.JavaNetCookieJar;
 import okhttp3.OkHttpClient;
@@ -104,6 +116,9 @@ import retrofit2.converter.gson.GsonConverterFactory;
 
 @Module
 public class ApplicationModule {
+  private static final String HTTP_CACHE_DIRECTORY = "http_cache";
+  private static final long HTTP_CACHE_MAX_SIZE_BYTES = 20L * 1024 * 1024;
+
   private final Application application;
 
   public ApplicationModule(final @NonNull Application application) {
@@ -136,7 +151,12 @@ public class ApplicationModule {
     final @NonNull @WebEndpoint String webEndpoint,
     final @NonNull FirebaseAnalyticsClientType firebaseAnalyticsClientType,
     final @NonNull StatsigClient statsigClient,
-    final @NonNull FeatureFlagClientType featureFlagClient) {
+    final @NonNull FeatureFlagClientType featureFlagClient,
+    final @NonNull StoryViewElementCache storyViewElementCache,
+    final @NonNull RefTagStore refTagStore,
+    final @NonNull ProjectPrefetcher projectPrefetcher,
+    final @BaseOkHttpClient @NonNull OkHttpClient baseOkHttpClient,
+    final @NonNull ReferenceDataStore referenceDataStore) {
 
     return Environment.builder()
       .activitySamplePreference(activitySamplePreference)
@@ -164,6 +184,11 @@ public class ApplicationModule {
       .firebaseAnalyticsClient(firebaseAnalyticsClientType)
       .featureFlagClient(featureFlagClient)
       .statsigClient(statsigClient)
+      .storyViewElementCache(storyViewElementCache)
+      .refTagStore(refTagStore)
+      .projectPrefetcher(projectPrefetcher)
+      .baseOkHttpClient(baseOkHttpClient)
+      .referenceDataStore(referenceDataStore)
       .build();
   }
 
@@ -191,12 +216,15 @@ public class ApplicationModule {
   @Provides
   @Singleton
   @NonNull
-  static ApolloClient provideApolloClient(final @NonNull Build build, final @NonNull HttpLoggingInterceptor httpLoggingInterceptor,
-    final @NonNull GraphQLInterceptor graphQLInterceptor, @NonNull @WebEndpoint final String webEndpoint, final @NonNull KSRequestInterceptor ksRequestInterceptor) {
+  static ApolloClient provideApolloClient(final @ApplicationContext @NonNull Context context, final @NonNull Build build, final @NonNull HttpLoggingInterceptor httpLoggingInterceptor,
+    final @NonNull GraphQLInterceptor graphQLInterceptor, @NonNull @WebEndpoint final String webEndpoint, final @NonNull KSRequestInterceptor ksRequestInterceptor,
+    final @BaseOkHttpClient @NonNull OkHttpClient baseOkHttpClient, final @NonNull GraphQLMetricsInterceptor graphQLMetricsInterceptor,
+    final @NonNull DedupApolloInterceptor dedupApolloInterceptor) {
 
-    final OkHttpClient.Builder builder = new OkHttpClient.Builder()
+    final OkHttpClient.Builder builder = baseOkHttpClient.newBuilder()
       .addInterceptor(graphQLInterceptor)
-      .addInterceptor(ksRequestInterceptor);
+      .addInterceptor(ksRequestInterceptor)
+      .addNetworkInterceptor(graphQLMetricsInterceptor);
 
     // Only log in debug mode to avoid leaking sensitive information.
     if (build.isDebug()) {
@@ -212,7 +240,33 @@ public class ApplicationModule {
       .addCustomScalarAdapter(com.kickstarter.type.ISO8601DateTime.Companion.getType(), new Iso8601DateTimeAdapter())
       .httpEngine(new DefaultHttpEngine(okHttpClient));
 
-    return apolloBuilder
+    ApolloPersistedQueries.configure(apolloBuilder);
+
+    // - Added after the normalized cache so only requests headed to the network are deduplicated
+    return ApolloNormalizedCache.configure(apolloBuilder, context)
+      .addInterceptor(dedupApolloInterceptor)
+      .build();
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static DedupApolloInterceptor provideDedupApolloInterceptor(final @NonNull CurrentUserTypeV2 currentUser) {
+    // - Keyed by the access token so a query started right before a login or logout isn't shared across users
+    return new DedupApolloInterceptor(currentUser::getAccessToken);
+  }
+
+  /**
+   * Client every other OkHttp client is derived from with {@link OkHttpClient#newBuilder()}, so the
+   * GraphQL and REST clients share one connection pool, dispatcher and disk cache.
+   */
+  @Provides
+  @Singleton
+  @BaseOkHttpClient
+  @NonNull
+  static OkHttpClient provideBaseOkHttpClient(final @ApplicationContext @NonNull Context context) {
+    return new OkHttpClient.Builder()
+      .cache(new Cache(new File(context.getCacheDir(), HTTP_CACHE_DIRECTORY), HTTP_CACHE_MAX_SIZE_BYTES))
       .build();
   }
 
@@ -221,9 +275,10 @@ public class ApplicationModule {
   @NonNull
   static OkHttpClient provideOkHttpClient(final @NonNull ApiRequestInterceptor apiRequestInterceptor, final @NonNull CookieJar cookieJar,
     final @NonNull HttpLoggingInterceptor httpLoggingInterceptor, final @NonNull KSRequestInterceptor ksRequestInterceptor,
-    final @NonNull Build build, final @NonNull WebRequestInterceptor webRequestInterceptor) {
+    final @NonNull Build build, final @NonNull WebRequestInterceptor webRequestInterceptor,
+    final @NonNull CacheControlInterceptor cacheControlInterceptor, final @BaseOkHttpClient @NonNull OkHttpClient baseOkHttpClient) {
 
-    final OkHttpClient.Builder builder = new OkHttpClient.Builder();
+    final OkHttpClient.Builder builder = baseOkHttpClient.newBuilder();
 
     // Only log in debug mode to avoid leaking sensitive information.
     if (build.isDebug()) {
@@ -234,10 +289,18 @@ public class ApplicationModule {
       .addInterceptor(apiRequestInterceptor)
       .addInterceptor(webRequestInterceptor)
       .addInterceptor(ksRequestInterceptor)
+      .addNetworkInterceptor(cacheControlInterceptor)
       .cookieJar(cookieJar)
       .build();
   }
 
+  @Provides
+  @Singleton
+  @NonNull
+  static CacheControlInterceptor provideCacheControlInterceptor() {
+    return new CacheControlInterceptor();
+  }
+
   @Provides
   @Singleton
   @ApiRetrofitV2
@@ -275,6 +338,13 @@ public class ApplicationModule {
     return new GraphQLInterceptor(clientId, currentUser, build);
   }
 
+  @Provides
+  @Singleton
+  @NonNull
+  static GraphQLMetricsInterceptor provideGraphQLMetricsInterceptor() {
+    return new GraphQLMetricsInterceptor();
+  }
+
   @Provides
   @Singleton
   @NonNull
@@ -441,6 +511,13 @@ public class ApplicationModule {
     return new AttributionEvents(apolloClient);
   }
 
+  @Provides
+  @Singleton
+  @NonNull
+  static StoryViewElementCache provideStoryViewElementCache(final @ApplicationContext @NonNull Context context) {
+    return new StoryViewElementCache(new File(context.getCacheDir(), StoryViewElementCache.DIRECTORY));
+  }
+
   @Provides
   @Singleton
   static io.reactivex.Scheduler provideSchedulerV2() {
@@ -558,8 +635,9 @@ public class ApplicationModule {
 
   @Provides
   @Singleton
-  static Logout provideLogout(final @NonNull CookieManager cookieManager, final @NonNull CurrentUserTypeV2 currentUser, final @NonNull CurrentUserTypeV2 currentUserV2) {
-    return new Logout(cookieManager, currentUserV2);
+  static Logout provideLogout(final @NonNull CookieManager cookieManager, final @NonNull CurrentUserTypeV2 currentUser, final @NonNull CurrentUserTypeV2 currentUserV2,
+    final @NonNull ApolloClientTypeV2 apolloClient) {
+    return new Logout(cookieManager, currentUserV2, apolloClient);
   }
 
   @Provides
@@ -594,6 +672,38 @@ public class ApplicationModule {
     return context.getResources();
   }
 
+  @Provides
+  @Singleton
+  @NonNull
+  static RefTagStore provideRefTagStore(final @ApplicationContext @NonNull Context context,
+    final @NonNull SharedPreferences sharedPreferences) {
+    final RefTagStore refTagStore = new RefTagStore(
+      context.getSharedPreferences(RefTagStore.PREFERENCES_NAME, Context.MODE_PRIVATE),
+      sharedPreferences
+    );
+    // Loads the store, migrating the legacy keys on first run, and drops expired attributions off the main thread
+    io.reactivex.schedulers.Schedulers.io().scheduleDirect(refTagStore::compact);
+    return refTagStore;
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static ProjectPrefetcher provideProjectPrefetcher() {
+    return new ProjectPrefetcher();
+  }
+
+  @Provides
+  @Singleton
+  @NonNull
+  static ReferenceDataStore provideReferenceDataStore(final @ApplicationContext @NonNull Context context) {
+    final ReferenceDataStore referenceDataStore =
+      new ReferenceDataStore(new File(context.getFilesDir(), ReferenceDataStore.FILE_NAME));
+    // Reads the stored categories, tags and locations off the main thread, ahead of the drawer and filters asking
+    io.reactivex.schedulers.Schedulers.io().scheduleDirect(referenceDataStore::load);
+    return referenceDataStore;
+  }
+
   @Provides
   @Singleton
   SharedPreferences provideSharedPreferences() {
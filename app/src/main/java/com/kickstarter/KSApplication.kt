@@ -6,8 +6,6 @@ import androidx.multidex.MultiDex
 import androidx.multidex.MultiDexApplication
 import coil.ImageLoader
 import coil.ImageLoaderFactory
-import coil.decode.GifDecoder
-import coil.decode.ImageDecoderDecoder
 import com.apollographql.apollo3.exception.ApolloHttpException
 import com.google.firebase.crashlytics.FirebaseCrashlytics
 import com.kickstarter.libs.ApiEndpoint
@@ -15,12 +13,15 @@ import com.kickstarter.libs.Build
 import com.kickstarter.libs.CurrentUserTypeV2
 import com.kickstarter.libs.FirebaseHelper.Companion.identifier
 import com.kickstarter.libs.FirebaseHelper.Companion.initialize
+import com.kickstarter.libs.ImagePipeline
 import com.kickstarter.libs.PushNotifications
 import com.kickstarter.libs.SegmentTrackingClient
 import com.kickstarter.libs.braze.RemotePushClientType
 import com.kickstarter.libs.featureflag.FeatureFlagClientType
 import com.kickstarter.libs.featureflag.StatsigClient
 import com.kickstarter.libs.featureflag.StatsigException
+import com.kickstarter.libs.startup.StartupOrchestrator
+import com.kickstarter.libs.startup.StartupTask
 import com.kickstarter.libs.utils.ApplicationLifecycleUtil
 import com.kickstarter.libs.utils.Secrets
 import com.kickstarter.viewmodels.InitializationState
@@ -33,6 +34,8 @@ import kotlinx.coroutines.SupervisorJob
 import kotlinx.coroutines.cancel
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.asStateFlow
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.launch
 import org.joda.time.DateTime
 import timber.log.Timber
 import timber.log.Timber.Forest.plant
@@ -77,6 +80,11 @@ open class KSApplication : MultiDexApplication(), IKSApplicationComponent, Image
      */
     private val applicationScope = CoroutineScope(SupervisorJob() + Dispatchers.IO)
 
+    /**
+     * Runs the app wide [startupTasks], its trace has the timing of each of them.
+     */
+    val startup = StartupOrchestrator()
+
     val mutableInitializationState = MutableStateFlow(InitializationState.NOT_STARTED)
     val initializationState = mutableInitializationState.asStateFlow()
 
@@ -113,38 +121,43 @@ open class KSApplication : MultiDexApplication(), IKSApplicationComponent, Image
         }
 
         createErrorHandler()
-        initialize(applicationContext, ffClient) { this.initializeDependencies() }
-    }
-
-    // - Returns Boolean because incompatible Java "void" type with kotlin "Void" type for the lambda declaration
-    private fun initializeDependencies(): Boolean {
-        setVisitorCookie()
-        pushNotifications.initialize()
+        // - Initializes FirebaseApp right away, the installation id is awaited by the tasks needing it
+        initialize(applicationContext, ffClient) { true }
 
+        // - Lifecycle callbacks have to be in place before the first activity is created
         val appUtil = ApplicationLifecycleUtil(this)
         registerActivityLifecycleCallbacks(appUtil)
         registerComponentCallbacks(appUtil)
-
-        // - Initialize Segment SDK
-        if (this.segmentTrackingClient != null) {
-            segmentTrackingClient.initialize()
-        }
-
-        // - Register lifecycle callback for Braze
         remotePushClientType.registerActivityLifecycleCallbacks(this)
 
-        // - Initialize Statsig SDK
-        statsigClient.initialize(
-            scope = applicationScope,
-            errorCallback = { exception ->
-                FirebaseCrashlytics.getInstance().recordException(StatsigException(exception))
-            }
-        )
-        statsigClient.observeUserAndFetchConfigs(applicationScope)
-
-        return true
+        applicationScope.launch { startup.run(startupTasks()) }
     }
 
+    /**
+     * SDKs and app wide clients initialized on start up. Only the visitor cookie needs the Firebase installation
+     * id, everything else starts in parallel on [applicationScope].
+     */
+    private fun startupTasks() = listOf(
+        // - As before, the cookie is only set once the installation id arrives, however long it takes
+        StartupTask(TASK_VISITOR_COOKIE) {
+            identifier.first { it.isNotBlank() }
+            setVisitorCookie()
+        },
+        StartupTask(TASK_PUSH_NOTIFICATIONS) { pushNotifications.initialize() },
+        StartupTask(TASK_SEGMENT) { segmentTrackingClient.initialize() },
+        // - Gates read the values cached by the SDK until it's ready
+        StartupTask(TASK_STATSIG, deadlineMillis = STATSIG_DEADLINE_MILLIS) {
+            statsigClient.initialize(
+                scope = applicationScope,
+                errorCallback = { exception ->
+                    FirebaseCrashlytics.getInstance().recordException(StatsigException(exception))
+                }
+            )
+            statsigClient.observeUserAndFetchConfigs(applicationScope)
+            statsigClient.isReady.first { it }
+        }
+    )
+
     fun component(): ApplicationComponent? {
         return this.component
     }
@@ -169,18 +182,7 @@ open class KSApplication : MultiDexApplication(), IKSApplicationComponent, Image
         CookieHandler.setDefault(this.cookieManager)
     }
 
-    override fun newImageLoader(): ImageLoader {
-        return ImageLoader.Builder(this)
-            .components {
-                if (android.os.Build.VERSION.SDK_INT >= 28) {
-                    add(ImageDecoderDecoder.Factory())
-                } else {
-                    Timber.d("GifDecoder")
-                    add(GifDecoder.Factory())
-                }
-            }
-            .build()
-    }
+    override fun newImageLoader(): ImageLoader = ImagePipeline.newImageLoader(this)
 
     private fun createErrorHandler() {
         RxJavaPlugins.setErrorHandler { t: Throwable ->
@@ -209,4 +211,13 @@ open class KSApplication : MultiDexApplication(), IKSApplicationComponent, Image
             }
         }
     }
+
+    companion object {
+        const val TASK_VISITOR_COOKIE = "visitor_cookie"
+        const val TASK_PUSH_NOTIFICATIONS = "push_notifications"
+        const val TASK_SEGMENT = "segment"
+        const val TASK_STATSIG = "statsig"
+
+        private const val STATSIG_DEADLINE_MILLIS = 3_000L
+    }
 }
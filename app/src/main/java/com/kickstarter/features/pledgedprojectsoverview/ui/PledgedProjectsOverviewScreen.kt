@@ -51,6 +51,8 @@ import androidx.compose.ui.tooling.preview.Preview
 import androidx.paging.PagingData
 import androidx.paging.compose.LazyPagingItems
 import androidx.paging.compose.collectAsLazyPagingItems
+import androidx.paging.compose.itemContentType
+import androidx.paging.compose.itemKey
 import com.kickstarter.R
 import com.kickstarter.features.pledgedprojectsoverview.data.PPOCard
 import com.kickstarter.features.pledgedprojectsoverview.data.PPOCardFactory
@@ -81,7 +83,7 @@ private fun PledgedProjectsOverviewScreenPreview() {
             containerColor = colors.backgroundSurfacePrimary
         ) { padding ->
             val ppoCardList1 = (0..10).map {
-                PPOCardFactory.fixPaymentCard()
+                PPOCardFactory.fixPaymentCard().toBuilder().backingId("$it").build()
             }
             val ppoCardPagingList = flowOf(PagingData.from(ppoCardList1)).collectAsLazyPagingItems()
             PledgedProjectsOverviewScreen(
@@ -112,7 +114,7 @@ private fun PledgedProjectsOverviewScreenErrorPreview() {
             containerColor = colors.backgroundSurfacePrimary
         ) { padding ->
             val ppoCardList1 = (0..10).map {
-                PPOCardFactory.confirmAddressCard()
+                PPOCardFactory.confirmAddressCard().toBuilder().backingId("$it").build()
             }
             val ppoCardPagingList = flowOf(PagingData.from(ppoCardList1)).collectAsLazyPagingItems()
             PledgedProjectsOverviewScreen(
@@ -172,7 +174,7 @@ private fun PledgedProjectsOverviewScreenV2Preview() {
             containerColor = colors.backgroundSurfacePrimary
         ) { padding ->
             val ppoCardList1 = (0..10).map {
-                PPOCardFactory.fixPaymentCard()
+                PPOCardFactory.fixPaymentCard().toBuilder().backingId("$it").build()
             }
             val ppoCardPagingList = flowOf(PagingData.from(ppoCardList1)).collectAsLazyPagingItems()
             PledgedProjectsOverviewScreen(
@@ -322,7 +324,7 @@ fun PledgedProjectsOverviewScreen(
                             ),
                         state = lazyColumnListState
                     ) {
-                        item {
+                        item(key = ALERT_COUNT_KEY) {
                             if (!totalAlerts.isNullOrZero()) {
                                 Text(
                                     modifier = Modifier.testTag(
@@ -340,7 +342,9 @@ fun PledgedProjectsOverviewScreen(
                         }
 
                         items(
-                            count = ppoCards.itemCount
+                            count = ppoCards.itemCount,
+                            key = ppoCards.itemKey { it.backingId() ?: it.hashCode() },
+                            contentType = ppoCards.itemContentType { it.viewType() }
                         ) { index ->
 
                             ppoCards[index]?.let { ppoData ->
@@ -537,6 +541,8 @@ fun PPOScreenErrorState() {
     }
 }
 
+private const val ALERT_COUNT_KEY = "alert_count"
+
 enum class PledgedProjectsOverviewScreenTestTag {
     BACK_BUTTON,
     INFO_BUTTON,
@@ -0,0 +1,126 @@
+package com.kickstarter.features.search.data
+
+import android.os.SystemClock
+import com.kickstarter.models.Project
+import com.kickstarter.services.DiscoveryParams
+import java.util.Locale
+import java.util.concurrent.TimeUnit
+
+/**
+ * Least recently used cache of search result pages, keyed by the filters of a [DiscoveryParams], its normalized term
+ * and the page cursor. Going back to an earlier term or filter selection is served from here instead of the network.
+ *
+ * [provisionalResults] narrows the cached first page of a shorter term down to a longer one, so that typing shows
+ * results right away while the search for the new term runs.
+ */
+class SearchResultsCache(
+    private val maxPages: Int = MAX_PAGES,
+    private val maxAgeMillis: Long = MAX_AGE_MILLIS,
+    private val clock: () -> Long = { SystemClock.elapsedRealtime() }
+) {
+    private data class Key(
+        val sort: DiscoveryParams.Sort?,
+        val categoryId: Long?,
+        val state: DiscoveryParams.State?,
+        val raisedBucket: DiscoveryParams.RaisedBuckets?,
+        val amountBucket: DiscoveryParams.AmountBuckets?,
+        val goalBucket: DiscoveryParams.GoalBuckets?,
+        val locationId: Long?,
+        val recommended: Boolean?,
+        val staffPicks: Boolean?,
+        val starred: Int?,
+        val social: Int?,
+        val backed: Int?,
+        val tagId: Int?,
+        val term: String?,
+        val cursor: String?
+    )
+
+    private class Entry(val envelope: SearchEnvelope, val cachedAtMillis: Long)
+
+    data class Stats(val hits: Int, val misses: Int) {
+        val hitRate: Float
+            get() = if (hits + misses == 0) 0f else hits.toFloat() / (hits + misses)
+    }
+
+    private val pages = object : LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Key, Entry>?) = size > maxPages
+    }
+    private var hits = 0
+    private var misses = 0
+
+    @Synchronized
+    fun get(params: DiscoveryParams, cursor: String?): SearchEnvelope? {
+        val envelope = entry(key(params, normalize(params.term()), cursor))
+        if (envelope != null) hits++ else misses++
+        return envelope
+    }
+
+    @Synchronized
+    fun put(params: DiscoveryParams, cursor: String?, envelope: SearchEnvelope) {
+        pages[key(params, normalize(params.term()), cursor)] = Entry(envelope, clock())
+    }
+
+    /**
+     * Projects of the cached first page of the longest shorter term with the same filters, that still match every
+     * word of the term of [params]. Null when there is no term or nothing to narrow down from.
+     */
+    @Synchronized
+    fun provisionalResults(params: DiscoveryParams): List<Project>? {
+        val term = normalize(params.term()) ?: return null
+        val words = term.split(" ")
+
+        for (length in term.length - 1 downTo 1) {
+            val shorterTerm = term.substring(0, length).trim()
+            if (shorterTerm.isEmpty()) continue
+            val superset = entry(key(params, shorterTerm, null)) ?: continue
+
+            return superset.projectList.filter { project ->
+                val text = "${project.name()} ${project.blurb()}".lowercase(Locale.getDefault())
+                words.all { text.contains(it) }
+            }
+        }
+        return null
+    }
+
+    @Synchronized
+    fun stats() = Stats(hits, misses)
+
+    private fun entry(key: Key): SearchEnvelope? {
+        val entry = pages[key] ?: return null
+        if (clock() - entry.cachedAtMillis > maxAgeMillis) {
+            pages.remove(key)
+            return null
+        }
+        return entry.envelope
+    }
+
+    private fun key(params: DiscoveryParams, term: String?, cursor: String?) = Key(
+        sort = params.sort(),
+        categoryId = params.category()?.id(),
+        state = params.state(),
+        raisedBucket = params.raisedBucket(),
+        amountBucket = params.amountBucket(),
+        goalBucket = params.goalBucket(),
+        locationId = params.location()?.id(),
+        recommended = params.recommended(),
+        staffPicks = params.staffPicks(),
+        starred = params.starred(),
+        social = params.social(),
+        backed = params.backed(),
+        tagId = params.tagId(),
+        term = term,
+        cursor = cursor?.ifEmpty { null }
+    )
+
+    companion object {
+        const val MAX_PAGES = 50
+        val MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(5)
+
+        /** Search is case and spacing insensitive, `" Cats  game"` and `"cats game"` share their results. */
+        fun normalize(term: String?): String? =
+            term?.trim()?.lowercase(Locale.getDefault())?.replace(WHITESPACE, " ")?.ifEmpty { null }
+
+        private val WHITESPACE = Regex("\\s+")
+    }
+}
@@ -1,9 +1,11 @@
 package com.kickstarter.features.search.viewmodel
 
+import androidx.compose.runtime.Immutable
 import androidx.lifecycle.ViewModel
 import androidx.lifecycle.ViewModelProvider
 import androidx.lifecycle.viewModelScope
 import com.kickstarter.libs.Environment
+import com.kickstarter.libs.ReferenceDataStore
 import com.kickstarter.libs.utils.extensions.isNotNull
 import com.kickstarter.models.Category
 import com.kickstarter.models.Location
@@ -24,12 +26,14 @@ import kotlinx.coroutines.rx2.asFlow
 import timber.log.Timber
 import kotlin.coroutines.EmptyCoroutineContext
 
+@Immutable
 data class FilterMenuUIState(
     val isLoading: Boolean = false,
     val categoriesList: List<Category> = emptyList(),
     val tagsList: List<Tag> = emptyList()
 )
 
+@Immutable
 data class LocationsUIState(
     val isLoading: Boolean = false,
     val nearLocations: List<Location> = emptyList(),
@@ -44,6 +48,7 @@ open class FilterMenuViewModel(
     private val scope = viewModelScope + (testDispatcher ?: EmptyCoroutineContext)
     private val apolloClient = requireNotNull(environment.apolloClientV2())
     private val currentUserObservable = requireNotNull(environment.currentUserV2())
+    private val referenceDataStore = environment.referenceDataStore()
     private var errorAction: (message: String?) -> Unit = {}
 
     private val _filterMenu = MutableStateFlow(FilterMenuUIState())
@@ -115,6 +120,13 @@ open class FilterMenuViewModel(
 
     fun updateQuery(query: String) {
         _searchQuery.value = query
+
+        // - Known locations answer right away, the debounced query below completes them
+        val knownLocations = referenceDataStore?.locationsMatching(query).orEmpty()
+        if (knownLocations.isNotEmpty()) {
+            suggestedLocations = knownLocations
+            _locations.value = LocationsUIState(nearLocations = nearbyLocations, searchedLocations = suggestedLocations)
+        }
     }
 
     fun clearQuery() {
@@ -124,12 +136,19 @@ open class FilterMenuViewModel(
 
     fun getRootCategories() {
         scope.launch {
+            referenceDataStore?.categories()?.let {
+                categoriesList = it
+                emitCurrentState(isLoading = false)
+            }
+            if (referenceDataStore?.needsRefresh(ReferenceDataStore.Kind.CATEGORIES) == false) return@launch
+
             emitCurrentState(isLoading = true)
             val response = apolloClient.getCategories()
 
-            if (response.isSuccess)
+            if (response.isSuccess) {
                 categoriesList = response.getOrDefault(emptyList())
-            else
+                referenceDataStore?.putCategories(categoriesList)
+            } else if (categoriesList.isEmpty())
                 errorAction.invoke(response.exceptionOrNull()?.message)
 
             Timber.d("${this.javaClass} rootCategories: ${categoriesList.map { "${it.name()} id: ${it.id()}"}}")
@@ -139,12 +158,19 @@ open class FilterMenuViewModel(
 
     fun getTags() {
         scope.launch {
+            referenceDataStore?.tags()?.let {
+                tagsList = it
+                emitCurrentState(isLoading = false)
+            }
+            if (referenceDataStore?.needsRefresh(ReferenceDataStore.Kind.TAGS) == false) return@launch
+
             emitCurrentState(isLoading = true)
             val response = apolloClient.getTags()
 
-            if (response.isSuccess)
+            if (response.isSuccess) {
                 tagsList = response.getOrDefault(emptyList())
-            else
+                referenceDataStore?.putTags(tagsList)
+            } else if (tagsList.isEmpty())
                 errorAction.invoke(response.exceptionOrNull()?.message)
 
             Timber.d("${this.javaClass} tags: ${tagsList.map { "${it.name()} id: ${it.id()}"}}")
@@ -153,13 +179,28 @@ open class FilterMenuViewModel(
     }
 
     suspend fun getLocations(default: Boolean, term: String? = null) {
+        if (default) {
+            referenceDataStore?.popularLocations()?.let {
+                nearbyLocations = it
+                emitLocationsCurrentState(isLoading = false, nearBy = nearbyLocations, searched = suggestedLocations)
+            }
+            if (referenceDataStore?.needsRefresh(ReferenceDataStore.Kind.POPULAR_LOCATIONS) == false) return
+        }
+
         emitCurrentState(isLoading = true)
 
         val response = apolloClient.getLocations(useDefault = default, term = term)
 
         if (response.isSuccess) {
-            if (default) nearbyLocations = response.getOrDefault(emptyList())
-            if (!term.isNullOrEmpty()) suggestedLocations = response.getOrDefault(emptyList())
+            val locations = response.getOrDefault(emptyList())
+            if (default) {
+                nearbyLocations = locations
+                referenceDataStore?.putPopularLocations(locations)
+            }
+            if (!term.isNullOrEmpty()) {
+                suggestedLocations = locations
+                referenceDataStore?.rememberLocations(locations)
+            }
         } else
             errorAction.invoke(response.exceptionOrNull()?.message)
 
@@ -1,8 +1,12 @@
 package com.kickstarter.features.search.viewmodel
 
+import android.os.SystemClock
+import androidx.compose.runtime.Immutable
 import androidx.lifecycle.ViewModel
 import androidx.lifecycle.ViewModelProvider
 import androidx.lifecycle.viewModelScope
+import com.kickstarter.features.search.data.SearchEnvelope
+import com.kickstarter.features.search.data.SearchResultsCache
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.RefTag
 import com.kickstarter.libs.featureflag.StatsigGateKey
@@ -15,6 +19,7 @@ import com.kickstarter.services.DiscoveryParams
 import com.statsig.androidsdk.EvalReason
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.FlowPreview
+import kotlinx.coroutines.Job
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.SharingStarted
 import kotlinx.coroutines.flow.StateFlow
@@ -30,6 +35,7 @@ import kotlin.Pair
 import kotlin.coroutines.EmptyCoroutineContext
 import kotlin.text.isNotBlank
 
+@Immutable
 data class SearchUIState(
     val isLoading: Boolean = false,
     val popularProjectsList: List<Project> = emptyList(),
@@ -37,10 +43,21 @@ data class SearchUIState(
     val hasMore: Boolean = true // flag to load more items to the lists
 )
 
+/**
+ * @param cacheHitRate share of result pages served by the [SearchResultsCache].
+ * @param lastResultsLatencyMillis time between the last keystroke and the first results shown for it, provisional
+ *   results included.
+ */
+data class SearchStats(
+    val cacheHitRate: Float = 0f,
+    val lastResultsLatencyMillis: Long? = null
+)
+
 @OptIn(FlowPreview::class)
 class SearchAndFilterViewModel(
     private val environment: Environment,
-    private val testDispatcher: CoroutineDispatcher? = null
+    private val testDispatcher: CoroutineDispatcher? = null,
+    private val resultsCache: SearchResultsCache = SearchResultsCache()
 ) : ViewModel() {
 
     private val scope = viewModelScope + (testDispatcher ?: EmptyCoroutineContext)
@@ -95,6 +112,10 @@ class SearchAndFilterViewModel(
     // Pagination variables
     private var nextPage: String? = null
     private var isLoadingMore = false
+    private var loadMoreJob: Job? = null
+
+    private var keystrokeAtMillis: Long? = null
+    private var lastResultsLatencyMillis: Long? = null
 
     init {
         scope.launch {
@@ -182,15 +203,17 @@ class SearchAndFilterViewModel(
     fun loadMore() {
         if (!isLoadingMore && searchUIState.value.hasMore) {
             isLoadingMore = true
-            scope.launch {
+            loadMoreJob = scope.launch {
                 val updatedParams = params.value.toBuilder().term(persistedTerm).build()
-                updateSearchResultsState(updatedParams)
+                updateSearchResultsState(updatedParams, isLoadMore = true)
                 isLoadingMore = false
             }
         }
     }
 
     private fun resetPagination() {
+        // - A page of the previous params still loading is cancelled along with its HTTP call
+        loadMoreJob?.cancel()
         isLoadingMore = false
         nextPage = null
         popularProjectsList = mutableListOf()
@@ -200,13 +223,12 @@ class SearchAndFilterViewModel(
     /**
      * Update UIState with after executing Search query with latest params
      */
-    private suspend fun updateSearchResultsState(params: DiscoveryParams) {
+    private suspend fun updateSearchResultsState(params: DiscoveryParams, isLoadMore: Boolean = false) {
 
         emitCurrentState(isLoading = true)
 
-        // - Result from API
-        Timber.d("${this.javaClass} params: $params")
-        val searchEnvelopeResult = apolloClient.getSearchProjects(params, nextPage)
+        val cursor = nextPage
+        val searchEnvelopeResult = searchResults(params, cursor, isLoadMore)
 
         if (searchEnvelopeResult.isFailure) {
             // - errorAction.invoke(searchEnvelopeResult.exceptionOrNull()?.message) to return API level message
@@ -239,10 +261,52 @@ class SearchAndFilterViewModel(
 
                 // - update UI
                 emitCurrentState(isLoading = false, hasMore = hasMore)
+                if (cursor == null) recordResultsLatency()
             }
         }
     }
 
+    /**
+     * Page of results for [params] from the [resultsCache], or from the API. While a first page with a term is
+     * fetched, the cached results of a shorter term narrowed down to this one are shown. Cancelling the calling
+     * coroutine, when params change or the term is edited, cancels the request.
+     *
+     * A [isLoadMore] request without a cursor would share its key with the first page, so it skips the cache.
+     */
+    private suspend fun searchResults(params: DiscoveryParams, cursor: String?, isLoadMore: Boolean): Result<SearchEnvelope> {
+        val isCacheable = !isLoadMore || cursor != null
+        if (isCacheable) {
+            resultsCache.get(params, cursor)?.let {
+                Timber.d("${this.javaClass} cached page for params: $params")
+                return Result.success(it)
+            }
+        }
+
+        if (!isLoadMore && cursor == null) {
+            resultsCache.provisionalResults(params)?.let { provisional ->
+                _searchUIState.emit(SearchUIState(isLoading = true, popularProjectsList = popularProjectsList.toList(), searchList = provisional))
+                recordResultsLatency()
+            }
+        }
+
+        // - Result from API
+        Timber.d("${this.javaClass} params: $params")
+        return apolloClient.getSearchProjects(params, cursor)
+            .onSuccess { if (isCacheable) resultsCache.put(params, cursor, it) }
+    }
+
+    private fun recordResultsLatency() {
+        val keystrokeAt = keystrokeAtMillis ?: return
+        keystrokeAtMillis = null
+        lastResultsLatencyMillis = SystemClock.elapsedRealtime() - keystrokeAt
+        Timber.d("${this.javaClass} results ${lastResultsLatencyMillis}ms after keystroke, cache ${resultsCache.stats()}")
+    }
+
+    fun searchStats() = SearchStats(
+        cacheHitRate = resultsCache.stats().hitRate,
+        lastResultsLatencyMillis = lastResultsLatencyMillis
+    )
+
     private suspend fun emitCurrentState(isLoading: Boolean = false, hasMore: Boolean = true) {
         _searchUIState.emit(
             SearchUIState(
@@ -282,6 +346,7 @@ class SearchAndFilterViewModel(
     }
 
     fun updateSearchTerm(searchTerm: String) {
+        keystrokeAtMillis = SystemClock.elapsedRealtime()
         scope.launch {
             _searchTerm.emit(searchTerm)
         }
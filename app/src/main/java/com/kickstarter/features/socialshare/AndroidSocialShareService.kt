@@ -7,6 +7,7 @@ import android.content.Intent
 import android.content.pm.PackageManager
 import android.graphics.Bitmap
 import android.net.Uri
+import com.kickstarter.features.socialshare.data.ShareCardKey
 import com.kickstarter.features.socialshare.data.SocialShareData
 import com.kickstarter.features.socialshare.data.SocialSharePlatform
 
@@ -37,10 +38,15 @@ interface SocialShareService {
     suspend fun loadShareImage(imageUrl: String): Bitmap?
 
     /**
-     * Persist step: writes [bitmap] (the captured share card) to the app cache as a PNG and returns a
+     * Returns the `content://` [Uri] of a card already captured for [key], or null when it has to be rendered.
+     */
+    suspend fun cachedShareImage(key: ShareCardKey): Uri?
+
+    /**
+     * Persist step: writes [bitmap] (the captured share card) to the app cache as a PNG under [key] and returns a
      * `content://` [Uri] that can be granted to other apps via [Intent] flags. Returns null on failure.
      */
-    suspend fun cacheShareImage(bitmap: Bitmap): Uri?
+    suspend fun cacheShareImage(key: ShareCardKey, bitmap: Bitmap): Uri?
 
     /**
      * Constructs a ready-to-fire [Intent] for [platform], or null when the platform
@@ -87,8 +93,11 @@ class AndroidSocialShareService(
     override suspend fun loadShareImage(imageUrl: String): Bitmap? =
         ShareImageCache.loadBitmap(context, imageUrl)
 
-    override suspend fun cacheShareImage(bitmap: Bitmap): Uri? =
-        ShareImageCache.cacheBitmap(context, bitmap)
+    override suspend fun cachedShareImage(key: ShareCardKey): Uri? =
+        ShareImageCache.cachedUri(context, key)
+
+    override suspend fun cacheShareImage(key: ShareCardKey, bitmap: Bitmap): Uri? =
+        ShareImageCache.cacheBitmap(context, key, bitmap)
 
     override fun buildIntent(
         platform: SocialSharePlatform,
@@ -7,11 +7,14 @@ import androidx.core.graphics.drawable.toBitmap
 import coil.Coil
 import coil.request.ImageRequest
 import coil.request.SuccessResult
+import com.kickstarter.features.socialshare.data.ShareCardKey
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.withContext
 import timber.log.Timber
 import java.io.File
 import java.io.FileOutputStream
+import java.io.IOException
+import java.util.concurrent.TimeUnit
 
 /**
  * Turns bitmaps into shareable `content://` URIs for the social share flow, exposing the two parts
@@ -29,11 +32,21 @@ import java.io.FileOutputStream
  *    [Intent.FLAG_GRANT_READ_URI_PERMISSION][android.content.Intent.FLAG_GRANT_READ_URI_PERMISSION]
  *    on the outgoing intent then gives the target app (Instagram, Facebook, etc.) temporary
  *    read access to that single file.
+ *
+ * Captured cards are kept per [ShareCardKey] (project, card variant, locale and a hash of what the card draws),
+ * each in its own file so concurrent shares never overwrite each other and every entry gets its own URI.
+ * [cachedUri] returns a previous render so sharing the same project again skips the fetch, render and encode.
+ * The directory is trimmed least recently used first past [MAX_ENTRIES] or [MAX_BYTES].
  */
 object ShareImageCache {
 
     private const val SHARE_DIR = "share_images"
-    private const val SHARE_FILE_NAME = "kickstarter_share.png"
+    private const val TEMP_SUFFIX = ".tmp"
+    private const val MAX_ENTRIES = 16
+    private const val MAX_BYTES = 24L * 1024 * 1024
+
+    // - Temp files older than this were left behind by an interrupted write
+    private val STALE_TEMP_FILE_MILLIS = TimeUnit.HOURS.toMillis(1)
 
     /**
      * Retrieve step: downloads the remote hero image so the share card composable can render it.
@@ -41,7 +54,8 @@ object ShareImageCache {
      * Forces `allowHardware(false)` to ensure the resulting bitmap is stored in
      * software memory. This is critical because hardware-backed bitmaps cannot
      * be compressed and written to disk via [android.graphics.Bitmap.compress] — which is
-     * exactly what the later [cacheBitmap] step needs to do to the captured card.
+     * exactly what the later [cacheBitmap] step needs to do to the captured card. The image comes from the
+     * shared disk cache of [com.kickstarter.libs.ImagePipeline] when the project was already shown.
      *
      * @param context Application context for the ImageRequest.
      * @param imageUrl Remote URL to download.
@@ -57,6 +71,19 @@ object ShareImageCache {
         return (result as? SuccessResult)?.drawable?.toBitmap()
     }
 
+    /**
+     * Returns the `content://` URI of the card already rendered for [key], or null if there is none.
+     */
+    suspend fun cachedUri(context: Context, key: ShareCardKey): Uri? =
+        withContext(Dispatchers.IO) {
+            val file = File(shareDir(context), key.fileName())
+            if (!file.isFile) return@withContext null
+
+            // - Recency for the LRU trim
+            file.setLastModified(System.currentTimeMillis())
+            toFileProviderUri(context, file)
+        }
+
     /**
      * Persist step: writes a rendered bitmap (the captured [SocialShareProjectCard]) to the app's
      * internal cache directory and returns a shareable `content://` URI for it.
@@ -65,19 +92,30 @@ object ShareImageCache {
      * text/logo-heavy and JPEG compression would introduce visible artifacts around the type and
      * branding. This must match the MIME type declared in [SocialShareIntentBuilder]. The compress +
      * disk write run on [Dispatchers.IO] because the captured card can be large and this is called
-     * from the ViewModel's main-scoped coroutine.
+     * from the ViewModel's main-scoped coroutine. The card is written to a temp file and renamed into place,
+     * so a reader never sees a partially written entry.
      *
      * @param context Context to access [Context.getCacheDir].
+     * @param key Identifies the card, see [ShareCardKey].
      * @param bitmap The software-backed bitmap to write (typically the captured share card, already
      *   flattened onto an opaque background).
      * @return A content:// Uri for the file, or null if the write operation fails.
      */
-    suspend fun cacheBitmap(context: Context, bitmap: android.graphics.Bitmap): Uri? =
+    suspend fun cacheBitmap(context: Context, key: ShareCardKey, bitmap: android.graphics.Bitmap): Uri? =
         withContext(Dispatchers.IO) {
             try {
-                val dir = File(context.cacheDir, SHARE_DIR).apply { mkdirs() }
-                val file = File(dir, SHARE_FILE_NAME)
-                FileOutputStream(file).use { bitmap.compress(android.graphics.Bitmap.CompressFormat.PNG, 100, it) }
+                val dir = shareDir(context)
+                val file = File(dir, key.fileName())
+                val tempFile = File.createTempFile(file.nameWithoutExtension, TEMP_SUFFIX, dir)
+                try {
+                    FileOutputStream(tempFile).use { bitmap.compress(android.graphics.Bitmap.CompressFormat.PNG, 100, it) }
+                    if (!tempFile.renameTo(file)) throw IOException("Unable to move ${tempFile.name} to ${file.name}")
+                } finally {
+                    tempFile.delete()
+                }
+
+                if (key.projectId != 0L) deleteOlderRenders(dir, key)
+                trim(dir)
                 toFileProviderUri(context, file)
             } catch (e: Exception) {
                 Timber.e(e, "Failed to write share image to cache")
@@ -85,6 +123,36 @@ object ShareImageCache {
             }
         }
 
+    private fun shareDir(context: Context) = File(context.cacheDir, SHARE_DIR).apply { mkdirs() }
+
+    /**
+     * Removes the renders of the same card made before the project changed, they'd never be looked up again.
+     */
+    private fun deleteOlderRenders(dir: File, key: ShareCardKey) {
+        val current = key.fileName()
+        val prefix = current.substringBeforeLast('_') + "_"
+        dir.listFiles()
+            ?.filter { it.name != current && it.name.startsWith(prefix) && !it.name.endsWith(TEMP_SUFFIX) }
+            ?.forEach { it.delete() }
+    }
+
+    private fun trim(dir: File) {
+        val now = System.currentTimeMillis()
+        val (tempFiles, entries) = dir.listFiles().orEmpty().partition { it.name.endsWith(TEMP_SUFFIX) }
+        tempFiles.filter { now - it.lastModified() > STALE_TEMP_FILE_MILLIS }.forEach { it.delete() }
+
+        var count = entries.size
+        var bytes = entries.sumOf { it.length() }
+        for (file in entries.sortedBy { it.lastModified() }) {
+            if (count <= MAX_ENTRIES && bytes <= MAX_BYTES) break
+            val length = file.length()
+            if (file.delete()) {
+                count--
+                bytes -= length
+            }
+        }
+    }
+
     /**
      * Converts a local [File] into a shareable content [Uri].
      *
@@ -4,14 +4,46 @@ import android.graphics.Bitmap
 import android.net.Uri
 import com.kickstarter.libs.RefTag
 import com.kickstarter.libs.utils.EventContextValues.SharePlatformContextType
+import com.kickstarter.libs.utils.extensions.toSha256
+import java.util.Locale
 
 data class SocialShareData(
     val projectName: String,
     val projectUrl: String,
     val imageUrl: String,
-    val creatorName: String
+    val creatorName: String,
+    val projectId: Long = 0L
 )
 
+enum class ShareCardVariant { PROJECT_CARD }
+
+/**
+ * Identifies a rendered share card in [com.kickstarter.features.socialshare.ShareImageCache]. [contentHash] covers
+ * what the card draws, so a renamed project or a new hero image renders a new entry instead of reusing a stale one.
+ */
+data class ShareCardKey(
+    val projectId: Long,
+    val variant: ShareCardVariant,
+    val locale: String,
+    val contentHash: String
+) {
+    fun fileName() = "${projectId}_${variant.name.lowercase()}_${locale}_$contentHash.png"
+
+    companion object {
+        fun of(shareData: SocialShareData, variant: ShareCardVariant, locale: Locale) = ShareCardKey(
+            projectId = shareData.projectId,
+            variant = variant,
+            locale = locale.toLanguageTag(),
+            contentHash = listOf(shareData.projectName, shareData.imageUrl, shareData.creatorName)
+                .joinToString("|")
+                .toSha256()
+                .take(CONTENT_HASH_LENGTH)
+        )
+
+        private const val CONTENT_HASH_LENGTH = 16
+    }
+}
+
 enum class SocialSharePlatform(val targetPackage: String?) {
     COPY_LINK(null),
     INSTAGRAM_FEED("com.instagram.android"),
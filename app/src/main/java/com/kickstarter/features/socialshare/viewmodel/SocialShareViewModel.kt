@@ -6,6 +6,8 @@ import androidx.lifecycle.ViewModel
 import androidx.lifecycle.ViewModelProvider
 import androidx.lifecycle.viewModelScope
 import com.kickstarter.features.socialshare.SocialShareService
+import com.kickstarter.features.socialshare.data.ShareCardKey
+import com.kickstarter.features.socialshare.data.ShareCardVariant
 import com.kickstarter.features.socialshare.data.SocialShareData
 import com.kickstarter.features.socialshare.data.SocialSharePlatform
 import com.kickstarter.features.socialshare.data.SocialShareUIState
@@ -20,6 +22,7 @@ import kotlinx.coroutines.flow.asStateFlow
 import kotlinx.coroutines.flow.update
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.plus
+import java.util.Locale
 import kotlin.coroutines.EmptyCoroutineContext
 
 /**
@@ -33,9 +36,11 @@ import kotlin.coroutines.EmptyCoroutineContext
  * @param shareData Snapshot of the project information used across every sharing action:
  *   - [SocialShareData.projectName] — included as text in platform captions and SMS/email subjects.
  *   - [SocialShareData.projectUrl]  — the canonical link appended to every share payload.
- *   - [SocialShareData.imageUrl]    — remote URL of the project hero image; downloaded and
- *     cached as a `content://` URI during [init] so it can be attached to image-bearing
- *     intents (Instagram, Facebook, WhatsApp, etc.). An empty value skips caching.
+ *   - [SocialShareData.imageUrl]    — remote URL of the project hero image; downloaded during [init] and
+ *     rendered into the share card, which is cached as a `content://` URI so it can be attached to
+ *     image-bearing intents (Instagram, Facebook, WhatsApp, etc.). An empty value skips caching.
+ *   - [SocialShareData.projectId]   — together with the card content and locale, keys the captured card so
+ *     sharing the same project again reuses it.
  *   - [SocialShareData.creatorName] — displayed in email body copy.
  *   This object is immutable for the lifetime of the ViewModel; one ViewModel instance
  *   corresponds to one sharing session for a specific project.
@@ -59,6 +64,8 @@ class SocialShareViewModel(
     private var errorAction: (message: String?) -> Unit = {}
     private var intentLaunchAction: (Intent) -> Unit = {}
 
+    private val cardKey = ShareCardKey.of(shareData, ShareCardVariant.PROJECT_CARD, Locale.getDefault())
+
     init {
         detectInstalledPlatforms()
         loadHeroImage()
@@ -115,8 +122,9 @@ class SocialShareViewModel(
     }
 
     /**
-     * Retrieve step. Downloads the hero image and exposes it via [SocialShareUIState.heroBitmap] so
-     * the share card can render it. [SocialShareUIState.isGeneratingImage] stays true after this
+     * Retrieve step. Looks up a card captured in a previous session first, which makes image-bearing platforms
+     * available right away, then downloads the hero image and exposes it via [SocialShareUIState.heroBitmap] so
+     * the share card can render it. Otherwise [SocialShareUIState.isGeneratingImage] stays true after this
      * completes — it is only cleared once the rendered card has been captured and cached in
      * [onCardCaptured], since that captured card is the asset image-bearing platforms actually share.
      */
@@ -124,11 +132,15 @@ class SocialShareViewModel(
         if (shareData.imageUrl.isEmpty()) return
 
         scope.launch {
-            _uiState.update { it.copy(isGeneratingImage = true) }
+            val cachedUri = shareService.cachedShareImage(cardKey)
+            _uiState.update { it.copy(shareImageUri = cachedUri, isGeneratingImage = cachedUri == null) }
+
             val bitmap = shareService.loadShareImage(shareData.imageUrl)
             if (bitmap == null) {
-                errorAction.invoke("Failed to load share image")
-                _uiState.update { it.copy(isGeneratingImage = false) }
+                if (cachedUri == null) {
+                    errorAction.invoke("Failed to load share image")
+                    _uiState.update { it.copy(isGeneratingImage = false) }
+                }
                 return@launch
             }
             _uiState.update { it.copy(heroBitmap = bitmap) }
@@ -145,7 +157,7 @@ class SocialShareViewModel(
         if (_uiState.value.shareImageUri != null) return
 
         scope.launch {
-            val uri = shareService.cacheShareImage(bitmap)
+            val uri = shareService.cacheShareImage(cardKey, bitmap)
             if (uri == null) {
                 errorAction.invoke("Failed to cache share image")
             }
@@ -128,6 +128,9 @@ class VideoFeedActivity : ComponentActivity() {
                     },
                     onVideoPlaybackError = { videoFeedItem, position, error, isActive ->
                         viewModel.onVideoPlaybackError(videoFeedItem, position, error, isActive)
+                    },
+                    onVideoPlaybackStats = { videoFeedItem, position, timeToFirstFrameMs, rebufferCount ->
+                        viewModel.onVideoPlaybackStats(videoFeedItem, position, timeToFirstFrameMs, rebufferCount)
                     }
                 )
             }
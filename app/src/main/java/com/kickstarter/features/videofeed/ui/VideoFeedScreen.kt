@@ -94,6 +94,12 @@ enum class VideoFeedScreenTestTag {
 // so this sentinel never collides with a real item key.
 private const val LOADING_PAGE_KEY = Long.MIN_VALUE
 
+// Pages kept composed on each side of the visible one, each of them holds a pooled player.
+private const val BEYOND_VIEWPORT_PAGE_COUNT = 1
+
+// Videos past the composed pages whose first segments are cached ahead of time.
+private const val PRELOAD_AHEAD_COUNT = 2
+
 @Composable
 fun VideoFeedScreen(
     items: List<VideoFeedItem>,
@@ -115,7 +121,8 @@ fun VideoFeedScreen(
     onMuteToggleTap: (project: Project, videoId: Long, isMuted: Boolean) -> Unit = { _, _, _ -> },
     onProgressBarTap: (item: VideoFeedItem, progress: Float) -> Unit = { _, _ -> },
     onShareCTAClick: (project: Project, videoId: Long) -> Unit = { _, _ -> },
-    onVideoPlaybackError: (item: VideoFeedItem, position: Int, error: PlaybackException, isActive: Boolean) -> Unit = { _, _, _, _ -> }
+    onVideoPlaybackError: (item: VideoFeedItem, position: Int, error: PlaybackException, isActive: Boolean) -> Unit = { _, _, _, _ -> },
+    onVideoPlaybackStats: (item: VideoFeedItem, position: Int, timeToFirstFrameMs: Long, rebufferCount: Int) -> Unit = { _, _, _, _ -> }
 ) {
     // Append a trailing loading page while the next page is being fetched. The prefetch in the
     // pagination LaunchedEffect usually completes before the user reaches the end, so this is only
@@ -177,6 +184,17 @@ fun VideoFeedScreen(
         previousSettledPage = currentPage
     }
 
+    // - Players are pooled across pages: the visible page plus the ones composed beyond the viewport
+    val playerPool = rememberVideoPlayerPool(capacity = 1 + 2 * BEYOND_VIEWPORT_PAGE_COUNT)
+    LaunchedEffect(pagerState.settledPage, items) {
+        val firstToPreload = pagerState.settledPage + BEYOND_VIEWPORT_PAGE_COUNT + 1
+        playerPool.preload(
+            items.drop(firstToPreload)
+                .take(PRELOAD_AHEAD_COUNT)
+                .mapNotNull { it.hlsUrl?.takeIf { url -> url.isNotEmpty() } }
+        )
+    }
+
     val screenHazeState = rememberHazeState()
 
     Box(modifier = Modifier.fillMaxSize()) {
@@ -186,7 +204,7 @@ fun VideoFeedScreen(
                 .hazeSource(state = screenHazeState)
                 .testTag(VideoFeedScreenTestTag.VIDEO_FEED_PAGER.name),
             state = pagerState,
-            beyondViewportPageCount = 1,
+            beyondViewportPageCount = BEYOND_VIEWPORT_PAGE_COUNT,
             key = { index -> if (index < items.size) items[index].project.id() else LOADING_PAGE_KEY }
         ) { page ->
 
@@ -223,12 +241,15 @@ fun VideoFeedScreen(
                 if (pagerState.currentPage != page) hideUi = false
             }
 
+            val player = playerPool.rememberPlayer(project.id(), videoUrl)
+
             Box(modifier = Modifier.fillMaxSize()) {
                 KSVideoPlayer(
                     videoUrl = videoUrl,
                     isActive = pagerState.currentPage == page,
                     hideUi = hideUi,
                     previewImageUrl = item.previewImageUrl,
+                    player = player,
                     isMuted = isMuted,
                     onMuteToggle = { muted ->
                         isMuted = muted
@@ -240,6 +261,9 @@ fun VideoFeedScreen(
                         watchTimeByPage[page] = Pair(watchTimeMs, videoDurationMs)
                     },
                     onPlaybackError = { error, active -> onVideoPlaybackError(item, page, error, active) },
+                    onPlaybackStats = { timeToFirstFrameMs, rebufferCount ->
+                        onVideoPlaybackStats(item, page, timeToFirstFrameMs, rebufferCount)
+                    },
                     overlayContent = { hazeState ->
                         Column(
                             modifier = Modifier
@@ -273,7 +297,8 @@ fun VideoFeedScreen(
                                                 projectName = project.name() ?: "",
                                                 projectUrl = project.urls()?.web()?.project() ?: "",
                                                 imageUrl = project.photo()?.full() ?: "",
-                                                creatorName = project.creator()?.name() ?: ""
+                                                creatorName = project.creator()?.name() ?: "",
+                                                projectId = project.id()
                                             )
                                             onShareCTAClick(project, item.videoId)
                                         },
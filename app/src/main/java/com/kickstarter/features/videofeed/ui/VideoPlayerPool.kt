@@ -0,0 +1,217 @@
+package com.kickstarter.features.videofeed.ui
+
+import android.content.Context
+import androidx.annotation.OptIn
+import androidx.annotation.VisibleForTesting
+import androidx.compose.runtime.Composable
+import androidx.compose.runtime.DisposableEffect
+import androidx.compose.runtime.remember
+import androidx.compose.ui.platform.LocalContext
+import androidx.lifecycle.DefaultLifecycleObserver
+import androidx.lifecycle.LifecycleOwner
+import androidx.lifecycle.compose.LocalLifecycleOwner
+import androidx.media3.common.MediaItem
+import androidx.media3.common.Player
+import androidx.media3.common.StreamKey
+import androidx.media3.common.util.UnstableApi
+import androidx.media3.exoplayer.ExoPlayer
+import androidx.media3.exoplayer.hls.offline.HlsDownloader
+import androidx.media3.exoplayer.hls.playlist.HlsMultivariantPlaylist
+import androidx.media3.exoplayer.offline.Downloader
+import com.kickstarter.libs.MediaCache
+import com.kickstarter.libs.utils.extensions.initializeExoplayer
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.cancel
+import kotlinx.coroutines.currentCoroutineContext
+import kotlinx.coroutines.ensureActive
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.runInterruptible
+import timber.log.Timber
+import java.io.IOException
+import java.util.Collections
+
+/**
+ * Owns the [ExoPlayer]s of the video feed pager, so swiping reuses a handful of players instead of building
+ * a new one (threads, load control, renderers) for every video.
+ *
+ * - [acquire] hands out the player bound to a page, reusing an idle one when available.
+ * - [recycle] returns it once the page leaves composition, or moves on to another video. Up to [capacity] players are kept around, which
+ *   should match the pages the pager keeps composed (visible plus beyond viewport), extra ones are released.
+ * - [preload] caches the first segments of upcoming videos through the shared [MediaCache] without
+ *   holding a decoder, so they start warm once their page is composed.
+ *
+ * Idle players are released when the screen stops, everything when it's destroyed.
+ */
+@OptIn(UnstableApi::class)
+class VideoPlayerPool(
+    private val context: Context,
+    private val capacity: Int,
+    private val createPlayer: (Context) -> ExoPlayer = { it.initializeExoplayer() },
+    private val createDownloader: (Context, String) -> Downloader = ::firstVariantDownloader
+) : DefaultLifecycleObserver {
+    private class Lease(val player: ExoPlayer, val videoUrl: String)
+
+    private val inUse = LinkedHashMap<Long, Lease>()
+    private val idle = ArrayDeque<ExoPlayer>()
+    private val preloaded = Collections.synchronizedSet(LinkedHashSet<String>())
+    private val scope = CoroutineScope(SupervisorJob() + Dispatchers.IO)
+    private var preloadJob: Job? = null
+    private var isReleased = false
+
+    /**
+     * Returns the player for the page identified by [key], prepared with [videoUrl] the first time it's
+     * acquired. A page acquired again with another url keeps its player, switched to the new video.
+     */
+    fun acquire(key: Long, videoUrl: String): ExoPlayer {
+        inUse[key]?.let { lease ->
+            if (lease.videoUrl != videoUrl) {
+                lease.player.setMediaItem(MediaItem.fromUri(videoUrl))
+                lease.player.prepare()
+                inUse[key] = Lease(lease.player, videoUrl)
+            }
+            return lease.player
+        }
+
+        val player = idle.removeFirstOrNull() ?: createPlayer(context)
+        player.setMediaItem(MediaItem.fromUri(videoUrl))
+        player.repeatMode = Player.REPEAT_MODE_ONE
+        player.prepare()
+        inUse[key] = Lease(player, videoUrl)
+        return player
+    }
+
+    /**
+     * Returns the player of [key] to the pool, stopped and without media so it holds no buffers. Does nothing
+     * when [key] was acquired again with another url since, the page still plays it.
+     */
+    fun recycle(key: Long, videoUrl: String) {
+        if (inUse[key]?.videoUrl != videoUrl) return
+        val player = inUse.remove(key)?.player ?: return
+        if (isReleased || inUse.size + idle.size >= capacity) {
+            player.release()
+            return
+        }
+
+        player.playWhenReady = false
+        player.stop()
+        player.clearMediaItems()
+        idle.addLast(player)
+    }
+
+    /**
+     * Caches the first segments of [videoUrls] in order, replacing any preload still running. Urls already
+     * preloaded are skipped.
+     */
+    fun preload(videoUrls: List<String>) {
+        if (isReleased) return
+
+        preloadJob?.cancel()
+        preloadJob = scope.launch {
+            videoUrls.filterNot { preloaded.contains(it) }.forEach { videoUrl ->
+                preloadSegments(videoUrl)
+                preloaded.add(videoUrl)
+            }
+        }
+    }
+
+    private suspend fun preloadSegments(videoUrl: String) {
+        val downloader = createDownloader(context, videoUrl)
+
+        try {
+            runInterruptible {
+                try {
+                    downloader.download { _, bytesDownloaded, _ ->
+                        if (bytesDownloaded >= PRELOAD_BYTES) downloader.cancel()
+                    }
+                } catch (e: InterruptedException) {
+                    // - Thrown once the progress listener stops the download, enough of the video is cached. A
+                    // cancelled preload interrupts it too, which is told apart below
+                    Thread.interrupted()
+                }
+            }
+        } catch (e: IOException) {
+            Timber.w(e, "Unable to preload $videoUrl")
+        }
+        currentCoroutineContext().ensureActive()
+    }
+
+    @VisibleForTesting
+    internal suspend fun awaitPreload() {
+        preloadJob?.join()
+    }
+
+    @VisibleForTesting
+    internal fun isPreloaded(videoUrl: String) = preloaded.contains(videoUrl)
+
+    override fun onStop(owner: LifecycleOwner) {
+        idle.forEach { it.release() }
+        idle.clear()
+    }
+
+    override fun onDestroy(owner: LifecycleOwner) {
+        release()
+    }
+
+    fun release() {
+        if (isReleased) return
+        isReleased = true
+
+        scope.cancel()
+        inUse.values.forEach { it.player.release() }
+        inUse.clear()
+        idle.forEach { it.release() }
+        idle.clear()
+    }
+
+    companion object {
+        // - A couple of segments at the bitrates the feed serves, enough to cover the start-up buffer
+        @VisibleForTesting
+        internal const val PRELOAD_BYTES = 2L * 1024 * 1024
+
+        private fun firstVariantDownloader(context: Context, videoUrl: String): Downloader {
+            // - Only the first variant, which HLS lists as the one to start playback with
+            val mediaItem = MediaItem.Builder()
+                .setUri(videoUrl)
+                .setStreamKeys(listOf(StreamKey(HlsMultivariantPlaylist.GROUP_INDEX_VARIANT, 0)))
+                .build()
+            return HlsDownloader(mediaItem, MediaCache.dataSourceFactory(context))
+        }
+    }
+}
+
+/**
+ * Creates a [VideoPlayerPool] tied to the current lifecycle, released when it leaves composition.
+ */
+@Composable
+fun rememberVideoPlayerPool(capacity: Int): VideoPlayerPool {
+    val context = LocalContext.current
+    val lifecycleOwner = LocalLifecycleOwner.current
+    val pool = remember(context) { VideoPlayerPool(context, capacity) }
+
+    DisposableEffect(lifecycleOwner, pool) {
+        lifecycleOwner.lifecycle.addObserver(pool)
+        onDispose {
+            lifecycleOwner.lifecycle.removeObserver(pool)
+            pool.release()
+        }
+    }
+    return pool
+}
+
+/**
+ * Acquires the pooled player of a pager page for as long as it stays composed.
+ */
+@Composable
+fun VideoPlayerPool.rememberPlayer(key: Long, videoUrl: String): ExoPlayer? {
+    if (videoUrl.isEmpty()) return null
+
+    val player = remember(this, key, videoUrl) { acquire(key, videoUrl) }
+    DisposableEffect(this, key, videoUrl) {
+        // - Runs after the player was acquired again when only the url changed, recycle leaves it in use then
+        onDispose { recycle(key, videoUrl) }
+    }
+    return player
+}
@@ -168,6 +168,25 @@ class VideoFeedViewModel(
         }
     }
 
+    /**
+     * Start-up and stall telemetry of a feed video, reported when it stops being the on-screen video. Goes
+     * through the same Crashlytics path as [onVideoPlaybackError]: the values are logged and kept as custom
+     * keys, so the next playback error (or crash) report carries how the latest videos were performing.
+     */
+    fun onVideoPlaybackStats(item: VideoFeedItem, position: Int, timeToFirstFrameMs: Long, rebufferCount: Int) {
+        try {
+            FirebaseCrashlytics.getInstance().apply {
+                setCustomKey("video_feed_last_video_id", item.videoId)
+                setCustomKey("video_feed_last_position", position)
+                setCustomKey("video_feed_last_time_to_first_frame_ms", timeToFirstFrameMs)
+                setCustomKey("video_feed_last_rebuffer_count", rebufferCount)
+                log("Video feed video ${item.videoId} at $position: first frame ${timeToFirstFrameMs}ms, $rebufferCount rebuffers")
+            }
+        } catch (t: Throwable) {
+            Timber.w(t, "Failed to record video feed playback stats telemetry")
+        }
+    }
+
     class Factory(
         private val environment: Environment,
         private val entrySurface: String,
@@ -2,7 +2,7 @@ package com.kickstarter.libs
 
 import android.util.Pair
 import com.kickstarter.libs.rx.transformers.Transformers
-import com.kickstarter.libs.utils.ListUtils
+import com.kickstarter.libs.utils.ChunkedList
 import io.reactivex.Observable
 import io.reactivex.functions.BiFunction
 import io.reactivex.functions.Function
@@ -67,7 +67,7 @@ class ApiPaginatorV2<Data, Envelope : Any, Params : Any> private constructor(
         private var pageTransformation: Function<List<Data>, List<Data>>? = null
         private var clearWhenStartingOver = false
         private var concater: BiFunction<List<Data>, List<Data>, List<Data>> =
-            BiFunction { xs: List<Data>, ys: List<Data> -> ListUtils.concat(xs, ys) }
+            BiFunction { xs: List<Data>, ys: List<Data> -> ChunkedList.concat(xs, ys) }
         private var distinctUntilChanged = false
 
         /**
@@ -136,8 +136,8 @@ class ApiPaginatorV2<Data, Envelope : Any, Params : Any> private constructor(
         }
 
         /**
-         * [Optional] Determines how two lists are concatenated together while paginating. A regular `ListUtils::concat` is probably
-         * sufficient, but sometimes you may want `ListUtils::concatDistinct`
+         * [Optional] Determines how two lists are concatenated together while paginating. The default `ChunkedList::concat`
+         * shares the pages already loaded, but sometimes you may want `ListUtils::concatDistinct`
          */
         fun concater(concater: BiFunction<List<Data>, List<Data>, List<Data>>): Builder<Data, Envelope, Params> {
             this.concater = concater
@@ -180,7 +180,7 @@ class ApiPaginatorV2<Data, Envelope : Any, Params : Any> private constructor(
             }
             if (concater == null) {
                 concater =
-                    BiFunction { xs: List<Data>, ys: List<Data> -> ListUtils.concat(xs, ys) }
+                    BiFunction { xs: List<Data>, ys: List<Data> -> ChunkedList.concat(xs, ys) }
             }
             return ApiPaginatorV2(
                 nextPage,
@@ -1,6 +1,7 @@
 package com.kickstarter.libs
 
 import android.content.res.AssetManager
+import android.os.SystemClock
 import com.google.gson.Gson
 import com.kickstarter.libs.preferences.StringPreferenceType
 import com.kickstarter.libs.rx.transformers.Transformers
@@ -33,19 +34,21 @@ class CurrentConfigV2(
     private val config = BehaviorSubject.create<Config>()
     private val disposables = CompositeDisposable()
     init {
+        val bootstrapStart = SystemClock.elapsedRealtime()
+        val configAdapter by lazy { gson.getAdapter(Config::class.java) }
 
         // Loads config from disk
         val diskConfig = Observable.just(ASSET_PATH)
             .map { path: String -> configJSONString(path, assetManager) }
-            .map { json: String? -> gson.fromJson(json, Config::class.java) }
+            .map { json: String -> configAdapter.fromJson(json) }
             .filter { `object`: Config? -> `object`.isNotNull() }
             .compose(Transformers.neverErrorV2())
             .subscribeOn(Schedulers.io())
 
         // Loads config from string preference
         val prefConfig = Observable.just(configPreference)
-            .map { obj: StringPreferenceType -> obj.get() }
-            .map { json: String? -> gson.fromJson(json, Config::class.java) }
+            .filter { obj: StringPreferenceType -> obj.get().isNotNull() }
+            .map { obj: StringPreferenceType -> configAdapter.fromJson(obj.get()) }
             .filter { `object`: Config? -> `object`.isNotNull() }
             .compose(Transformers.neverErrorV2())
             .subscribeOn(Schedulers.io())
@@ -54,7 +57,10 @@ class CurrentConfigV2(
         disposables.add(
             Observable.concat(prefConfig, diskConfig)
                 .take(1)
-                .subscribe { v: Config -> config.onNext(v) }
+                .subscribe { v: Config ->
+                    config.onNext(v)
+                    Timber.d("${this.javaClass} init persisted Config, ${SystemClock.elapsedRealtime() - bootstrapStart}ms off the main thread")
+                }
         )
 
         // Cache any new values to preferences
@@ -62,8 +68,9 @@ class CurrentConfigV2(
             config
                 .skip(1)
                 .filter { `object`: Config? -> `object`.isNotNull() }
-                .subscribe { c: Config? ->
-                    configPreference.set(gson.toJson(c, Config::class.java))
+                .observeOn(Schedulers.io())
+                .subscribe { c: Config ->
+                    configPreference.set(configAdapter.toJson(c))
                 }
         )
     }
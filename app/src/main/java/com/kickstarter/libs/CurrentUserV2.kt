@@ -1,13 +1,16 @@
 package com.kickstarter.libs
 
+import android.os.SystemClock
 import com.google.gson.Gson
 import com.kickstarter.libs.preferences.StringPreferenceType
 import com.kickstarter.libs.utils.KsOptional
 import com.kickstarter.libs.utils.extensions.isNotNull
 import com.kickstarter.models.User
 import io.reactivex.Observable
+import io.reactivex.schedulers.Schedulers
 import io.reactivex.subjects.BehaviorSubject
 import timber.log.Timber
+import java.util.concurrent.CountDownLatch
 
 abstract class CurrentUserTypeV2 {
 
@@ -38,8 +41,9 @@ abstract class CurrentUserTypeV2 {
     abstract fun refresh(freshUser: User)
 
     /**
-     * Returns an observable representing the current user. It emits immediately
-     * with the current user, and then again each time the user is updated.
+     * Returns an observable representing the current user. It emits immediately on subscription
+     * with the current user, and then again each time the user is updated. A subscription made while
+     * the persisted user is still being read doesn't wait for it, it gets the user once the read is done.
      */
     abstract fun observable(): Observable<KsOptional<User>>
 
@@ -84,19 +88,51 @@ class CurrentUserV2(
     private val userPreference: StringPreferenceType
 ) : CurrentUserTypeV2() {
     private val user = BehaviorSubject.create<KsOptional<User>>()
+    private val lock = Any()
+    private val bootstrapped = CountDownLatch(1)
 
     init {
-        val persistedUser = gson.fromJson(userPreference.get(), User::class.java)
-        if (persistedUser != null) {
-            user.onNext(KsOptional.of(persistedUser))
-        } else {
-            user.onNext(KsOptional.empty())
+        // - Deserializing the persisted user happens off the main thread, only synchronous reads before it's done wait for it
+        Schedulers.io().scheduleDirect { bootstrap() }
+    }
+
+    private fun bootstrap() {
+        val start = SystemClock.elapsedRealtime()
+        val persistedUser = try {
+            userPreference.get()?.let { gson.getAdapter(User::class.java).fromJson(it) }
+        } catch (e: Exception) {
+            Timber.e(e)
+            null
+        }
+
+        // - A login, refresh or logout that raced ahead of the bootstrap wins over the persisted value
+        synchronized(lock) {
+            if (!user.hasValue()) {
+                user.onNext(persistedUser?.let { KsOptional.of(it) } ?: KsOptional.empty())
+            }
+        }
+        bootstrapped.countDown()
+
+        Timber.d("${this.javaClass} init persisted User: $persistedUser, ${SystemClock.elapsedRealtime() - start}ms off the main thread")
+    }
+
+    private fun emit(newUser: KsOptional<User>) {
+        synchronized(lock) {
+            user.onNext(newUser)
         }
+    }
 
-        Timber.d("${this.javaClass} init persisted User: $persistedUser")
+    /**
+     * Blocks until the persisted user has been read, only synchronous callers pay for it.
+     */
+    private fun awaitBootstrap() {
+        if (!user.hasValue()) {
+            bootstrapped.await()
+        }
     }
 
     override fun getUser(): User? {
+        awaitBootstrap()
         return user.value?.getValue()
     }
 
@@ -108,7 +144,7 @@ class CurrentUserV2(
         get() = accessTokenPreference.get()
 
     override fun login(newUser: User) {
-        user.onNext(KsOptional.of(newUser))
+        emit(KsOptional.of(newUser))
         userPreference.set(gson.toJson(newUser, User::class.java))
 
         Timber.d("${this.javaClass} Login user %s", newUser.name())
@@ -128,14 +164,14 @@ class CurrentUserV2(
 
     override fun logout() {
         accessTokenPreference.delete()
-        user.onNext(KsOptional.empty())
+        emit(KsOptional.empty())
         userPreference.delete()
         deviceRegistrar.unregisterDevice()
         Timber.d("${this.javaClass} Logout current user")
     }
 
     override fun refresh(freshUser: User) {
-        user.onNext(KsOptional.of(freshUser))
+        emit(KsOptional.of(freshUser))
         userPreference.set(gson.toJson(freshUser, User::class.java))
         Timber.d("${this.javaClass} Refresh current user")
     }
@@ -4,13 +4,16 @@ import android.content.SharedPreferences
 import com.google.gson.Gson
 import com.kickstarter.libs.featureflag.FeatureFlagClientType
 import com.kickstarter.libs.featureflag.StatsigClientType
+import com.kickstarter.libs.htmlparser.StoryViewElementCache
 import com.kickstarter.libs.preferences.BooleanPreferenceType
 import com.kickstarter.libs.preferences.IntPreferenceType
 import com.kickstarter.libs.utils.PlayServicesCapability
+import com.kickstarter.libs.utils.RefTagStore
 import com.kickstarter.services.ApiClientTypeV2
 import com.kickstarter.services.ApolloClientTypeV2
 import com.stripe.android.Stripe
 import java.net.CookieManager
+import okhttp3.OkHttpClient
 
 class Environment private constructor(
     private val activitySamplePreference: IntPreferenceType?,
@@ -38,6 +41,11 @@ class Environment private constructor(
     private val firebaseAnalyticsClient: FirebaseAnalyticsClientType?,
     private val featureFlagClient: FeatureFlagClientType?,
     private val statsigClient: StatsigClientType?,
+    private val storyViewElementCache: StoryViewElementCache?,
+    private val refTagStore: RefTagStore?,
+    private val projectPrefetcher: ProjectPrefetcher?,
+    private val baseOkHttpClient: OkHttpClient?,
+    private val referenceDataStore: ReferenceDataStore?,
 ) {
     fun activitySamplePreference() = this.activitySamplePreference
     fun apiClientV2() = this.apiClientV2
@@ -64,6 +72,11 @@ class Environment private constructor(
     fun firebaseAnalyticsClient() = this.firebaseAnalyticsClient
     fun featureFlagClient() = this.featureFlagClient
     fun statsigClient() = this.statsigClient
+    fun storyViewElementCache() = this.storyViewElementCache
+    fun refTagStore() = this.refTagStore
+    fun projectPrefetcher() = this.projectPrefetcher
+    fun baseOkHttpClient() = this.baseOkHttpClient
+    fun referenceDataStore() = this.referenceDataStore
 
     data class Builder(
         private var activitySamplePreference: IntPreferenceType? = null,
@@ -90,7 +103,12 @@ class Environment private constructor(
         private var webEndpoint: String = "",
         private var firebaseAnalyticsClient: FirebaseAnalyticsClientType? = null,
         private var featureFlagClient: FeatureFlagClientType? = null,
-        private var statsigClient: StatsigClientType? = null
+        private var statsigClient: StatsigClientType? = null,
+        private var storyViewElementCache: StoryViewElementCache? = null,
+        private var refTagStore: RefTagStore? = null,
+        private var projectPrefetcher: ProjectPrefetcher? = null,
+        private var baseOkHttpClient: OkHttpClient? = null,
+        private var referenceDataStore: ReferenceDataStore? = null
     ) {
         fun activitySamplePreference(activitySamplePreference: IntPreferenceType) = apply { this.activitySamplePreference = activitySamplePreference }
         fun apiClientV2(apiClientV2: ApiClientTypeV2) = apply { this.apiClientV2 = apiClientV2 }
@@ -117,6 +135,11 @@ class Environment private constructor(
         fun firebaseAnalyticsClient(firebaseAnalyticsClient: FirebaseAnalyticsClientType) = apply { this.firebaseAnalyticsClient = firebaseAnalyticsClient }
         fun featureFlagClient(featureFlag: FeatureFlagClientType) = apply { this.featureFlagClient = featureFlag }
         fun statsigClient(statsigClient: StatsigClientType) = apply { this.statsigClient = statsigClient }
+        fun storyViewElementCache(storyViewElementCache: StoryViewElementCache) = apply { this.storyViewElementCache = storyViewElementCache }
+        fun refTagStore(refTagStore: RefTagStore) = apply { this.refTagStore = refTagStore }
+        fun projectPrefetcher(projectPrefetcher: ProjectPrefetcher) = apply { this.projectPrefetcher = projectPrefetcher }
+        fun baseOkHttpClient(baseOkHttpClient: OkHttpClient) = apply { this.baseOkHttpClient = baseOkHttpClient }
+        fun referenceDataStore(referenceDataStore: ReferenceDataStore) = apply { this.referenceDataStore = referenceDataStore }
 
         fun build() = Environment(
             activitySamplePreference = activitySamplePreference,
@@ -143,7 +166,12 @@ class Environment private constructor(
             webEndpoint = webEndpoint,
             firebaseAnalyticsClient = firebaseAnalyticsClient,
             featureFlagClient = featureFlagClient,
-            statsigClient = statsigClient
+            statsigClient = statsigClient,
+            storyViewElementCache = storyViewElementCache,
+            refTagStore = refTagStore,
+            projectPrefetcher = projectPrefetcher,
+            baseOkHttpClient = baseOkHttpClient,
+            referenceDataStore = referenceDataStore
         )
     }
 
@@ -172,7 +200,12 @@ class Environment private constructor(
         webEndpoint = webEndpoint,
         firebaseAnalyticsClient = firebaseAnalyticsClient,
         featureFlagClient = featureFlagClient,
-        statsigClient = statsigClient
+        statsigClient = statsigClient,
+        storyViewElementCache = storyViewElementCache,
+        refTagStore = refTagStore,
+        projectPrefetcher = projectPrefetcher,
+        baseOkHttpClient = baseOkHttpClient,
+        referenceDataStore = referenceDataStore
     )
 
     companion object {
@@ -0,0 +1,150 @@
+package com.kickstarter.libs
+
+import android.app.ActivityManager
+import android.content.Context
+import android.graphics.drawable.BitmapDrawable
+import android.os.Build
+import androidx.core.content.getSystemService
+import coil.EventListener
+import coil.ImageLoader
+import coil.decode.DataSource
+import coil.decode.GifDecoder
+import coil.decode.ImageDecoderDecoder
+import coil.disk.DiskCache
+import coil.imageLoader
+import coil.memory.MemoryCache
+import coil.request.ErrorResult
+import coil.request.ImageRequest
+import coil.request.SuccessResult
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Single entry point for loading images, backed by the app wide Coil [ImageLoader] built in [newImageLoader].
+ *
+ * - One memory budget, a share of the app's heap that depends on the device RAM class. Coil takes most of
+ *   it, the rest goes to Glide which is only kept for animated WebP and GIF story images.
+ * - One bounded disk cache for every static image: Compose screens, view based loaders and notifications.
+ * - Request sizes are rounded up to a few [sizeBucket]s, so views and Compose cards showing the same image at
+ *   slightly different sizes share one decoded bitmap in memory.
+ * - [prefetch] skips images already in memory or in flight.
+ * - [stats] counts memory/disk hits, network loads and decoded bytes.
+ */
+object ImagePipeline {
+    private const val DISK_CACHE_DIRECTORY = "image_cache"
+    private const val DISK_CACHE_BYTES = 250L * 1024 * 1024
+    private const val HEAP_SHARE = 0.25
+    private const val LOW_RAM_HEAP_SHARE = 0.15
+    private const val GLIDE_SHARE = 0.2
+    private val SIZE_BUCKETS = intArrayOf(64, 128, 256, 384, 512, 720, 1080, 1440, 2160)
+
+    data class Stats(
+        val memoryHits: Long,
+        val diskHits: Long,
+        val networkLoads: Long,
+        val errors: Long,
+        val decodedBytes: Long
+    )
+
+    private val memoryHits = AtomicLong()
+    private val diskHits = AtomicLong()
+    private val networkLoads = AtomicLong()
+    private val errors = AtomicLong()
+    private val decodedBytes = AtomicLong()
+    private val inFlightPrefetches = ConcurrentHashMap.newKeySet<String>()
+
+    private val statsListener = object : EventListener {
+        override fun onSuccess(request: ImageRequest, result: SuccessResult) {
+            when (result.dataSource) {
+                DataSource.MEMORY_CACHE -> memoryHits.incrementAndGet()
+                DataSource.DISK -> diskHits.incrementAndGet()
+                DataSource.NETWORK, DataSource.MEMORY -> networkLoads.incrementAndGet()
+            }
+            if (result.dataSource != DataSource.MEMORY_CACHE) {
+                (result.drawable as? BitmapDrawable)?.bitmap?.let { decodedBytes.addAndGet(it.allocationByteCount.toLong()) }
+            }
+        }
+
+        override fun onError(request: ImageRequest, result: ErrorResult) {
+            errors.incrementAndGet()
+        }
+    }
+
+    /**
+     * Bytes of heap available to decoded images, for both image stacks.
+     */
+    fun memoryBudgetBytes(context: Context): Long {
+        val activityManager = context.getSystemService<ActivityManager>()
+        val memoryClassMb = activityManager?.memoryClass ?: 128
+        val share = if (activityManager?.isLowRamDevice == true) LOW_RAM_HEAP_SHARE else HEAP_SHARE
+        return (memoryClassMb * 1024L * 1024L * share).toLong()
+    }
+
+    fun glideMemoryBudgetBytes(context: Context): Long = (memoryBudgetBytes(context) * GLIDE_SHARE).toLong()
+
+    fun newImageLoader(context: Context): ImageLoader {
+        val coilBudget = memoryBudgetBytes(context) - glideMemoryBudgetBytes(context)
+        return ImageLoader.Builder(context)
+            .memoryCache {
+                MemoryCache.Builder(context)
+                    .maxSizeBytes(coilBudget.toInt())
+                    .build()
+            }
+            .diskCache {
+                DiskCache.Builder()
+                    .directory(context.cacheDir.resolve(DISK_CACHE_DIRECTORY))
+                    .maxSizeBytes(DISK_CACHE_BYTES)
+                    .build()
+            }
+            .eventListener(statsListener)
+            .components {
+                if (Build.VERSION.SDK_INT >= 28) {
+                    add(ImageDecoderDecoder.Factory())
+                } else {
+                    add(GifDecoder.Factory())
+                }
+            }
+            .build()
+    }
+
+    /**
+     * Rounds a requested dimension up to the closest bucket, dimensions over the largest bucket are kept as is.
+     */
+    @JvmStatic
+    fun sizeBucket(px: Int): Int {
+        if (px <= 0) return px
+        return SIZE_BUCKETS.firstOrNull { it >= px } ?: px
+    }
+
+    /**
+     * Warms the memory and disk caches with [urls], skipping the ones already in memory or being fetched.
+     */
+    fun prefetch(context: Context, urls: List<String?>) {
+        val imageLoader = context.imageLoader
+        urls.filterNotNull()
+            .filter { it.isNotEmpty() }
+            .distinct()
+            .forEach { url ->
+                if (imageLoader.memoryCache?.get(MemoryCache.Key(url)) != null) return@forEach
+                if (!inFlightPrefetches.add(url)) return@forEach
+
+                val request = ImageRequest.Builder(context)
+                    .data(url)
+                    .listener(
+                        onSuccess = { _, _ -> inFlightPrefetches.remove(url) },
+                        onError = { _, _ -> inFlightPrefetches.remove(url) },
+                        onCancel = { inFlightPrefetches.remove(url) }
+                    )
+                    .build()
+                imageLoader.enqueue(request)
+            }
+    }
+
+    fun stats() = Stats(
+        memoryHits = memoryHits.get(),
+        diskHits = diskHits.get(),
+        networkLoads = networkLoads.get(),
+        errors = errors.get(),
+        decodedBytes = decodedBytes.get()
+    )
+}
@@ -7,6 +7,7 @@ import com.kickstarter.libs.utils.ProjectViewUtils
 import com.kickstarter.libs.utils.extensions.trimAllWhitespace
 import com.kickstarter.models.Project
 import java.math.RoundingMode
+import java.util.concurrent.ConcurrentHashMap
 import kotlin.jvm.JvmOverloads
 
 /**
@@ -31,6 +32,14 @@ fun KSCurrency?.getCurrencySymbols(project: Project): Pair<String, String> {
 }
 
 class KSCurrency(private val currentConfig: CurrentConfigTypeV2) {
+    // - Symbols depend on the config's country and currencies, recomputed whenever a new config arrives
+    private val currencySymbols = ConcurrentHashMap<Pair<Country, Boolean>, String>()
+
+    init {
+        currentConfig.observable()
+            .subscribe({ currencySymbols.clear() }, { currencySymbols.clear() })
+    }
+
     /**
      * Returns a currency string appropriate to the user's locale and location relative to a project.
      *
@@ -179,6 +188,12 @@ class KSCurrency(private val currentConfig: CurrentConfigTypeV2) {
      * @param excludeCurrencyCode If true, hide the US currency code for US users only.
      */
     fun getCurrencySymbol(country: Country, excludeCurrencyCode: Boolean): String {
+        return currencySymbols.getOrPut(Pair(country, excludeCurrencyCode)) {
+            currencySymbol(country, excludeCurrencyCode)
+        }
+    }
+
+    private fun currencySymbol(country: Country, excludeCurrencyCode: Boolean): String {
         return if (!currencyNeedsCode(country, excludeCurrencyCode)) {
             country.currencySymbol
         } else if (country === Country.SG) {
@@ -0,0 +1,30 @@
+package com.kickstarter.libs
+
+import android.content.Context
+import com.bumptech.glide.GlideBuilder
+import com.bumptech.glide.annotation.GlideModule
+import com.bumptech.glide.load.engine.bitmap_recycle.LruBitmapPool
+import com.bumptech.glide.load.engine.cache.InternalCacheDiskCacheFactory
+import com.bumptech.glide.load.engine.cache.LruResourceCache
+import com.bumptech.glide.module.AppGlideModule
+
+/**
+ * Glide only loads the animated WebP and GIF images of campaign stories, everything else goes through
+ * [ImagePipeline]. Its caches are sized from the same memory budget so both stacks together stay within it.
+ */
+@GlideModule
+class KSGlideModule : AppGlideModule() {
+    override fun applyOptions(context: Context, builder: GlideBuilder) {
+        val memoryBudget = ImagePipeline.glideMemoryBudgetBytes(context)
+        builder.setMemoryCache(LruResourceCache(memoryBudget / 2))
+        builder.setBitmapPool(LruBitmapPool(memoryBudget / 2))
+        builder.setDiskCache(InternalCacheDiskCacheFactory(context, DISK_CACHE_DIRECTORY, DISK_CACHE_BYTES))
+    }
+
+    override fun isManifestParsingEnabled() = false
+
+    companion object {
+        private const val DISK_CACHE_DIRECTORY = "animated_image_cache"
+        private const val DISK_CACHE_BYTES = 100L * 1024 * 1024
+    }
+}
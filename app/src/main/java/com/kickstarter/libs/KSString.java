@@ -2,9 +2,13 @@ package com.kickstarter.libs;
 
 import android.content.res.Resources;
 import android.text.TextUtils;
+import android.util.LruCache;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -12,8 +16,12 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 public final class KSString {
+  private static final int TEMPLATE_CACHE_SIZE = 256;
+
   private final String packageName;
   private final Resources resources;
+  private final LruCache<String, Template> templates = new LruCache<>(TEMPLATE_CACHE_SIZE);
+  private final Map<String, Integer> resourceIds = new ConcurrentHashMap<>();
 
   public KSString(final @NonNull String packageName, final @NonNull Resources resources) {
     this.packageName = packageName;
@@ -137,7 +145,12 @@ public final class KSString {
   private @NonNull String stringFromKeyPath(final @NonNull String... keyPathComponents) {
     final String keyPath = TextUtils.join("_", keyPathComponents);
     try {
-      final int resourceId = this.resources.getIdentifier(keyPath, "string", this.packageName);
+      // - Identifiers don't change while the process lives, only the string they resolve to does
+      Integer resourceId = this.resourceIds.get(keyPath);
+      if (resourceId == null) {
+        resourceId = this.resources.getIdentifier(keyPath, "string", this.packageName);
+        this.resourceIds.put(keyPath, resourceId);
+      }
       return this.resources.getString(resourceId);
     } catch (final @NonNull Resources.NotFoundException e) {
       return "";
@@ -160,37 +173,75 @@ public final class KSString {
     return null;
   }
 
+  /**
+   * Drops the parsed templates, called when the configuration changes since the strings they were parsed
+   * from are then resolved for a new locale.
+   */
+  public void clearTemplates() {
+    this.templates.evictAll();
+  }
+
   /**
    * For a given string, replaces occurrences of each key with its corresponding value. In the string, keys are wrapped
    * with `%{}`, e.g. `%{backers_count} backers`. In this instance, the substitutions hash might contain one entry with the key
-   * `backers_count` and value `2`.
+   * `backers_count` and value `2`. Keys without a substitution are left untouched.
    */
   private @NonNull String replace(final @NonNull String string, final @NonNull Map<String, String> substitutions) {
-    final StringBuilder builder = new StringBuilder();
-    for (final String key : substitutions.keySet()) {
-      if (builder.length() > 0) {
-        builder.append("|");
-      }
-      builder
-        .append("(%\\{")
-        .append(key)
-        .append("\\})");
+    Template template = this.templates.get(string);
+    if (template == null) {
+      template = Template.parse(string);
+      this.templates.put(string, template);
     }
+    return template.apply(substitutions);
+  }
 
-    final Pattern pattern = Pattern.compile(builder.toString());
-    final Matcher matcher = pattern.matcher(string);
-    final StringBuffer buffer = new StringBuffer();
+  /**
+   * A string split around its `%{key}` placeholders, parsed once per string instead of compiling a pattern
+   * for every substitution.
+   */
+  private static final class Template {
+    private final String[] literals;
+    private final String[] keys;
+
+    private Template(final @NonNull String[] literals, final @NonNull String[] keys) {
+      this.literals = literals;
+      this.keys = keys;
+    }
 
-    while (matcher.find()) {
-      final String key = NON_WORD_REGEXP.matcher(matcher.group()).replaceAll("");
-      final String value = substitutions.get(key);
-      final String replacement = Matcher.quoteReplacement(value != null ? value : "");
-      matcher.appendReplacement(buffer, replacement);
+    static @NonNull Template parse(final @NonNull String string) {
+      final List<String> literals = new ArrayList<>();
+      final List<String> keys = new ArrayList<>();
+      final Matcher matcher = PLACEHOLDER_REGEXP.matcher(string);
+      int start = 0;
+      while (matcher.find()) {
+        literals.add(string.substring(start, matcher.start()));
+        keys.add(matcher.group(1));
+        start = matcher.end();
+      }
+      literals.add(string.substring(start));
+      return new Template(literals.toArray(new String[0]), keys.toArray(new String[0]));
     }
-    matcher.appendTail(buffer);
 
-    return buffer.toString();
+    @NonNull String apply(final @NonNull Map<String, String> substitutions) {
+      if (this.keys.length == 0) {
+        return this.literals[0];
+      }
+
+      final StringBuilder builder = new StringBuilder();
+      for (int i = 0; i < this.keys.length; i++) {
+        builder.append(this.literals[i]);
+        final String key = this.keys[i];
+        if (substitutions.containsKey(key)) {
+          final String value = substitutions.get(key);
+          builder.append(value != null ? value : "");
+        } else {
+          builder.append("%{").append(key).append("}");
+        }
+      }
+      builder.append(this.literals[this.keys.length]);
+      return builder.toString();
+    }
   }
 
-  private static final Pattern NON_WORD_REGEXP = Pattern.compile("[^\\w]");
+  private static final Pattern PLACEHOLDER_REGEXP = Pattern.compile("%\\{(\\w+)\\}");
 }
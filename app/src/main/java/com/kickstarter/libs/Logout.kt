@@ -1,15 +1,19 @@
 package com.kickstarter.libs
 
 import com.facebook.login.LoginManager
+import com.kickstarter.services.ApolloClientTypeV2
 import java.net.CookieManager
 
 class Logout(
     private val cookieManager: CookieManager,
-    private val currentUserV2: CurrentUserTypeV2
+    private val currentUserV2: CurrentUserTypeV2,
+    private val apolloClient: ApolloClientTypeV2
 ) {
     fun execute() {
         currentUserV2.logout()
         cookieManager.cookieStore.removeAll()
+        // - Cached records hold user specific fields (watched, backing), do not leak them to the next session
+        apolloClient.clearCache()
         LoginManager.getInstance().logOut()
     }
 }
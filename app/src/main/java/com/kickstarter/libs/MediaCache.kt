@@ -0,0 +1,56 @@
+package com.kickstarter.libs
+
+import android.content.Context
+import androidx.annotation.OptIn
+import androidx.media3.common.util.UnstableApi
+import androidx.media3.database.StandaloneDatabaseProvider
+import androidx.media3.datasource.DataSource
+import androidx.media3.datasource.DefaultDataSource
+import androidx.media3.datasource.DefaultHttpDataSource
+import androidx.media3.datasource.cache.CacheDataSource
+import androidx.media3.datasource.cache.LeastRecentlyUsedCacheEvictor
+import androidx.media3.datasource.cache.SimpleCache
+import com.kickstarter.libs.utils.extensions.userAgent
+import java.io.File
+
+/**
+ * Process wide on-disk cache for video segments, shared by every player in the app (video feed and project
+ * page) so a video that was just played, or preloaded, is read back from disk instead of the network.
+ *
+ * [SimpleCache] locks its directory, so there must only ever be one instance per process, bounded by
+ * [MAX_CACHE_BYTES] with the least recently used segments evicted first.
+ */
+@OptIn(UnstableApi::class)
+object MediaCache {
+    private const val DIRECTORY = "media_cache"
+    private const val MAX_CACHE_BYTES = 200L * 1024 * 1024
+
+    @Volatile
+    private var cache: SimpleCache? = null
+
+    fun cache(context: Context): SimpleCache {
+        cache?.let { return it }
+        return synchronized(this) {
+            cache ?: SimpleCache(
+                File(context.applicationContext.cacheDir, DIRECTORY),
+                LeastRecentlyUsedCacheEvictor(MAX_CACHE_BYTES),
+                StandaloneDatabaseProvider(context.applicationContext)
+            ).also { cache = it }
+        }
+    }
+
+    /**
+     * Data source reading through the media cache, with the KS User-Agent on network requests. Cache
+     * errors fall back to the network rather than failing playback.
+     */
+    fun dataSourceFactory(context: Context): CacheDataSource.Factory {
+        val httpDataSourceFactory = DefaultHttpDataSource.Factory()
+            .setUserAgent(context.userAgent())
+        val upstreamFactory: DataSource.Factory = DefaultDataSource.Factory(context, httpDataSourceFactory)
+
+        return CacheDataSource.Factory()
+            .setCache(cache(context))
+            .setUpstreamDataSourceFactory(upstreamFactory)
+            .setFlags(CacheDataSource.FLAG_IGNORE_CACHE_ON_ERROR)
+    }
+}
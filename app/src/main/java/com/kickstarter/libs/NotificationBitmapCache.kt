@@ -0,0 +1,32 @@
+package com.kickstarter.libs
+
+import android.graphics.Bitmap
+import android.util.LruCache
+
+/**
+ * Small in memory LRU for the decoded bitmaps shown as large icons in push notifications,
+ * keyed by url and transformation so a burst of pushes for the same project or user decodes the image once.
+ */
+class NotificationBitmapCache(maxSizeBytes: Int = DEFAULT_MAX_SIZE_BYTES) {
+
+    enum class Transform { CIRCLE, ROUNDED_SQUARE }
+
+    private val cache = object : LruCache<String, Bitmap>(maxSizeBytes) {
+        override fun sizeOf(key: String, value: Bitmap): Int = value.byteCount
+    }
+
+    fun get(url: String, transform: Transform): Bitmap? = cache.get(key(url, transform))
+
+    fun put(url: String, transform: Transform, bitmap: Bitmap) {
+        cache.put(key(url, transform), bitmap)
+    }
+
+    fun size(): Int = cache.size()
+
+    private fun key(url: String, transform: Transform) = "${transform.name}:$url"
+
+    companion object {
+        // - Large icons are tiny, 2MB fits a few dozen of them
+        const val DEFAULT_MAX_SIZE_BYTES = 2 * 1024 * 1024
+    }
+}
@@ -0,0 +1,66 @@
+package com.kickstarter.libs
+
+import android.os.SystemClock
+import androidx.annotation.VisibleForTesting
+import com.kickstarter.models.Project
+import io.reactivex.Observable
+import io.reactivex.Scheduler
+import io.reactivex.schedulers.Schedulers
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+
+/**
+ * Project fetches started ahead of the screen needing them, keyed by project param (slug or id).
+ *
+ * The splash [prefetch]es the project of a deep link as soon as it parses the intent, in parallel with the rest of
+ * start up, and routes with the same request. The project page then [take]s it instead of fetching the project
+ * again. Entries are handed over once, and dropped after [MAX_AGE_MILLIS] when nobody takes them.
+ */
+class ProjectPrefetcher @JvmOverloads constructor(
+    private val clock: () -> Long = { SystemClock.elapsedRealtime() },
+    private val scheduler: Scheduler = Schedulers.computation()
+) {
+    private class Entry(val project: Observable<Project>, val startedAtMillis: Long)
+
+    private val entries = ConcurrentHashMap<String, Entry>()
+
+    /**
+     * Starts [fetch] for [param] unless a fetch for it is already running or done, and returns its result,
+     * replayed to every subscriber.
+     */
+    fun prefetch(param: String, fetch: () -> Observable<Project>): Observable<Project> {
+        val now = clock()
+        entries.values.removeIf { now - it.startedAtMillis > MAX_AGE_MILLIS }
+
+        var isNew = false
+        val entry = entries.computeIfAbsent(param) {
+            isNew = true
+            val project = fetch().cache()
+            // - Subscribes right away so the request is in flight before anyone asks for it
+            project.subscribe({}, {})
+            Entry(project, now)
+        }
+
+        if (isNew) {
+            // - A deep link whose project page never opens doesn't keep its project around
+            scheduler.scheduleDirect({ entries.remove(param, entry) }, MAX_AGE_MILLIS, TimeUnit.MILLISECONDS)
+        }
+        return entry.project
+    }
+
+    /**
+     * Returns the prefetched project for [param] and forgets it, so later reloads hit the network. Null when
+     * nothing was prefetched or it's too old.
+     */
+    fun take(param: String): Observable<Project>? {
+        val entry = entries.remove(param) ?: return null
+        return if (clock() - entry.startedAtMillis <= MAX_AGE_MILLIS) entry.project else null
+    }
+
+    @VisibleForTesting
+    internal fun size() = entries.size
+
+    companion object {
+        val MAX_AGE_MILLIS = TimeUnit.SECONDS.toMillis(30)
+    }
+}
@@ -1,5 +1,6 @@
 package com.kickstarter.libs
 
+import android.app.Notification
 import android.app.NotificationChannel
 import android.app.NotificationManager
 import android.app.PendingIntent
@@ -7,16 +8,21 @@ import android.content.Context
 import android.content.Intent
 import android.graphics.Bitmap
 import android.graphics.BitmapFactory
+import android.graphics.drawable.BitmapDrawable
+import android.os.SystemClock
 import android.util.Pair
 import androidx.annotation.VisibleForTesting
 import androidx.core.app.NotificationCompat
 import androidx.core.app.TaskStackBuilder
 import androidx.core.content.ContextCompat
-import com.bumptech.glide.Glide
-import com.bumptech.glide.load.MultiTransformation
-import com.bumptech.glide.load.resource.bitmap.CenterCrop
-import com.bumptech.glide.load.resource.bitmap.RoundedCorners
-import com.bumptech.glide.request.RequestOptions
+import coil.imageLoader
+import coil.request.ErrorResult
+import coil.request.ImageRequest
+import coil.request.ImageResult
+import coil.request.SuccessResult
+import coil.size.Scale
+import coil.transform.CircleCropTransformation
+import coil.transform.RoundedCornersTransformation
 import com.google.firebase.crashlytics.FirebaseCrashlytics
 import com.kickstarter.R
 import com.kickstarter.libs.RefTag.Companion.push
@@ -38,9 +44,17 @@ import com.kickstarter.ui.activities.SurveyResponseActivity
 import com.kickstarter.ui.activities.UpdateActivity
 import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
-import io.reactivex.schedulers.Schedulers
 import io.reactivex.subjects.PublishSubject
-import java.util.concurrent.ExecutionException
+import kotlinx.coroutines.Deferred
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.runBlocking
+import timber.log.Timber
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
 
 class PushNotifications(
     @field:ApplicationContext @param:ApplicationContext private val context: Context,
@@ -49,6 +63,24 @@ class PushNotifications(
     private val notifications: PublishSubject<PushNotificationEnvelope> = PublishSubject.create()
     private val subscriptions = CompositeDisposable()
 
+    // - Every notification is rendered on this small bounded pool instead of a new thread per push
+    private val renderExecutor = ThreadPoolExecutor(
+        RENDER_THREADS,
+        RENDER_THREADS,
+        RENDER_THREAD_KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS,
+        LinkedBlockingQueue(RENDER_QUEUE_CAPACITY),
+        object : ThreadFactory {
+            private val count = AtomicInteger()
+            override fun newThread(runnable: Runnable) = Thread(runnable, "ks-push-${count.incrementAndGet()}")
+        },
+        // - When the queue is full the thread delivering the push renders it itself, nothing gets dropped
+        ThreadPoolExecutor.CallerRunsPolicy()
+    ).apply { allowCoreThreadTimeOut(true) }
+
+    private val bitmapCache = NotificationBitmapCache()
+    private val pendingBitmaps = ConcurrentHashMap<BitmapRequest, Deferred<ImageResult>>()
+
     @VisibleForTesting
     var messageThreadIntent: Intent? = null
 
@@ -58,22 +90,16 @@ class PushNotifications(
         subscriptions.add(
             notifications
                 .filter { obj: PushNotificationEnvelope -> obj.isErroredPledge() }
-                .observeOn(Schedulers.newThread())
                 .subscribe { envelope: PushNotificationEnvelope ->
-                    this.displayNotificationFromErroredPledge(
-                        envelope
-                    )
+                    render(envelope) { this.displayNotificationFromErroredPledge(it) }
                 }
         )
 
         subscriptions.add(
             notifications
                 .filter { obj: PushNotificationEnvelope -> obj.isFriendFollow() }
-                .observeOn(Schedulers.newThread())
                 .subscribe { envelope: PushNotificationEnvelope ->
-                    this.displayNotificationFromFriendFollowActivity(
-                        envelope
-                    )
+                    render(envelope) { this.displayNotificationFromFriendFollowActivity(it) }
                 }
         )
 
@@ -86,33 +112,26 @@ class PushNotifications(
                     )
                 }
                 .filter { isNotNull() }
-                .observeOn(Schedulers.newThread())
                 .subscribe { envelopeAndMessageThread ->
-                    this.displayNotificationFromMessageActivity(
-                        envelopeAndMessageThread.first, envelopeAndMessageThread.second
-                    )
+                    render(envelopeAndMessageThread.first) {
+                        this.displayNotificationFromMessageActivity(it, envelopeAndMessageThread.second)
+                    }
                 }
         )
 
         subscriptions.add(
             notifications
                 .filter { obj: PushNotificationEnvelope -> obj.isProjectActivity() }
-                .observeOn(Schedulers.newThread())
                 .subscribe { envelope: PushNotificationEnvelope ->
-                    this.displayNotificationFromProjectActivity(
-                        envelope
-                    )
+                    render(envelope) { this.displayNotificationFromProjectActivity(it) }
                 }
         )
 
         subscriptions.add(
             notifications
                 .filter { obj: PushNotificationEnvelope -> obj.isProjectReminder() }
-                .observeOn(Schedulers.newThread())
                 .subscribe { envelope: PushNotificationEnvelope ->
-                    this.displayNotificationFromProjectReminder(
-                        envelope
-                    )
+                    render(envelope) { this.displayNotificationFromProjectReminder(it) }
                 }
         )
 
@@ -125,12 +144,10 @@ class PushNotifications(
                     )
                 }
                 .filter { isNotNull() }
-                .observeOn(Schedulers.newThread())
                 .subscribe { envelopeAndUpdate: Pair<PushNotificationEnvelope, Update> ->
-                    this.displayNotificationFromUpdateActivity(
-                        envelopeAndUpdate.first,
-                        envelopeAndUpdate.second
-                    )
+                    render(envelopeAndUpdate.first) {
+                        this.displayNotificationFromUpdateActivity(it, envelopeAndUpdate.second)
+                    }
                 }
         )
 
@@ -140,11 +157,8 @@ class PushNotifications(
                 .filter {
                     isNotNull()
                 }
-                .observeOn(Schedulers.newThread())
-                .subscribe {
-                    this.displayNotificationFromSurveyResponseActivity(
-                        it
-                    )
+                .subscribe { envelope: PushNotificationEnvelope ->
+                    render(envelope) { this.displayNotificationFromSurveyResponseActivity(it) }
                 }
         )
         subscriptions.add(
@@ -153,19 +167,34 @@ class PushNotifications(
                 .filter {
                     isNotNull()
                 }
-                .observeOn(Schedulers.newThread())
-                .subscribe {
-                    this.displayNotificationFromPledgeRedemption(
-                        it
-                    )
+                .subscribe { envelope: PushNotificationEnvelope ->
+                    render(envelope) { this.displayNotificationFromPledgeRedemption(it) }
                 }
         )
     }
 
     fun add(envelope: PushNotificationEnvelope) {
+        // - Start decoding the large icon right away, in parallel with any message or update fetch
+        largeIcon(envelope)?.let { (url, transform) -> prefetchBitmap(url, transform) }
         notifications.onNext(envelope)
     }
 
+    /**
+     * Number of notifications waiting for a render thread.
+     */
+    fun queueDepth(): Int = renderExecutor.queue.size
+
+    private fun render(envelope: PushNotificationEnvelope, display: (PushNotificationEnvelope) -> Unit) {
+        val enqueuedAt = SystemClock.elapsedRealtime()
+        val queueDepth = queueDepth()
+        renderExecutor.execute {
+            display(envelope)
+            Timber.d(
+                "Rendered push notification ${envelope.signature()} in ${SystemClock.elapsedRealtime() - enqueuedAt}ms, queue depth $queueDepth"
+            )
+        }
+    }
+
     private fun createNotificationChannels() {
         // Create the NotificationChannel, but only on API 26+ because
         // the NotificationChannel class is new and not in the support library
@@ -273,7 +302,7 @@ class PushNotifications(
         val activity = envelope.activity() ?: return
 
         val notification = notificationBuilder(gcm.title(), gcm.alert(), CHANNEL_FOLLOWING)
-            .setLargeIcon(fetchBitmap(activity.userPhoto(), true))
+            .setLargeIcon(fetchBitmap(activity.userPhoto(), NotificationBitmapCache.Transform.CIRCLE))
             .setContentIntent(friendFollowActivityIntent(envelope))
             .build()
         notificationManager().notify(envelope.signature(), notification)
@@ -288,11 +317,10 @@ class PushNotifications(
         val message = envelope.message()
 
         messageThread?.let {
-            val notification = notificationBuilder(gcm.title(), gcm.alert(), CHANNEL_MESSAGES)
+            val notificationBuilder = notificationBuilder(gcm.title(), gcm.alert(), CHANNEL_MESSAGES)
                 .setContentIntent(messageThreadIntent(envelope, messageThread))
-                .build()
 
-            notificationManager().notify(envelope.signature(), notification)
+            notifyGrouped(envelope, notificationBuilder, message?.let { GROUP_MESSAGE_THREAD + it.messageThreadId() })
         }
     }
 
@@ -312,11 +340,10 @@ class PushNotifications(
                     )
                 )
         if (projectPhoto != null) {
-            notificationBuilder = notificationBuilder.setLargeIcon(fetchBitmap(projectPhoto, false))
+            notificationBuilder = notificationBuilder.setLargeIcon(fetchBitmap(projectPhoto, NotificationBitmapCache.Transform.ROUNDED_SQUARE))
         }
-        val notification = notificationBuilder.build()
 
-        notificationManager().notify(envelope.signature(), notification)
+        notifyGrouped(envelope, notificationBuilder, GROUP_PROJECT + projectId)
     }
 
     private fun displayNotificationFromProjectReminder(envelope: PushNotificationEnvelope) {
@@ -327,7 +354,7 @@ class PushNotifications(
         val projectIntent = projectIntent(envelope, project.id().toString())
         val notification = notificationBuilder(gcm.title(), gcm.alert(), CHANNEL_PROJECT_REMINDER)
             .setContentIntent(projectContentIntent(envelope, projectIntent))
-            .setLargeIcon(fetchBitmap(project.photo(), false))
+            .setLargeIcon(fetchBitmap(project.photo(), NotificationBitmapCache.Transform.ROUNDED_SQUARE))
             .build()
 
         notificationManager().notify(envelope.signature(), notification)
@@ -371,11 +398,10 @@ class PushNotifications(
 
         val projectParam = projectId.toString()
 
-        val notification = notificationBuilder(gcm.title(), gcm.alert(), CHANNEL_PROJECT_UPDATES)
+        val notificationBuilder = notificationBuilder(gcm.title(), gcm.alert(), CHANNEL_PROJECT_UPDATES)
             .setContentIntent(projectUpdateContentIntent(envelope, update, projectParam))
-            .setLargeIcon(fetchBitmap(activity.projectPhoto(), false))
-            .build()
-        notificationManager().notify(envelope.signature(), notification)
+            .setLargeIcon(fetchBitmap(activity.projectPhoto(), NotificationBitmapCache.Transform.ROUNDED_SQUARE))
+        notifyGrouped(envelope, notificationBuilder, GROUP_PROJECT + projectId)
     }
 
     private fun friendFollowActivityIntent(envelope: PushNotificationEnvelope): PendingIntent {
@@ -479,40 +505,113 @@ class PushNotifications(
         )!!
     }
 
-    private fun fetchBitmap(url: String?, transformIntoCircle: Boolean): Bitmap? {
+    /**
+     * Posts the notification in a per project or per message thread group, once a group holds more than one
+     * notification a summary is posted so a burst of pushes collapses into a single expandable entry.
+     */
+    private fun notifyGrouped(
+        envelope: PushNotificationEnvelope,
+        notificationBuilder: NotificationCompat.Builder,
+        groupKey: String?
+    ) {
+        val notificationManager = notificationManager()
+        if (groupKey == null) {
+            notificationManager.notify(envelope.signature(), notificationBuilder.build())
+            return
+        }
+
+        notificationManager.notify(envelope.signature(), notificationBuilder.setGroup(groupKey).build())
+
+        val groupSize = notificationManager.activeNotifications.count {
+            it.notification.group == groupKey && it.notification.flags and Notification.FLAG_GROUP_SUMMARY == 0
+        }
+        if (groupSize > 1) {
+            val summary = notificationBuilder
+                .setGroupSummary(true)
+                .setGroupAlertBehavior(NotificationCompat.GROUP_ALERT_CHILDREN)
+                .build()
+            notificationManager.notify(groupKey, GROUP_SUMMARY_ID, summary)
+        }
+    }
+
+    private fun largeIcon(envelope: PushNotificationEnvelope): kotlin.Pair<String, NotificationBitmapCache.Transform>? =
+        when {
+            envelope.isFriendFollow() -> envelope.activity()?.userPhoto()?.let { it to NotificationBitmapCache.Transform.CIRCLE }
+            envelope.isProjectActivity() || envelope.isProjectUpdateActivity() ->
+                envelope.activity()?.projectPhoto()?.let { it to NotificationBitmapCache.Transform.ROUNDED_SQUARE }
+            envelope.isProjectReminder() -> envelope.project()?.photo()?.let { it to NotificationBitmapCache.Transform.ROUNDED_SQUARE }
+            else -> null
+        }
+
+    @OptIn(ExperimentalCoroutinesApi::class)
+    private fun prefetchBitmap(url: String, transform: NotificationBitmapCache.Transform) {
+        val request = BitmapRequest(url, transform)
+        if (bitmapCache.get(url, transform) != null || pendingBitmaps.containsKey(request)) {
+            return
+        }
+        var prefetch: Deferred<ImageResult>? = null
+        pendingBitmaps.computeIfAbsent(request) {
+            context.imageLoader.enqueue(bitmapRequest(url, transform)).job.also { prefetch = it }
+        }
+
+        // - A notification that is dropped or fails to build never takes its bitmap, it goes to the bounded cache
+        prefetch?.let { job ->
+            job.invokeOnCompletion { cause ->
+                if (cause == null) {
+                    ((job.getCompleted() as? SuccessResult)?.drawable as? BitmapDrawable)?.bitmap
+                        ?.let { bitmapCache.put(url, transform, it) }
+                }
+                pendingBitmaps.remove(request, job)
+            }
+        }
+    }
+
+    private fun bitmapRequest(url: String, transform: NotificationBitmapCache.Transform): ImageRequest {
+        val largeIconSize = context.resources.getDimensionPixelSize(android.R.dimen.notification_large_icon_width)
+
+        return ImageRequest.Builder(this.context)
+            .data(url)
+            // - Notifications are parceled to the system, they can't hold hardware bitmaps
+            .allowHardware(false)
+            .size(ImagePipeline.sizeBucket(largeIconSize))
+            .scale(Scale.FILL)
+            .transformations(
+                when (transform) {
+                    NotificationBitmapCache.Transform.CIRCLE -> CircleCropTransformation()
+                    NotificationBitmapCache.Transform.ROUNDED_SQUARE -> RoundedCornersTransformation(10f)
+                }
+            )
+            .build()
+    }
+
+    private fun fetchBitmap(url: String?, transform: NotificationBitmapCache.Transform): Bitmap? {
         if (url == null) {
             return null
         }
 
+        bitmapCache.get(url, transform)?.let { return it }
+
+        val job = pendingBitmaps.remove(BitmapRequest(url, transform))
+            ?: context.imageLoader.enqueue(bitmapRequest(url, transform)).job
+
         try {
-            if (transformIntoCircle) {
-                val circleCrop = Glide.with(this.context)
-                    .asBitmap()
-                    .load(url)
-                    .error(R.drawable.logo)
-                    .apply(RequestOptions.circleCropTransform())
-                    .submit()
-                return circleCrop.get()
-            } else {
-                val SquareRoundCorners = Glide.with(this.context)
-                    .asBitmap()
-                    .load(url)
-                    .error(R.drawable.logo)
-                    .transform(MultiTransformation(CenterCrop(), RoundedCorners(10)))
-                    .submit()
-                return SquareRoundCorners.get()
+            return when (val result = runBlocking { job.await() }) {
+                is SuccessResult -> (result.drawable as? BitmapDrawable)?.bitmap
+                    ?.also { bitmapCache.put(url, transform, it) }
+                    ?: fallbackBitmap(url, IllegalStateException("Not a bitmap"))
+                is ErrorResult -> fallbackBitmap(url, result.throwable)
             }
-        } catch (e: ExecutionException) {
-            val error = Throwable(url, e)
-            FirebaseCrashlytics.getInstance().recordException(error)
-            return BitmapFactory.decodeResource(context.resources, R.drawable.logo)
         } catch (e: InterruptedException) {
-            val error = Throwable(url, e)
-            FirebaseCrashlytics.getInstance().recordException(error)
-            return BitmapFactory.decodeResource(context.resources, R.drawable.logo)
+            return fallbackBitmap(url, e)
         }
     }
 
+    private fun fallbackBitmap(url: String, throwable: Throwable): Bitmap {
+        val error = Throwable(url, throwable)
+        FirebaseCrashlytics.getInstance().recordException(error)
+        return BitmapFactory.decodeResource(context.resources, R.drawable.logo)
+    }
+
     private fun notificationManager(): NotificationManager {
         return context.getSystemService(Context.NOTIFICATION_SERVICE) as NotificationManager
     }
@@ -579,7 +678,17 @@ class PushNotifications(
             .putExtra(IntentKey.REF_TAG, push())
     }
 
+    private data class BitmapRequest(val url: String, val transform: NotificationBitmapCache.Transform)
+
     companion object {
+        private const val RENDER_THREADS = 2
+        private const val RENDER_THREAD_KEEP_ALIVE_SECONDS = 30L
+        private const val RENDER_QUEUE_CAPACITY = 32
+
+        private const val GROUP_PROJECT = "project_"
+        private const val GROUP_MESSAGE_THREAD = "message_thread_"
+        private const val GROUP_SUMMARY_ID = 0
+
         private const val CHANNEL_ERRORED_PLEDGES = "ERRORED_PLEDGES"
         private const val CHANNEL_FOLLOWING = "FOLLOWING"
         private const val CHANNEL_MESSAGES = "MESSAGES"
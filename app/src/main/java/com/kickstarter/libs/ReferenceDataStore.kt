@@ -0,0 +1,344 @@
+package com.kickstarter.libs
+
+import com.kickstarter.models.Category
+import com.kickstarter.models.Location
+import com.kickstarter.models.Tag
+import io.reactivex.Observable
+import io.reactivex.Scheduler
+import io.reactivex.schedulers.Schedulers
+import timber.log.Timber
+import java.io.ByteArrayOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.util.Locale
+import java.util.TreeMap
+import java.util.concurrent.TimeUnit
+
+/**
+ * Categories, tags and locations, the reference data behind the discovery drawer and the search filters, kept in
+ * a compact binary [file] so those open without waiting on the network.
+ *
+ * Each list remembers when it was fetched and a hash of its content. Lists older than [maxAgeMillis] are still
+ * served but [needsRefresh] says to fetch them again, and a refresh that returns the same content doesn't notify
+ * anyone. Every location the API returns also goes into a prefix index, so [locationsMatching] can answer the
+ * location typeahead before its query comes back.
+ *
+ * Category names are localized, so everything stored is dropped when the [locale] it was fetched in changes.
+ *
+ * The first access reads the file and blocks, [load] it off the main thread. Writes happen on [writeScheduler].
+ */
+class ReferenceDataStore @JvmOverloads constructor(
+    private val file: File?,
+    private val maxAgeMillis: Long = MAX_AGE_MILLIS,
+    private val writeScheduler: Scheduler = Schedulers.io(),
+    private val clock: () -> Long = { System.currentTimeMillis() },
+    private val locale: () -> Locale = { Locale.getDefault() }
+) {
+    enum class Kind { CATEGORIES, TAGS, POPULAR_LOCATIONS }
+
+    private class Snapshot<T>(val items: List<T>, val fetchedAtMillis: Long, val version: Int)
+
+    private val snapshots = mutableMapOf<Kind, Snapshot<*>>()
+    private val knownLocations = LinkedHashMap<Long, Location>()
+    private val locationIndex = TreeMap<String, Location>()
+
+    @Volatile
+    private var isLoaded = false
+
+    @Volatile
+    private var dataLocale: String? = null
+
+    fun load() = ensureLoaded()
+
+    fun categories(): List<Category>? = items(Kind.CATEGORIES)
+
+    fun tags(): List<Tag>? = items(Kind.TAGS)
+
+    fun popularLocations(): List<Location>? = items(Kind.POPULAR_LOCATIONS)
+
+    /**
+     * True when [kind] was never fetched or was fetched longer than [maxAgeMillis] ago.
+     */
+    @Synchronized
+    fun needsRefresh(kind: Kind): Boolean {
+        ensureLoaded()
+        val snapshot = snapshots[kind] ?: return true
+        return clock() - snapshot.fetchedAtMillis > maxAgeMillis
+    }
+
+    /** Returns false when [categories] are the ones already stored. */
+    fun putCategories(categories: List<Category>) = put(Kind.CATEGORIES, categories)
+
+    /** Returns false when [tags] are the ones already stored. */
+    fun putTags(tags: List<Tag>) = put(Kind.TAGS, tags)
+
+    /** Returns false when [locations] are the ones already stored. */
+    fun putPopularLocations(locations: List<Location>) = put(Kind.POPULAR_LOCATIONS, locations).also {
+        rememberLocations(locations)
+    }
+
+    /**
+     * Adds [locations] to the typeahead index, the least recently seen ones are dropped past [MAX_INDEXED_LOCATIONS].
+     * The file is only written when a location was new or changed, not for every typeahead response.
+     */
+    @Synchronized
+    fun rememberLocations(locations: List<Location>) {
+        ensureLoaded()
+        var changed = false
+        locations.forEach { changed = indexLocation(it) || changed }
+        if (!changed) return
+
+        while (knownLocations.size > MAX_INDEXED_LOCATIONS) {
+            unindexLocation(knownLocations.values.first())
+        }
+        scheduleWrite()
+    }
+
+    /**
+     * Known locations with a name, or a word of their displayable name, that starts with [term].
+     */
+    @Synchronized
+    fun locationsMatching(term: String, limit: Int = DEFAULT_MATCH_LIMIT): List<Location> {
+        ensureLoaded()
+        val prefix = normalize(term)
+        if (prefix.isEmpty()) return emptyList()
+
+        return locationIndex.subMap(prefix, true, "$prefix$INDEX_UPPER_BOUND", false).values
+            .distinctBy { it.id() }
+            .sortedByDescending { it.projectsCount() }
+            .take(limit)
+    }
+
+    /**
+     * Stored categories when fresh. Otherwise [fetch]es them, with the stale ones, if any, emitted first and kept
+     * when the refresh fails or returns the same list.
+     */
+    fun observeCategories(fetch: () -> Observable<List<Category>>): Observable<List<Category>> = Observable.defer {
+        val stored = categories()
+        when {
+            stored == null -> fetch().doOnNext { putCategories(it) }
+            !needsRefresh(Kind.CATEGORIES) -> Observable.just(stored)
+            else -> Observable.just(stored)
+                .concatWith(fetch().filter { putCategories(it) }.onErrorResumeNext(Observable.empty()))
+        }
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    @Synchronized
+    private fun <T> items(kind: Kind): List<T>? {
+        ensureLoaded()
+        return (snapshots[kind] as Snapshot<T>?)?.items
+    }
+
+    @Synchronized
+    private fun <T> put(kind: Kind, items: List<T>): Boolean {
+        ensureLoaded()
+        val version = encode { writeItems(kind, items) }.contentHashCode()
+        val changed = snapshots[kind]?.version != version
+        snapshots[kind] = Snapshot(if (changed) items else snapshots[kind]!!.items, clock(), version)
+        scheduleWrite()
+        return changed
+    }
+
+    /**
+     * Returns false when [location] was already indexed as is, it's then only moved to the most recently seen.
+     */
+    private fun indexLocation(location: Location): Boolean {
+        val previous = knownLocations.remove(location.id())
+        previous?.let { unindexLocation(it) }
+        knownLocations[location.id()] = location
+        tokens(location).forEach { locationIndex["$it$KEY_SEPARATOR${location.id()}"] = location }
+        return previous != location
+    }
+
+    private fun unindexLocation(location: Location) {
+        knownLocations.remove(location.id())
+        tokens(location).forEach { locationIndex.remove("$it$KEY_SEPARATOR${location.id()}") }
+    }
+
+    private fun tokens(location: Location) =
+        (listOf(location.name(), location.displayableName()) + location.displayableName().split(TOKEN_SEPARATORS))
+            .map { normalize(it) }
+            .filter { it.isNotEmpty() }
+            .toSet()
+
+    private fun scheduleWrite() {
+        val dir = file?.parentFile ?: return
+        writeScheduler.scheduleDirect {
+            val bytes = synchronized(this) { encode { writeStore() } }
+            try {
+                if (!dir.exists() && !dir.mkdirs()) return@scheduleDirect
+                // - Written next to the store and renamed over it, so a crash never leaves a truncated file
+                val temp = File(dir, "${file.name}.tmp")
+                temp.writeBytes(bytes)
+                if (!temp.renameTo(file)) temp.delete()
+            } catch (e: Exception) {
+                Timber.w(e, "Unable to write reference data")
+            }
+        }
+    }
+
+    private fun ensureLoaded() {
+        val currentLocale = locale().toLanguageTag()
+        if (isLoaded && dataLocale == currentLocale) return
+        synchronized(this) {
+            if (!isLoaded) {
+                try {
+                    file?.takeIf { it.exists() }?.let { readStore(it) }
+                } catch (e: Exception) {
+                    // - Written by an older format or truncated, it's fetched again
+                    Timber.w(e, "Discarding reference data")
+                    clear()
+                    file?.delete()
+                }
+                isLoaded = true
+            }
+            if (dataLocale != currentLocale) {
+                // - Fetched in another language, it's fetched again
+                clear()
+                dataLocale = currentLocale
+            }
+        }
+    }
+
+    private fun clear() {
+        snapshots.clear()
+        knownLocations.clear()
+        locationIndex.clear()
+    }
+
+    private fun readStore(file: File) = DataInputStream(file.inputStream().buffered()).use { input ->
+        check(input.readInt() == MAGIC && input.readInt() == FORMAT_VERSION) { "Unknown reference data format" }
+        dataLocale = input.readUTF()
+
+        repeat(input.readInt()) {
+            val kind = Kind.values()[input.readInt()]
+            val fetchedAtMillis = input.readLong()
+            val version = input.readInt()
+            val items = input.readItems(kind)
+            snapshots[kind] = Snapshot(items, fetchedAtMillis, version)
+        }
+        repeat(input.readInt()) { indexLocation(input.readLocation()) }
+    }
+
+    private fun DataOutputStream.writeStore() {
+        writeInt(MAGIC)
+        writeInt(FORMAT_VERSION)
+        writeUTF(dataLocale ?: locale().toLanguageTag())
+
+        writeInt(snapshots.size)
+        snapshots.forEach { (kind, snapshot) ->
+            writeInt(kind.ordinal)
+            writeLong(snapshot.fetchedAtMillis)
+            writeInt(snapshot.version)
+            writeItems(kind, snapshot.items)
+        }
+        writeInt(knownLocations.size)
+        knownLocations.values.forEach { writeLocation(it) }
+    }
+
+    private fun DataOutputStream.writeItems(kind: Kind, items: List<*>) {
+        writeInt(items.size)
+        items.forEach {
+            when (kind) {
+                Kind.CATEGORIES -> writeCategory(it as Category)
+                Kind.TAGS -> writeTag(it as Tag)
+                Kind.POPULAR_LOCATIONS -> writeLocation(it as Location)
+            }
+        }
+    }
+
+    private fun DataInputStream.readItems(kind: Kind): List<Any> = List(readInt()) {
+        when (kind) {
+            Kind.CATEGORIES -> readCategory()
+            Kind.TAGS -> readTag()
+            Kind.POPULAR_LOCATIONS -> readLocation()
+        }
+    }
+
+    private fun DataOutputStream.writeCategory(category: Category) {
+        writeUTF(category.analyticsName())
+        writeNullable(category.color()) { writeInt(it) }
+        writeLong(category.id())
+        writeUTF(category.name())
+        writeNullable(category.parent()) { writeCategory(it) }
+        writeLong(category.parentId())
+        writeNullable(category.parentName()) { writeUTF(it) }
+        writeInt(category.position())
+        writeInt(category.projectsCount())
+        writeUTF(category.slug())
+    }
+
+    private fun DataInputStream.readCategory(): Category = Category.builder()
+        .analyticsName(readUTF())
+        .color(readNullable { readInt() })
+        .id(readLong())
+        .name(readUTF())
+        .parent(readNullable { readCategory() })
+        .parentId(readLong())
+        .parentName(readNullable { readUTF() })
+        .position(readInt())
+        .projectsCount(readInt())
+        .slug(readUTF())
+        .build()
+
+    private fun DataOutputStream.writeTag(tag: Tag) {
+        writeLong(tag.id())
+        writeUTF(tag.name())
+        writeUTF(tag.url())
+        writeUTF(tag.slug())
+    }
+
+    private fun DataInputStream.readTag() = Tag(id = readLong(), name = readUTF(), url = readUTF(), slug = readUTF())
+
+    private fun DataOutputStream.writeLocation(location: Location) {
+        writeLong(location.id())
+        writeUTF(location.city())
+        writeUTF(location.country())
+        writeUTF(location.displayableName())
+        writeUTF(location.expandedCountry())
+        writeUTF(location.name())
+        writeInt(location.projectsCount())
+        writeUTF(location.state())
+    }
+
+    private fun DataInputStream.readLocation(): Location = Location.builder()
+        .id(readLong())
+        .city(readUTF())
+        .country(readUTF())
+        .displayableName(readUTF())
+        .expandedCountry(readUTF())
+        .name(readUTF())
+        .projectsCount(readInt())
+        .state(readUTF())
+        .build()
+
+    private fun <T> DataOutputStream.writeNullable(value: T?, write: DataOutputStream.(T) -> Unit) {
+        writeBoolean(value != null)
+        value?.let { write(it) }
+    }
+
+    private fun <T> DataInputStream.readNullable(read: DataInputStream.() -> T): T? = if (readBoolean()) read() else null
+
+    private fun encode(write: DataOutputStream.() -> Unit): ByteArray {
+        val bytes = ByteArrayOutputStream()
+        DataOutputStream(bytes).use { it.write() }
+        return bytes.toByteArray()
+    }
+
+    companion object {
+        const val FILE_NAME = "reference_data.bin"
+        val MAX_AGE_MILLIS = TimeUnit.DAYS.toMillis(1)
+        const val MAX_INDEXED_LOCATIONS = 500
+
+        private const val DEFAULT_MATCH_LIMIT = 10
+        private const val MAGIC = 0x4B535244 // - "KSRD"
+        private const val FORMAT_VERSION = 2
+        private const val KEY_SEPARATOR = '\u0000'
+        private const val INDEX_UPPER_BOUND = '\uFFFF'
+        private val TOKEN_SEPARATORS = Regex("[\\s,]+")
+
+        private fun normalize(text: String) = text.trim().lowercase(Locale.ROOT)
+    }
+}
@@ -33,6 +33,7 @@ open class SegmentTrackingClient(
 ) : TrackingClient(context, currentUser, build, currentConfig, preference) {
 
     override var isInitialized = false
+    @Volatile
     override var loggedInUser: User? = null
     override var config: Config? = null
 
@@ -49,6 +50,7 @@ open class SegmentTrackingClient(
             .observeOn(AndroidSchedulers.mainThread())
             .map {
                 this.config = it
+                invalidatePropertiesSnapshot()
                 if (calledFromOnCreate) {
                     privateInitializer()
 
@@ -1,11 +1,14 @@
 package com.kickstarter.libs
 
+import android.content.ComponentCallbacks
 import android.content.Context
 import android.content.SharedPreferences
 import android.content.res.Configuration
 import android.net.ConnectivityManager
+import android.net.Network
 import android.net.NetworkCapabilities
 import android.view.accessibility.AccessibilityManager
+import androidx.annotation.VisibleForTesting
 import com.google.android.gms.common.ConnectionResult
 import com.google.android.gms.common.GoogleApiAvailabilityLight
 import com.google.firebase.crashlytics.FirebaseCrashlytics
@@ -18,6 +21,9 @@ import com.kickstarter.models.User
 import com.kickstarter.ui.SharedPreferenceKey.CONSENT_MANAGEMENT_PREFERENCE
 import org.json.JSONException
 import timber.log.Timber
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
 import javax.inject.Inject
 
 abstract class TrackingClient(
@@ -37,21 +43,100 @@ abstract class TrackingClient(
             return am?.isTouchExplorationEnabled ?: false
         }
 
+    // - Events are assembled and handed to the SDK on a single background thread, which keeps them in order
+    @VisibleForTesting
+    internal var trackingExecutor: Executor = Executors.newSingleThreadExecutor { runnable ->
+        Thread(runnable, "ks-tracking").apply { isDaemon = true }
+    }
+
+    @Volatile
+    private var propertiesSnapshot: PropertiesSnapshot? = null
+    private val snapshotGeneration = AtomicInteger()
+
+    private class PropertiesSnapshot(val user: User?, val generation: Int, val properties: Map<String, Any>)
+
+    init {
+        registerSnapshotInvalidation()
+    }
+
     override fun track(eventName: String, additionalProperties: Map<String, Any>) {
         if (isEnabled()) {
-            try {
-                trackingData(eventName, combinedProperties(additionalProperties))
+            val properties = HashMap(additionalProperties)
+            // - Only references are read when the event happens, so a login, logout or device change queued behind it
+            // doesn't apply to it. The properties are assembled on the tracking thread
+            val user = loggedInUser()
+            val snapshot = validSnapshot(user)
+            val timestamp = time()
+            trackingExecutor.execute {
+                trackEvent(eventName, properties, snapshot?.properties ?: snapshotProperties(user), timestamp)
+            }
+        }
+    }
 
-                if (this.build.isDebug) {
-                    val dataForLogs = combinedProperties(additionalProperties).toString()
-                    Timber.d("Queued ${type().tag} $eventName event: $dataForLogs")
-                }
-            } catch (e: JSONException) {
-                if (this.build.isDebug) {
-                    Timber.e("Failed to encode ${type().tag} event: $eventName")
-                }
-                FirebaseCrashlytics.getInstance().log("E/${TrackingClient::class.java.simpleName}: Failed to encode ${type().tag} event: $eventName")
+    private fun trackEvent(
+        eventName: String,
+        additionalProperties: Map<String, Any>,
+        snapshotProperties: Map<String, Any>,
+        timestamp: Long
+    ) {
+        try {
+            val properties = combinedProperties(additionalProperties, snapshotProperties, timestamp)
+            trackingData(eventName, properties)
+
+            if (this.build.isDebug) {
+                Timber.d("Queued ${type().tag} $eventName event: $properties")
+            }
+        } catch (e: JSONException) {
+            if (this.build.isDebug) {
+                Timber.e("Failed to encode ${type().tag} event: $eventName")
             }
+            FirebaseCrashlytics.getInstance().log("E/${TrackingClient::class.java.simpleName}: Failed to encode ${type().tag} event: $eventName")
+        }
+    }
+
+    /**
+     * Reuses the user and session properties until the user changes or [invalidatePropertiesSnapshot] is called.
+     */
+    override fun snapshotProperties(user: User?): Map<String, Any> {
+        validSnapshot(user)?.let { return it.properties }
+        // - Read before assembling, an invalidation that lands meanwhile leaves this snapshot stale
+        val generation = snapshotGeneration.get()
+        return super.snapshotProperties(user).also {
+            propertiesSnapshot = PropertiesSnapshot(user, generation, it)
+        }
+    }
+
+    private fun validSnapshot(user: User?): PropertiesSnapshot? =
+        propertiesSnapshot?.takeIf { it.user === user && it.generation == snapshotGeneration.get() }
+
+    /**
+     * Drops the cached user and session properties, they'll be assembled again with the next event.
+     */
+    fun invalidatePropertiesSnapshot() {
+        snapshotGeneration.incrementAndGet()
+        propertiesSnapshot = null
+    }
+
+    private fun registerSnapshotInvalidation() {
+        // - Orientation, dark mode and display language
+        this.context.registerComponentCallbacks(object : ComponentCallbacks {
+            override fun onConfigurationChanged(newConfig: Configuration) = invalidatePropertiesSnapshot()
+            override fun onLowMemory() {}
+        })
+
+        // - TalkBack
+        (this.context.getSystemService(Context.ACCESSIBILITY_SERVICE) as AccessibilityManager?)
+            ?.addTouchExplorationStateChangeListener { invalidatePropertiesSnapshot() }
+
+        // - Wifi connection
+        try {
+            (this.context.getSystemService(Context.CONNECTIVITY_SERVICE) as ConnectivityManager?)
+                ?.registerDefaultNetworkCallback(object : ConnectivityManager.NetworkCallback() {
+                    override fun onCapabilitiesChanged(network: Network, networkCapabilities: NetworkCapabilities) = invalidatePropertiesSnapshot()
+                    override fun onLost(network: Network) = invalidatePropertiesSnapshot()
+                })
+        } catch (e: RuntimeException) {
+            Timber.e(e, "Failed to register the tracking network callback")
         }
     }
 
@@ -53,20 +53,23 @@ abstract class TrackingClientType {
         track(eventName, HashMap())
     }
 
-    private fun genericProperties(): Map<String, Any> {
+    /**
+     * User and session properties for [user]. These only change on login/logout, config updates or
+     * device state changes, so clients can reuse them across events.
+     */
+    protected open fun snapshotProperties(user: User?): Map<String, Any> {
         val hashMap = hashMapOf<String, Any>()
-        loggedInUser()?.let {
+        user?.let {
             hashMap.putAll(userProperties(it))
             hashMap["user_country"] = userCountry(it)
         }
-        hashMap.putAll(sessionProperties(loggedInUser() != null))
-        hashMap.putAll(contextProperties())
+        hashMap.putAll(sessionProperties(user != null))
         return hashMap
     }
 
-    private fun contextProperties(): Map<String, Any> {
+    private fun contextProperties(timestamp: Long): Map<String, Any> {
         val properties = hashMapOf<String, Any>()
-        properties["timestamp"] = time()
+        properties["timestamp"] = timestamp
         return MapUtils.prefixKeys(properties, "context_")
     }
 
@@ -102,8 +105,21 @@ abstract class TrackingClientType {
      * We use the same properties for Segment and DataLake
      */
     fun combinedProperties(additionalProperties: Map<String, Any>): Map<String, Any> {
+        return combinedProperties(additionalProperties, snapshotProperties(loggedInUser()), time())
+    }
+
+    /**
+     * Combines [additionalProperties] with user and session properties and a timestamp read earlier, when the event
+     * happened.
+     */
+    protected fun combinedProperties(
+        additionalProperties: Map<String, Any>,
+        snapshotProperties: Map<String, Any>,
+        timestamp: Long
+    ): Map<String, Any> {
         return HashMap(additionalProperties).apply {
-            putAll(genericProperties())
+            putAll(snapshotProperties)
+            putAll(contextProperties(timestamp))
         }
     }
 }
@@ -94,11 +94,42 @@ fun FeatureFlagClient.getFetchInterval(): Long =
     if (this.build.isDebug || isInternal()) INTERNAL_INTERVAL
     else RELEASE_INTERVAL
 
+/**
+ * Values of every [FlagKey] as of one activation of remote config, so reading a flag is an array lookup instead of a
+ * [FirebaseRemoteConfig] call. Flags are read on every request (see `EncryptionEngine`), a new snapshot replaces the
+ * old one whenever values are activated.
+ */
+internal class FlagSnapshot(config: FirebaseRemoteConfig?) {
+    private val booleans = BooleanArray(KEYS.size) { config?.getBoolean(KEYS[it].key) ?: false }
+    private val doubles = DoubleArray(KEYS.size) { config?.getDouble(KEYS[it].key) ?: 0.0 }
+    private val longs = LongArray(KEYS.size) { config?.getLong(KEYS[it].key) ?: 0L }
+    private val strings = Array(KEYS.size) { config?.getString(KEYS[it].key) ?: "" }
+
+    fun getBoolean(key: FlagKey) = booleans[key.ordinal]
+
+    fun getDouble(key: FlagKey) = doubles[key.ordinal]
+
+    fun getLong(key: FlagKey) = longs[key.ordinal]
+
+    fun getString(key: FlagKey) = strings[key.ordinal]
+
+    companion object {
+        private val KEYS = FlagKey.values()
+    }
+}
+
 class FeatureFlagClient(
     internal val build: Build
 ) : FeatureFlagClientType {
 
     var remoteConfig: FirebaseRemoteConfig? = null
+        set(value) {
+            field = value
+            refreshSnapshot()
+        }
+
+    @Volatile
+    private var snapshot = FlagSnapshot(null)
 
     override fun initialize(config: FirebaseRemoteConfig?) {
         remoteConfig = config
@@ -113,24 +144,26 @@ class FeatureFlagClient(
             Pair(FlagKey.ANDROID_NATIVE_ONBOARDING_FLOW.key, true)
         )
         remoteConfig?.setDefaultsAsync(defaultsMap)
+            ?.addOnCompleteListener { refreshSnapshot() }
 
-        log("${this.javaClass} initialized with interval: ${this.getFetchInterval()}, remoteConfig ${this.remoteConfig}")
+        log { "${this.javaClass} initialized with interval: ${this.getFetchInterval()}, remoteConfig ${this.remoteConfig}" }
     }
 
     override fun fetch(context: Activity) {
         remoteConfig?.fetch()
             ?.addOnCompleteListener(context) { task ->
-                log("${this.javaClass} fetch completed: ${task.isSuccessful}")
+                log { "${this.javaClass} fetch completed: ${task.isSuccessful}" }
             }
     }
 
     override fun activate(context: Activity) {
         remoteConfig?.activate()
             ?.addOnCompleteListener(context) { task ->
-                log("${this.javaClass} activate completed: ${task.isSuccessful}")
+                log { "${this.javaClass} activate completed: ${task.isSuccessful}" }
 
                 // Strategy loading 3 -> https://firebase.google.com/docs/remote-config/loading#strategy_3_load_new_values_for_next_startup
                 if (task.isSuccessful && task.isComplete) {
+                    refreshSnapshot()
                     fetch(context)
                 }
             }
@@ -138,39 +171,48 @@ class FeatureFlagClient(
 
     override suspend fun fetchAndActivate(): Boolean {
         val fetchAndActivateComplete = remoteConfig?.fetchAndActivate()?.await().isNotNull()
+        if (fetchAndActivateComplete) refreshSnapshot()
 
-        log("${this.javaClass} fetchAndActivate completed: $fetchAndActivateComplete")
+        log { "${this.javaClass} fetchAndActivate completed: $fetchAndActivateComplete" }
 
         return fetchAndActivateComplete
     }
 
     override fun getBoolean(key: FlagKey): Boolean {
-        val value = remoteConfig?.getBoolean(key.key) ?: false
-        log("${this.javaClass} feature flag ${key.key}: $value")
+        val value = snapshot.getBoolean(key)
+        log { "${this.javaClass} feature flag ${key.key}: $value" }
         return value
     }
 
     override fun getDouble(key: FlagKey): Double {
-        val value = remoteConfig?.getDouble(key.key) ?: 0.0
-        log("${this.javaClass} feature flag ${key.key}: $value")
+        val value = snapshot.getDouble(key)
+        log { "${this.javaClass} feature flag ${key.key}: $value" }
         return value
     }
 
     override fun getLong(key: FlagKey): Long {
-        val value = remoteConfig?.getLong(key.key) ?: 0L
-        log("${this.javaClass} feature flag ${key.key}: $value")
+        val value = snapshot.getLong(key)
+        log { "${this.javaClass} feature flag ${key.key}: $value" }
         return value
     }
 
     override fun getString(key: FlagKey): String {
-
-        val value = remoteConfig?.getString(key.key) ?: ""
-        log("${this.javaClass} feature flag ${key.key}: $value")
+        val value = snapshot.getString(key)
+        log { "${this.javaClass} feature flag ${key.key}: $value" }
         return value
     }
 
-    private fun log(message: String) {
-        if (build.isDebug) Timber.d(message)
+    /**
+     * Reads the active values of remote config into a new [FlagSnapshot], readers see either the previous snapshot or
+     * this one, never a mix of both.
+     */
+    private fun refreshSnapshot() {
+        snapshot = FlagSnapshot(remoteConfig)
+    }
+
+    // - Inlined so that the message is only built on debug builds, flags are read on every request
+    private inline fun log(message: () -> String) {
+        if (build.isDebug) Timber.d(message())
     }
 
     companion object {
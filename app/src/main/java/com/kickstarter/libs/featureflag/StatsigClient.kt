@@ -30,6 +30,7 @@ import kotlinx.coroutines.launch
 import kotlinx.coroutines.plus
 import kotlinx.coroutines.rx2.asFlow
 import timber.log.Timber
+import java.util.concurrent.ConcurrentHashMap
 
 enum class StatsigGateKey(val key: String) {
     ANDROID_VIDEO_FEED("android_video_feed"),
@@ -158,10 +159,69 @@ open class StatsigClient @JvmOverloads constructor(
     private val _statsigUser = MutableStateFlow(StatsigUser())
     override val statsigUser = _statsigUser.asStateFlow()
 
+    /**
+     * Every [StatsigGateKey] evaluated for one Statsig user, with the gates whose exposure was already logged for them.
+     */
+    private class GateSnapshot(
+        val userId: String?,
+        val gates: Map<String, FeatureGate>,
+        val exposedGates: MutableSet<String> = ConcurrentHashMap.newKeySet()
+    )
+
+    /**
+     * Rebuilt once the SDK is initialized and after each [updateUser], so [checkGate] and [getFeatureGate] are a map
+     * lookup instead of an SDK evaluation.
+     */
+    @Volatile
+    private var gateSnapshot = GateSnapshot(null, emptyMap())
+
     override fun getSDKKey() =
         if (build.isRelease && Build.isExternal()) Secrets.Statsig.PRODUCTION
         else Secrets.Statsig.STAGING
 
+    override fun checkGate(gateName: String): Boolean =
+        snapshotGate(gateName)?.getValue() ?: super.checkGate(gateName)
+
+    override fun getFeatureGate(gateName: String): FeatureGate =
+        snapshotGate(gateName) ?: super.getFeatureGate(gateName)
+
+    /**
+     * Evaluates [gateName] for the current Statsig user without logging an exposure, exposures are logged by
+     * [logGateExposure] when the gate is actually read.
+     */
+    protected open fun evaluateGate(gateName: String): FeatureGate =
+        Statsig.getFeatureGateWithExposureLoggingDisabled(gateName)
+
+    protected open fun logGateExposure(gateName: String) = Statsig.manuallyLogGateExposure(gateName)
+
+    /**
+     * Replaces [gateSnapshot] with the values of [user]. Exposures already logged carry over when it's the same user,
+     * a new user hasn't been exposed to any gate yet.
+     */
+    @VisibleForTesting
+    fun refreshGateSnapshot(user: StatsigUser = statsigUser.value) {
+        val gates = try {
+            StatsigGateKey.values().associate { it.key to evaluateGate(it.key) }
+        } catch (e: Exception) {
+            Timber.d(e)
+            emptyMap()
+        }
+        val previous = gateSnapshot
+        gateSnapshot = if (previous.userId == user.userID) {
+            GateSnapshot(user.userID, gates, previous.exposedGates)
+        } else {
+            GateSnapshot(user.userID, gates)
+        }
+    }
+
+    /** The snapshot value of [gateName], its exposure is logged on the first read for the current user. */
+    private fun snapshotGate(gateName: String): FeatureGate? {
+        val snapshot = gateSnapshot
+        val gate = snapshot.gates[gateName] ?: return null
+        if (snapshot.exposedGates.add(gateName)) logGateExposure(gateName)
+        return gate
+    }
+
     /**
      * Initializes the Statsig SDK by invoking [sdkInitializer], a suspend lambda that
      * encapsulates the actual SDK call. Production code uses the default lambda which calls
@@ -180,6 +240,7 @@ open class StatsigClient @JvmOverloads constructor(
             try {
                 val details = sdkInitializer()
 
+                if (details?.success.isTrue()) refreshGateSnapshot()
                 _isReady.value = details?.success.isTrue()
 
                 if (details?.success.isFalse()) {
@@ -253,6 +314,7 @@ open class StatsigClient @JvmOverloads constructor(
             _configReady.value = false
             Timber.d("Statsig.updateUser($statsigUser):")
             updateUser(statsigUser)
+            refreshGateSnapshot(statsigUser)
             _statsigUser.value = statsigUser
             _configReady.value = true
             val initializeResponseJson = Statsig.runCatching { getInitializeResponseJson() }.getOrNull()
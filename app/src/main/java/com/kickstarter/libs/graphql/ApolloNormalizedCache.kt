@@ -0,0 +1,54 @@
+package com.kickstarter.libs.graphql
+
+import android.content.Context
+import com.apollographql.apollo3.ApolloClient
+import com.apollographql.apollo3.cache.normalized.FetchPolicy
+import com.apollographql.apollo3.cache.normalized.api.CacheKey
+import com.apollographql.apollo3.cache.normalized.api.CacheKeyGenerator
+import com.apollographql.apollo3.cache.normalized.api.CacheKeyGeneratorContext
+import com.apollographql.apollo3.cache.normalized.api.MemoryCacheFactory
+import com.apollographql.apollo3.cache.normalized.api.NormalizedCacheFactory
+import com.apollographql.apollo3.cache.normalized.api.TypePolicyCacheKeyGenerator
+import com.apollographql.apollo3.cache.normalized.fetchPolicy
+import com.apollographql.apollo3.cache.normalized.normalizedCache
+import com.apollographql.apollo3.cache.normalized.sql.SqlNormalizedCacheFactory
+
+/**
+ * Normalized cache for the GraphQL client: an in-memory LRU chained to a SQLite store.
+ *
+ * Records are keyed by their relay `id`, so a project returned by any query or mutation
+ * (`FetchProjectQuery`, `WatchProjectMutation`, ...) is written to the same record.
+ */
+object ApolloNormalizedCache {
+    private const val MEMORY_CACHE_MAX_SIZE_BYTES = 10 * 1024 * 1024
+    private const val DATABASE_NAME = "ks_apollo_cache.db"
+
+    @JvmStatic
+    fun configure(builder: ApolloClient.Builder, context: Context): ApolloClient.Builder {
+        return builder
+            .normalizedCache(
+                normalizedCacheFactory = cacheFactory(context),
+                cacheKeyGenerator = RelayIdCacheKeyGenerator
+            )
+            // - Installing a cache switches the default policy to CacheFirst, callers opt into the cache per call instead.
+            .fetchPolicy(FetchPolicy.NetworkOnly)
+    }
+
+    private fun cacheFactory(context: Context): NormalizedCacheFactory =
+        MemoryCacheFactory(maxSizeBytes = MEMORY_CACHE_MAX_SIZE_BYTES)
+            .chain(SqlNormalizedCacheFactory(context, DATABASE_NAME))
+}
+
+/**
+ * Uses the relay `id` as cache key when present, falls back to the default type policy otherwise.
+ */
+object RelayIdCacheKeyGenerator : CacheKeyGenerator {
+    override fun cacheKeyForObject(obj: Map<String, Any?>, context: CacheKeyGeneratorContext): CacheKey? {
+        val id = obj["id"] as? String
+        return if (id.isNullOrEmpty()) {
+            TypePolicyCacheKeyGenerator.cacheKeyForObject(obj, context)
+        } else {
+            CacheKey(id)
+        }
+    }
+}
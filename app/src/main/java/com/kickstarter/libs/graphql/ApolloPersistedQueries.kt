@@ -0,0 +1,24 @@
+package com.kickstarter.libs.graphql
+
+import com.apollographql.apollo3.ApolloClient
+import com.apollographql.apollo3.api.http.HttpMethod
+
+/**
+ * Automatic persisted queries for the GraphQL client.
+ *
+ * Operations are sent as the SHA-256 hash generated at build time instead of the full document, queries as GET
+ * requests so they can be cached by the HTTP cache and CDN, mutations always as POST. When the server hasn't seen
+ * a hash yet it answers `PersistedQueryNotFound` and the operation is retried once with the full document,
+ * registering the hash for every following call.
+ */
+object ApolloPersistedQueries {
+
+    @JvmStatic
+    fun configure(builder: ApolloClient.Builder): ApolloClient.Builder {
+        return builder.autoPersistedQueries(
+            httpMethodForHashedQueries = HttpMethod.Get,
+            httpMethodForDocumentQueries = HttpMethod.Post,
+            enableByDefault = true
+        )
+    }
+}
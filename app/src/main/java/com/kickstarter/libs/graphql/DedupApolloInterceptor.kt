@@ -0,0 +1,186 @@
+package com.kickstarter.libs.graphql
+
+import android.os.SystemClock
+import androidx.annotation.VisibleForTesting
+import com.apollographql.apollo3.api.ApolloRequest
+import com.apollographql.apollo3.api.ApolloResponse
+import com.apollographql.apollo3.api.CustomScalarAdapters
+import com.apollographql.apollo3.api.Operation
+import com.apollographql.apollo3.api.Query
+import com.apollographql.apollo3.api.variablesJson
+import com.apollographql.apollo3.interceptor.ApolloInterceptor
+import com.apollographql.apollo3.interceptor.ApolloInterceptorChain
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.CoroutineStart
+import kotlinx.coroutines.Deferred
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.async
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.onCompletion
+import kotlinx.coroutines.flow.onStart
+import kotlinx.coroutines.flow.toList
+import timber.log.Timber
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Shares network calls between identical queries, keyed by the access token, operation name and variables.
+ *
+ * Concurrent subscribers of the same query wait on a single in-flight call, and a successful response is
+ * reused for [ttlMillis] afterwards so a screen and its deep link mapper firing the same query back to back
+ * only hit the network once. The call is cancelled, down to its HTTP request, once every subscriber waiting
+ * on it is gone. Mutations always go through, and drop every reused response since it may predate them.
+ * Installed after the normalized cache interceptors, it only ever sees requests that are going to the network.
+ */
+class DedupApolloInterceptor @JvmOverloads constructor(
+    private val accessToken: () -> String? = { null },
+    private val ttlMillis: Long = DEFAULT_TTL_MILLIS,
+    private val clock: () -> Long = { SystemClock.elapsedRealtime() }
+) : ApolloInterceptor {
+
+    private class CachedResponses(val receivedAt: Long, val responses: List<ApolloResponse<*>>)
+
+    /** A network call and the number of subscribers waiting on it, guarded by [inFlight]. */
+    private class SharedCall(val responses: Deferred<List<ApolloResponse<*>>>) {
+        var waiters = 0
+    }
+
+    private val scope = CoroutineScope(SupervisorJob() + Dispatchers.IO)
+    private val inFlight = HashMap<String, SharedCall>()
+    private val recent = ConcurrentHashMap<String, CachedResponses>()
+    private val networkCalls = ConcurrentHashMap<String, AtomicInteger>()
+    private val savedCalls = ConcurrentHashMap<String, AtomicInteger>()
+
+    /** Bumped by every mutation, responses of queries that overlapped one aren't reused. */
+    private val generation = AtomicInteger()
+
+    override fun <D : Operation.Data> intercept(request: ApolloRequest<D>, chain: ApolloInterceptorChain): Flow<ApolloResponse<D>> {
+        if (request.operation !is Query<*>) {
+            // - Invalidated when the mutation starts and again once it's done, for queries that ran meanwhile
+            return chain.proceed(request)
+                .onStart { invalidate() }
+                .onCompletion { invalidate() }
+        }
+
+        val operationName = request.operation.name()
+        val key = key(request)
+
+        return flow {
+            val cached = recent[key]?.let {
+                if (isExpired(it)) {
+                    recent.remove(key, it)
+                    null
+                } else {
+                    it
+                }
+            }
+            val responses = if (cached != null) {
+                increment(savedCalls, operationName)
+                cached.responses
+            } else {
+                val (call, started) = join(key) { scope.async(start = CoroutineStart.LAZY) { execute(key, request, chain) } }
+                increment(if (started) networkCalls else savedCalls, operationName)
+                try {
+                    call.responses.await()
+                } finally {
+                    leave(key, call)
+                }
+            }
+
+            responses.forEach {
+                @Suppress("UNCHECKED_CAST")
+                emit((it as ApolloResponse<D>).newBuilder().requestUuid(request.requestUuid).build())
+            }
+        }
+    }
+
+    private suspend fun <D : Operation.Data> execute(
+        key: String,
+        request: ApolloRequest<D>,
+        chain: ApolloInterceptorChain
+    ): List<ApolloResponse<*>> {
+        val startGeneration = generation.get()
+        val responses = chain.proceed(request).toList()
+        if (responses.none { it.hasErrors() } && generation.get() == startGeneration) {
+            recent.values.removeIf { isExpired(it) }
+            recent[key] = CachedResponses(clock(), responses)
+        }
+        return responses
+    }
+
+    /**
+     * Waits on the in-flight call of [key], or starts a new one with [newCall]. Returns whether it started it.
+     */
+    private fun join(key: String, newCall: () -> Deferred<List<ApolloResponse<*>>>): Pair<SharedCall, Boolean> {
+        val joined = synchronized(inFlight) {
+            val existing = inFlight[key]
+            val call = existing ?: SharedCall(newCall()).also { inFlight[key] = it }
+            call.waiters++
+            Pair(call, existing == null)
+        }
+        joined.first.responses.start()
+        return joined
+    }
+
+    /**
+     * Stops waiting on [call]. The last subscriber to leave cancels it, cancelling the HTTP request when it's
+     * still running.
+     */
+    private fun leave(key: String, call: SharedCall) {
+        synchronized(inFlight) {
+            call.waiters--
+            if (call.waiters > 0) return
+            if (inFlight[key] === call) inFlight.remove(key)
+        }
+        call.responses.cancel()
+    }
+
+    /**
+     * Network calls made and saved so far, per operation name.
+     */
+    fun stats(): Map<String, Pair<Int, Int>> =
+        (networkCalls.keys + savedCalls.keys).associateWith {
+            Pair(networkCalls[it]?.get() ?: 0, savedCalls[it]?.get() ?: 0)
+        }
+
+    /**
+     * Drops every cached response, used on logout so responses never outlive the user that fetched them.
+     * Calls still in flight go on for their subscribers, but later queries don't join them and their responses
+     * aren't reused.
+     */
+    fun clear() {
+        synchronized(inFlight) { inFlight.clear() }
+        invalidate()
+    }
+
+    @VisibleForTesting
+    internal fun cachedResponseCount() = recent.size
+
+    @VisibleForTesting
+    internal fun inFlightCount() = synchronized(inFlight) { inFlight.size }
+
+    private fun invalidate() {
+        generation.incrementAndGet()
+        recent.clear()
+    }
+
+    private fun isExpired(cached: CachedResponses) = clock() - cached.receivedAt >= ttlMillis
+
+    private fun increment(counters: ConcurrentHashMap<String, AtomicInteger>, operationName: String) {
+        val count = counters.getOrPut(operationName) { AtomicInteger() }.incrementAndGet()
+        if (counters === savedCalls) {
+            Timber.d("$operationName: $count network calls saved")
+        }
+    }
+
+    private fun <D : Operation.Data> key(request: ApolloRequest<D>): String {
+        val adapters = request.executionContext[CustomScalarAdapters] ?: CustomScalarAdapters.Empty
+        return "${accessToken()?.hashCode()}:${request.operation.name()}${request.operation.variablesJson(adapters)}"
+    }
+
+    companion object {
+        const val DEFAULT_TTL_MILLIS = 3_000L
+    }
+}
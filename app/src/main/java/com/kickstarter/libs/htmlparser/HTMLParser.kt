@@ -7,13 +7,37 @@ import org.jsoup.select.Elements
 
 class HTMLParser {
 
-    fun parse(html: String): List<ViewElement> {
+    fun parse(html: String): List<ViewElement> = parse(html, Int.MAX_VALUE) { }
+
+    /**
+     * Parses [html] like [parse], handing the elements parsed so far to [onChunk] every time at least
+     * [chunkSize] new elements were converted and once more with the complete list, so the first screen of a
+     * long story can be rendered before the rest of it is converted.
+     *
+     * Every chunk is a new list containing all the elements parsed up to that point, [onChunk] is called at
+     * least once, and the complete list is also returned.
+     */
+    fun parse(html: String, chunkSize: Int, onChunk: (List<ViewElement>) -> Unit): List<ViewElement> {
         val doc = Jsoup.parse(html)
         val viewElements = mutableListOf<ViewElement>()
-        doc.children().forEach {
-            viewElements.addAll(parse(it.children()))
+        var emitted = 0
+
+        // - html > head/body > story blocks, the blocks are the unit a chunk is cut at
+        doc.children().forEach { root ->
+            root.children().forEach { section ->
+                section.children().forEach { block ->
+                    viewElements.addAll(parse(Elements(block)))
+                    if (viewElements.size - emitted >= chunkSize) {
+                        emitted = viewElements.size
+                        onChunk(viewElements.toList())
+                    }
+                }
+            }
         }
 
+        if (emitted == 0 || emitted < viewElements.size) {
+            onChunk(viewElements.toList())
+        }
         return viewElements
     }
 
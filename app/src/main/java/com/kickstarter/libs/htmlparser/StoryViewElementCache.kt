@@ -0,0 +1,150 @@
+package com.kickstarter.libs.htmlparser
+
+import android.util.LruCache
+import com.google.gson.JsonArray
+import com.google.gson.JsonElement
+import com.google.gson.JsonObject
+import com.google.gson.JsonParser
+import com.kickstarter.libs.utils.extensions.toSha256
+import timber.log.Timber
+import java.io.File
+
+/**
+ * Caches the [ViewElement]s parsed from a project story, in memory and in [directory] on disk, keyed by the
+ * project id and a hash of the story html. An edited story hashes differently so it's parsed again, and
+ * writing the new version drops the files cached for older versions of the same project.
+ *
+ * Disk reads and writes are blocking, call [get] and [put] off the main thread.
+ */
+class StoryViewElementCache(
+    private val directory: File?,
+    maxMemoryEntries: Int = DEFAULT_MAX_MEMORY_ENTRIES
+) {
+    private val memory = LruCache<String, List<ViewElement>>(maxMemoryEntries)
+
+    fun get(projectId: Long, story: String): List<ViewElement>? {
+        val key = key(projectId, story)
+        memory.get(key)?.let { return it }
+
+        return readFromDisk(key)?.also { memory.put(key, it) }
+    }
+
+    fun put(projectId: Long, story: String, elements: List<ViewElement>) {
+        val key = key(projectId, story)
+        memory.put(key, elements)
+        writeToDisk(projectId, key, elements)
+    }
+
+    fun clearMemory() {
+        memory.evictAll()
+    }
+
+    private fun key(projectId: Long, story: String) = "${projectId}_${story.toSha256()}"
+
+    private fun readFromDisk(key: String): List<ViewElement>? {
+        val file = directory?.let { File(it, "$key$EXTENSION") }?.takeIf { it.exists() } ?: return null
+        return try {
+            JsonParser.parseString(file.readText()).asJsonArray.map { decode(it) }
+        } catch (e: Exception) {
+            // - Written by an older format or truncated, parse the story again and overwrite it
+            Timber.w(e, "Discarding cached story $key")
+            file.delete()
+            null
+        }
+    }
+
+    private fun writeToDisk(projectId: Long, key: String, elements: List<ViewElement>) {
+        val dir = directory ?: return
+        try {
+            if (!dir.exists() && !dir.mkdirs()) return
+
+            dir.listFiles { file -> file.name.startsWith("${projectId}_") }?.forEach { it.delete() }
+            val json = JsonArray().apply { elements.mapNotNull { encode(it) }.forEach { add(it) } }
+            File(dir, "$key$EXTENSION").writeText(json.toString())
+
+            dir.listFiles()
+                ?.sortedByDescending { it.lastModified() }
+                ?.drop(MAX_DISK_ENTRIES)
+                ?.forEach { it.delete() }
+        } catch (e: Exception) {
+            Timber.w(e, "Unable to cache story $key")
+        }
+    }
+
+    private fun encode(element: ViewElement): JsonObject? = when (element) {
+        is TextViewElement -> JsonObject().apply {
+            addProperty(TYPE, TEXT)
+            add(
+                "components",
+                JsonArray().apply {
+                    element.components.forEach { component ->
+                        add(
+                            JsonObject().apply {
+                                addProperty("text", component.text)
+                                addProperty("link", component.link)
+                                add("styles", JsonArray().apply { component.styles.forEach { add(it.name) } })
+                            }
+                        )
+                    }
+                }
+            )
+        }
+        is ImageViewElement -> JsonObject().apply {
+            addProperty(TYPE, IMAGE)
+            addProperty("src", element.src)
+            addProperty("href", element.href)
+            addProperty("caption", element.caption)
+        }
+        is VideoViewElement -> JsonObject().apply {
+            addProperty(TYPE, VIDEO)
+            addProperty("sourceUrl", element.sourceUrl)
+            addProperty("thumbnailUrl", element.thumbnailUrl)
+        }
+        is AudioViewElement -> JsonObject().apply {
+            addProperty(TYPE, AUDIO)
+            addProperty("sourceUrl", element.sourceUrl)
+        }
+        is ExternalSourceViewElement -> JsonObject().apply {
+            addProperty(TYPE, EXTERNAL_SOURCE)
+            addProperty("htmlContent", element.htmlContent)
+        }
+        else -> null
+    }
+
+    private fun decode(json: JsonElement): ViewElement {
+        val obj = json.asJsonObject
+        return when (val type = obj.get(TYPE).asString) {
+            TEXT -> TextViewElement(
+                obj.getAsJsonArray("components").map { component ->
+                    val componentObj = component.asJsonObject
+                    TextComponent(
+                        componentObj.get("text").asString,
+                        componentObj.string("link"),
+                        componentObj.getAsJsonArray("styles").map { TextComponent.TextStyleType.valueOf(it.asString) }
+                    )
+                }
+            )
+            IMAGE -> ImageViewElement(obj.get("src").asString, obj.string("href"), obj.string("caption"))
+            VIDEO -> VideoViewElement(obj.get("sourceUrl").asString, obj.string("thumbnailUrl"), 0)
+            AUDIO -> AudioViewElement(obj.get("sourceUrl").asString)
+            EXTERNAL_SOURCE -> ExternalSourceViewElement(obj.get("htmlContent").asString)
+            else -> throw IllegalStateException("Unknown view element type $type")
+        }
+    }
+
+    private fun JsonObject.string(name: String): String? = get(name)?.takeUnless { it.isJsonNull }?.asString
+
+    companion object {
+        const val DIRECTORY = "story_view_elements"
+        private const val DEFAULT_MAX_MEMORY_ENTRIES = 8
+        private const val MAX_DISK_ENTRIES = 32
+        private const val EXTENSION = ".json"
+
+        private const val TYPE = "type"
+        private const val TEXT = "text"
+        private const val IMAGE = "image"
+        private const val VIDEO = "video"
+        private const val AUDIO = "audio"
+        private const val EXTERNAL_SOURCE = "external_source"
+    }
+}
@@ -54,12 +54,26 @@ class EncryptionEngine(
     private val featureFlagClient: FeatureFlagClientType
 ) : StringPreferenceType {
 
+    // - The token is read by the network interceptors on every request, keep the key handle and
+    // - the decrypted value in memory instead of hitting the KeyStore and the cipher each time.
+    private val lock = Any()
+    private var secretKey: Key? = null
+    @Volatile
+    private var decryptedValue: String? = null
+
     // - Avoid instantiating KeyStore on test Applications
-    var ksKeyStore = object : KSKeyStore {
+    var ksKeyStore: KSKeyStore = object : KSKeyStore {
         override var ksKeyStore: KeyStore? =
             if (context.isKSApplication()) KeyStore.getInstance("AndroidKeyStore").apply { load(null) }
             else null
     }
+        set(value) {
+            synchronized(lock) {
+                field = value
+                secretKey = null
+                decryptedValue = null
+            }
+        }
 
     // - Overload to be able to use kotlin named parameters from JAVA code
     constructor(
@@ -79,22 +93,39 @@ class EncryptionEngine(
     override fun get(): String {
         return if (isSet) {
             if (featureFlagClient.getBoolean(FlagKey.ANDROID_ENCRYPT)) {
-                val b64 = sharedPreferences.getString(keyAlias, defaultValue) ?: defaultValue
-                val secretKey = ksKeyStore.getSecretKey(keyAlias)
-                return b64.decrypt(secretKey) ?: defaultValue
+                decryptedValue ?: decrypt()
             } else sharedPreferences.getString(keyAlias, defaultValue) ?: defaultValue
         } else ""
     }
+
     override fun set(value: String?) {
         value?.let {
-            if (featureFlagClient.getBoolean(FlagKey = FlagKey.ANDROID_ENCRYPT)) {
-                val secretKey = ksKeyStore.getSecretKey(keyAlias)
-                val encryptedData = value.encrypt(secretKey = secretKey)
-                sharedPreferences.edit().putString(keyAlias, encryptedData).apply()
-            } else sharedPreferences.edit().putString(keyAlias, value).apply()
+            synchronized(lock) {
+                decryptedValue = null
+                if (featureFlagClient.getBoolean(FlagKey = FlagKey.ANDROID_ENCRYPT)) {
+                    val encryptedData = value.encrypt(secretKey = secretKey())
+                    sharedPreferences.edit().putString(keyAlias, encryptedData).apply()
+                } else sharedPreferences.edit().putString(keyAlias, value).apply()
+            }
         }
     }
+
     override fun delete() {
-        sharedPreferences.edit().remove(keyAlias).apply()
+        synchronized(lock) {
+            decryptedValue = null
+            sharedPreferences.edit().remove(keyAlias).apply()
+        }
+    }
+
+    private fun decrypt(): String = synchronized(lock) {
+        decryptedValue?.let { return it }
+        val b64 = sharedPreferences.getString(keyAlias, defaultValue) ?: defaultValue
+        // - Failed decryptions are not cached, so they are retried on the next read
+        val value = b64.decrypt(secretKey()) ?: return defaultValue
+        decryptedValue = value
+        value
     }
+
+    private fun secretKey(): Key? =
+        secretKey ?: ksKeyStore.getSecretKey(keyAlias).also { secretKey = it }
 }
@@ -2,6 +2,7 @@ package com.kickstarter.libs.loadmore
 
 import android.util.Pair
 import com.kickstarter.libs.rx.transformers.Transformers
+import com.kickstarter.libs.utils.ChunkedList
 import com.kickstarter.models.ApolloEnvelope
 import io.reactivex.Observable
 import io.reactivex.functions.BiFunction
@@ -53,15 +54,8 @@ class ApolloPaginateV2<Data, Envelope : ApolloEnvelope, Params>(
 
         private var concater: BiFunction<List<Data>, List<Data>, List<Data>> =
             BiFunction { xs: List<Data>, ys: List<Data> ->
-                mutableListOf<Data>().apply {
-                    if (isReversed) {
-                        ys?.toMutableList()?.let { this.addAll(it) }
-                        xs?.toMutableList()?.let { this.addAll(it) }
-                    } else {
-                        xs?.toMutableList()?.let { this.addAll(it) }
-                        ys?.toMutableList()?.let { this.addAll(it) }
-                    }
-                }.toList()
+                if (isReversed) ChunkedList.concat(ys, xs)
+                else ChunkedList.concat(xs, ys)
             }
         private var distinctUntilChanged = false
         private var isReversed = false
@@ -116,8 +110,8 @@ class ApolloPaginateV2<Data, Envelope : ApolloEnvelope, Params>(
         }
 
         /**
-         * [Optional] Determines how two lists are concatenated together while paginating. A regular `ListUtils::concat` is probably
-         * sufficient, but sometimes you may want `ListUtils::concatDistinct`
+         * [Optional] Determines how two lists are concatenated together while paginating. The default `ChunkedList::concat`
+         * shares the pages already loaded, but sometimes you may want `ListUtils::concatDistinct`
          */
         fun concater(concater: BiFunction<List<Data>, List<Data>, List<Data>>): Builder<Data, Envelope, Params> {
             this.concater = concater
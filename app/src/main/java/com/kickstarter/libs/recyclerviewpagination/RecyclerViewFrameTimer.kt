@@ -0,0 +1,84 @@
+package com.kickstarter.libs.recyclerviewpagination
+
+import android.view.Choreographer
+import androidx.recyclerview.widget.RecyclerView
+import timber.log.Timber
+
+/**
+ * Measures frame times while a RecyclerView scrolls. Every time the scroll settles it logs the number of
+ * frames drawn, the median, 90th percentile and worst frame time, and how many frames missed the display's
+ * frame budget.
+ */
+class RecyclerViewFrameTimer(
+    private val recyclerView: RecyclerView,
+    private val name: String
+) : RecyclerView.OnScrollListener(), Choreographer.FrameCallback {
+    private var frameTimesNanos = LongArray(INITIAL_CAPACITY)
+    private var frameCount = 0
+    private var lastFrameNanos = 0L
+    private var isScrolling = false
+
+    fun start() {
+        stop()
+        recyclerView.addOnScrollListener(this)
+    }
+
+    fun stop() {
+        recyclerView.removeOnScrollListener(this)
+        Choreographer.getInstance().removeFrameCallback(this)
+        isScrolling = false
+        frameCount = 0
+    }
+
+    override fun onScrollStateChanged(recyclerView: RecyclerView, newState: Int) {
+        if (newState != RecyclerView.SCROLL_STATE_IDLE && !isScrolling) {
+            isScrolling = true
+            lastFrameNanos = 0L
+            Choreographer.getInstance().postFrameCallback(this)
+        } else if (newState == RecyclerView.SCROLL_STATE_IDLE && isScrolling) {
+            isScrolling = false
+            Choreographer.getInstance().removeFrameCallback(this)
+            report()
+        }
+    }
+
+    override fun doFrame(frameTimeNanos: Long) {
+        if (!isScrolling) return
+
+        if (lastFrameNanos != 0L) {
+            if (frameCount == frameTimesNanos.size) {
+                frameTimesNanos = frameTimesNanos.copyOf(frameCount * 2)
+            }
+            frameTimesNanos[frameCount++] = frameTimeNanos - lastFrameNanos
+        }
+        lastFrameNanos = frameTimeNanos
+        Choreographer.getInstance().postFrameCallback(this)
+    }
+
+    private fun report() {
+        if (frameCount == 0) return
+
+        val frameTimes = frameTimesNanos.copyOf(frameCount).apply { sort() }
+        val refreshRate = recyclerView.display?.refreshRate ?: DEFAULT_REFRESH_RATE
+        val budgetNanos = (NANOS_PER_SECOND / refreshRate).toLong()
+        // - A frame that took more than one and a half budgets missed at least one vsync
+        val missed = frameTimes.count { it > budgetNanos * 3 / 2 }
+
+        Timber.d(
+            "$name scroll: $frameCount frames, p50 %.1fms, p90 %.1fms, max %.1fms, $missed missed the %.1fms budget",
+            millis(frameTimes[frameCount / 2]),
+            millis(frameTimes[frameCount * 9 / 10]),
+            millis(frameTimes[frameCount - 1]),
+            millis(budgetNanos)
+        )
+        frameCount = 0
+    }
+
+    private fun millis(nanos: Long) = nanos / 1_000_000.0
+
+    companion object {
+        private const val INITIAL_CAPACITY = 256
+        private const val DEFAULT_REFRESH_RATE = 60f
+        private const val NANOS_PER_SECOND = 1_000_000_000f
+    }
+}
@@ -0,0 +1,132 @@
+package com.kickstarter.libs.startup
+
+import android.os.SystemClock
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.TimeoutCancellationException
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.withContext
+import kotlinx.coroutines.withTimeout
+import timber.log.Timber
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * One step of app start up.
+ *
+ * @param name unique within a graph, used by [dependsOn] and in the timing trace.
+ * @param dependsOn tasks that have to be over, whatever their [StartupTiming.Outcome], before this one starts.
+ * @param deadlineMillis when set, the task is cancelled past it and its dependents go on. Used for network bound
+ *   steps that have a fallback, e.g. remote config keeps serving the last activated values.
+ * @param dispatcher where [block] runs, the caller's context when null.
+ */
+class StartupTask(
+    val name: String,
+    val dependsOn: Set<String> = emptySet(),
+    val deadlineMillis: Long? = null,
+    val dispatcher: CoroutineDispatcher? = null,
+    val block: suspend () -> Unit
+)
+
+data class StartupTiming(
+    val name: String,
+    val startedAtMillis: Long,
+    val finishedAtMillis: Long,
+    val outcome: Outcome
+) {
+    enum class Outcome { COMPLETED, TIMED_OUT, FAILED }
+
+    val durationMillis: Long
+        get() = finishedAtMillis - startedAtMillis
+}
+
+/**
+ * Runs a graph of [StartupTask]s: every task starts as soon as its dependencies are over, so independent ones
+ * run in parallel. A failing or timed out task doesn't stop the graph, start up carries on with whatever was
+ * initialized. Times in the [trace] are relative to the start of [run], so `finishedAtMillis` of the task routing
+ * the launch intent is the time to the first screen.
+ */
+class StartupOrchestrator(
+    private val clock: () -> Long = { SystemClock.elapsedRealtime() }
+) {
+    private val timings = CopyOnWriteArrayList<StartupTiming>()
+
+    /**
+     * Runs [tasks] and returns once all of them are over.
+     *
+     * @throws IllegalArgumentException when a task depends on an unknown one or the graph has a cycle.
+     */
+    suspend fun run(tasks: List<StartupTask>) {
+        validate(tasks)
+
+        val startedAt = clock()
+        val done = tasks.associate { it.name to CompletableDeferred<Unit>() }
+
+        coroutineScope {
+            tasks.forEach { task ->
+                launch {
+                    task.dependsOn.forEach { requireNotNull(done[it]).await() }
+                    runTask(task, startedAt)
+                    requireNotNull(done[task.name]).complete(Unit)
+                }
+            }
+        }
+    }
+
+    fun trace(): List<StartupTiming> = timings.toList()
+
+    fun timing(name: String): StartupTiming? = timings.firstOrNull { it.name == name }
+
+    private suspend fun runTask(task: StartupTask, startedAt: Long) {
+        val taskStartedAt = clock() - startedAt
+        val outcome = try {
+            val deadline = task.deadlineMillis
+            if (deadline != null) {
+                withTimeout(deadline) { runBlock(task) }
+            } else {
+                runBlock(task)
+            }
+            StartupTiming.Outcome.COMPLETED
+        } catch (e: TimeoutCancellationException) {
+            StartupTiming.Outcome.TIMED_OUT
+        } catch (e: CancellationException) {
+            throw e
+        } catch (e: Exception) {
+            Timber.e(e, "Startup task ${task.name} failed")
+            StartupTiming.Outcome.FAILED
+        }
+
+        val timing = StartupTiming(task.name, taskStartedAt, clock() - startedAt, outcome)
+        timings.add(timing)
+        Timber.d("Startup task ${timing.name} ${timing.outcome} in ${timing.durationMillis}ms, at ${timing.finishedAtMillis}ms")
+    }
+
+    private suspend fun runBlock(task: StartupTask) {
+        val dispatcher = task.dispatcher
+        if (dispatcher != null) {
+            withContext(dispatcher) { task.block() }
+        } else {
+            task.block()
+        }
+    }
+
+    private fun validate(tasks: List<StartupTask>) {
+        val byName = tasks.associateBy { it.name }
+        require(byName.size == tasks.size) { "Startup task names must be unique" }
+        tasks.forEach { task ->
+            task.dependsOn.forEach { require(byName.containsKey(it)) { "${task.name} depends on unknown task $it" } }
+        }
+
+        val visited = mutableSetOf<String>()
+        val visiting = mutableSetOf<String>()
+        fun visit(name: String) {
+            if (name in visited) return
+            require(visiting.add(name)) { "Startup tasks have a cycle through $name" }
+            requireNotNull(byName[name]).dependsOn.forEach { visit(it) }
+            visiting.remove(name)
+            visited.add(name)
+        }
+        tasks.forEach { visit(it.name) }
+    }
+}
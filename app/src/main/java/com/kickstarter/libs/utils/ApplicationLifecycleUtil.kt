@@ -11,6 +11,7 @@ import com.kickstarter.KSApplication
 import com.kickstarter.libs.Build
 import com.kickstarter.libs.CurrentConfigTypeV2
 import com.kickstarter.libs.CurrentUserTypeV2
+import com.kickstarter.libs.KSString
 import com.kickstarter.libs.Logout
 import com.kickstarter.libs.preferences.StringPreferenceType
 import com.kickstarter.libs.utils.extensions.addToDisposable
@@ -41,6 +42,9 @@ class ApplicationLifecycleUtil(private val application: KSApplication) :
     @Inject
     lateinit var build: Build
 
+    @Inject
+    lateinit var ksString: KSString
+
     @JvmField
     @Inject
     var featuresFlagPreference: StringPreferenceType? = null
@@ -128,8 +132,16 @@ class ApplicationLifecycleUtil(private val application: KSApplication) :
     override fun onActivityStopped(activity: Activity) {}
     override fun onActivitySaveInstanceState(activity: Activity, outState: Bundle) {}
     override fun onActivityDestroyed(activity: Activity) {}
-    override fun onConfigurationChanged(configuration: Configuration) {}
-    override fun onLowMemory() {}
+    override fun onConfigurationChanged(configuration: Configuration) {
+        // - Cached formatters and string templates are keyed on the locale they were built for
+        FormatterCache.clear()
+        ksString.clearTemplates()
+    }
+
+    override fun onLowMemory() {
+        FormatterCache.clear()
+        ksString.clearTemplates()
+    }
 
     /**
      * Memory availability callback. TRIM_MEMORY_UI_HIDDEN means the app's UI is no longer visible.
@@ -0,0 +1,101 @@
+package com.kickstarter.libs.utils
+
+import java.util.Arrays
+
+/**
+ * Immutable list made of the pages loaded by a paginator.
+ *
+ * Appending or prepending a page copies that page and the references to the existing pages, the
+ * elements of previous emissions are shared. Loading page N therefore costs O(page size) instead of
+ * O(total items) as with [ListUtils.concat].
+ */
+class ChunkedList<T> private constructor(
+    private val chunks: List<List<T>>,
+    // - offsets[i] is the index of the first element of chunks[i], the last entry is the total size
+    private val offsets: IntArray
+) : AbstractList<T>(), RandomAccess {
+
+    override val size: Int
+        get() = offsets[chunks.size]
+
+    override fun get(index: Int): T {
+        if (index < 0 || index >= size) {
+            throw IndexOutOfBoundsException("Index: $index, Size: $size")
+        }
+        val search = Arrays.binarySearch(offsets, 0, chunks.size, index)
+        val chunk = if (search >= 0) search else -search - 2
+        return chunks[chunk][index - offsets[chunk]]
+    }
+
+    override fun iterator(): Iterator<T> = object : Iterator<T> {
+        private var chunk = 0
+        private var position = 0
+
+        override fun hasNext(): Boolean = chunk < chunks.size
+
+        override fun next(): T {
+            if (!hasNext()) throw NoSuchElementException()
+            val current = chunks[chunk]
+            val element = current[position++]
+            if (position == current.size) {
+                chunk++
+                position = 0
+            }
+            return element
+        }
+    }
+
+    /**
+     * Returns a new list with the elements of [page] after the elements of this list.
+     */
+    fun append(page: List<T>): ChunkedList<T> {
+        val pageChunks = chunksOf(page)
+        if (pageChunks.isEmpty()) return this
+        return build(chunks + pageChunks)
+    }
+
+    /**
+     * Returns a new list with the elements of [page] before the elements of this list.
+     */
+    fun prepend(page: List<T>): ChunkedList<T> {
+        val pageChunks = chunksOf(page)
+        if (pageChunks.isEmpty()) return this
+        return build(pageChunks + chunks)
+    }
+
+    companion object {
+        private val EMPTY = ChunkedList<Any?>(emptyList(), intArrayOf(0))
+
+        @Suppress("UNCHECKED_CAST")
+        @JvmStatic
+        fun <T> empty(): ChunkedList<T> = EMPTY as ChunkedList<T>
+
+        @JvmStatic
+        fun <T> of(list: List<T>): ChunkedList<T> = empty<T>().append(list)
+
+        /**
+         * Concats `ys` onto the end of `xs` sharing the pages already held by either list.
+         */
+        @JvmStatic
+        fun <T> concat(xs: List<T>, ys: List<T>): ChunkedList<T> = when {
+            xs is ChunkedList<T> -> xs.append(ys)
+            ys is ChunkedList<T> -> ys.prepend(xs)
+            else -> of(xs).append(ys)
+        }
+
+        private fun <T> chunksOf(list: List<T>): List<List<T>> = when {
+            list is ChunkedList<T> -> list.chunks
+            list.isEmpty() -> emptyList()
+            // - Copy the page so later mutations of the caller's list can't leak into this one
+            else -> listOf(list.toList())
+        }
+
+        private fun <T> build(chunks: List<List<T>>): ChunkedList<T> {
+            val offsets = IntArray(chunks.size + 1)
+            chunks.forEachIndexed { index, chunk ->
+                offsets[index + 1] = offsets[index] + chunk.size
+            }
+            return ChunkedList(chunks, offsets)
+        }
+    }
+}
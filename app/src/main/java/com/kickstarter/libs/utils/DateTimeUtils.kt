@@ -11,6 +11,7 @@ import org.joda.time.DateTime
 import org.joda.time.DateTimeZone
 import org.joda.time.Seconds
 import org.joda.time.format.DateTimeFormat
+import org.joda.time.format.DateTimeFormatter as JodaDateTimeFormatter
 import java.text.SimpleDateFormat
 import java.time.Instant
 import java.time.ZoneId
@@ -27,8 +28,11 @@ object DateTimeUtils {
      */
     @JvmOverloads
     fun estimatedDeliveryOn(date: DateTime, locale: Locale = Locale.getDefault()): String {
-        val formatter = SimpleDateFormat("MMMM yyyy", locale)
-        return formatter.format(date.toDate())
+        // - SimpleDateFormat captures the default time zone when created, so it is part of the key
+        val formatter = FormatterCache.getOrPut(listOf("MMMM yyyy", locale, TimeZone.getDefault().id)) {
+            SimpleDateFormat("MMMM yyyy", locale)
+        }
+        return synchronized(formatter) { formatter.format(date.toDate()) }
     }
 
     fun isDateToday(dateTime: DateTime): Boolean {
@@ -52,7 +56,7 @@ object DateTimeUtils {
     @JvmOverloads
     fun fullDate(dateTime: DateTime, locale: Locale = Locale.getDefault()): String {
         return try {
-            dateTime.toString(DateTimeFormat.fullDate().withLocale(locale).withZoneUTC())
+            dateTime.toString(jodaFormatter("fullDate", locale) { DateTimeFormat.fullDate() })
         } catch (e: IllegalArgumentException) {
             // JodaTime doesn't support the 'cccc' pattern, triggered by fullDate and fullDateTime. See: https://github.com/dlew/joda-time-android/issues/30
             // Instead just return a medium date.
@@ -80,7 +84,7 @@ object DateTimeUtils {
      */
     @JvmOverloads
     fun longDate(dateTime: DateTime, locale: Locale = Locale.getDefault()): String {
-        return dateTime.toString(DateTimeFormat.longDate().withLocale(locale).withZoneUTC())
+        return dateTime.toString(jodaFormatter("longDate", locale) { DateTimeFormat.longDate() })
     }
 
     /**
@@ -88,7 +92,7 @@ object DateTimeUtils {
      */
     @JvmOverloads
     fun mediumDate(dateTime: DateTime, locale: Locale = Locale.getDefault()): String {
-        return dateTime.toString(DateTimeFormat.mediumDate().withLocale(locale).withZoneUTC())
+        return dateTime.toString(jodaFormatter("mediumDate", locale) { DateTimeFormat.mediumDate() })
     }
 
     /**
@@ -99,7 +103,7 @@ object DateTimeUtils {
     ): String {
         val localTime =
             Instant.ofEpochMilli(dateTime.millis).atZone(ZoneId.systemDefault()).toLocalDateTime()
-        val formatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.SHORT)
+        val formatter = mediumDateShortTimeFormatter()
 
         return localTime.format(formatter)
     }
@@ -113,7 +117,7 @@ object DateTimeUtils {
     ): String {
         val localTime =
             Instant.ofEpochMilli(dateTime.millis).atZone(ZoneId.systemDefault()).toLocalDateTime()
-        val formatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.SHORT)
+        val formatter = mediumDateShortTimeFormatter()
         val dateTimeString = localTime.format(formatter)
         val timezoneString = TimeZone.getDefault().getDisplayName(true, TimeZone.SHORT)
 
@@ -129,9 +133,10 @@ object DateTimeUtils {
         dateTimeZone: DateTimeZone = DateTimeZone.getDefault(),
         locale: Locale = Locale.getDefault()
     ): String {
-        return dateTime.toString(
+        val formatter = FormatterCache.getOrPut(listOf("mediumDateTime", locale, dateTimeZone)) {
             DateTimeFormat.mediumDateTime().withLocale(locale).withZone(dateTimeZone)
-        )
+        }
+        return dateTime.toString(formatter)
     }
 
     /**
@@ -207,7 +212,24 @@ object DateTimeUtils {
      */
     @JvmOverloads
     fun shortTime(dateTime: DateTime, locale: Locale = Locale.getDefault()): String {
-        return dateTime.toString(DateTimeFormat.shortTime().withLocale(locale).withZoneUTC())
+        return dateTime.toString(jodaFormatter("shortTime", locale) { DateTimeFormat.shortTime() })
+    }
+
+    /**
+     * Localized formatters resolve their locale when they are created, hence the default locale in the key.
+     */
+    private fun mediumDateShortTimeFormatter(): DateTimeFormatter {
+        val locale = Locale.getDefault(Locale.Category.FORMAT)
+        return FormatterCache.getOrPut(listOf("mediumDateShortTime", locale)) {
+            DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.SHORT).withLocale(locale)
+        }
+    }
+
+    /**
+     * Joda formatters are immutable, the UTC formatter for a style and locale is built once.
+     */
+    private fun jodaFormatter(style: String, locale: Locale, create: () -> JodaDateTimeFormatter): JodaDateTimeFormatter {
+        return FormatterCache.getOrPut(listOf(style, locale)) { create().withLocale(locale).withZoneUTC() }
     }
 
     /**
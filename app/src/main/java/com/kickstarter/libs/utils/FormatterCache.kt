@@ -0,0 +1,47 @@
+package com.kickstarter.libs.utils
+
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Process wide cache of configured date and number formatters, keyed by everything their output depends on
+ * (kind, locale, time zone, pattern and options).
+ *
+ * Looking up locale data is what makes `NumberFormat.getInstance` and `SimpleDateFormat` expensive, and the
+ * formatting helpers run several times per bound card. Formatters are fully configured before they are
+ * cached and never changed afterwards. `java.text` formatters are still not thread safe, so callers must
+ * format under `synchronized(formatter)`.
+ *
+ * Cleared on configuration changes and low memory by [ApplicationLifecycleUtil].
+ */
+object FormatterCache {
+    private const val MAX_SIZE = 256
+
+    private val formatters = ConcurrentHashMap<List<Any?>, Any>()
+
+    /**
+     * Returns the formatter cached for [key], creating it with [create] on first use.
+     */
+    @JvmStatic
+    fun <T : Any> getOrPut(key: List<Any?>, create: () -> T): T {
+        formatters[key]?.let {
+            @Suppress("UNCHECKED_CAST")
+            return it as T
+        }
+
+        // - Keys are bounded in practice, this only protects against callers keying on unbounded options
+        if (formatters.size >= MAX_SIZE) {
+            formatters.clear()
+        }
+        val formatter = create()
+        @Suppress("UNCHECKED_CAST")
+        return (formatters.putIfAbsent(key, formatter) ?: formatter) as T
+    }
+
+    @JvmStatic
+    fun clear() {
+        formatters.clear()
+    }
+
+    @JvmStatic
+    fun size(): Int = formatters.size
+}
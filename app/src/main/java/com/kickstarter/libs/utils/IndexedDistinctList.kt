@@ -0,0 +1,115 @@
+package com.kickstarter.libs.utils
+
+/**
+ * Immutable list without duplicate keys, in insertion order, backed by a key -> position index.
+ *
+ * Unlike [ListUtils.concatDistinct], which compares every new element against every element already
+ * loaded with `equals`, appending a page costs O(page size) hash lookups on [keyOf]. Versions created by
+ * consecutive appends share their storage: a version only ever reads the first [size] elements, so the
+ * newest version can grow the shared storage without affecting older ones. Appending to an older version
+ * or replacing an element copies the storage first.
+ *
+ * Every version records in [changes] the ranges that differ from the version it was created from.
+ */
+class IndexedDistinctList<T> private constructor(
+    private val store: Store<T>,
+    override val size: Int,
+    val changes: List<Change>
+) : AbstractList<T>(), RandomAccess {
+
+    /**
+     * A range of positions inserted or changed in place compared to the previous version of the list.
+     */
+    data class Change(val type: Type, val start: Int, val count: Int) {
+        enum class Type { INSERTED, CHANGED }
+    }
+
+    private class Store<T>(
+        val items: ArrayList<T>,
+        val index: HashMap<Any, Int>,
+        val keyOf: (T) -> Any
+    ) {
+        fun copy(size: Int): Store<T> {
+            val items = ArrayList<T>(maxOf(size, this.items.size))
+            val index = HashMap<Any, Int>(size * 2)
+            for (position in 0 until size) {
+                val item = this.items[position]
+                items.add(item)
+                index[keyOf(item)] = position
+            }
+            return Store(items, index, keyOf)
+        }
+    }
+
+    override fun get(index: Int): T {
+        if (index < 0 || index >= size) {
+            throw IndexOutOfBoundsException("Index: $index, Size: $size")
+        }
+        // - The newest version may be growing the shared storage from the paginator's thread
+        return synchronized(store) { store.items[index] }
+    }
+
+    /**
+     * Returns the position of the element with the given key, or -1 if there is none.
+     */
+    fun indexOfKey(key: Any): Int {
+        val position = synchronized(store) { store.index[key] } ?: return -1
+        return if (position < size) position else -1
+    }
+
+    /**
+     * Returns a new list with the elements of [page] whose key isn't present yet after the elements of
+     * this list. The first element wins when a key is repeated, as with [ListUtils.concatDistinct].
+     */
+    fun appendDistinct(page: List<T>): IndexedDistinctList<T> {
+        if (page.isEmpty()) return this
+
+        synchronized(store) {
+            val target = if (store.items.size == size) store else store.copy(size)
+            for (item in page) {
+                val key = target.keyOf(item)
+                if (!target.index.containsKey(key)) {
+                    target.index[key] = target.items.size
+                    target.items.add(item)
+                }
+            }
+
+            val inserted = target.items.size - size
+            if (inserted == 0) return this
+            return IndexedDistinctList(target, target.items.size, listOf(Change(Change.Type.INSERTED, size, inserted)))
+        }
+    }
+
+    /**
+     * Returns a new list where the element with the same key as [item] is replaced by [item], keeping its
+     * position. Returns this list if no element has that key.
+     */
+    fun replace(item: T): IndexedDistinctList<T> {
+        val position = indexOfKey(store.keyOf(item))
+        if (position == -1) return this
+
+        val target = synchronized(store) { store.copy(size) }
+        target.items[position] = item
+        return IndexedDistinctList(target, size, listOf(Change(Change.Type.CHANGED, position, 1)))
+    }
+
+    companion object {
+        /**
+         * Returns a list with the elements of [list] keyed by [keyOf], dropping repeated keys.
+         */
+        @JvmStatic
+        fun <T> of(list: List<T>, keyOf: (T) -> Any): IndexedDistinctList<T> =
+            IndexedDistinctList(Store(ArrayList(list.size), HashMap(list.size * 2), keyOf), 0, emptyList())
+                .appendDistinct(list)
+
+        /**
+         * Concats the elements of `ys` whose key isn't in `xs` onto the end of `xs`. When `xs` is the result
+         * of a previous call it is extended through its index instead of being rebuilt.
+         */
+        @JvmStatic
+        fun <T> concat(xs: List<T>, ys: List<T>, keyOf: (T) -> Any): IndexedDistinctList<T> = when (xs) {
+            is IndexedDistinctList<T> -> xs.appendDistinct(ys)
+            else -> of(xs, keyOf).appendDistinct(ys)
+        }
+    }
+}
@@ -8,6 +8,8 @@ import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParseException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 
 import androidx.annotation.NonNull;
@@ -20,9 +22,14 @@ public final class NumberUtils {
   }
 
   public static @NonNull String flooredPercentage(final float value, final @NonNull Locale locale) {
-    final NumberFormat numberFormat = NumberFormat.getPercentInstance(locale);
-    numberFormat.setRoundingMode(RoundingMode.DOWN);
-    return numberFormat.format(value / 100);
+    final NumberFormat numberFormat = FormatterCache.getOrPut(Arrays.asList("flooredPercentage", locale), () -> {
+      final NumberFormat percentFormat = NumberFormat.getPercentInstance(locale);
+      percentFormat.setRoundingMode(RoundingMode.DOWN);
+      return percentFormat;
+    });
+    synchronized (numberFormat) {
+      return numberFormat.format(value / 100);
+    }
   }
 
   /**
@@ -36,7 +43,11 @@ public final class NumberUtils {
    * Returns a formatted number for the specified locale.
    */
   public static @NonNull String format(final int value, final @NonNull Locale locale) {
-    return NumberFormat.getIntegerInstance(locale).format(value);
+    final NumberFormat numberFormat = FormatterCache.getOrPut(Arrays.asList("integer", locale),
+      () -> NumberFormat.getIntegerInstance(locale));
+    synchronized (numberFormat) {
+      return numberFormat.format(value);
+    }
   }
 
   /**
@@ -61,11 +72,6 @@ public final class NumberUtils {
   public static @NonNull String format(final float value, final @NonNull NumberOptions options,
     final @NonNull Locale locale) {
 
-    final NumberFormat numberFormat = numberFormat(options, locale);
-    if (numberFormat instanceof DecimalFormat) {
-      numberFormat.setRoundingMode(AnyExtKt.coalesce(options.roundingMode(), RoundingMode.HALF_DOWN));
-    }
-
     int precision = AnyExtKt.coalesce(options.precision(), 0);
     float divisor = 1.0f;
     String suffix = "";
@@ -90,15 +96,18 @@ public final class NumberUtils {
       suffix = String.format("%s %s", suffix, options.currencyCode());
     }
 
-    numberFormat.setMinimumFractionDigits(precision);
-    numberFormat.setMaximumFractionDigits(precision);
+    final NumberFormat numberFormat = numberFormat(options, precision, locale);
 
     float bucketedValue = value;
     if (value >= bucketAbove) {
       bucketedValue = value / divisor;
     }
 
-    return String.format("%s%s", numberFormat.format(bucketedValue), suffix).trim();
+    final String formattedValue;
+    synchronized (numberFormat) {
+      formattedValue = numberFormat.format(bucketedValue);
+    }
+    return (formattedValue + suffix).trim();
   }
 
   /**
@@ -144,6 +153,26 @@ public final class NumberUtils {
     }
   }
 
+  /**
+   * Return a cached formatter that can output an appropriate number based on the input currency, precision and locale.
+   */
+  private static @NonNull NumberFormat numberFormat(final @NonNull NumberOptions options, final int precision,
+    final @NonNull Locale locale) {
+    final RoundingMode roundingMode = AnyExtKt.coalesce(options.roundingMode(), RoundingMode.HALF_DOWN);
+    final List<Object> key = Arrays.asList(
+      "number", locale, options.isCurrency(), options.isCurrency() ? options.currencySymbol() : null, roundingMode, precision
+    );
+    return FormatterCache.getOrPut(key, () -> {
+      final NumberFormat numberFormat = numberFormat(options, locale);
+      if (numberFormat instanceof DecimalFormat) {
+        numberFormat.setRoundingMode(roundingMode);
+      }
+      numberFormat.setMinimumFractionDigits(precision);
+      numberFormat.setMaximumFractionDigits(precision);
+      return numberFormat;
+    });
+  }
+
   /**
    * Return a formatter that can output an appropriate number based on the input currency and locale.
    */
@@ -0,0 +1,129 @@
+package com.kickstarter.libs.utils
+
+import android.content.SharedPreferences
+import androidx.annotation.VisibleForTesting
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+
+/**
+ * Ref tag attribution cookies, keyed by project id, kept in their own preferences file so the main one doesn't
+ * grow (and get rewritten) with every project a user opens.
+ *
+ * Every entry carries a deadline, the project's or a fixed window when it has none, and is ignored once
+ * it passes. [compact] drops expired entries from disk, and the first load moves the legacy `ref_{project_id}`
+ * keys out of the main preferences file.
+ */
+class RefTagStore @JvmOverloads constructor(
+    private val preferences: SharedPreferences,
+    private val legacyPreferences: SharedPreferences,
+    private val clock: () -> Long = { System.currentTimeMillis() }
+) {
+    private class Attribution(val cookieValue: String, val expiresAtMillis: Long)
+
+    private val index = ConcurrentHashMap<Long, Attribution>()
+
+    @Volatile
+    private var isLoaded = false
+
+    /**
+     * Returns the stored cookie value for [projectId], or null if none was stored or its deadline passed.
+     */
+    fun get(projectId: Long): String? {
+        ensureLoaded()
+        val attribution = index[projectId] ?: return null
+        return if (attribution.expiresAtMillis > clock()) attribution.cookieValue else null
+    }
+
+    fun put(projectId: Long, cookieValue: String, expiresAtMillis: Long) {
+        ensureLoaded()
+        index[projectId] = Attribution(cookieValue, expiresAtMillis)
+        preferences.edit().putString(projectId.toString(), encode(expiresAtMillis, cookieValue)).apply()
+    }
+
+    /**
+     * Removes expired attributions from memory and disk. Blocking on the first call, run it off the main thread.
+     */
+    fun compact() {
+        ensureLoaded()
+        val now = clock()
+        val expired = index.filterValues { it.expiresAtMillis <= now }.keys
+        if (expired.isEmpty()) return
+
+        val editor = preferences.edit()
+        expired.forEach {
+            index.remove(it)
+            editor.remove(it.toString())
+        }
+        editor.apply()
+    }
+
+    @VisibleForTesting
+    fun size(): Int {
+        ensureLoaded()
+        return index.size
+    }
+
+    private fun ensureLoaded() {
+        if (isLoaded) return
+        synchronized(this) {
+            if (isLoaded) return
+
+            preferences.all.forEach { (key, value) ->
+                val projectId = key.toLongOrNull() ?: return@forEach
+                decode(value as? String)?.let { index[projectId] = it }
+            }
+            if (!preferences.getBoolean(MIGRATED_KEY, false)) {
+                migrateLegacyPreferences()
+            }
+            isLoaded = true
+        }
+    }
+
+    /**
+     * One time move of the `ref_{project_id}` keys written to the main preferences file by older versions. Those
+     * never stored the project deadline, so they are kept for the longest a campaign can run after being set.
+     */
+    private fun migrateLegacyPreferences() {
+        val legacyKeys = legacyPreferences.all.keys.filter { LEGACY_KEY.matches(it) }
+        val editor = preferences.edit()
+        val now = clock()
+
+        legacyKeys.forEach { key ->
+            val cookieValue = legacyPreferences.getString(key, null) ?: return@forEach
+            val setAtSeconds = cookieValue.substringAfter(RefTagUtils.COOKIE_VALUE_SEPARATOR, "").toLongOrNull()
+                ?: return@forEach
+            val expiresAtMillis = TimeUnit.SECONDS.toMillis(setAtSeconds) + MIGRATED_ATTRIBUTION_WINDOW_MILLIS
+            if (expiresAtMillis <= now) return@forEach
+
+            val projectId = key.removePrefix(LEGACY_PREFIX).toLong()
+            // - Attributions set since the upgrade win over the legacy ones
+            if (index.putIfAbsent(projectId, Attribution(cookieValue, expiresAtMillis)) == null) {
+                editor.putString(projectId.toString(), encode(expiresAtMillis, cookieValue))
+            }
+        }
+        editor.putBoolean(MIGRATED_KEY, true).apply()
+
+        if (legacyKeys.isNotEmpty()) {
+            val legacyEditor = legacyPreferences.edit()
+            legacyKeys.forEach { legacyEditor.remove(it) }
+            legacyEditor.apply()
+        }
+    }
+
+    private fun encode(expiresAtMillis: Long, cookieValue: String) = "$expiresAtMillis$VALUE_SEPARATOR$cookieValue"
+
+    private fun decode(value: String?): Attribution? {
+        val expiresAtMillis = value?.substringBefore(VALUE_SEPARATOR)?.toLongOrNull() ?: return null
+        return Attribution(value.substringAfter(VALUE_SEPARATOR), expiresAtMillis)
+    }
+
+    companion object {
+        const val PREFERENCES_NAME = "ref_tag_attribution"
+
+        private const val MIGRATED_KEY = "migrated_legacy_ref_tags"
+        private const val LEGACY_PREFIX = "ref_"
+        private val LEGACY_KEY = Regex("$LEGACY_PREFIX\\d+")
+        private const val VALUE_SEPARATOR = '|'
+        private val MIGRATED_ATTRIBUTION_WINDOW_MILLIS = TimeUnit.DAYS.toMillis(60)
+    }
+}
@@ -1,6 +1,5 @@
 package com.kickstarter.libs.utils;
 
-import android.content.SharedPreferences;
 import android.util.Pair;
 
 import com.kickstarter.libs.RefTag;
@@ -12,10 +11,12 @@ import com.kickstarter.services.DiscoveryParams;
 import org.joda.time.DateTime;
 
 import java.net.CookieManager;
-import java.net.CookieStore;
 import java.net.HttpCookie;
 import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.concurrent.TimeUnit;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -23,7 +24,8 @@ import androidx.annotation.Nullable;
 public final class RefTagUtils {
   private RefTagUtils() {}
 
-  private static final @NonNull String COOKIE_VALUE_SEPARATOR = "%3F";
+  static final @NonNull String COOKIE_VALUE_SEPARATOR = "%3F";
+  private static final long NO_DEADLINE_ATTRIBUTION_DAYS = 10;
 
   /**
    * Name of the cookie that should store the ref tag for a particular project. Fits the template:
@@ -48,9 +50,9 @@ public final class RefTagUtils {
    * cookie has not yet been set it returns `null`.
    */
   public static @Nullable RefTag storedCookieRefTagForProject(final @NonNull Project project,
-    final @NonNull CookieManager cookieManager, final @NonNull SharedPreferences sharedPreferences) {
+    final @NonNull CookieManager cookieManager, final @NonNull RefTagStore refTagStore) {
 
-    final HttpCookie cookie = findRefTagCookieForProject(project, cookieManager, sharedPreferences);
+    final HttpCookie cookie = findRefTagCookieForProject(project, cookieManager, refTagStore);
     if (cookie == null) {
       return null;
     }
@@ -117,39 +119,51 @@ public final class RefTagUtils {
   }
 
   /**
-   * Stores the ref tag in a cookie and shared preference for the project.
+   * Stores the ref tag in a cookie and in the attribution store for the project, until the project deadline.
    */
   public static void storeCookie(final @NonNull RefTag refTag, final @NonNull Project project,
-    final @NonNull CookieManager cookieManager, final @NonNull SharedPreferences sharedPreferences) {
+    final @NonNull CookieManager cookieManager, final @NonNull RefTagStore refTagStore) {
 
     final HttpCookie cookie = buildCookieWithRefTagAndProject(refTag, project);
     cookieManager.getCookieStore().add(null, cookie);
 
     if (cookie != null) {
-      final SharedPreferences.Editor editor = sharedPreferences.edit();
-      editor.putString(cookie.getName(), cookie.getValue());
-      editor.apply();
+      refTagStore.put(project.id(), cookie.getValue(), attributionDeadlineMillis(project));
     }
   }
 
+  /**
+   * Attributions expire on the project deadline, or some days into the future if there is no deadline.
+   */
+  private static long attributionDeadlineMillis(final @NonNull Project project) {
+    final DateTime deadline = project.deadline();
+    if (deadline != null) {
+      return deadline.getMillis();
+    }
+    return System.currentTimeMillis() + TimeUnit.DAYS.toMillis(NO_DEADLINE_ATTRIBUTION_DAYS);
+  }
+
   /**
    * Finds the ref tag cookie associated with a project. Returns `null` if no cookie has yet been set.
    */
   protected static @Nullable HttpCookie findRefTagCookieForProject(final @NonNull Project project,
-    final @NonNull CookieManager cookieManager, final @NonNull SharedPreferences sharedPreferences) {
+    final @NonNull CookieManager cookieManager, final @NonNull RefTagStore refTagStore) {
 
+    // First check the cookies set for the project's url, they may be newer than the stored one, e.g. set from the web
     final String cookieName = cookieNameForProject(project);
-
-    // First try finding the cookie in the cookie store
-    final CookieStore cookieStore = cookieManager.getCookieStore();
-    for (final HttpCookie cookie : cookieStore.getCookies()) {
-      if (cookieName.equals(cookie.getName())) {
-        return cookie;
+    try {
+      final URI projectUri = new URI(project.webProjectUrl());
+      for (final HttpCookie cookie : cookieManager.getCookieStore().get(projectUri)) {
+        if (cookieName.equals(cookie.getName())) {
+          return cookie;
+        }
       }
+    } catch (URISyntaxException e) {
+      // Fall back to the attribution store
     }
 
-    // If we can't find it in the cookie store let's look in shared prefs
-    final String cookieValue = sharedPreferences.getString(cookieName, null);
+    // Otherwise look the project up in the attribution store, it outlives the cookie jar across app restarts
+    final String cookieValue = refTagStore.get(project.id());
     if (cookieValue != null) {
       return buildCookieWithValueAndProject(cookieValue, project);
     }
@@ -11,8 +11,6 @@ import androidx.compose.foundation.isSystemInDarkTheme
 import androidx.compose.runtime.Composable
 import androidx.core.content.ContextCompat
 import androidx.media3.common.util.UnstableApi
-import androidx.media3.datasource.DefaultDataSource
-import androidx.media3.datasource.DefaultHttpDataSource
 import androidx.media3.exoplayer.DefaultLoadControl
 import androidx.media3.exoplayer.DefaultRenderersFactory
 import androidx.media3.exoplayer.ExoPlayer
@@ -21,6 +19,7 @@ import androidx.media3.exoplayer.upstream.DefaultBandwidthMeter
 import com.kickstarter.KSApplication
 import com.kickstarter.R
 import com.kickstarter.libs.Environment
+import com.kickstarter.libs.MediaCache
 import com.kickstarter.libs.featureflag.FlagKey
 import com.kickstarter.libs.utils.WebUtils
 import com.kickstarter.ui.SharedPreferenceKey
@@ -68,8 +67,8 @@ fun isEmulator(): Boolean {
 /**
  * Initializes and returns a configured [ExoPlayer] instance.
  *
- * This player is preconfigured with KS custom User-Agent and uses a [DefaultDataSource.Factory]
- * to support media playback over HTTP(S).
+ * This player is preconfigured with KS custom User-Agent and reads through the shared [MediaCache], so
+ * segments played or preloaded anywhere in the app are served from disk instead of refetched.
  *
  * It also configures the [DefaultRenderersFactory] to disable asynchronous codec queuing
  * specifically when running on an emulator. This helps avoid
@@ -82,10 +81,7 @@ fun isEmulator(): Boolean {
  */
 @OptIn(UnstableApi::class)
 fun Context.initializeExoplayer(): ExoPlayer {
-    val httpDataSourceFactory = DefaultHttpDataSource.Factory()
-        .setUserAgent(this.userAgent())
-
-    val dataSourceFactory = DefaultDataSource.Factory(this, httpDataSourceFactory)
+    val dataSourceFactory = MediaCache.dataSourceFactory(this)
 
     val renderersFactory = DefaultRenderersFactory(this)
     if (isEmulator()) {
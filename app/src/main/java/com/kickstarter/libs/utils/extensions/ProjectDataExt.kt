@@ -1,13 +1,13 @@
 package com.kickstarter.libs.utils.extensions
 
-import android.content.SharedPreferences
+import com.kickstarter.libs.utils.RefTagStore
 import com.kickstarter.libs.utils.RefTagUtils
 import com.kickstarter.ui.data.ProjectData
 import java.net.CookieManager
 
-fun ProjectData.storeCurrentCookieRefTag(cookieManager: CookieManager, sharedPreferences: SharedPreferences): ProjectData {
+fun ProjectData.storeCurrentCookieRefTag(cookieManager: CookieManager, refTagStore: RefTagStore): ProjectData {
     return this
         .toBuilder()
-        .refTagFromCookie(RefTagUtils.storedCookieRefTagForProject(this.project(), cookieManager, sharedPreferences))
+        .refTagFromCookie(RefTagUtils.storedCookieRefTagForProject(this.project(), cookieManager, refTagStore))
         .build()
 }
@@ -8,6 +8,7 @@ import com.kickstarter.R
 import com.kickstarter.libs.Config
 import com.kickstarter.libs.KSString
 import com.kickstarter.libs.utils.I18nUtils
+import com.kickstarter.libs.utils.IndexedDistinctList
 import com.kickstarter.libs.utils.ListUtils
 import com.kickstarter.models.Category
 import com.kickstarter.models.Project
@@ -95,6 +96,28 @@ fun combineProjectsAndParams(projects: List<Project>, params: DiscoveryParams):
     return projectAndParams
 }
 
+/**
+ * Pairs every project with [params] into a list indexed by project id, so star toggles can be applied
+ * in place with [updateStartedProjectAndDiscoveryParamsList].
+ *
+ * When [projects] only adds a page to the projects of [previous], as reported by its
+ * [IndexedDistinctList.changes], only that page is paired and appended to [previous].
+ */
+fun discoveryProjectList(
+    projects: List<Project>,
+    params: DiscoveryParams,
+    previous: IndexedDistinctList<Pair<Project, DiscoveryParams>>? = null
+): IndexedDistinctList<Pair<Project, DiscoveryParams>> {
+    val page = (projects as? IndexedDistinctList<Project>)?.changes?.singleOrNull()
+    if (previous != null && page != null && previous.isNotEmpty() && previous[0].second == params &&
+        page.type == IndexedDistinctList.Change.Type.INSERTED && page.start == previous.size &&
+        page.start + page.count == projects.size
+    ) {
+        return previous.appendDistinct(combineProjectsAndParams(projects.subList(page.start, projects.size), params))
+    }
+    return IndexedDistinctList.of(combineProjectsAndParams(projects, params)) { it.first.id() }
+}
+
 /**
  * Returns time until project reaches deadline along with the unit,
  * e.g. `25 minutes`, `8 days`.
@@ -275,9 +298,20 @@ fun Project.projectNeedsRootCategory(category: Category): Boolean {
     return !category.isRoot && category.parent() == null && this.isFeaturedToday
 }
 
+/**
+ * Returns a copy of [listOfProjects] where this project's starred state replaces the one of the project
+ * with the same id. Lists built with [discoveryProjectList] are looked up and updated through their id index.
+ */
 fun Project.updateStartedProjectAndDiscoveryParamsList(
     listOfProjects: List<Pair<Project, DiscoveryParams>>,
 ): List<Pair<Project, DiscoveryParams>> {
+    if (listOfProjects is IndexedDistinctList) {
+        val position = listOfProjects.indexOfKey(this.id())
+        if (position == -1) return listOfProjects
+        val project = listOfProjects[position].first.toBuilder().isStarred(this.isStarred()).build()
+        return listOfProjects.replace(Pair(project, listOfProjects[position].second))
+    }
+
     val position = listOfProjects.indexOfFirst { item ->
         item.first.id() == this.id()
     }
@@ -1,6 +1,7 @@
 package com.kickstarter.mock.services
 
 import android.util.Pair
+import com.apollographql.apollo3.cache.normalized.FetchPolicy
 import com.kickstarter.CreatePasswordMutation
 import com.kickstarter.DeletePaymentSourceMutation
 import com.kickstarter.SendEmailVerificationMutation
@@ -125,6 +126,11 @@ open class MockApolloClientV2 : ApolloClientTypeV2 {
         return io.reactivex.Observable.just(ProjectFactory.backedProject())
     }
 
+    override fun getProject(slug: String, fetchPolicy: FetchPolicy): io.reactivex.Observable<Project> {
+        // - Nothing is cached by the mock client
+        return if (fetchPolicy == FetchPolicy.CacheOnly) io.reactivex.Observable.empty() else getProject(slug)
+    }
+
     override fun getProjects(discoveryParams: DiscoveryParams, cursor: String?): io.reactivex.Observable<DiscoverEnvelope> {
         return io.reactivex.Observable.just(
             DiscoverEnvelope
@@ -469,7 +475,6 @@ open class MockApolloClientV2 : ApolloClientTypeV2 {
         return Result.success(ShippingCountryLocationsWrapper())
     }
 
-    override fun cleanDisposables() {
-        TODO("Not yet implemented")
+    override fun clearCache() {
     }
 }
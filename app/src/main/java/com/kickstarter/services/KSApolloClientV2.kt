@@ -1,15 +1,19 @@
 package com.kickstarter.services
 
+import android.os.SystemClock
 import android.util.Pair
+import com.apollographql.apollo3.ApolloCall
 import com.apollographql.apollo3.ApolloClient
 import com.apollographql.apollo3.api.ApolloResponse
 import com.apollographql.apollo3.api.Error
+import com.apollographql.apollo3.api.Operation
 import com.apollographql.apollo3.api.Optional
+import com.apollographql.apollo3.cache.normalized.FetchPolicy
+import com.apollographql.apollo3.cache.normalized.apolloStore
+import com.apollographql.apollo3.cache.normalized.fetchPolicy
 import com.apollographql.apollo3.exception.ApolloException
 import com.apollographql.apollo3.exception.ApolloHttpException
 import com.apollographql.apollo3.exception.ApolloNetworkException
-import com.apollographql.apollo3.rx2.rxFlowable
-import com.apollographql.apollo3.rx2.rxSingle
 import com.google.android.gms.common.util.Base64Utils
 import com.google.firebase.crashlytics.FirebaseCrashlytics
 import com.google.gson.Gson
@@ -69,7 +73,7 @@ import com.kickstarter.features.pledgedprojectsoverview.data.PledgedProjectsOver
 import com.kickstarter.features.projectstory.data.StoriedProject
 import com.kickstarter.features.search.data.SearchEnvelope
 import com.kickstarter.features.videofeed.data.VideoFeedEnvelope
-import com.kickstarter.libs.utils.extensions.addToDisposable
+import com.kickstarter.libs.graphql.DedupApolloInterceptor
 import com.kickstarter.libs.utils.extensions.hasValidRelayId
 import com.kickstarter.libs.utils.extensions.isNotNull
 import com.kickstarter.libs.utils.extensions.isPresent
@@ -146,10 +150,9 @@ import com.kickstarter.type.ProjectRewardsSort
 import com.kickstarter.type.StripeIntentContextTypes
 import com.kickstarter.viewmodels.usecases.TPEventInputData
 import io.reactivex.Observable
-import io.reactivex.disposables.CompositeDisposable
 import io.reactivex.schedulers.Schedulers
-import io.reactivex.subjects.PublishSubject
 import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.mapNotNull
 import kotlinx.coroutines.rx2.asObservable
 import timber.log.Timber
 import java.net.SocketTimeoutException
@@ -159,6 +162,13 @@ import kotlin.coroutines.cancellation.CancellationException
 interface ApolloClientTypeV2 {
     fun getProject(project: Project): Observable<Project>
     fun getProject(slug: String): Observable<Project>
+
+    /**
+     * Fetches the project for [slug] with the given [fetchPolicy]. With [FetchPolicy.CacheAndNetwork]
+     * the cached project is emitted first, followed by the network response.
+     */
+    fun getProject(slug: String, fetchPolicy: FetchPolicy): Observable<Project> = getProject(slug)
+
     fun getProjects(discoveryParams: DiscoveryParams, slug: String?): Observable<DiscoverEnvelope>
     fun createSetupIntent(project: Project? = null): Observable<String>
     fun savePaymentMethod(savePaymentMethodData: SavePaymentMethodData): Observable<StoredCard>
@@ -191,6 +201,8 @@ interface ApolloClientTypeV2 {
     fun updateUserCurrencyPreference(currency: CurrencyCode): Observable<UpdateUserCurrencyMutation.Data>
     fun getShippingRules(reward: Reward): Observable<ShippingRulesEnvelope>
     fun getProjectAddOns(slug: String, locationId: Location): Observable<List<Reward>>
+    fun getProjectAddOns(slug: String, locationId: Location, fetchPolicy: FetchPolicy): Observable<List<Reward>> =
+        getProjectAddOns(slug, locationId)
     suspend fun getRewardAllowedAddOns(locationId: Location, rewardId: Reward, cursor: String? = null): Result<AddOnsEnvelope>
     fun updateBacking(updateBackingData: UpdateBackingData): Observable<Checkout>
     fun createBacking(createBackingData: CreateBackingData): Observable<Checkout>
@@ -206,6 +218,7 @@ interface ApolloClientTypeV2 {
     fun fetchCategory(param: String): Observable<Category?>
     fun getBacking(backingId: String): Observable<Backing>
     fun fetchCategories(): Observable<List<Category>>
+    fun fetchCategories(fetchPolicy: FetchPolicy): Observable<List<Category>> = fetchCategories()
 
     fun getProjectUpdates(
         slug: String,
@@ -264,6 +277,11 @@ interface ApolloClientTypeV2 {
         slug: String,
         sort: com.kickstarter.type.ProjectRewardsSort = com.kickstarter.type.ProjectRewardsSort.ELIGIBILITY
     ): Observable<List<Reward>>
+    fun getRewardsFromProject(
+        slug: String,
+        sort: com.kickstarter.type.ProjectRewardsSort,
+        fetchPolicy: FetchPolicy
+    ): Observable<List<Reward>> = getRewardsFromProject(slug, sort)
     fun buildPaymentPlan(input: BuildPaymentPlanData): Observable<PaymentPlan>
     fun updateBackerCompleted(inputData: UpdateBackerCompletedData): Observable<Boolean>
     suspend fun addUserToSecretRewardGroup(project: Project, secretRewardToken: String): Result<Project>
@@ -282,17 +300,17 @@ interface ApolloClientTypeV2 {
 
     suspend fun fetchShippingCountryLocations(forProject: Boolean, slug: String?): Result<ShippingCountryLocationsWrapper>
 
-    fun cleanDisposables()
+    /** Drops every record from the normalized cache, used on logout. */
+    fun clearCache()
 }
 
 private const val PAGE_SIZE = 25
 private const val REPLIES_PAGE_SIZE = 7
 
 class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClientTypeV2 {
-    private val disposables = CompositeDisposable()
-
-    override fun cleanDisposables() {
-        disposables.clear()
+    override fun clearCache() {
+        this.service.apolloStore.clearAll()
+        this.service.interceptors.filterIsInstance<DedupApolloInterceptor>().forEach { it.clear() }
     }
 
     override fun getProject(project: Project): Observable<Project> {
@@ -300,68 +318,42 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
     }
 
     override fun getProject(slug: String): Observable<Project> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Project>()
-            val query = FetchProjectQuery(slug)
-            this.service.query(
-                query
-            )
-                .rxSingle()
-                .subscribeOn(Schedulers.io())
-                .doOnError { throwable ->
-                    ps.onError(throwable)
+        return getProject(slug, FetchPolicy.NetworkOnly)
+    }
+
+    override fun getProject(slug: String, fetchPolicy: FetchPolicy): Observable<Project> {
+        return this.service.query(FetchProjectQuery(slug))
+            .fetchPolicy(fetchPolicy)
+            .observe { response ->
+                // Evidence of A null/partial project node transforms to a project with an invalid id see DISC-264.
+                val project = projectTransformer(response.data?.project?.fullProject)
+                if (!project.hasValidRelayId()) {
+                    throw invalidProjectException(project, "getProject($slug)")
                 }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                    } else {
-                        // Evidence of A null/partial project node transforms to a project with an invalid id see DISC-264.
-                        val project = projectTransformer(response.data?.project?.fullProject)
-                        if (project.hasValidRelayId()) {
-                            ps.onNext(project)
-                        } else {
-                            ps.onError(invalidProjectException(project, "getProject($slug)"))
-                        }
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+                project
+            }
     }
 
     override fun getProjects(
         discoveryParams: DiscoveryParams,
         cursor: String?
     ): Observable<DiscoverEnvelope> {
-        val ps = PublishSubject.create<DiscoverEnvelope>()
-        this.service.query(query = buildFetchProjectsQuery(discoveryParams, cursor))
-            .rxFlowable()
-            .subscribeOn(Schedulers.io())
-            .doOnError {
-                ps.onError(it)
-            }
-            .subscribe { response ->
-                if (response.hasErrors()) {
-                    if (response.hasErrors()) ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                } else {
-                    response.data?.let { responseData ->
-                        val projects = responseData.projects?.edges?.map {
-                            projectTransformer(it?.node?.projectCard)
-                        }
-                        val pageInfoEnvelope =
-                            responseData.projects?.pageInfo?.pageInfo?.let {
-                                createPageInfoObject(it)
-                            }
-                        val discoverEnvelope = DiscoverEnvelope.builder()
-                            .projects(projects)
-                            .pageInfoEnvelope(pageInfoEnvelope)
-                            .build()
-                        ps.onNext(discoverEnvelope)
+        return this.service.query(query = buildFetchProjectsQuery(discoveryParams, cursor))
+            .observe { response ->
+                response.data?.let { responseData ->
+                    val projects = responseData.projects?.edges?.map {
+                        projectTransformer(it?.node?.projectCard)
                     }
+                    val pageInfoEnvelope =
+                        responseData.projects?.pageInfo?.pageInfo?.let {
+                            createPageInfoObject(it)
+                        }
+                    DiscoverEnvelope.builder()
+                        .projects(projects)
+                        .pageInfoEnvelope(pageInfoEnvelope)
+                        .build()
                 }
-                ps.onComplete()
-            }.addToDisposable(disposables)
-        return ps
+            }
     }
 
     private fun buildFetchProjectsQuery(
@@ -395,69 +387,36 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         if (this == null) Optional.absent() else Optional.present(this)
 
     override fun createSetupIntent(project: Project?): Observable<String> {
-        return Observable.defer {
-            val ps = PublishSubject.create<String>()
-            val mutation = project?.let {
-                CreateSetupIntentMutation(
-                    projectId = Optional.present(encodeRelayId(it)),
-                    setupIntentContext = Optional.present(StripeIntentContextTypes.CROWDFUNDING_CHECKOUT)
-                )
-            } ?: CreateSetupIntentMutation(Optional.absent(), Optional.present(StripeIntentContextTypes.PROFILE_SETTINGS))
+        val mutation = project?.let {
+            CreateSetupIntentMutation(
+                projectId = Optional.present(encodeRelayId(it)),
+                setupIntentContext = Optional.present(StripeIntentContextTypes.CROWDFUNDING_CHECKOUT)
+            )
+        } ?: CreateSetupIntentMutation(Optional.absent(), Optional.present(StripeIntentContextTypes.PROFILE_SETTINGS))
 
-            this.service.mutation(mutation)
-                .rxSingle()
-                .subscribeOn(Schedulers.io())
-                .doOnError {
-                    ps.onError(it)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors())
-                        ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                    else {
-                        ps.onNext(response.data?.createSetupIntent?.clientSecret ?: "")
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+        return this.service.mutation(mutation)
+            .observe { response -> response.data?.createSetupIntent?.clientSecret ?: "" }
     }
 
     override fun savePaymentMethod(savePaymentMethodData: SavePaymentMethodData): Observable<StoredCard> {
-        return Observable.defer {
-            val ps = PublishSubject.create<StoredCard>()
-            val mutation = SavePaymentMethodMutation(
-                paymentType = if (savePaymentMethodData.paymentType.isNotNull()) Optional.present(savePaymentMethodData.paymentType) else Optional.absent(),
-                stripeToken = if (savePaymentMethodData.stripeToken.isNotNull()) Optional.present(savePaymentMethodData.stripeToken) else Optional.absent(),
-                stripeCardId = if (savePaymentMethodData.stripeCardId.isNotNull()) Optional.present(savePaymentMethodData.stripeCardId) else Optional.absent(),
-                reusable = if (savePaymentMethodData.reusable.isNotNull()) Optional.present(savePaymentMethodData.reusable) else Optional.absent(),
-                intentClientSecret = if (savePaymentMethodData.intentClientSecret.isNotNull()) Optional.present(savePaymentMethodData.intentClientSecret) else Optional.absent()
-            )
-            service.mutation(
-                mutation
-            )
-                .rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
+        val mutation = SavePaymentMethodMutation(
+            paymentType = if (savePaymentMethodData.paymentType.isNotNull()) Optional.present(savePaymentMethodData.paymentType) else Optional.absent(),
+            stripeToken = if (savePaymentMethodData.stripeToken.isNotNull()) Optional.present(savePaymentMethodData.stripeToken) else Optional.absent(),
+            stripeCardId = if (savePaymentMethodData.stripeCardId.isNotNull()) Optional.present(savePaymentMethodData.stripeCardId) else Optional.absent(),
+            reusable = if (savePaymentMethodData.reusable.isNotNull()) Optional.present(savePaymentMethodData.reusable) else Optional.absent(),
+            intentClientSecret = if (savePaymentMethodData.intentClientSecret.isNotNull()) Optional.present(savePaymentMethodData.intentClientSecret) else Optional.absent()
+        )
+        return service.mutation(mutation)
+            .observe { response ->
+                response.data?.createPaymentSource?.paymentSource?.let {
+                    StoredCard.builder()
+                        .expiration(it.expirationDate)
+                        .id(it.id)
+                        .lastFourDigits(it.lastFour)
+                        .type(it.type)
+                        .build()
                 }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    }
-
-                    val paymentSource = response.data?.createPaymentSource?.paymentSource
-                    paymentSource?.let {
-                        val storedCard = StoredCard.builder()
-                            .expiration(it.expirationDate)
-                            .id(it.id)
-                            .lastFourDigits(it.lastFour)
-                            .type(it.type)
-                            .build()
-                        ps.onNext(storedCard)
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+            }
     }
 
     override fun getStoredCards(): Observable<List<StoredCard>> =
@@ -483,29 +442,11 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
     }
 
     override fun deletePaymentSource(paymentSourceId: String): Observable<DeletePaymentSourceMutation.Data> {
-        return Observable.defer {
-            val ps = PublishSubject.create<DeletePaymentSourceMutation.Data>()
-            val mutation = DeletePaymentSourceMutation(
-                paymentSourceId = paymentSourceId,
-            )
-
-            service.mutation(
-                mutation
-            )
-                .rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    }
-
-                    response.data?.let { ps.onNext(it) }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+        val mutation = DeletePaymentSourceMutation(
+            paymentSourceId = paymentSourceId,
+        )
+        return service.mutation(mutation)
+            .observe { response -> response.data }
     }
 
     override fun createFlagging(
@@ -513,153 +454,65 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         details: String,
         flaggingKind: String
     ): Observable<String> {
-        return Observable.defer {
-            project?.let {
-                val ps = PublishSubject.create<String>()
-                val flagging = NonDeprecatedFlaggingKind.safeValueOf(flaggingKind)
-                val mutation = CreateFlaggingMutation(
-                    contentId = encodeRelayId(it),
-                    details = Optional.present(details),
-                    kind = flagging
-                )
-
-                service.mutation(
-                    mutation
-                ).rxSingle()
-                    .doOnError { throwable ->
-                        ps.onError(throwable)
-                    }
-                    .subscribe { response ->
-                        if (response.hasErrors()) {
-                            ps.onError(Exception(response.errors?.first()?.message))
-                        }
-                        response.data?.let { data ->
-                            data.createFlagging?.flagging?.kind?.name?.let { kindString ->
-                                ps.onNext(kindString)
-                            }
-                        }
-                        ps.onComplete()
-                    }.addToDisposable(disposables)
-                return@defer ps
-            }
+        if (project == null) {
+            return Observable.empty()
         }
+
+        val mutation = CreateFlaggingMutation(
+            contentId = encodeRelayId(project),
+            details = Optional.present(details),
+            kind = NonDeprecatedFlaggingKind.safeValueOf(flaggingKind)
+        )
+        return service.mutation(mutation)
+            .observe { response -> response.data?.createFlagging?.flagging?.kind?.name }
     }
 
     override fun flaggingOptions(contentType: FlaggingContent): Observable<List<FlaggingOption>> {
-        return Observable.defer {
-            val ps = PublishSubject.create<List<FlaggingOption>>()
-            val query = FlaggingOptionsQuery(contentType = contentType)
-
-            service.query(
-                query = query
-            ).rxSingle()
-                .subscribe(
-                    { response ->
-                        if (response.hasErrors()) {
-                            ps.onError(Exception(response.errors?.first()?.message))
-                        } else {
-                            ps.onNext(
-                                response.data?.flaggingOptions?.map { flaggingOptionTransformer(it) } ?: emptyList()
-                            )
-                            ps.onComplete()
-                        }
-                    },
-                    { throwable ->
-                        ps.onError(throwable)
-                    }
-                ).addToDisposable(disposables)
-            return@defer ps
-        }
+        return service.query(query = FlaggingOptionsQuery(contentType = contentType))
+            .observe { response ->
+                response.data?.flaggingOptions?.map { flaggingOptionTransformer(it) } ?: emptyList()
+            }
     }
 
     override fun userPrivacy(): Observable<UserPrivacy> {
-        return Observable.defer {
-            val ps = PublishSubject.create<UserPrivacy>()
-            val query = UserPrivacyQuery()
-
-            service.query(
-                query = query
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    response.data?.me?.let {
-                        ps.onNext(userPrivacyTransformer(it))
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+        return service.query(query = UserPrivacyQuery())
+            .observe(failOnErrors = false) { response ->
+                response.data?.me?.let { userPrivacyTransformer(it) }
+            }
     }
 
     override fun watchProject(project: Project): Observable<Project> {
-        return Observable.defer {
-            if (!project.hasValidRelayId()) {
-                return@defer Observable.error<Project>(invalidProjectException(project, "watchProject"))
+        if (!project.hasValidRelayId()) {
+            return Observable.error(invalidProjectException(project, "watchProject"))
+        }
+        val mutation = WatchProjectMutation(
+            id = encodeRelayId(project)
+        )
+        return this.service.mutation(mutation)
+            .observe { response ->
+                /* make a copy of what you posted. just in case
+                 * we want to update the list without doing
+                 * a full refresh.
+                 */
+                projectTransformer(response.data?.watchProject?.project?.fullProject)
             }
-            val ps = PublishSubject.create<Project>()
-            val mutation = WatchProjectMutation(
-                id = encodeRelayId(project)
-            )
-            this.service.mutation(
-                mutation
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                    }
-
-                    /* make a copy of what you posted. just in case
-                     * we want to update the list without doing
-                     * a full refresh.
-                     */
-                    ps.onNext(
-                        projectTransformer(
-                            response.data?.watchProject?.project?.fullProject
-                        )
-                    )
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
     }
 
     override fun unWatchProject(project: Project): Observable<Project> {
-        return Observable.defer {
-            if (!project.hasValidRelayId()) {
-                return@defer Observable.error<Project>(invalidProjectException(project, "unWatchProject"))
+        if (!project.hasValidRelayId()) {
+            return Observable.error(invalidProjectException(project, "unWatchProject"))
+        }
+        val mutation = UnwatchProjectMutation(
+            id = encodeRelayId(project)
+        )
+        return this.service.mutation(mutation)
+            .observe { response ->
+                /* make a copy of what you posted. just in case
+                 * we want to update the list without doing
+                 * a full refresh.
+                 */
+                projectTransformer(response.data?.watchProject?.project?.fullProject)
             }
-            val ps = PublishSubject.create<Project>()
-            val mutation = UnwatchProjectMutation(
-                id = encodeRelayId(project)
-            )
-            this.service.mutation(
-                mutation
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                    }
-                    /* make a copy of what you posted. just in case
-                     * we want to update the list without doing
-                     * a full refresh.
-                     */
-                    ps.onNext(
-                        projectTransformer(
-                            response.data?.watchProject?.project?.fullProject
-                        )
-                    )
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
     }
 
     override fun updateUserPassword(
@@ -667,216 +520,106 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         newPassword: String,
         confirmPassword: String
     ): Observable<UpdateUserPasswordMutation.Data> {
-        return Observable.defer {
-            val ps = PublishSubject.create<UpdateUserPasswordMutation.Data>()
-            val mutation = UpdateUserPasswordMutation(
-                currentPassword = currentPassword,
-                password = newPassword,
-                passwordConfirmation = confirmPassword
-
-            )
-            service.mutation(mutation)
-                .rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    }
-                    response.data?.let {
-                        ps.onNext(it)
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+        val mutation = UpdateUserPasswordMutation(
+            currentPassword = currentPassword,
+            password = newPassword,
+            passwordConfirmation = confirmPassword
+        )
+        return service.mutation(mutation)
+            .observe { response -> response.data }
     }
 
     override fun updateUserEmail(
         email: String,
         currentPassword: String
     ): Observable<UpdateUserEmailMutation.Data> {
-        return Observable.defer {
-            val ps = PublishSubject.create<UpdateUserEmailMutation.Data>()
-            val mutation = UpdateUserEmailMutation(
-                email = email,
-                currentPassword = currentPassword
-            )
-            service.mutation(
-                mutation
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    }
-                    response.data?.let { data ->
-                        ps.onNext(data)
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+        val mutation = UpdateUserEmailMutation(
+            email = email,
+            currentPassword = currentPassword
+        )
+        return service.mutation(mutation)
+            .observe { response -> response.data }
     }
 
     override fun sendVerificationEmail(): Observable<SendEmailVerificationMutation.Data> {
-        return Observable.defer {
-            val ps = PublishSubject.create<SendEmailVerificationMutation.Data>()
-            val mutation = SendEmailVerificationMutation()
-            service.mutation(
-                mutation
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    }
-                    response.data?.let { data ->
-                        ps.onNext(data)
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+        return service.mutation(SendEmailVerificationMutation())
+            .observe { response -> response.data }
     }
 
     override fun updateUserCurrencyPreference(currency: CurrencyCode): Observable<UpdateUserCurrencyMutation.Data> {
-        return Observable.defer {
-            val ps = PublishSubject.create<UpdateUserCurrencyMutation.Data>()
-            val mutation = UpdateUserCurrencyMutation(
-                chosenCurrency = currency
-            )
-            service.mutation(
-                mutation
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    }
-                    response.data?.let {
-                        ps.onNext(it)
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+        val mutation = UpdateUserCurrencyMutation(
+            chosenCurrency = currency
+        )
+        return service.mutation(mutation)
+            .observe { response -> response.data }
     }
 
     override fun getShippingRules(reward: Reward): Observable<ShippingRulesEnvelope> {
-        return Observable.defer {
-            val ps = PublishSubject.create<ShippingRulesEnvelope>()
-
-            val query = GetShippingRulesForRewardIdQuery(
-                rewardId = encodeRelayId(reward)
-            )
-            this.service
-                .query(query)
-                .rxFlowable()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
+        val query = GetShippingRulesForRewardIdQuery(
+            rewardId = encodeRelayId(reward)
+        )
+        return this.service.query(query)
+            .observe { response ->
+                response.data?.let { data ->
+                    val shippingEnvelope = data.node?.onReward?.shippingRulesExpanded?.nodes?.mapNotNull { node ->
+                        node?.shippingRule
+                    } ?: emptyList()
+                    shippingRulesListTransformer(shippingEnvelope)
                 }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    }
-
-                    response.data?.let { data ->
-                        val shippingEnvelope = data.node?.onReward?.shippingRulesExpanded?.nodes?.mapNotNull { node ->
-                            node?.shippingRule
-                        } ?: emptyList()
-                        ps.onNext(shippingRulesListTransformer(shippingEnvelope))
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+            }
     }
 
     override fun getRewardsFromProject(
         slug: String,
         sort: ProjectRewardsSort
     ): Observable<List<Reward>> {
-        return Observable.defer {
-            val ps = PublishSubject.create<List<Reward>>()
-            val query = FetchProjectRewardsQuery(
-                slug = slug,
-                sort = Optional.present(sort)
-            )
+        return getRewardsFromProject(slug, sort, FetchPolicy.NetworkOnly)
+    }
 
-            this.service.query(query)
-                .rxFlowable()
-                .subscribeOn(Schedulers.io())
-                .doOnError {
-                    ps.onError(it)
+    override fun getRewardsFromProject(
+        slug: String,
+        sort: ProjectRewardsSort,
+        fetchPolicy: FetchPolicy
+    ): Observable<List<Reward>> {
+        val query = FetchProjectRewardsQuery(
+            slug = slug,
+            sort = Optional.present(sort)
+        )
+        return this.service.query(query)
+            .fetchPolicy(fetchPolicy)
+            .observe { response ->
+                response.data?.let { data ->
+                    val rwList: List<Reward?> = data.project?.rewards?.nodes?.map {
+                        it?.reward?.let { rwGr ->
+
+                            rewardTransformer(
+                                rewardGr = rwGr,
+                                allowedAddons = it.allowedAddons.pageInfo.startCursor?.isNotEmpty() ?: false,
+                                rewardItems = complexRewardItemsTransformer(it.items?.rewardItems),
+                                simpleShippingRules = it.simpleShippingRulesExpanded.filterNotNull(),
+                                rewardImage = it.rewardImage
+                            )
+                        }
+                    } ?: emptyList<Reward>()
+                    // - API does not provide the Reward no reward, we need to add it first
+                    val minPledge = data.project?.minPledge?.toDouble() ?: 1.0
+                    val modifiedRewards = rwList.filterNotNull().toMutableList()
+                    modifiedRewards.add(0, RewardFactory.noReward().toBuilder().minimum(minPledge).build())
+                    modifiedRewards.toList()
                 }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    }
-                    response.data?.let { data ->
-                        val rwList: List<Reward?> = data.project?.rewards?.nodes?.map {
-                            it?.reward?.let { rwGr ->
-
-                                rewardTransformer(
-                                    rewardGr = rwGr,
-                                    allowedAddons = it.allowedAddons.pageInfo.startCursor?.isNotEmpty() ?: false,
-                                    rewardItems = complexRewardItemsTransformer(it.items?.rewardItems),
-                                    simpleShippingRules = it.simpleShippingRulesExpanded.filterNotNull(),
-                                    rewardImage = it.rewardImage
-                                )
-                            }
-                        } ?: emptyList<Reward>()
-                        // - API does not provide the Reward no reward, we need to add it first
-                        val minPledge = data.project?.minPledge?.toDouble() ?: 1.0
-                        val modifiedRewards = rwList.filterNotNull().toMutableList()
-                        modifiedRewards.add(0, RewardFactory.noReward().toBuilder().minimum(minPledge).build())
-                        ps.onNext(modifiedRewards.toList())
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+            }
     }
 
     override fun buildPaymentPlan(input: BuildPaymentPlanData): Observable<PaymentPlan> {
-        return Observable.defer {
-            val ps = PublishSubject.create<PaymentPlan>()
-            val query = BuildPaymentPlanQuery(
-                slug = input.slug,
-                amount = input.amount,
-                includeRefundedAmount = false
-            )
-
-            this.service.query(query)
-                .rxFlowable()
-                .subscribeOn(Schedulers.io())
-                .doOnError {
-                    ps.onError(it)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    }
-
-                    response.data?.let { data ->
-                        data.project?.paymentPlan?.let {
-                            paymentPlanTransformer(it)
-                        }?.let {
-                            ps.onNext(it)
-                        }
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+        val query = BuildPaymentPlanQuery(
+            slug = input.slug,
+            amount = input.amount,
+            includeRefundedAmount = false
+        )
+        return this.service.query(query)
+            .observe { response ->
+                response.data?.project?.paymentPlan?.let { paymentPlanTransformer(it) }
+            }
     }
 
     private fun getAddOnsFromProject(addOnsGr: GetProjectAddOnsQuery.AddOns): List<Reward> {
@@ -939,376 +682,196 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
     }
 
     override fun getProjectAddOns(slug: String, locationId: Location): Observable<List<Reward>> {
-        return Observable.defer {
-            val ps = PublishSubject.create<List<Reward>>()
+        return getProjectAddOns(slug, locationId, FetchPolicy.NetworkOnly)
+    }
 
-            val query = GetProjectAddOnsQuery(
-                slug = slug,
-                locationId = encodeRelayId(locationId)
-            )
-            this.service
-                .query(query)
-                .rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
+    override fun getProjectAddOns(slug: String, locationId: Location, fetchPolicy: FetchPolicy): Observable<List<Reward>> {
+        val query = GetProjectAddOnsQuery(
+            slug = slug,
+            locationId = encodeRelayId(locationId)
+        )
+        return this.service.query(query)
+            .fetchPolicy(fetchPolicy)
+            .observe { response ->
+                response.data?.let { data ->
+                    getAddOnsFromProject(requireNotNull(data.project?.addOns))
                 }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    }
-                    response.data?.let { data ->
-                        val addOns = getAddOnsFromProject(requireNotNull(data.project?.addOns))
-                        ps.onNext(addOns)
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+            }
     }
 
     override fun updateBacking(updateBackingData: UpdateBackingData): Observable<Checkout> {
-        return Observable.defer {
-            val mutation = UpdateBackingMutation(
-                backingId = encodeRelayId(updateBackingData.backing),
-                amount = if (updateBackingData.amount.isNotNull()) Optional.present(updateBackingData.amount) else Optional.absent(),
-                locationId = if (updateBackingData.locationId.isNotNull()) Optional.present(updateBackingData.locationId) else Optional.absent(),
-                rewardIds =
-                if (updateBackingData.rewardsIds.isNotNull()) Optional.present(updateBackingData.rewardsIds?.let { list -> list.map { encodeRelayId(it) } })
-                else Optional.absent(),
-                paymentSourceId = if (updateBackingData.paymentSourceId.isNotNull()) Optional.present(updateBackingData.paymentSourceId) else Optional.absent(),
-                intentClientSecret = if (updateBackingData.intentClientSecret.isNotNull()) Optional.present(updateBackingData.intentClientSecret) else Optional.absent(),
-                incremental = if (updateBackingData.incremental.isNotNull()) Optional.present(updateBackingData.incremental) else Optional.absent()
-            )
-            val ps = PublishSubject.create<Checkout>()
-            service
-                .mutation(mutation)
-                .rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                    } else {
-                        val checkoutPayload = response.data?.updateBacking?.checkout
-                        val backing = Checkout.Backing.builder()
-                            .clientSecret(
-                                checkoutPayload?.backing?.checkoutBacking?.clientSecret
-                            )
-                            .requiresAction(
-                                checkoutPayload?.backing?.checkoutBacking?.requiresAction ?: false
-                            )
-                            .build()
+        val mutation = UpdateBackingMutation(
+            backingId = encodeRelayId(updateBackingData.backing),
+            amount = if (updateBackingData.amount.isNotNull()) Optional.present(updateBackingData.amount) else Optional.absent(),
+            locationId = if (updateBackingData.locationId.isNotNull()) Optional.present(updateBackingData.locationId) else Optional.absent(),
+            rewardIds =
+            if (updateBackingData.rewardsIds.isNotNull()) Optional.present(updateBackingData.rewardsIds?.let { list -> list.map { encodeRelayId(it) } })
+            else Optional.absent(),
+            paymentSourceId = if (updateBackingData.paymentSourceId.isNotNull()) Optional.present(updateBackingData.paymentSourceId) else Optional.absent(),
+            intentClientSecret = if (updateBackingData.intentClientSecret.isNotNull()) Optional.present(updateBackingData.intentClientSecret) else Optional.absent(),
+            incremental = if (updateBackingData.incremental.isNotNull()) Optional.present(updateBackingData.incremental) else Optional.absent()
+        )
+        return service.mutation(mutation)
+            .observe { response ->
+                val checkoutPayload = response.data?.updateBacking?.checkout
+                val backing = Checkout.Backing.builder()
+                    .clientSecret(
+                        checkoutPayload?.backing?.checkoutBacking?.clientSecret
+                    )
+                    .requiresAction(
+                        checkoutPayload?.backing?.checkoutBacking?.requiresAction ?: false
+                    )
+                    .build()
 
-                        val checkout = Checkout.builder()
-                            .id(decodeRelayId(checkoutPayload?.id))
-                            .backing(backing)
-                            .build()
-                        ps.onNext(checkout)
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+                Checkout.builder()
+                    .id(decodeRelayId(checkoutPayload?.id))
+                    .backing(backing)
+                    .build()
+            }
     }
 
     override fun createBacking(createBackingData: CreateBackingData): Observable<Checkout> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Checkout>()
-            val mutation = CreateBackingMutation(
-                projectId = encodeRelayId(createBackingData.project),
-                amount = createBackingData.amount,
-                paymentType = PaymentTypes.CREDIT_CARD.rawValue,
-                paymentSourceId = if (createBackingData.paymentSourceId.isNotNull()) Optional.present(createBackingData.paymentSourceId) else Optional.absent(),
-                incremental = if (createBackingData.incremental.isNotNull()) Optional.present(createBackingData.incremental) else Optional.absent(),
-                setupIntentClientSecret =
-                if (createBackingData.setupIntentClientSecret.isNotNull()) Optional.present(createBackingData.setupIntentClientSecret)
-                else Optional.absent(),
-                locationId = if (createBackingData.locationId.isNotNull()) Optional.present(createBackingData.locationId) else Optional.absent(),
-                rewardIds =
-                if (createBackingData.rewardsIds.isNotNull()) Optional.present(createBackingData.rewardsIds?.let { list -> list.map { encodeRelayId(it) } })
-                else Optional.absent(),
-                refParam = if (createBackingData.refTag?.tag().isNotNull()) Optional.present(createBackingData.refTag?.tag()) else Optional.absent()
-            )
-
-            this.service.mutation(mutation)
-                .rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                    } else {
+        val mutation = CreateBackingMutation(
+            projectId = encodeRelayId(createBackingData.project),
+            amount = createBackingData.amount,
+            paymentType = PaymentTypes.CREDIT_CARD.rawValue,
+            paymentSourceId = if (createBackingData.paymentSourceId.isNotNull()) Optional.present(createBackingData.paymentSourceId) else Optional.absent(),
+            incremental = if (createBackingData.incremental.isNotNull()) Optional.present(createBackingData.incremental) else Optional.absent(),
+            setupIntentClientSecret =
+            if (createBackingData.setupIntentClientSecret.isNotNull()) Optional.present(createBackingData.setupIntentClientSecret)
+            else Optional.absent(),
+            locationId = if (createBackingData.locationId.isNotNull()) Optional.present(createBackingData.locationId) else Optional.absent(),
+            rewardIds =
+            if (createBackingData.rewardsIds.isNotNull()) Optional.present(createBackingData.rewardsIds?.let { list -> list.map { encodeRelayId(it) } })
+            else Optional.absent(),
+            refParam = if (createBackingData.refTag?.tag().isNotNull()) Optional.present(createBackingData.refTag?.tag()) else Optional.absent()
+        )
 
-                        val checkoutPayload = response.data?.createBacking?.checkout
+        return this.service.mutation(mutation)
+            .observe { response ->
+                val checkoutPayload = response.data?.createBacking?.checkout
 
-                        // TODO: Add new status field to backing model
-                        val backing = Checkout.Backing.builder()
-                            .clientSecret(
-                                checkoutPayload?.backing?.checkoutBacking?.clientSecret
-                            )
-                            .requiresAction(
-                                checkoutPayload?.backing?.checkoutBacking
-                                    ?.requiresAction ?: false
-                            )
-                            .build()
+                // TODO: Add new status field to backing model
+                val backing = Checkout.Backing.builder()
+                    .clientSecret(
+                        checkoutPayload?.backing?.checkoutBacking?.clientSecret
+                    )
+                    .requiresAction(
+                        checkoutPayload?.backing?.checkoutBacking
+                            ?.requiresAction ?: false
+                    )
+                    .build()
 
-                        val checkout = Checkout.builder()
-                            .id(decodeRelayId(checkoutPayload?.id))
-                            .backing(backing)
-                            .build()
-                        ps.onNext(checkout)
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+                Checkout.builder()
+                    .id(decodeRelayId(checkoutPayload?.id))
+                    .backing(backing)
+                    .build()
+            }
     }
 
     override fun triggerThirdPartyEvent(eventInput: TPEventInputData): Observable<Pair<Boolean, String>> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Pair<Boolean, String>>()
-
-            val mutation = getTriggerThirdPartyEventMutation(eventInput)
+        return service.mutation(getTriggerThirdPartyEventMutation(eventInput))
+            .observe { response ->
+                val message = response.data?.triggerThirdPartyEvent?.message
+                val isSuccess = response.data?.triggerThirdPartyEvent?.success ?: false
 
-            service
-                .mutation(mutation)
-                .rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                    } else {
-                        val message = response.data?.triggerThirdPartyEvent?.message
-                        val isSuccess = response.data?.triggerThirdPartyEvent?.success ?: false
-
-                        ps.onNext(Pair(isSuccess, message))
-                    }
-
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+                Pair(isSuccess, message)
+            }
     }
 
     override fun createPassword(
         password: String,
         confirmPassword: String
     ): Observable<CreatePasswordMutation.Data> {
-        return Observable.defer {
-            val ps = PublishSubject.create<CreatePasswordMutation.Data>()
-            val mutation = CreatePasswordMutation(
-                password = password,
-                passwordConfirmation = confirmPassword
-            )
-            service.mutation(
-                mutation
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                    }
-                    response.data?.let {
-                        ps.onNext(it)
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+        val mutation = CreatePasswordMutation(
+            password = password,
+            passwordConfirmation = confirmPassword
+        )
+        return service.mutation(mutation)
+            .observe { response -> response.data }
     }
 
     override fun creatorDetails(slug: String): Observable<CreatorDetails> {
-        return Observable.defer {
-            val ps = PublishSubject.create<CreatorDetails>()
-
-            val query = ProjectCreatorDetailsQuery(
-                slug = slug
-            )
-            service.query(
-                query
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
+        return service.query(ProjectCreatorDetailsQuery(slug = slug))
+            .observe { response ->
+                response.data?.project?.creator?.let {
+                    CreatorDetails.builder()
+                        .backingsCount(it.backingsCount)
+                        .launchedProjectsCount(it.launchedProjects?.totalCount ?: 1)
+                        .build()
                 }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    }
-
-                    response.data?.project?.creator?.let {
-                        ps.onNext(
-                            CreatorDetails.builder()
-                                .backingsCount(it.backingsCount)
-                                .launchedProjectsCount(it.launchedProjects?.totalCount ?: 1)
-                                .build()
-                        )
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+            }
     }
 
     override fun sendMessage(project: Project, recipient: User, body: String): Observable<Long> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Long>()
-            val mutation = SendMessageMutation(
-                projectId = encodeRelayId(project),
-                recipientId = encodeRelayId(recipient),
-                body = body
-            )
-
-            service.mutation(
-                mutation
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
+        val mutation = SendMessageMutation(
+            projectId = encodeRelayId(project),
+            recipientId = encodeRelayId(recipient),
+            body = body
+        )
+        return service.mutation(mutation)
+            .observe { response ->
+                response.data?.let { data ->
+                    decodeRelayId(data.sendMessage?.conversation?.id) ?: throw Exception()
                 }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    }
-
-                    response.data?.let {
-                        decodeRelayId(
-                            response.data?.sendMessage?.conversation?.id
-                        )?.let {
-                            ps.onNext(it)
-                        } ?: ps.onError(Exception())
-                    }
-
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+            }
     }
 
     override fun cancelBacking(backing: Backing, note: String): Observable<Any> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Any>()
-            val mutation = CancelBackingMutation(
-                backingId = encodeRelayId(backing),
-                note = Optional.present(note)
-            )
-            service.mutation(
-                mutation
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
+        val mutation = CancelBackingMutation(
+            backingId = encodeRelayId(backing),
+            note = Optional.present(note)
+        )
+        return service.mutation(mutation)
+            .observe(failOnErrors = false) { response ->
+                if (response.hasErrors()) {
+                    Exception(response.errors?.first()?.message ?: "")
+                } else {
+                    val state = response.data?.cancelBacking?.backing?.status
+                    state == BackingState.canceled
                 }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onNext(Exception(response.errors?.first()?.message ?: ""))
-                    } else {
-                        val state = response.data?.cancelBacking?.backing?.status
-                        val success = state == BackingState.canceled
-                        ps.onNext(success)
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+            }
     }
 
     override fun fetchCategory(categoryParam: String): Observable<Category?> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Category>()
-            val query = FetchCategoryQuery(
-                categoryParam = categoryParam
-            )
-            this.service.query(
-                query
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    } else {
-                        val category =
-                            categoryTransformer(response.data?.category?.category)
-                        ps.onNext(category)
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+        val query = FetchCategoryQuery(
+            categoryParam = categoryParam
+        )
+        return this.service.query(query)
+            .observe { response -> categoryTransformer(response.data?.category?.category) }
     }
 
     override fun getBacking(backingId: String): Observable<Backing> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Backing>()
-            val query = GetBackingQuery(
-                backingId = backingId
-            )
-            this.service.query(
-                query
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
+        return this.service.query(GetBackingQuery(backingId = backingId))
+            .observe { response ->
+                response.data?.backing?.let { backingFragments ->
+                    backingTransformer(backingFragments.backing)
                 }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    } else {
-                        response.data?.let {
-                            it.backing?.let { backingFragments ->
-                                backingTransformer(
-                                    backingFragments.backing
-                                )?.let { backingObject ->
-                                    ps.onNext(backingObject)
-                                }
-                            }
-                        }
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+            }
     }
 
     override fun fetchCategories(): Observable<List<Category>> {
-        return Observable.defer {
-            val query = GetRootCategoriesQuery()
-            val ps = PublishSubject.create<List<Category>>()
-
-            service.query(
-                query
-            ).rxFlowable()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response: ApolloResponse<GetRootCategoriesQuery.Data> ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    } else {
-                        response.data?.let { responseData ->
-                            val subCategories = responseData.rootCategories
-                                .flatMap { it.subcategories?.nodes.orEmpty() }
-                                .map {
-                                    categoryTransformer(it?.category)
-                                }
-                            val rootCategories = responseData.rootCategories
-                                .map { categoryTransformer(it.category) }
-                                .toMutableList()
-                                .apply {
-                                    addAll(subCategories)
-                                }
-                            ps.onNext(rootCategories)
+        return fetchCategories(FetchPolicy.NetworkOnly)
+    }
+
+    override fun fetchCategories(fetchPolicy: FetchPolicy): Observable<List<Category>> {
+        return service.query(GetRootCategoriesQuery())
+            .fetchPolicy(fetchPolicy)
+            .observe { response: ApolloResponse<GetRootCategoriesQuery.Data> ->
+                response.data?.let { responseData ->
+                    val subCategories = responseData.rootCategories
+                        .flatMap { it.subcategories?.nodes.orEmpty() }
+                        .map {
+                            categoryTransformer(it?.category)
+                        }
+                    responseData.rootCategories
+                        .map { categoryTransformer(it.category) }
+                        .toMutableList()
+                        .apply {
+                            addAll(subCategories)
                         }
-                    }
-                    ps.onComplete()
                 }
-                .addToDisposable(disposables)
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+            }
     }
 
     override fun getProjectUpdates(
@@ -1316,45 +879,28 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         cursor: String,
         limit: Int
     ): Observable<UpdatesGraphQlEnvelope> {
-        return Observable.defer {
-            val ps = PublishSubject.create<UpdatesGraphQlEnvelope>()
-
-            val query = GetProjectUpdatesQuery(
-                cursor = Optional.present(cursor),
-                slug = slug,
-                limit = limit
-            )
-            this.service.query(
-                query
-            ).rxFlowable()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    } else {
-                        response.data?.let { data ->
-                            val updates = data.project?.posts?.edges?.map {
-                                updateTransformer(it?.node?.post)
-                            }
-                            val envelope = UpdatesGraphQlEnvelope.builder()
-                                .updates(updates)
-                                .totalCount(data.project?.posts?.totalCount ?: 0)
-                                .pageInfoEnvelope(
-                                    createPageInfoObject(
-                                        data.project?.posts?.pageInfo?.pageInfo
-                                    )
-                                )
-                                .build()
-
-                            ps.onNext(envelope)
-                        }
+        val query = GetProjectUpdatesQuery(
+            cursor = Optional.present(cursor),
+            slug = slug,
+            limit = limit
+        )
+        return this.service.query(query)
+            .observe { response ->
+                response.data?.let { data ->
+                    val updates = data.project?.posts?.edges?.map {
+                        updateTransformer(it?.node?.post)
                     }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+                    UpdatesGraphQlEnvelope.builder()
+                        .updates(updates)
+                        .totalCount(data.project?.posts?.totalCount ?: 0)
+                        .pageInfoEnvelope(
+                            createPageInfoObject(
+                                data.project?.posts?.pageInfo?.pageInfo
+                            )
+                        )
+                        .build()
+                }
+            }
     }
 
     private fun createPageInfoObject(pageFr: com.kickstarter.fragment.PageInfo?): PageInfoEnvelope {
@@ -1367,30 +913,10 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
     }
 
     override fun getComment(commentableId: String): Observable<Comment> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Comment>()
-            val query = GetCommentQuery(
-                commentableId = commentableId
-            )
-            this.service.query(
-                query
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    } else {
-                        response.data?.let { responseData ->
-                            val comment = mapGetCommentQueryResponseToComment(responseData)
-                            ps.onNext(comment)
-                        }
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+        return this.service.query(GetCommentQuery(commentableId = commentableId))
+            .observe { response ->
+                response.data?.let { responseData -> mapGetCommentQueryResponseToComment(responseData) }
+            }
     }
 
     private fun mapGetCommentQueryResponseToComment(responseData: GetCommentQuery.Data): Comment {
@@ -1403,54 +929,38 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         cursor: String,
         limit: Int
     ): Observable<CommentEnvelope> {
-        return Observable.defer {
-            val ps = PublishSubject.create<CommentEnvelope>()
+        val query = GetProjectUpdateCommentsQuery(
+            cursor = if (cursor.isPresent()) Optional.present(cursor) else Optional.absent(),
+            id = updateId,
+            limit = limit
+        )
+        return this.service.query(query)
+            .observe { response ->
+                response.data?.let { data ->
+                    data.post?.freeformPost?.comments
+                        ?.let { graphComments ->
+                            val comments = graphComments.edges?.map { edge ->
+                                commentTransformer(edge?.node?.comment)
+                                    .toBuilder()
+                                    .cursor(edge?.cursor)
+                                    .build()
+                            }
 
-            val query = GetProjectUpdateCommentsQuery(
-                cursor = if (cursor.isPresent()) Optional.present(cursor) else Optional.absent(),
-                id = updateId,
-                limit = limit
-            )
-            this.service.query(
-                query
-            ).rxFlowable()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    } else {
-                        response.data?.let { data ->
-                            data.post?.freeformPost?.comments
-                                ?.let { graphComments ->
-                                    val comments = graphComments.edges?.map { edge ->
-                                        commentTransformer(edge?.node?.comment)
-                                            .toBuilder()
-                                            .cursor(edge?.cursor)
-                                            .build()
-                                    }
-
-                                    val envelope = CommentEnvelope.builder()
-                                        .comments(comments)
-                                        .commentableId(data.post?.id ?: "")
-                                        .totalCount(
-                                            data.post?.freeformPost?.comments?.totalCount ?: 0
-                                        )
-                                        .pageInfoEnvelope(
-                                            createPageInfoObject(
-                                                data.post?.freeformPost?.comments?.pageInfo?.pageInfo
-                                            )
-                                        )
-                                        .build()
-                                    ps.onNext(envelope)
-                                }
+                            CommentEnvelope.builder()
+                                .comments(comments)
+                                .commentableId(data.post?.id ?: "")
+                                .totalCount(
+                                    data.post?.freeformPost?.comments?.totalCount ?: 0
+                                )
+                                .pageInfoEnvelope(
+                                    createPageInfoObject(
+                                        data.post?.freeformPost?.comments?.pageInfo?.pageInfo
+                                    )
+                                )
+                                .build()
                         }
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+                }
+            }
     }
 
     override fun getProjectComments(
@@ -1458,51 +968,36 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         cursor: String,
         limit: Int
     ): Observable<CommentEnvelope> {
-        return Observable.defer {
-            val ps = PublishSubject.create<CommentEnvelope>()
-            val query = GetProjectCommentsQuery(
-                cursor = if (cursor.isPresent()) Optional.present(cursor) else Optional.absent(),
-                slug = slug,
-                limit = limit
-            )
-            this.service.query(
-                query
-            ).rxFlowable()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    } else {
-                        response.data?.let { data ->
-                            data.project?.comments?.let { graphComments ->
-                                val comments = graphComments.edges?.map { edge ->
-                                    commentTransformer(
-                                        edge?.node?.comment
-                                    ).toBuilder()
-                                        .cursor(edge?.cursor)
-                                        .build()
-                                }
-
-                                val envelope = CommentEnvelope.builder()
-                                    .commentableId(data.project?.id)
-                                    .comments(comments)
-                                    .totalCount(data.project?.comments?.totalCount ?: 0)
-                                    .pageInfoEnvelope(
-                                        createPageInfoObject(
-                                            data.project?.comments?.pageInfo?.pageInfo
-                                        )
-                                    )
-                                    .build()
-                                ps.onNext(envelope)
-                            }
+        val query = GetProjectCommentsQuery(
+            cursor = if (cursor.isPresent()) Optional.present(cursor) else Optional.absent(),
+            slug = slug,
+            limit = limit
+        )
+        return this.service.query(query)
+            .observe { response ->
+                response.data?.let { data ->
+                    data.project?.comments?.let { graphComments ->
+                        val comments = graphComments.edges?.map { edge ->
+                            commentTransformer(
+                                edge?.node?.comment
+                            ).toBuilder()
+                                .cursor(edge?.cursor)
+                                .build()
                         }
+
+                        CommentEnvelope.builder()
+                            .commentableId(data.project?.id)
+                            .comments(comments)
+                            .totalCount(data.project?.comments?.totalCount ?: 0)
+                            .pageInfoEnvelope(
+                                createPageInfoObject(
+                                    data.project?.comments?.pageInfo?.pageInfo
+                                )
+                            )
+                            .build()
                     }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+                }
+            }
     }
 
     override fun getRepliesForComment(
@@ -1510,31 +1005,15 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         cursor: String?,
         pageSize: Int
     ): Observable<CommentEnvelope> {
-        return Observable.defer {
-            val ps = PublishSubject.create<CommentEnvelope>()
-            val query = GetRepliesForCommentQuery(
-                commentableId = encodeRelayId(comment),
-                cursor = if (cursor.isNullOrBlank()) Optional.absent() else Optional.present(cursor),
-                pageSize = Optional.present(pageSize),
-            )
-            this.service.query(
-                query
-            ).rxFlowable()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    } else {
-                        response.data?.let { responseData ->
-                            ps.onNext(createCommentEnvelop(responseData))
-                        }
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+        val query = GetRepliesForCommentQuery(
+            commentableId = encodeRelayId(comment),
+            cursor = if (cursor.isNullOrBlank()) Optional.absent() else Optional.present(cursor),
+            pageSize = Optional.present(pageSize),
+        )
+        return this.service.query(query)
+            .observe { response ->
+                response.data?.let { responseData -> createCommentEnvelop(responseData) }
+            }
     }
 
     private fun createCommentEnvelop(responseData: GetRepliesForCommentQuery.Data): CommentEnvelope {
@@ -1553,94 +1032,43 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
     }
 
     override fun createComment(comment: PostCommentData): Observable<Comment> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Comment>()
-            val mutation = CreateCommentMutation(
-                parentId = if (comment.parent?.id().isNotNull()) Optional.present(comment.parent?.let { encodeRelayId(it) }) else Optional.absent(),
-                commentableId = comment.commentableId,
-                clientMutationId = Optional.present(comment.clientMutationId),
-                body = comment.body
-            )
-            this.service.mutation(
-                mutation
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                    } else {
-                        /* make a copy of what you posted. just in case
-                     * we want to update the list without doing
-                     * a full refresh.
-                     */
-                        ps.onNext(
-                            commentTransformer(
-                                response.data?.createComment?.comment?.comment
-                            )
-                        )
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+        val mutation = CreateCommentMutation(
+            parentId = if (comment.parent?.id().isNotNull()) Optional.present(comment.parent?.let { encodeRelayId(it) }) else Optional.absent(),
+            commentableId = comment.commentableId,
+            clientMutationId = Optional.present(comment.clientMutationId),
+            body = comment.body
+        )
+        return this.service.mutation(mutation)
+            .observe { response ->
+                /* make a copy of what you posted. just in case
+                 * we want to update the list without doing
+                 * a full refresh.
+                 */
+                commentTransformer(response.data?.createComment?.comment?.comment)
+            }
     }
 
     override fun erroredBackings(): Observable<List<ErroredBacking>> {
-        return Observable.defer {
-            val ps = PublishSubject.create<List<ErroredBacking>>()
-            val query = ErroredBackingsQuery()
-            this.service
-                .query(query)
-                .rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    } else {
-                        val erroredBackings = response.data?.me?.backings?.nodes?.map {
-                            val project = ErroredBacking.Project.builder()
-                                .finalCollectionDate(it?.project?.finalCollectionDate)
-                                .name(it?.project?.name)
-                                .slug(it?.project?.slug)
-                                .build()
-                            return@map ErroredBacking.builder()
-                                .project(project)
-                                .build()
-                        } ?: listOf()
-                        ps.onNext(erroredBackings)
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+        return this.service.query(ErroredBackingsQuery())
+            .observe { response ->
+                response.data?.me?.backings?.nodes?.map {
+                    val project = ErroredBacking.Project.builder()
+                        .finalCollectionDate(it?.project?.finalCollectionDate)
+                        .name(it?.project?.name)
+                        .slug(it?.project?.slug)
+                        .build()
+                    return@map ErroredBacking.builder()
+                        .project(project)
+                        .build()
+                } ?: listOf()
+            }
     }
 
     override fun clearUnseenActivity(): Observable<Int> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Int>()
-            val mutation = ClearUserUnseenActivityMutation()
-            service.mutation(
-                mutation
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(java.lang.Exception(response.errors?.first()?.message))
-                    }
-                    response.data?.clearUserUnseenActivity?.activityIndicatorCount?.let {
-                        ps.onNext(it)
-                    } ?: ps.onError(Exception())
-
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+        return service.mutation(ClearUserUnseenActivityMutation())
+            .observe { response ->
+                response.data?.clearUserUnseenActivity?.activityIndicatorCount ?: throw Exception()
+            }
     }
 
     override fun getProjectBacking(slug: String): Observable<Backing> =
@@ -1658,82 +1086,44 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
     }
 
     override fun createCheckout(createCheckoutData: CreateCheckoutData): Observable<CheckoutPayment> {
-        return Observable.defer {
-            val ps = PublishSubject.create<CheckoutPayment>()
-
-            val mutation = CreateCheckoutMutation(
-                projectId = encodeRelayId(createCheckoutData.project),
-                amount = createCheckoutData.amount,
-                rewardIds = Optional.present(
-                    createCheckoutData.rewardsIds?.let { list ->
-                        list.map { encodeRelayId(it) }
-                    }
-                ),
-                locationId = if (createCheckoutData.locationId.isNotNull()) Optional.present(createCheckoutData.locationId) else Optional.absent(),
-                refParam = if (createCheckoutData.refTag?.tag().isNotNull()) Optional.present(createCheckoutData.refTag?.tag()) else Optional.absent()
-            )
-            this.service.mutation(
-                mutation
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
+        val mutation = CreateCheckoutMutation(
+            projectId = encodeRelayId(createCheckoutData.project),
+            amount = createCheckoutData.amount,
+            rewardIds = Optional.present(
+                createCheckoutData.rewardsIds?.let { list ->
+                    list.map { encodeRelayId(it) }
                 }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    } else {
-                        response.data?.let { data ->
-                            data.createCheckout?.checkout?.let { checkoutObj ->
-                                val backingId = decodeRelayId(checkoutObj.id) ?: 0L
-                                val backing = Backing.builder().id(backingId).build()
-                                decodeRelayId(checkoutObj.id)?.let { id ->
-                                    val checkout = CheckoutPayment(
-                                        id,
-                                        checkoutObj.paymentUrl,
-                                        backing = backing
-                                    )
-                                    ps.onNext(checkout)
-                                } ?: ps.onError(Exception("CreateCheckout could not decode ID"))
-                            }
-                        }
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+            ),
+            locationId = if (createCheckoutData.locationId.isNotNull()) Optional.present(createCheckoutData.locationId) else Optional.absent(),
+            refParam = if (createCheckoutData.refTag?.tag().isNotNull()) Optional.present(createCheckoutData.refTag?.tag()) else Optional.absent()
+        )
+        return this.service.mutation(mutation)
+            .observe { response ->
+                response.data?.createCheckout?.checkout?.let { checkoutObj ->
+                    val id = decodeRelayId(checkoutObj.id) ?: throw Exception("CreateCheckout could not decode ID")
+                    CheckoutPayment(
+                        id,
+                        checkoutObj.paymentUrl,
+                        backing = Backing.builder().id(id).build()
+                    )
+                }
+            }
     }
 
     override fun createPaymentIntent(createPaymentIntentInput: CreatePaymentIntentInput): Observable<String> {
-        return Observable.defer {
-            val ps = PublishSubject.create<String>()
-
-            val checkoutId = createPaymentIntentInput.checkoutId
-            val backingId = encodeRelayId(createPaymentIntentInput.backing)
-            val mutation = CreatePaymentIntentMutation(
-                projectId = encodeRelayId(createPaymentIntentInput.project),
-                amount = createPaymentIntentInput.amount,
-                paymentIntentContext = Optional.present(StripeIntentContextTypes.POST_CAMPAIGN_CHECKOUT),
-                checkoutId = (Base64Utils.encodeUrlSafe(("Checkout-$checkoutId").toByteArray(Charset.defaultCharset()))),
-                backingId = Optional.present(backingId)
-            )
-            this.service.mutation(
-                mutation
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    } else {
-                        response.data?.createPaymentIntent?.clientSecret?.let {
-                            ps.onNext(it)
-                        } ?: ps.onError(Exception("Client Secret was Null"))
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+        val checkoutId = createPaymentIntentInput.checkoutId
+        val backingId = encodeRelayId(createPaymentIntentInput.backing)
+        val mutation = CreatePaymentIntentMutation(
+            projectId = encodeRelayId(createPaymentIntentInput.project),
+            amount = createPaymentIntentInput.amount,
+            paymentIntentContext = Optional.present(StripeIntentContextTypes.POST_CAMPAIGN_CHECKOUT),
+            checkoutId = (Base64Utils.encodeUrlSafe(("Checkout-$checkoutId").toByteArray(Charset.defaultCharset()))),
+            backingId = Optional.present(backingId)
+        )
+        return this.service.mutation(mutation)
+            .observe { response ->
+                response.data?.createPaymentIntent?.clientSecret ?: throw Exception("Client Secret was Null")
+            }
     }
 
     override fun validateCheckout(
@@ -1741,35 +1131,20 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         paymentIntentClientSecret: String,
         paymentSourceId: String
     ): Observable<PaymentValidationResponse> {
-        return Observable.defer {
-            val ps = PublishSubject.create<PaymentValidationResponse>()
-            val query = ValidateCheckoutQuery(
-                checkoutId = checkoutId,
-                paymentIntentClientSecret = paymentIntentClientSecret,
-                paymentSourceId = paymentSourceId
-            )
-            this.service.query(
-                query
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
+        val query = ValidateCheckoutQuery(
+            checkoutId = checkoutId,
+            paymentIntentClientSecret = paymentIntentClientSecret,
+            paymentSourceId = paymentSourceId
+        )
+        return this.service.query(query)
+            .observe { response ->
+                response.data?.let { data ->
+                    PaymentValidationResponse(
+                        data.checkout?.isValidForOnSessionCheckout?.valid ?: false,
+                        data.checkout?.isValidForOnSessionCheckout?.messages ?: listOf()
+                    )
                 }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    } else {
-                        response.data?.let { data ->
-                            val validation = PaymentValidationResponse(
-                                data.checkout?.isValidForOnSessionCheckout?.valid ?: false,
-                                data.checkout?.isValidForOnSessionCheckout?.messages ?: listOf()
-                            )
-                            ps.onNext(validation)
-                        }
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+            }
     }
 
     override fun completeOnSessionCheckout(
@@ -1778,112 +1153,39 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
         paymentSourceId: String?,
         paymentSourceReusable: Boolean
     ): Observable<Pair<String, Boolean>> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Pair<String, Boolean>>()
-
-            val mutation = CompleteOnSessionCheckoutMutation(
-                checkoutId = Base64Utils.encodeUrlSafe(("Checkout-$checkoutId").toByteArray(Charset.defaultCharset())),
-                paymentIntentClientSecret = paymentIntentClientSecret,
-                paymentSourceId = if (paymentSourceId.isNotNull()) Optional.present(paymentSourceId) else Optional.absent(),
-                paymentSourceReusable = Optional.present(paymentSourceReusable)
-            )
-            this.service.mutation(
-                mutation
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message))
-                    } else {
-                        response.data?.completeOnSessionCheckout?.checkout?.id?.let { checkoutId ->
-                            response.data?.completeOnSessionCheckout?.checkout?.backing?.requiresAction?.let { requiresAction ->
-                                ps.onNext(Pair(checkoutId, requiresAction))
-                            }
-                        } ?: ps.onError(Exception("Checkout ID was null"))
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+        val mutation = CompleteOnSessionCheckoutMutation(
+            checkoutId = Base64Utils.encodeUrlSafe(("Checkout-$checkoutId").toByteArray(Charset.defaultCharset())),
+            paymentIntentClientSecret = paymentIntentClientSecret,
+            paymentSourceId = if (paymentSourceId.isNotNull()) Optional.present(paymentSourceId) else Optional.absent(),
+            paymentSourceReusable = Optional.present(paymentSourceReusable)
+        )
+        return this.service.mutation(mutation)
+            .observe { response ->
+                val checkout = response.data?.completeOnSessionCheckout?.checkout
+                val id = checkout?.id ?: throw Exception("Checkout ID was null")
+                checkout.backing?.requiresAction?.let { requiresAction -> Pair(id, requiresAction) }
+            }
     }
 
     override fun createAttributionEvent(eventInput: CreateAttributionEventData): Observable<Boolean> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Boolean>()
-
-            val mutation = getCreateAttributionEventMutation(eventInput, gson)
-            service.mutation(mutation)
-                .rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message ?: ""))
-                    }
-
-                    response.data?.let {
-                        val isSuccess = it.createAttributionEvent?.successful ?: false
-                        ps.onNext(isSuccess)
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+        return service.mutation(getCreateAttributionEventMutation(eventInput, gson))
+            .observe { response ->
+                response.data?.let { it.createAttributionEvent?.successful ?: false }
+            }
     }
 
     override fun createOrUpdateBackingAddress(eventInput: CreateOrUpdateBackingAddressData): Observable<Boolean> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Boolean>()
-
-            val mutation = getCreateOrUpdateBackingAddressMutation(eventInput)
-
-            service.mutation(mutation)
-                .rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message ?: ""))
-                    }
-
-                    response.data?.let {
-                        val isSuccess = it.createOrUpdateBackingAddress?.success ?: false
-                        ps.onNext(isSuccess)
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+        return service.mutation(getCreateOrUpdateBackingAddressMutation(eventInput))
+            .observe { response ->
+                response.data?.let { it.createOrUpdateBackingAddress?.success ?: false }
+            }
     }
 
     override fun updateBackerCompleted(inputData: UpdateBackerCompletedData): Observable<Boolean> {
-        return Observable.defer {
-            val ps = PublishSubject.create<Boolean>()
-
-            val mutation = getUpdateBackerCompletedMutation(inputData)
-
-            service.mutation(mutation)
-                .rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message ?: ""))
-                    }
-
-                    response.data?.let {
-                        val backerCompleted = it.updateBackerCompleted?.backing?.backerCompleted ?: false
-                        ps.onNext(backerCompleted)
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }
+        return service.mutation(getUpdateBackerCompletedMutation(inputData))
+            .observe { response ->
+                response.data?.let { it.updateBackerCompleted?.backing?.backerCompleted ?: false }
+            }
     }
 
     override suspend fun addUserToSecretRewardGroup(
@@ -1907,65 +1209,27 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
 
     // TODO: was part of initial discovery for PledgeRedemption ML2 on mobile, not is use currently, as is happens on a webview
     override fun completeOrder(orderInput: CompleteOrderInput): Observable<CompleteOrderPayload> {
-        return Observable.defer {
-            val ps = PublishSubject.create<CompleteOrderPayload>()
-
-            val mutation = CompleteOrderMutation(
-                orderId = "",
-                stripePaymentMethodId = Optional.present(orderInput.stripePaymentMethodId),
-                paymentSourceReusable = Optional.present(orderInput.paymentSourceReusable)
-            )
-            this.service.mutation(
-                mutation
-            ).rxSingle()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
+        val mutation = CompleteOrderMutation(
+            orderId = "",
+            stripePaymentMethodId = Optional.present(orderInput.stripePaymentMethodId),
+            paymentSourceReusable = Optional.present(orderInput.paymentSourceReusable)
+        )
+        return this.service.mutation(mutation)
+            .observe { response ->
+                response.data?.completeOrder?.let {
+                    CompleteOrderPayload(
+                        status = it.status.toString(),
+                        clientSecret = it.clientSecret ?: ""
+                    )
                 }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message ?: ""))
-                    }
-
-                    response.data?.completeOrder?.let {
-                        val payload = CompleteOrderPayload(
-                            status = it.status.toString(),
-                            clientSecret = it.clientSecret ?: ""
-                        )
-                        ps.onNext(payload)
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-
-            return@defer ps
-        }
+            }
     }
 
     override fun getPledgedProjectsOverviewPledges(inputData: PledgedProjectsOverviewQueryData): Observable<PledgedProjectsOverviewEnvelope> {
-        return Observable.defer {
-            val ps = PublishSubject.create<PledgedProjectsOverviewEnvelope>()
-
-            this.service.query(
-                getPledgedProjectsOverviewQuery(inputData)
-            ).rxFlowable()
-                .doOnError { throwable ->
-                    ps.onError(throwable)
-                }
-                .subscribe { response ->
-                    if (response.hasErrors()) {
-                        ps.onError(Exception(response.errors?.first()?.message ?: ""))
-                    }
-
-                    response.data?.let { data ->
-                        data.pledgeProjectsOverview?.let {
-                            pledgedProjectsOverviewEnvelopeTransformer(it)
-                        }?.let {
-                            ps.onNext(it)
-                        }
-                    }
-                    ps.onComplete()
-                }.addToDisposable(disposables)
-            return@defer ps
-        }.subscribeOn(Schedulers.io())
+        return this.service.query(getPledgedProjectsOverviewQuery(inputData))
+            .observe { response ->
+                response.data?.pledgeProjectsOverview?.let { pledgedProjectsOverviewEnvelopeTransformer(it) }
+            }
     }
 
     override suspend fun getCategories(): Result<List<Category>> = executeForResult {
@@ -2244,4 +1508,32 @@ class KSApolloClientV2(val service: ApolloClient, val gson: Gson) : ApolloClient
 
     private fun <T : Any> emitAsObservable(block: suspend () -> T): Observable<T> =
         flow { emit(block()) }.asObservable()
+
+    /**
+     * Executes this call once subscribed and maps every response through [transform].
+     *
+     * The returned observable is cold: each subscriber runs its own request and disposing cancels it, nothing is
+     * retained by the client. GraphQL errors are emitted as `onError` unless [failOnErrors] is false, a `null`
+     * [transform] result completes without emitting and `CacheAndNetwork` calls emit once per response.
+     */
+    private fun <D : Operation.Data, T : Any> ApolloCall<D>.observe(
+        failOnErrors: Boolean = true,
+        transform: (ApolloResponse<D>) -> T?
+    ): Observable<T> {
+        val call = this
+        return Observable.defer {
+            val start = SystemClock.elapsedRealtime()
+            call.toFlow()
+                .mapNotNull { response ->
+                    if (failOnErrors && response.hasErrors()) {
+                        throw Exception(response.errors?.first()?.message)
+                    }
+                    transform(response)
+                }
+                .asObservable()
+                .doFinally {
+                    Timber.d("${call.operation.name()} finished in ${SystemClock.elapsedRealtime() - start}ms")
+                }
+        }.subscribeOn(Schedulers.io())
+    }
 }
@@ -0,0 +1,61 @@
+package com.kickstarter.services.interceptors
+
+import okhttp3.Interceptor
+import okhttp3.Request
+import okhttp3.Response
+import java.io.IOException
+
+/**
+ * Network interceptor that lets the HTTP cache keep slowly changing `ApiServiceV2` GET responses
+ * (categories, config, locations) for a short time.
+ *
+ * Responses the server already marks as fresh or as `no-store` are left untouched. The others get a
+ * `max-age` for their endpoint, and keep their `ETag`, so once stale OkHttp revalidates them with a
+ * conditional request instead of downloading them again.
+ */
+class CacheControlInterceptor : Interceptor {
+
+    @Throws(IOException::class)
+    override fun intercept(chain: Interceptor.Chain): Response {
+        val request = chain.request()
+        val response = chain.proceed(request)
+
+        val maxAgeSeconds = maxAgeSeconds(request) ?: return response
+        if (!response.isSuccessful) return response
+
+        val cacheControl = response.cacheControl
+        if (cacheControl.noStore || cacheControl.maxAgeSeconds > 0) return response
+
+        return response.newBuilder()
+            .removeHeader("Pragma")
+            .header("Cache-Control", "private, max-age=$maxAgeSeconds")
+            // - Responses can differ per user, never serve one user's cached body to another one
+            .header("Vary", varyWithAuth(response.header("Vary")))
+            .build()
+    }
+
+    private fun varyWithAuth(vary: String?): String =
+        if (vary.isNullOrBlank()) AUTH_HEADER
+        else if (vary.split(",").any { it.trim().equals(AUTH_HEADER, ignoreCase = true) }) vary
+        else "$vary, $AUTH_HEADER"
+
+    companion object {
+        private const val AUTH_HEADER = "X-Auth"
+
+        private val CACHEABLE_PATHS = listOf(
+            Regex("^/v1/categories(/[^/]+)?$") to 60 * 60,
+            Regex("^/v1/locations/[^/]+$") to 60 * 60,
+            Regex("^/v1/app/android/config$") to 5 * 60
+        )
+
+        /**
+         * Returns the `max-age` to apply to [request], or `null` when its endpoint should not be cached.
+         */
+        fun maxAgeSeconds(request: Request): Int? {
+            if (request.method != "GET" || request.cacheControl.noStore) return null
+
+            val path = request.url.encodedPath
+            return CACHEABLE_PATHS.firstOrNull { (pattern, _) -> pattern.matches(path) }?.second
+        }
+    }
+}
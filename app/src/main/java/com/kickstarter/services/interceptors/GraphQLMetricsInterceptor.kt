@@ -0,0 +1,56 @@
+package com.kickstarter.services.interceptors
+
+import okhttp3.Interceptor
+import okhttp3.Response
+import okhttp3.ResponseBody.Companion.asResponseBody
+import okio.Buffer
+import okio.ForwardingSource
+import okio.buffer
+import timber.log.Timber
+
+/**
+ * Reports network latency and payload size per GraphQL operation, using the operation name header Apollo
+ * adds to every request. Payload bytes are counted while the response is streamed, nothing is buffered twice.
+ * Installed as a network interceptor so the size is the one on the wire.
+ */
+class GraphQLMetricsInterceptor : Interceptor {
+    override fun intercept(chain: Interceptor.Chain): Response {
+        val request = chain.request()
+        val operationName = request.header(OPERATION_NAME_HEADER) ?: return chain.proceed(request)
+
+        val response = chain.proceed(request)
+        val latencyMs = response.receivedResponseAtMillis - response.sentRequestAtMillis
+        val body = response.body
+
+        val countingSource = object : ForwardingSource(body.source()) {
+            private var payloadBytes = 0L
+            private var reported = false
+
+            override fun read(sink: Buffer, byteCount: Long): Long {
+                val read = super.read(sink, byteCount)
+                if (read == -1L) report() else payloadBytes += read
+                return read
+            }
+
+            override fun close() {
+                report()
+                super.close()
+            }
+
+            private fun report() {
+                if (!reported) {
+                    reported = true
+                    Timber.d("$operationName: ${response.code} in ${latencyMs}ms, $payloadBytes bytes")
+                }
+            }
+        }
+
+        return response.newBuilder()
+            .body(countingSource.buffer().asResponseBody(body.contentType(), body.contentLength()))
+            .build()
+    }
+
+    companion object {
+        const val OPERATION_NAME_HEADER = "X-APOLLO-OPERATION-NAME"
+    }
+}
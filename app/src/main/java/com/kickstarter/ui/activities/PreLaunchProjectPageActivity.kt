@@ -131,7 +131,8 @@ class PreLaunchProjectPageActivity : ComponentActivity() {
                                     projectName = project.name() ?: "",
                                     projectUrl = project.urls()?.web()?.project() ?: "",
                                     imageUrl = project.photo()?.full() ?: "",
-                                    creatorName = project.creator()?.name() ?: ""
+                                    creatorName = project.creator()?.name() ?: "",
+                                    projectId = project.id()
                                 )
                             }
                         } else {
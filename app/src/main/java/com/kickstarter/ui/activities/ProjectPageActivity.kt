@@ -607,7 +607,8 @@ class ProjectPageActivity :
             projectName = project.name(),
             projectUrl = project.webProjectUrl(),
             imageUrl = project.photo()?.full() ?: "",
-            creatorName = project.creator().name()
+            creatorName = project.creator().name(),
+            projectId = project.id()
         )
         binding.socialShareComposeView.isVisible = true
     }
@@ -27,10 +27,9 @@ import androidx.compose.ui.Modifier
 import androidx.compose.ui.platform.LocalContext
 import androidx.compose.ui.res.stringResource
 import androidx.compose.ui.tooling.preview.Preview
-import coil.Coil
-import coil.request.ImageRequest
 import com.kickstarter.R
 import com.kickstarter.libs.Environment
+import com.kickstarter.libs.ImagePipeline
 import com.kickstarter.libs.getCurrencySymbols
 import com.kickstarter.libs.utils.RewardUtils
 import com.kickstarter.libs.utils.RewardViewUtils
@@ -329,14 +328,5 @@ fun AddOnsScreen(
 }
 
 private fun preloadImages(context: Context, rewards: List<Reward>) {
-    val rewardsIterator = rewards.iterator()
-    while (rewardsIterator.hasNext()) {
-        val reward = rewardsIterator.next()
-        reward.image()?.let {
-            val request = ImageRequest.Builder(context)
-                .data(reward.image()?.full())
-                .build()
-            Coil.imageLoader(context).enqueue(request)
-        }
-    }
+    ImagePipeline.prefetch(context, rewards.map { it.image()?.full() })
 }
@@ -14,7 +14,7 @@ import androidx.compose.foundation.layout.padding
 import androidx.compose.foundation.layout.systemBarsPadding
 import androidx.compose.foundation.lazy.LazyListState
 import androidx.compose.foundation.lazy.LazyRow
-import androidx.compose.foundation.lazy.items
+import androidx.compose.foundation.lazy.itemsIndexed
 import androidx.compose.foundation.lazy.rememberLazyListState
 import androidx.compose.material3.Scaffold
 import androidx.compose.material3.Text
@@ -51,12 +51,15 @@ import com.kickstarter.ui.compose.KSRewardCard
 import com.kickstarter.ui.compose.designsystem.KSCircularProgressIndicator
 import com.kickstarter.ui.compose.designsystem.KSTheme
 import com.kickstarter.ui.compose.designsystem.KSTheme.dimensions
+import com.kickstarter.ui.compose.lazyListKeys
 import com.kickstarter.ui.views.compose.checkout.ShippingSelector
 import kotlinx.coroutines.flow.filter
 import kotlinx.coroutines.flow.first
 import org.joda.time.DateTime
 import java.math.RoundingMode
 
+private enum class RewardCarouselContentType { NO_REWARD, REWARD }
+
 enum class RewardCarouselTestTag(val tag: String) {
     REWARD_CAROUSEL("REWARD_CAROUSEL"),
     REWARD_CARD("REWARD_CARD_"), // Use with ID
@@ -136,6 +139,7 @@ fun RewardCarouselScreen(
         MutableInteractionSource()
     }
     val hasScrolledToSecretReward = remember { mutableStateOf(false) }
+    val rewardKeys = remember(rewards) { lazyListKeys(rewards) { it.id() } }
 
     LaunchedEffect(rewards) {
         if (!hasScrolledToSecretReward.value) {
@@ -187,9 +191,13 @@ fun RewardCarouselScreen(
                     ),
                     horizontalArrangement = Arrangement.spacedBy(KSTheme.dimensions.paddingMediumLarge)
                 ) {
-                    items(
+                    itemsIndexed(
                         items = rewards,
-                    ) { reward ->
+                        key = { index, _ -> rewardKeys[index] },
+                        contentType = { _, reward ->
+                            if (RewardUtils.isNoReward(reward)) RewardCarouselContentType.NO_REWARD else RewardCarouselContentType.REWARD
+                        }
+                    ) { _, reward ->
 
                         val selectedLocationId = currentShippingRule.location()?.id()
 
@@ -261,18 +269,21 @@ fun RewardCarouselScreen(
                                 },
                                 image = reward.image(),
                                 isCTAButtonEnabled = ctaButtonEnabled,
-                                includes = if (RewardUtils.isItemized(reward) && !reward.rewardsItems()
-                                    .isNullOrEmpty() && environment.ksString().isNotNull()
-                                ) {
-                                    reward.rewardsItems()?.map { rewardItems ->
-                                        environment.ksString()?.format(
-                                            "rewards_info_item_quantity_title", rewardItems.quantity(),
-                                            "quantity", rewardItems.quantity().toString(),
-                                            "title", rewardItems.item().name()
-                                        ) ?: ""
-                                    } ?: emptyList()
-                                } else {
-                                    emptyList()
+                                // - Remembered so an unchanged reward keeps the same list and its card can skip
+                                includes = remember(reward) {
+                                    if (RewardUtils.isItemized(reward) && !reward.rewardsItems()
+                                        .isNullOrEmpty() && environment.ksString().isNotNull()
+                                    ) {
+                                        reward.rewardsItems()?.map { rewardItems ->
+                                            environment.ksString()?.format(
+                                                "rewards_info_item_quantity_title", rewardItems.quantity(),
+                                                "quantity", rewardItems.quantity().toString(),
+                                                "title", rewardItems.item().name()
+                                            ) ?: ""
+                                        } ?: emptyList()
+                                    } else {
+                                        emptyList()
+                                    }
                                 },
                                 estimatedDelivery = if (reward.estimatedDeliveryOn().isNotNull()) {
                                     DateTimeUtils.estimatedDeliveryOn(requireNotNull(reward.estimatedDeliveryOn()))
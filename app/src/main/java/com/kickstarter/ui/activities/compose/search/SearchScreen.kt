@@ -93,6 +93,7 @@ import com.kickstarter.ui.compose.designsystem.KSTheme.colors
 import com.kickstarter.ui.compose.designsystem.KSTheme.dimensions
 import com.kickstarter.ui.compose.designsystem.KSTheme.typographyV2
 import com.kickstarter.ui.compose.designsystem.KSVideoFeedBanner
+import com.kickstarter.ui.compose.lazyListKeys
 import io.reactivex.Observable
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.launch
@@ -254,6 +255,10 @@ enum class CardProjectState {
     ENDED_UNSUCCESSFUL
 }
 
+private const val VIDEO_FEED_BANNER_KEY = "video_feed_banner"
+
+private enum class SearchListContentType { FEATURED_PROJECT_WITH_TITLE, FEATURED_PROJECT, PROJECT }
+
 fun getCardProjectState(project: Project): CardProjectState {
     return if (project.isSuccessful && !project.isLatePledgesActive())
         CardProjectState.ENDED_SUCCESSFUL
@@ -431,6 +436,8 @@ fun SearchScreen(
 
     val coroutineScope = rememberCoroutineScope()
 
+    val itemKeys = remember(itemsList) { lazyListKeys(itemsList) { it.id() } }
+
     val countApiIsReady = false // Hide all result counts until backend API is ready
 
     val selectedFilterCounts: SnapshotStateMap<String, Int> = remember {
@@ -623,14 +630,26 @@ fun SearchScreen(
                     horizontalAlignment = Alignment.CenterHorizontally,
                 ) {
                     if (isVideoFeedBannerVisible) {
-                        item {
+                        item(key = VIDEO_FEED_BANNER_KEY) {
                             Spacer(modifier = Modifier.height(dimensions.paddingMedium))
                             KSVideoFeedBanner(onButtonClick = onVideoFeedBannerClicked)
                             Spacer(modifier = Modifier.height(dimensions.paddingMedium))
                         }
                     }
 
-                    itemsIndexed(itemsList) { index, project ->
+                    itemsIndexed(
+                        items = itemsList,
+                        // - Keyed by project so a new page or a watch toggle only composes the rows that changed
+                        key = { index, _ -> itemKeys[index] },
+                        // - Same conditions as the layout below, the default list adds a title above the featured card
+                        contentType = { index, _ ->
+                            when {
+                                index == 0 && isDefaultList -> SearchListContentType.FEATURED_PROJECT_WITH_TITLE
+                                index == 0 -> SearchListContentType.FEATURED_PROJECT
+                                else -> SearchListContentType.PROJECT
+                            }
+                        }
+                    ) { index, project ->
                         if (index == 0 && isDefaultList) {
                             Spacer(modifier = Modifier.height(dimensions.paddingMedium))
 
@@ -32,7 +32,7 @@ import com.kickstarter.ui.viewholders.RewardShippedViewHolder
 import com.kickstarter.ui.viewholders.SurveyHeaderViewHolder
 import com.kickstarter.ui.viewholders.SurveyViewHolder
 
-class ActivityFeedAdapter(private val delegate: Delegate?) : KSAdapter() {
+class ActivityFeedAdapter(private val delegate: Delegate?) : KSListAdapter() {
     interface Delegate :
         ErroredBackingViewHolder.Delegate,
         FriendBackingViewHolder.Delegate,
@@ -43,8 +43,8 @@ class ActivityFeedAdapter(private val delegate: Delegate?) : KSAdapter() {
         RewardShippedViewHolder.Delegate
 
     fun takeActivities(activities: List<Activity?>) {
-        setSection(SECTION_ACTIVITIES_VIEW, activities)
-        notifyDataSetChanged()
+        setSection(SECTION_ACTIVITIES_VIEW, activities.filterNotNull())
+        submitList(items())
     }
 
     fun takeErroredBackings(erroredBackings: List<ErroredBacking?>) {
@@ -53,34 +53,35 @@ class ActivityFeedAdapter(private val delegate: Delegate?) : KSAdapter() {
             setSection(SECTION_ERRORED_BACKINGS_VIEW, emptyList<Any>())
         } else {
             setSection(SECTION_ERRORED_BACKINGS_HEADER_VIEW, listOf(erroredBackings.size))
-            setSection(SECTION_ERRORED_BACKINGS_VIEW, erroredBackings)
+            setSection(SECTION_ERRORED_BACKINGS_VIEW, erroredBackings.filterNotNull())
         }
-        notifyDataSetChanged()
+        submitList(items())
     }
 
     fun takeSurveys(surveyResponses: List<SurveyResponse?>) {
         if (surveyResponses.isNotEmpty()) {
             setSection(SECTION_SURVEYS_HEADER_VIEW, listOf(surveyResponses.size))
-            setSection(SECTION_SURVEYS_VIEW, surveyResponses)
+            setSection(SECTION_SURVEYS_VIEW, surveyResponses.filterNotNull())
         } else {
             setSection(SECTION_SURVEYS_HEADER_VIEW, emptyList<Any>())
             setSection(SECTION_SURVEYS_VIEW, emptyList<Any>())
         }
-        notifyDataSetChanged()
+        submitList(items())
     }
 
     fun showLoggedInEmptyState(show: Boolean) {
         setSection(SECTION_LOGGED_IN_EMPTY_VIEW, if (show) listOf(true) else ListUtils.empty())
-        notifyDataSetChanged()
+        submitList(items())
     }
 
     fun showLoggedOutEmptyState(show: Boolean) {
         setSection(SECTION_LOGGED_OUT_EMPTY_VIEW, if (show) listOf(false) else ListUtils.empty())
-        notifyDataSetChanged()
+        submitList(items())
     }
 
     @LayoutRes
-    override fun layout(sectionRow: SectionRow): Int {
+    override fun layout(sectionRow: SectionRow?): Int {
+        if (sectionRow == null) return R.layout.empty_view
         when (sectionRow.section()) {
             SECTION_LOGGED_IN_EMPTY_VIEW -> return R.layout.empty_activity_feed_view
             SECTION_LOGGED_OUT_EMPTY_VIEW -> return R.layout.empty_activity_feed_view
@@ -1,13 +1,11 @@
 package com.kickstarter.ui.adapters
 
-import android.util.Pair
 import android.view.LayoutInflater
 import android.view.ViewGroup
 import androidx.annotation.LayoutRes
 import com.kickstarter.R
 import com.kickstarter.databinding.ProjectCardViewBinding
-import com.kickstarter.models.Project
-import com.kickstarter.services.DiscoveryParams
+import com.kickstarter.ui.data.ProjectCardRow
 import com.kickstarter.ui.viewholders.KSViewHolder
 import com.kickstarter.ui.viewholders.ProjectCardViewHolder
 
@@ -15,10 +13,10 @@ class DiscoveryProjectCardAdapter(private val delegate: Delegate) : KSListAdapte
     interface Delegate :
         ProjectCardViewHolder.Delegate
 
-    fun takeProjects(projects: List<Pair<Project, DiscoveryParams>>) {
+    fun takeProjects(projects: List<ProjectCardRow>) {
         clearSections()
 
-        insertSection(SECTION_PROJECT_CARD_VIEW, emptyList<Pair<Project, DiscoveryParams>>())
+        insertSection(SECTION_PROJECT_CARD_VIEW, emptyList<ProjectCardRow>())
         setSection(SECTION_PROJECT_CARD_VIEW, projects)
 
         submitList(items())
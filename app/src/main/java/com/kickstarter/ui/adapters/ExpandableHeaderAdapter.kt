@@ -13,13 +13,13 @@ import com.kickstarter.ui.viewholders.EmptyViewHolder
 import com.kickstarter.ui.viewholders.ExpandableHeaderViewHolder
 import com.kickstarter.ui.viewholders.KSViewHolder
 
-class ExpandableHeaderAdapter : KSAdapter() {
+class ExpandableHeaderAdapter : KSListAdapter() {
     init {
         insertSection(SECTION_REWARD_SUMMARY, emptyList<Pair<Project, Reward>>())
     }
 
-    override fun layout(sectionRow: SectionRow): Int {
-        return when (sectionRow.section()) {
+    override fun layout(sectionRow: SectionRow?): Int {
+        return when (sectionRow?.section()) {
             SECTION_REWARD_SUMMARY -> R.layout.expandable_header_item
             else -> 0
         }
@@ -35,7 +35,7 @@ class ExpandableHeaderAdapter : KSAdapter() {
     fun populateData(rewards: List<Pair<Project, Reward>>) {
         if (rewards != null) {
             setSection(SECTION_REWARD_SUMMARY, rewards)
-            notifyDataSetChanged()
+            submitList(items())
         }
     }
 
@@ -0,0 +1,85 @@
+package com.kickstarter.ui.adapters
+
+import android.annotation.SuppressLint
+import android.util.Pair
+import androidx.recyclerview.widget.DiffUtil
+import com.kickstarter.models.Activity
+import com.kickstarter.models.Message
+import com.kickstarter.models.MessageThread
+import com.kickstarter.models.Project
+import com.kickstarter.models.Relay
+import com.kickstarter.models.Update
+import com.kickstarter.ui.data.ProjectCardRow
+import java.util.EnumSet
+
+/**
+ * Change payloads of a project row, a card already on screen only patches the views listed.
+ */
+enum class ProjectCardPayload {
+    WATCH,
+    PLEDGED,
+    BACKERS
+}
+
+/**
+ * Default diff contract for the section rows of a [KSListAdapter].
+ *
+ * - Rows are the same item when they share a stable id: models are keyed by their type and id, pairs by
+ *   the ids of both elements, [ProjectCardRow]s like the project and params pair they were built from,
+ *   anything else by equality.
+ * - Contents are compared by reference before falling back to `equals`, rows carried over untouched from
+ *   the previous list never pay for a deep comparison.
+ * - Project rows that only differ in watch state, pledged amount or backers count report the set of
+ *   [ProjectCardPayload]s that changed, every other change rebinds the row.
+ */
+open class KSDiffCallback : DiffUtil.ItemCallback<Any>() {
+    private data class StableId(val type: Class<*>, val id: Long)
+
+    override fun areItemsTheSame(oldItem: Any, newItem: Any) = stableId(oldItem) == stableId(newItem)
+
+    @SuppressLint("DiffUtilEquals")
+    override fun areContentsTheSame(oldItem: Any, newItem: Any) = oldItem === newItem || oldItem == newItem
+
+    override fun getChangePayload(oldItem: Any, newItem: Any): Any {
+        return projectPayloads(oldItem, newItem) ?: false
+    }
+
+    private fun stableId(item: Any?): Any? = when (item) {
+        is Relay -> StableId(item.javaClass, item.id())
+        is Activity -> StableId(Activity::class.java, item.id())
+        is Message -> StableId(Message::class.java, item.id())
+        is MessageThread -> StableId(MessageThread::class.java, item.id())
+        is Update -> StableId(Update::class.java, item.id())
+        is Pair<*, *> -> Pair.create(stableId(item.first), stableId(item.second))
+        is ProjectCardRow -> Pair.create(stableId(item.project), stableId(item.params))
+        else -> item
+    }
+
+    private fun projectPayloads(oldItem: Any, newItem: Any): Set<ProjectCardPayload>? {
+        val (oldProject, newProject) = when {
+            oldItem is Project && newItem is Project -> oldItem to newItem
+            oldItem is ProjectCardRow && newItem is ProjectCardRow && oldItem.params == newItem.params ->
+                oldItem.project to newItem.project
+            oldItem is Pair<*, *> && newItem is Pair<*, *> && oldItem.second == newItem.second -> {
+                val oldFirst = oldItem.first as? Project ?: return null
+                val newFirst = newItem.first as? Project ?: return null
+                oldFirst to newFirst
+            }
+            else -> return null
+        }
+
+        val payloads = EnumSet.noneOf(ProjectCardPayload::class.java)
+        if (oldProject.isStarred() != newProject.isStarred()) payloads.add(ProjectCardPayload.WATCH)
+        if (oldProject.pledged() != newProject.pledged()) payloads.add(ProjectCardPayload.PLEDGED)
+        if (oldProject.backersCount() != newProject.backersCount()) payloads.add(ProjectCardPayload.BACKERS)
+        if (payloads.isEmpty()) return null
+
+        // - Only patch when nothing else changed, otherwise the whole card has to be rebound
+        val patched = oldProject.toBuilder()
+            .isStarred(newProject.isStarred())
+            .pledged(newProject.pledged())
+            .backersCount(newProject.backersCount())
+            .build()
+        return if (patched == newProject) payloads else null
+    }
+}
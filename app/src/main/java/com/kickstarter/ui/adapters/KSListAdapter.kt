@@ -1,6 +1,5 @@
 package com.kickstarter.ui.adapters
 
-import android.annotation.SuppressLint
 import android.view.LayoutInflater
 import android.view.View
 import android.view.ViewGroup
@@ -12,19 +11,21 @@ import com.kickstarter.BuildConfig
 import com.kickstarter.libs.utils.ExceptionUtils
 import com.kickstarter.ui.viewholders.KSViewHolder
 import java.util.ArrayList
+import java.util.Arrays
 
+/**
+ * Sectioned [ListAdapter]. Subclasses fill the sections and call `submitList(items())`; the diff runs on the
+ * differ's background thread and rows are bound from the list committed by the differ, so positions are
+ * always consistent with what the RecyclerView was told about.
+ */
 abstract class KSListAdapter(
-    diffUtil: DiffUtil.ItemCallback<Any> = object : DiffUtil.ItemCallback<Any>() {
-        override fun areItemsTheSame(oldItem: Any, newItem: Any) = oldItem == newItem
-
-        @SuppressLint("DiffUtilEquals")
-        override fun areContentsTheSame(oldItem: Any, newItem: Any) = oldItem == newItem
-
-        override fun getChangePayload(oldItem: Any, newItem: Any) = false
-    }
+    diffUtil: DiffUtil.ItemCallback<Any> = KSDiffCallback()
 ) : ListAdapter<Any, KSViewHolder>(diffUtil) {
     private val sections = ArrayList<List<Any>>()
 
+    // - sectionOffsets[i] is the position of the first row of section i in the committed list
+    private var sectionOffsets = IntArray(1)
+
     fun sections(): List<List<Any>> {
         return this.sections
     }
@@ -52,6 +53,24 @@ abstract class KSListAdapter(
         return items
     }
 
+    override fun submitList(list: List<Any>?) {
+        submitList(list, null)
+    }
+
+    override fun submitList(list: List<Any>?, commitCallback: Runnable?) {
+        val offsets = IntArray(sections.size + 1)
+        sections.forEachIndexed { index, section ->
+            offsets[index + 1] = offsets[index] + section.size
+        }
+        // - Lists that don't come from items() can't be mapped back to sections, treat them as a single one
+        val committedOffsets = if (offsets.last() == (list?.size ?: 0)) offsets else intArrayOf(0, list?.size ?: 0)
+
+        super.submitList(list) {
+            sectionOffsets = committedOffsets
+            commitCallback?.run()
+        }
+    }
+
     fun <T> setSection(location: Int, section: List<T>) {
         this.sections[location] = ArrayList<Any>(section)
     }
@@ -84,11 +103,20 @@ abstract class KSListAdapter(
     }
 
     override fun onBindViewHolder(viewHolder: KSViewHolder, position: Int) {
+        onBindViewHolder(viewHolder, position, mutableListOf())
+    }
+
+    override fun onBindViewHolder(viewHolder: KSViewHolder, position: Int, payloads: MutableList<Any>) {
         val data = objectFromPosition(position)
 
         try {
             data?.let {
-                viewHolder.bindData(data)
+                // - `false` is the placeholder payload of rows that changed without a patch available
+                val patches = payloads.filter { it != false }
+                if (patches.isEmpty() || !viewHolder.bindPayloads(data, patches)) {
+                    viewHolder.bindData(data)
+                    viewHolder.onBind()
+                }
             }
         } catch (e: Exception) {
             if (BuildConfig.DEBUG) {
@@ -105,15 +133,11 @@ abstract class KSListAdapter(
         return layout(sectionRowFromPosition(position))
     }
 
-    override fun getItemCount(): Int {
-        return items().size
-    }
-
     /**
      * Gets the data object associated with a sectionRow.
      */
     protected fun objectFromSectionRow(sectionRow: SectionRow): Any {
-        return this.sections[sectionRow.section()][sectionRow.row()]
+        return getItem(sectionOffsets[sectionRow.section()] + sectionRow.row())
     }
 
     protected fun sectionCount(section: Int): Int {
@@ -126,26 +150,26 @@ abstract class KSListAdapter(
      * Gets the data object associated with a position.
      */
     protected fun objectFromPosition(position: Int): Any? {
-        sectionRowFromPosition(position)?.let {
-            return objectFromSectionRow(it)
+        if (position < 0 || position >= itemCount) {
+            return null
         }
-        return null
+        return getItem(position)
     }
 
     private fun sectionRowFromPosition(position: Int): SectionRow? {
-        val sectionRow = SectionRow()
-        var cursor = 0
-        for (section in this.sections) {
-            for (item in section) {
-                if (cursor == position) {
-                    return sectionRow
-                }
-                cursor++
-                sectionRow.nextRow()
+        if (position < 0 || position >= itemCount) {
+            return null
+        }
+        // - Empty sections share their offset with the next one, the row belongs to the last of them
+        var section = Arrays.binarySearch(sectionOffsets, position)
+        if (section < 0) {
+            section = -section - 2
+        } else {
+            while (section + 1 < sectionOffsets.size - 1 && sectionOffsets[section + 1] == position) {
+                section++
             }
-            sectionRow.nextSection()
         }
-        return null
+        return SectionRow(section, position - sectionOffsets[section])
     }
 
     private fun inflateView(viewGroup: ViewGroup, @LayoutRes viewType: Int): View {
@@ -13,14 +13,14 @@ import com.kickstarter.ui.viewholders.AddOnViewHolder
 import com.kickstarter.ui.viewholders.EmptyViewHolder
 import com.kickstarter.ui.viewholders.KSViewHolder
 
-class RewardAndAddOnsAdapter : KSAdapter() {
+class RewardAndAddOnsAdapter : KSListAdapter() {
 
     init {
         insertSection(SECTION_REWARD_CARD, emptyList<Reward>())
         insertSection(SECTION_ADD_ONS_CARD, emptyList<Reward>())
     }
 
-    override fun layout(sectionRow: SectionRow): Int = when (sectionRow.section()) {
+    override fun layout(sectionRow: SectionRow?): Int = when (sectionRow?.section()) {
         SECTION_REWARD_CARD,
         SECTION_ADD_ONS_CARD -> R.layout.item_add_on
         else -> 0
@@ -35,12 +35,12 @@ class RewardAndAddOnsAdapter : KSAdapter() {
 
     fun populateDataForAddOns(rewards: List<Pair<ProjectData, Reward>>) {
         setSection(SECTION_ADD_ONS_CARD, rewards)
-        notifyDataSetChanged()
+        submitList(items())
     }
 
     fun populateDataForReward(reward: Pair<ProjectData, Reward>) {
         setSection(SECTION_REWARD_CARD, listOf(reward))
-        notifyDataSetChanged()
+        submitList(items())
     }
 
     companion object {
@@ -13,6 +13,7 @@ import com.kickstarter.databinding.ProjectCardViewBinding;
 import com.kickstarter.databinding.ThanksCategoryViewBinding;
 import com.kickstarter.databinding.ThanksShareViewBinding;
 import com.kickstarter.ui.adapters.data.ThanksData;
+import com.kickstarter.ui.data.ProjectCardRow;
 import com.kickstarter.ui.viewholders.EmptyViewHolder;
 import com.kickstarter.ui.viewholders.KSViewHolder;
 import com.kickstarter.ui.viewholders.ProjectCardViewHolder;
@@ -63,7 +64,7 @@ public final class ThanksAdapter extends KSAdapter {
 
   public void takeData(final @NonNull ThanksData data) {
     setSection(SECTION_SHARE_VIEW, Collections.singletonList(Pair.create(data.getBackedProject(), data.getCheckoutData())));
-    setSection(SECTION_RECOMMENDED_PROJECTS_VIEW, data.getRecommendedProjects());
+    setSection(SECTION_RECOMMENDED_PROJECTS_VIEW, ProjectCardRow.fromProjects(data.getRecommendedProjects()));
     setSection(SECTION_CATEGORY_VIEW, Collections.singletonList(data.getCategory()));
     notifyDataSetChanged();
   }
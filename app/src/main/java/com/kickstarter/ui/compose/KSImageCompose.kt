@@ -3,6 +3,7 @@ package com.kickstarter.ui.compose
 import android.content.res.Configuration
 import androidx.compose.foundation.Image
 import androidx.compose.foundation.background
+import androidx.compose.foundation.layout.BoxWithConstraints
 import androidx.compose.foundation.layout.Column
 import androidx.compose.foundation.layout.aspectRatio
 import androidx.compose.foundation.layout.fillMaxWidth
@@ -26,7 +27,9 @@ import androidx.compose.ui.tooling.preview.Preview
 import coil.compose.AsyncImage
 import coil.compose.rememberAsyncImagePainter
 import coil.request.ImageRequest
+import coil.size.Precision
 import com.kickstarter.R
+import com.kickstarter.libs.ImagePipeline
 import com.kickstarter.models.Photo
 import com.kickstarter.ui.compose.designsystem.KSTheme
 import com.kickstarter.ui.compose.designsystem.KSTheme.colors
@@ -72,21 +75,38 @@ fun KSRewardAsyncImage(image: Photo) {
     )
 }
 
+/**
+ * Decodes at the [ImagePipeline.sizeBucket] covering the space the image is laid out in, so this and the view
+ * based project cards reuse the same bitmap in memory.
+ */
 @Composable
 fun KSAsyncImage(modifier: Modifier, image: Photo?) {
-    AsyncImage(
-        model = image?.let {
-            ImageRequest.Builder(LocalContext.current)
-                .data(image.full())
-                .crossfade(true)
-                .build()
-        },
-        contentDescription = image?.altText(),
-        modifier = modifier,
-        placeholder = ColorPainter(color = colors.backgroundDisabled),
-        error = ColorPainter(color = colors.backgroundDisabled),
-        contentScale = ContentScale.Crop
-    )
+    val context = LocalContext.current
+
+    BoxWithConstraints(modifier = modifier, propagateMinConstraints = true) {
+        val width = if (constraints.hasBoundedWidth) ImagePipeline.sizeBucket(constraints.maxWidth) else null
+        val height = if (constraints.hasBoundedHeight) ImagePipeline.sizeBucket(constraints.maxHeight) else null
+        val url = image?.full()
+
+        val model = remember(url, width, height) {
+            url?.let {
+                ImageRequest.Builder(context)
+                    .data(it)
+                    .apply { if (width != null && height != null) size(width, height) }
+                    .precision(Precision.INEXACT)
+                    .crossfade(true)
+                    .build()
+            }
+        }
+
+        AsyncImage(
+            model = model,
+            contentDescription = image?.altText(),
+            placeholder = ColorPainter(color = colors.backgroundDisabled),
+            error = ColorPainter(color = colors.backgroundDisabled),
+            contentScale = ContentScale.Crop
+        )
+    }
 }
 
 @Composable
@@ -0,0 +1,15 @@
+package com.kickstarter.ui.compose
+
+/**
+ * Keys for the items of a lazy list, from their [id]s. Lazy lists crash on a repeated key, and the same item can
+ * show up twice (a project shifting between two search pages, previews built from one factory), so every repeat of
+ * an id gets its occurrence appended. Items without an id, or not loaded yet, are keyed by their position.
+ */
+fun <T : Any> lazyListKeys(items: List<T?>, id: (T) -> Any?): List<String> {
+    val occurrences = HashMap<String, Int>()
+    return items.mapIndexed { index, item ->
+        val base = item?.let(id)?.toString() ?: "position_$index"
+        val occurrence = occurrences.merge(base, 1, Int::plus) ?: 1
+        if (occurrence == 1) base else "$base#$occurrence"
+    }
+}
@@ -1,6 +1,7 @@
 package com.kickstarter.ui.compose.designsystem.videoplayer
 
 import android.graphics.Matrix
+import android.os.SystemClock
 import android.view.TextureView
 import android.view.View
 import android.view.ViewGroup
@@ -200,6 +201,22 @@ private class TextureViewListeners(
     val layoutListener: View.OnLayoutChangeListener
 )
 
+/**
+ * Start-up and stall counters of the period a player is active: when it was activated, when it drew its
+ * first frame and how many times it went back to buffering afterwards.
+ */
+private class PlaybackStats {
+    var activatedAtMs = 0L
+    var firstFrameAtMs = 0L
+    var rebufferCount = 0
+
+    fun timeToFirstFrameMs(): Long = when {
+        firstFrameAtMs == 0L -> -1L
+        // - A preloaded player can draw its first frame before it becomes the active page
+        else -> (firstFrameAtMs - activatedAtMs).coerceAtLeast(0L)
+    }
+}
+
 /**
  * A full-screen video player component that utilizes [ExoPlayer] to render video content.
  * It supports automatic playback based on lifecycle/visibility, interactive playback controls,
@@ -230,6 +247,8 @@ private class TextureViewListeners(
  * @param onMuteToggle Invoked when the user taps the mute/unmute button, with the resulting mute
  * state (true = now muted). The caller owns the mute state and should apply the reported value to
  * [isMuted].
+ * @param onPlaybackStats Invoked when the player stops being active, with the time from activation to its
+ * first rendered frame (-1 if none was rendered) and how many times playback stalled to rebuffer after that.
  */
 @Composable
 fun KSVideoPlayer(
@@ -245,7 +264,8 @@ fun KSVideoPlayer(
     onPlayPauseToggle: (isPlaying: Boolean) -> Unit = {},
     onProgressBarInteraction: (currentProgress: Float) -> Unit = {},
     onBecameInactive: (watchTimeMs: Long, videoDurationMs: Long) -> Unit = { _, _ -> },
-    onPlaybackError: (error: PlaybackException, isActive: Boolean) -> Unit = { _, _ -> }
+    onPlaybackError: (error: PlaybackException, isActive: Boolean) -> Unit = { _, _ -> },
+    onPlaybackStats: (timeToFirstFrameMs: Long, rebufferCount: Int) -> Unit = { _, _ -> }
 ) {
     if (videoUrl.isEmpty()) return // TODO: Check video format of the url on the VM
     val context = LocalContext.current
@@ -285,6 +305,7 @@ fun KSVideoPlayer(
     val onProgressBarInteractionState = rememberUpdatedState(onProgressBarInteraction)
     val onBecameInactiveState = rememberUpdatedState(onBecameInactive)
     val onPlaybackErrorState = rememberUpdatedState(onPlaybackError)
+    val onPlaybackStatsState = rememberUpdatedState(onPlaybackStats)
     val isActiveState = rememberUpdatedState(isActive)
 
     DisposableEffect(lifecycleOwner) {
@@ -576,13 +597,35 @@ fun KSVideoPlayer(
         onDispose { exoPlayer.removeListener(errorListener) }
     }
 
+    val playbackStats = remember(exoPlayer) { PlaybackStats() }
+    DisposableEffect(exoPlayer) {
+        val statsListener = object : Player.Listener {
+            override fun onRenderedFirstFrame() {
+                if (playbackStats.firstFrameAtMs == 0L) playbackStats.firstFrameAtMs = SystemClock.elapsedRealtime()
+            }
+
+            override fun onPlaybackStateChanged(playbackState: Int) {
+                if (playbackState == Player.STATE_BUFFERING && isActiveState.value && playbackStats.firstFrameAtMs != 0L) {
+                    playbackStats.rebufferCount++
+                }
+            }
+        }
+        exoPlayer.addListener(statsListener)
+        onDispose { exoPlayer.removeListener(statsListener) }
+    }
+
     DisposableEffect(isActive) {
+        if (isActive) {
+            playbackStats.activatedAtMs = SystemClock.elapsedRealtime()
+            playbackStats.rebufferCount = 0
+        }
         onDispose {
             if (isActive) {
                 onBecameInactiveState.value(
                     exoPlayer.currentPosition,
                     exoPlayer.duration.coerceAtLeast(0L)
                 )
+                onPlaybackStatsState.value(playbackStats.timeToFirstFrameMs(), playbackStats.rebufferCount)
             }
         }
     }
@@ -0,0 +1,164 @@
+package com.kickstarter.ui.data
+
+import android.util.Pair
+import androidx.annotation.DrawableRes
+import androidx.annotation.StringRes
+import com.kickstarter.R
+import com.kickstarter.libs.utils.NumberUtils
+import com.kickstarter.libs.utils.ProgressBarUtils
+import com.kickstarter.libs.utils.extensions.ProjectMetadata
+import com.kickstarter.libs.utils.extensions.deadlineCountdownValue
+import com.kickstarter.libs.utils.extensions.isCompleted
+import com.kickstarter.libs.utils.extensions.metadataForProject
+import com.kickstarter.models.Project
+import com.kickstarter.models.User
+import com.kickstarter.models.extensions.replaceSmallImageWithMediumIfEmpty
+import com.kickstarter.services.DiscoveryParams
+import org.joda.time.DateTime
+
+/**
+ * Display ready state of a project card, computed once per project and discovery params so that binding a card
+ * only sets views. Strings that need a `Context` (relative dates, countdown unit, friends namepile) are formatted
+ * at bind time from [project], [stateChangedAt] and [friends].
+ */
+data class ProjectCardRow(
+    val project: Project,
+    val params: DiscoveryParams,
+    val name: String,
+    val blurb: String,
+    val photoUrl: String?,
+    val backersCount: String,
+    val percentageFunded: String,
+    val percentageFundedProgress: Int,
+    val deadlineCountdown: String,
+    @DrawableRes val heartDrawable: Int,
+    val statsViewGroupIsGone: Boolean,
+    val backingViewGroupIsGone: Boolean,
+    val comingSoonViewGroupIsGone: Boolean,
+    val featuredViewGroupIsGone: Boolean,
+    val savedViewGroupIsGone: Boolean,
+    val metadataViewGroupIsGone: Boolean,
+    @DrawableRes val metadataViewGroupBackground: Int,
+    val rootCategoryName: String?,
+    val subcategoryName: String?,
+    val subcategoryIsGone: Boolean,
+    val weLoveIsGone: Boolean,
+    val tagContainerIsGone: Boolean,
+    val locationName: String?,
+    val locationContainerIsGone: Boolean,
+    val friends: List<User>,
+    val friendAvatarUrls: List<String>,
+    val friendBackingViewIsGone: Boolean,
+    val projectStateViewGroupIsGone: Boolean,
+    val fundingSuccessfulViewGroupIsGone: Boolean,
+    val fundingUnsuccessfulViewGroupIsGone: Boolean,
+    @StringRes val fundingUnsuccessfulStatus: Int?,
+    val stateChangedAt: DateTime?
+) {
+    val imageIsInvisible: Boolean
+        get() = photoUrl == null
+
+    val friendAvatar2IsGone: Boolean
+        get() = friends.size < 2
+
+    val friendAvatar3IsGone: Boolean
+        get() = friends.size < 3
+
+    /** Cards without a metadata label keep the default spacing. */
+    val setDefaultTopPadding: Boolean
+        get() = metadataViewGroupIsGone
+
+    companion object {
+        @JvmStatic
+        fun from(project: Project, params: DiscoveryParams): ProjectCardRow {
+            val metadata = project.metadataForProject()
+            val category = project.category()
+            val paramsCategory = params.category()
+            val location = project.location()
+            val isFriendBacking = project.isFriendBacking()
+            val state = project.state()
+
+            val subcategoryIsGone = category == null || (paramsCategory != null && paramsCategory.id() == category.id())
+            val weLoveIsGone = !(project.staffPick() == true && params.staffPicks() != true)
+            val backingViewGroupIsGone = metadata != ProjectMetadata.BACKING
+            val comingSoonViewGroupIsGone = metadata != ProjectMetadata.COMING_SOON
+
+            return ProjectCardRow(
+                project = project,
+                params = params,
+                name = project.name(),
+                blurb = project.blurb(),
+                photoUrl = project.photo()?.full(),
+                backersCount = NumberUtils.format(project.backersCount()),
+                percentageFunded = NumberUtils.flooredPercentage(project.percentageFunded()),
+                percentageFundedProgress = ProgressBarUtils.progress(
+                    if (state == Project.STATE_LIVE || state == Project.STATE_SUCCESSFUL) project.percentageFunded() else 0.0f
+                ),
+                deadlineCountdown = NumberUtils.format(project.deadlineCountdownValue()),
+                heartDrawable = if (project.isStarred()) R.drawable.icon__heart else R.drawable.icon__heart_outline,
+                statsViewGroupIsGone = state != Project.STATE_LIVE,
+                backingViewGroupIsGone = backingViewGroupIsGone,
+                comingSoonViewGroupIsGone = comingSoonViewGroupIsGone,
+                featuredViewGroupIsGone = metadata != ProjectMetadata.CATEGORY_FEATURED,
+                savedViewGroupIsGone = metadata != ProjectMetadata.SAVING,
+                metadataViewGroupIsGone = metadata == ProjectMetadata.NONE,
+                metadataViewGroupBackground = if (backingViewGroupIsGone && comingSoonViewGroupIsGone) {
+                    R.drawable.rect_white_grey_stroke
+                } else {
+                    R.drawable.rect_green_grey_stroke
+                },
+                rootCategoryName = category?.root()?.name(),
+                subcategoryName = category?.name(),
+                subcategoryIsGone = subcategoryIsGone,
+                weLoveIsGone = weLoveIsGone,
+                tagContainerIsGone = subcategoryIsGone && weLoveIsGone,
+                locationName = location?.displayableName(),
+                locationContainerIsGone = !(params.tagId() != null && params.tagId() == Editorial.LIGHTS_ON.tagId && location != null),
+                friends = if (isFriendBacking) project.friends() else emptyList(),
+                friendAvatarUrls = if (isFriendBacking) {
+                    project.friends().take(3)
+                        .map { it.avatar().replaceSmallImageWithMediumIfEmpty() }
+                        .filter { it.isNotEmpty() }
+                } else {
+                    emptyList()
+                },
+                friendBackingViewIsGone = !isFriendBacking,
+                projectStateViewGroupIsGone = !project.isCompleted(),
+                fundingSuccessfulViewGroupIsGone = state != Project.STATE_SUCCESSFUL,
+                fundingUnsuccessfulViewGroupIsGone = state != Project.STATE_CANCELED &&
+                    state != Project.STATE_FAILED &&
+                    state != Project.STATE_SUSPENDED,
+                fundingUnsuccessfulStatus = when (state) {
+                    Project.STATE_CANCELED -> R.string.discovery_baseball_card_status_banner_canceled
+                    Project.STATE_FAILED -> R.string.dashboard_creator_project_funding_unsuccessful
+                    else -> null
+                },
+                stateChangedAt = when (state) {
+                    Project.STATE_CANCELED,
+                    Project.STATE_FAILED,
+                    Project.STATE_SUCCESSFUL,
+                    Project.STATE_SUSPENDED -> project.stateChangedAt() ?: DateTime()
+                    else -> null
+                }
+            )
+        }
+
+        /**
+         * Builds the rows of a list of projects, rows of [previous] are carried over for the projects and params that
+         * didn't change so that a new page only pays for the projects it adds.
+         */
+        @JvmStatic
+        @JvmOverloads
+        fun fromProjects(
+            projects: List<Pair<Project, DiscoveryParams>>,
+            previous: List<ProjectCardRow> = emptyList()
+        ): List<ProjectCardRow> {
+            val previousRows = previous.associateBy { it.project.id() }
+            return projects.map { pair ->
+                previousRows[pair.first.id()]
+                    ?.takeIf { it.project === pair.first && it.params == pair.second }
+                    ?: from(pair.first, pair.second)
+            }
+        }
+    }
+}
@@ -7,6 +7,10 @@ import android.graphics.drawable.ColorDrawable
 import android.graphics.drawable.Drawable
 import android.widget.ImageView
 import androidx.appcompat.widget.AppCompatImageView
+import coil.load
+import coil.size.Precision
+import coil.size.Scale
+import coil.transform.CircleCropTransformation
 import com.bumptech.glide.Glide
 import com.bumptech.glide.integration.webp.decoder.WebpDrawable
 import com.bumptech.glide.integration.webp.decoder.WebpDrawableTransformation
@@ -17,10 +21,10 @@ import com.bumptech.glide.load.model.LazyHeaders
 import com.bumptech.glide.load.resource.bitmap.DownsampleStrategy
 import com.bumptech.glide.load.resource.bitmap.RoundedCorners
 import com.bumptech.glide.request.RequestListener
-import com.bumptech.glide.request.RequestOptions
 import com.bumptech.glide.request.target.Target
 import com.google.firebase.crashlytics.FirebaseCrashlytics
 import com.kickstarter.R
+import com.kickstarter.libs.ImagePipeline
 import com.kickstarter.libs.utils.extensions.header
 import com.kickstarter.libs.utils.extensions.isKSApplication
 import com.kickstarter.libs.utils.extensions.userAgent
@@ -30,23 +34,15 @@ fun ImageView.loadCircleImage(url: String?) {
     url?.let {
         try {
             if (it.isBlank()) { // - load with drawable
-                Glide.with(context)
-                    .load(ColorDrawable(Color.TRANSPARENT))
-                    .circleCrop()
-                    .into(this)
+                load(ColorDrawable(Color.TRANSPARENT)) {
+                    transformations(CircleCropTransformation())
+                }
             } else { // - load with url string
-                val glideUrl = GlideUrl(
-                    it,
-                    LazyHeaders.Builder()
-                        .addHeader(header, context.userAgent())
-                        .build()
-                )
-                Glide.with(context)
-                    .load(glideUrl)
-                    .placeholder(ColorDrawable(Color.TRANSPARENT))
-                    .diskCacheStrategy(DiskCacheStrategy.RESOURCE)
-                    .circleCrop()
-                    .into(this)
+                load(it) {
+                    addHeader(header, context.userAgent())
+                    placeholder(ColorDrawable(Color.TRANSPARENT))
+                    transformations(CircleCropTransformation())
+                }
             }
         } catch (e: Exception) {
             // - Empty by default in case or error
@@ -60,17 +56,10 @@ fun ImageView.loadCircleImage(url: String?) {
 fun ImageView.loadImage(url: String?) {
     url?.let {
         try {
-            val glideUrl = GlideUrl(
-                it,
-                LazyHeaders.Builder()
-                    .addHeader(header, context.userAgent())
-                    .build()
-            )
-            Glide.with(context)
-                .load(glideUrl)
-                .placeholder(ColorDrawable(Color.TRANSPARENT))
-                .diskCacheStrategy(DiskCacheStrategy.RESOURCE)
-                .into(this)
+            load(it) {
+                addHeader(header, context.userAgent())
+                placeholder(ColorDrawable(Color.TRANSPARENT))
+            }
         } catch (e: Exception) {
             this.setImageResource(R.drawable.image_placeholder)
             FirebaseCrashlytics.getInstance().setCustomKey("ImageView.loadImage", " with url: $it ${e.message ?: ""}")
@@ -79,6 +68,10 @@ fun ImageView.loadImage(url: String?) {
     }
 }
 
+/**
+ * Loads [url] decoded at the size bucket covering [targetImageWidth] x [targetImageHeight], so cards showing the
+ * same image at close sizes, here or in Compose, reuse the bitmap already in memory.
+ */
 fun ImageView.loadImageWithResize(
     url: String?,
     targetImageWidth: Int,
@@ -87,19 +80,13 @@ fun ImageView.loadImageWithResize(
 ) {
     url?.let {
         try {
-            val glideUrl = GlideUrl(
-                it,
-                LazyHeaders.Builder()
-                    .addHeader(header, context.userAgent())
-                    .build()
-            )
-            Glide.with(context)
-                .load(glideUrl)
-                .diskCacheStrategy(DiskCacheStrategy.RESOURCE)
-                .apply(RequestOptions().override(targetImageWidth, targetImageHeight))
-                .centerCrop()
-                .placeholder(placeholder)
-                .into(this)
+            load(it) {
+                addHeader(header, context.userAgent())
+                size(ImagePipeline.sizeBucket(targetImageWidth), ImagePipeline.sizeBucket(targetImageHeight))
+                precision(Precision.INEXACT)
+                scale(Scale.FILL)
+                placeholder(placeholder)
+            }
         } catch (e: Exception) {
             this.setImageResource(R.drawable.image_placeholder)
             FirebaseCrashlytics.getInstance().setCustomKey("ImageView.loadImageWithResize", " with url: $it ${e.message ?: ""}")
@@ -107,6 +94,7 @@ fun ImageView.loadImageWithResize(
         }
     }
 }
+
 fun ImageView.loadImage(url: String?, context: Context, imageZoomablePlaceholder: AppCompatImageView? = null) {
     url?.let {
         val targetView = this
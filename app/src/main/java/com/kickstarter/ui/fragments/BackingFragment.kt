@@ -23,12 +23,11 @@ import androidx.fragment.app.Fragment
 import androidx.fragment.app.viewModels
 import androidx.recyclerview.widget.LinearLayoutManager
 import androidx.recyclerview.widget.RecyclerView
-import coil.Coil
-import coil.request.ImageRequest
 import com.kickstarter.R
 import com.kickstarter.databinding.FragmentBackingBinding
 import com.kickstarter.libs.Either
 import com.kickstarter.libs.Environment
+import com.kickstarter.libs.ImagePipeline
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.ViewUtils
 import com.kickstarter.libs.utils.extensions.addToDisposable
@@ -600,16 +599,7 @@ class BackingFragment : Fragment() {
     }
 
     private fun preloadImages(rewards: List<Reward>) {
-        val rewardsIterator = rewards.iterator()
-        while (rewardsIterator.hasNext()) {
-            val reward = rewardsIterator.next()
-            reward.image()?.let {
-                val request = ImageRequest.Builder(requireContext())
-                    .data(reward.image()?.full())
-                    .build()
-                Coil.imageLoader(requireContext()).enqueue(request)
-            }
-        }
+        ImagePipeline.prefetch(requireContext(), rewards.map { it.image()?.full() })
     }
 
     override fun onDetach() {
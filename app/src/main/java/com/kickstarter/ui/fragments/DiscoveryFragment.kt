@@ -16,10 +16,12 @@ import androidx.lifecycle.lifecycleScope
 import androidx.lifecycle.repeatOnLifecycle
 import androidx.recyclerview.widget.ConcatAdapter
 import androidx.recyclerview.widget.LinearLayoutManager
+import com.kickstarter.BuildConfig
 import com.kickstarter.R
 import com.kickstarter.databinding.FragmentDiscoveryBinding
 import com.kickstarter.libs.ActivityRequestCodes
 import com.kickstarter.libs.RefTag
+import com.kickstarter.libs.recyclerviewpagination.RecyclerViewFrameTimer
 import com.kickstarter.libs.recyclerviewpagination.RecyclerViewPaginatorV2
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.AnimationUtils.crossFadeAndReverse
@@ -59,6 +61,7 @@ import kotlinx.coroutines.launch
 class DiscoveryFragment : Fragment() {
     private var heartsAnimation: AnimatorSet? = null
     private var recyclerViewPaginator: RecyclerViewPaginatorV2? = null
+    private var frameTimer: RecyclerViewFrameTimer? = null
 
     private var binding: FragmentDiscoveryBinding? = null
     private var discoveryEditorialAdapter: DiscoveryEditorialAdapter? = null
@@ -103,6 +106,9 @@ class DiscoveryFragment : Fragment() {
                 { this@DiscoveryFragment.viewModel.inputs.nextPage() },
                 this@DiscoveryFragment.viewModel.outputs.isFetchingProjects()
             )
+            if (BuildConfig.DEBUG) {
+                frameTimer = RecyclerViewFrameTimer(this, "Discovery").apply { start() }
+            }
         }
 
         binding?.discoverySwipeRefreshLayout?.let { swipeRefreshLayout ->
@@ -136,8 +142,7 @@ class DiscoveryFragment : Fragment() {
             .subscribe { lazyHeartCrossFadeAnimation()?.start() }
             .addToDisposable(disposables)
 
-        this.viewModel.outputs.projectList()
-            .subscribeOn(Schedulers.io())
+        this.viewModel.outputs.projectCards()
             .observeOn(AndroidSchedulers.mainThread())
             .subscribe { discoveryProjectCardAdapter.takeProjects(it) }
             .addToDisposable(disposables)
@@ -238,6 +243,7 @@ class DiscoveryFragment : Fragment() {
         super.onDetach()
         binding?.discoveryRecyclerView?.adapter = null
         recyclerViewPaginator?.stop()
+        frameTimer?.stop()
     }
 
     val isAttached: Boolean
@@ -15,11 +15,10 @@ import androidx.compose.ui.platform.ViewCompositionStrategy
 import androidx.fragment.app.Fragment
 import androidx.fragment.app.viewModels
 import androidx.lifecycle.compose.collectAsStateWithLifecycle
-import coil.Coil
-import coil.request.ImageRequest
 import com.kickstarter.R
 import com.kickstarter.databinding.FragmentRewardsBinding
 import com.kickstarter.libs.Environment
+import com.kickstarter.libs.ImagePipeline
 import com.kickstarter.libs.utils.extensions.getEnvironment
 import com.kickstarter.libs.utils.extensions.reduce
 import com.kickstarter.models.Reward
@@ -120,16 +119,7 @@ class RewardsFragment : Fragment() {
     }
 
     private fun preloadImages(context: Context, rewards: List<Reward>) {
-        val rewardsIterator = rewards.iterator()
-        while (rewardsIterator.hasNext()) {
-            val reward = rewardsIterator.next()
-            reward.image()?.let {
-                val request = ImageRequest.Builder(context)
-                    .data(reward.image()?.full())
-                    .build()
-                Coil.imageLoader(context).enqueue(request)
-            }
-        }
+        ImagePipeline.prefetch(context, rewards.map { it.image()?.full() })
     }
 
     private fun createDialog() {
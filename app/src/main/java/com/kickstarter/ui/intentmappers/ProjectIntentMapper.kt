@@ -3,6 +3,8 @@ package com.kickstarter.ui.intentmappers
 import android.content.Intent
 import android.net.Uri
 import android.os.Build
+import com.apollographql.apollo3.cache.normalized.FetchPolicy
+import com.kickstarter.libs.ProjectPrefetcher
 import com.kickstarter.libs.RefTag
 import com.kickstarter.libs.utils.KsOptional
 import com.kickstarter.libs.utils.extensions.query
@@ -24,7 +26,7 @@ object ProjectIntentMapper {
         "save(\\=[a-zA-Z]+)"
     )
 
-    fun project(intent: Intent, apolloClient: ApolloClientTypeV2): io.reactivex.Observable<Project> {
+    fun project(intent: Intent, apolloClient: ApolloClientTypeV2, prefetcher: ProjectPrefetcher? = null): io.reactivex.Observable<Project> {
         val intentProject = projectFromIntent(intent)
         val projectFromParceledProject =
             if (intentProject == null) io.reactivex.Observable.empty() else io.reactivex.Observable.just(intentProject)
@@ -36,14 +38,24 @@ object ProjectIntentMapper {
 
         val projectFromParceledParam = io.reactivex.Observable.just(paramFromIntent(intent) ?: "")
             .filter { it.isNotEmpty() }
-            .switchMap { slug: String? ->
-                slug?.let { apolloClient.getProject(it) }
+            .switchMap { slug: String ->
+                // - Reuse the fetch the splash started for a deep link, a failed one is fetched again
+                prefetcher?.take(slug)?.onErrorResumeNext(apolloClient.getProject(slug).retry(2))
+                    ?: cachedThenNetworkProject(slug, apolloClient)
             }
-            .retry(3)
         return projectFromParceledProject
             .mergeWith(projectFromParceledParam)
     }
 
+    /**
+     * Paints the project for [slug] from the normalized cache right away, when cached, then revalidates it with the
+     * network response. Only the network request is retried, so a failing network doesn't repeat the cached project.
+     */
+    private fun cachedThenNetworkProject(slug: String, apolloClient: ApolloClientTypeV2): io.reactivex.Observable<Project> =
+        apolloClient.getProject(slug, FetchPolicy.CacheOnly)
+            .onErrorResumeNext(io.reactivex.Observable.empty<Project>())
+            .concatWith(apolloClient.getProject(slug, FetchPolicy.NetworkOnly).retry(3))
+
     /**
      * Returns an observable of projects retrieved from intent data. May hit the API if the intent only contains a project
      * param rather than a parceled project.
@@ -9,6 +9,9 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.kickstarter.KSApplication;
 import com.kickstarter.libs.Environment;
+
+import java.util.List;
+
 import timber.log.Timber;
 
 public abstract class KSViewHolder extends RecyclerView.ViewHolder implements View.OnClickListener {
@@ -47,6 +50,18 @@ public abstract class KSViewHolder extends RecyclerView.ViewHolder implements Vi
    */
   abstract public void bindData(final @Nullable Object data) throws Exception;
 
+  /**
+   * Applies the change payloads computed by the adapter's diff callback to a view holder already bound to an
+   * earlier version of `data`. Implementations that can patch only the views affected by `payloads` should do so
+   * and return true, returning false falls back to a full {@link #bindData(Object)}.
+   * @param data dataModel to be bind to the viewHolder
+   * @param payloads change payloads for this position, never empty
+   * @throws Exception Raised when binding is unsuccessful.
+   */
+  public boolean bindPayloads(final @Nullable Object data, final @NonNull List<Object> payloads) throws Exception {
+    return false;
+  }
+
 
   /**
    * Called when the ViewHolder is being detached. Subclasses should override if they need to do any work
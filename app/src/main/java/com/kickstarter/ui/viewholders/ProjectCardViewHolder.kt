@@ -2,7 +2,6 @@ package com.kickstarter.ui.viewholders
 
 import android.text.SpannableString
 import android.text.style.ForegroundColorSpan
-import android.util.Pair
 import android.view.View
 import android.view.ViewGroup
 import android.view.ViewGroup.MarginLayoutParams
@@ -13,30 +12,24 @@ import androidx.core.view.isGone
 import androidx.core.view.isInvisible
 import com.kickstarter.R
 import com.kickstarter.databinding.ProjectCardViewBinding
-import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.DateTimeUtils
 import com.kickstarter.libs.utils.SocialUtils
 import com.kickstarter.libs.utils.ViewUtils
-import com.kickstarter.libs.utils.extensions.addToDisposable
 import com.kickstarter.libs.utils.extensions.deadlineCountdownDetail
 import com.kickstarter.libs.utils.extensions.isProjectNamePunctuated
 import com.kickstarter.libs.utils.extensions.photoHeightFromWidthRatio
 import com.kickstarter.models.Project
-import com.kickstarter.services.DiscoveryParams
+import com.kickstarter.ui.adapters.ProjectCardPayload
+import com.kickstarter.ui.data.ProjectCardRow
 import com.kickstarter.ui.extensions.loadCircleImage
 import com.kickstarter.ui.extensions.loadImageWithResize
-import com.kickstarter.viewmodels.ProjectCardHolderViewModel
-import io.reactivex.disposables.CompositeDisposable
-import org.joda.time.DateTime
 
 class ProjectCardViewHolder(
     private val binding: ProjectCardViewBinding,
-    delegate: Delegate
+    private val delegate: Delegate
 ) : KSViewHolder(binding.root) {
-    private val viewModel = ProjectCardHolderViewModel.ViewModel()
     private val ksString = requireNotNull(environment().ksString())
-    private val build = requireNotNull(environment().build())
-    private val disposables = CompositeDisposable()
+    private var row: ProjectCardRow? = null
 
     interface Delegate {
         fun projectCardViewHolderClicked(project: Project)
@@ -44,261 +37,107 @@ class ProjectCardViewHolder(
     }
 
     init {
-        viewModel.outputs.backersCountTextViewText()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectCardStats.backersCount.text = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.backingViewGroupIsGone()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectMetadataView.backingGroup.isGone = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.deadlineCountdownText()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectCardStats.deadlineCountdown.text = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.featuredViewGroupIsGone()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectMetadataView.featuredGroup.isGone = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.friendAvatar2IsGone()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.friendRowBackingGroup.friendBackingAvatar2.isGone = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.friendAvatar3IsGone()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.friendRowBackingGroup.friendBackingAvatar3.isGone = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.friendAvatarUrl1()
-            .compose(Transformers.observeForUIV2())
-            .subscribe {
-                setFriendAvatarUrl(
-                    it,
-                    binding.friendRowBackingGroup.friendBackingAvatar1
-                )
-            }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.friendAvatarUrl2()
-            .compose(Transformers.observeForUIV2())
-            .subscribe {
-                setFriendAvatarUrl(
-                    it,
-                    binding.friendRowBackingGroup.friendBackingAvatar2
-                )
-            }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.friendAvatarUrl3()
-            .compose(Transformers.observeForUIV2())
-            .subscribe {
-                setFriendAvatarUrl(
-                    it,
-                    binding.friendRowBackingGroup.friendBackingAvatar3
-                )
-            }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.friendBackingViewIsHidden()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.friendRowBackingGroup.friendBackingGroup.isGone = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.friendsForNamepile()
-            .compose(Transformers.observeForUIV2())
-            .subscribe {
-                binding.friendRowBackingGroup.friendBackingMessage.text =
-                    SocialUtils.projectCardFriendNamepile(context(), it, ksString)
-            }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.fundingUnsuccessfulViewGroupIsGone()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectStateViewGroup.fundingUnsuccessfulViewGroup.isGone = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.imageIsInvisible()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectCardPhoto.photo.isInvisible = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.locationName()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectCardTags.locationTextView.text = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.locationContainerIsGone()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectCardTags.locationContainer.isGone = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.nameAndBlurbText()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { setStyledNameAndBlurb(it) }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.notifyDelegateOfProjectClick()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { delegate.projectCardViewHolderClicked(it) }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.percentageFundedTextViewText()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectCardStats.percent.text = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.percentageFundedForProgressBar()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.percentageFunded.progress = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.photoUrl()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { resizeProjectImage(it) }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.projectCanceledAt()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { setCanceledTextView(it) }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.projectCardStatsViewGroupIsGone()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectCardStats.projectCardStatsViewGroup.isGone = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.projectFailedAt()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { setFailedAtTextView(it) }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.projectForDeadlineCountdownDetail()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { setDeadlineCountdownText(it) }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.projectStateViewGroupIsGone()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectStateViewGroup.projectStateViewGroup.isGone = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.projectSubcategoryName()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { setSubcategoryTextView(it) }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.projectSubcategoryIsGone()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectCardTags.subcategoryContainer.isGone = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.projectSuccessfulAt()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { setSuccessfullyFundedDateTextView(it) }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.projectSuspendedAt()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { setSuspendedAtTextView(it) }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.projectTagContainerIsGone()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectCardTags.projectTags.isGone = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.projectWeLoveIsGone()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectCardTags.projectWeLoveContainer.isGone = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.rootCategoryNameForFeatured()
-            .compose(Transformers.observeForUIV2())
-            .subscribe {
-                binding.projectMetadataView.featured.text = ksString.format(
-                    context().getString(R.string.discovery_baseball_card_metadata_featured_project),
-                    "category_name",
-                    it
-                )
-            }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.metadataViewGroupBackgroundDrawable()
-            .compose(Transformers.observeForUIV2())
-            .subscribe {
-                binding.projectMetadataView.projectMetadataViewGroup.background =
-                    ContextCompat.getDrawable(context(), it)
-            }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.metadataViewGroupIsGone()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectMetadataView.projectMetadataViewGroup.isGone = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.savedViewGroupIsGone()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectMetadataView.savedViewGroup.isGone = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.comingSoonViewGroupIsGone()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectMetadataView.comingSoonGroup.isGone = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.fundingSuccessfulViewGroupIsGone()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { binding.projectStateViewGroup.fundingSuccessfulViewGroup.isGone = it }
-            .addToDisposable(disposables)
-
-        viewModel.outputs.setDefaultTopPadding()
-            .compose(Transformers.observeForUIV2())
-            .subscribe { setDefaultTopPadding(it) }
-            .addToDisposable(disposables)
-
-        this.viewModel.outputs.heartDrawableId()
-            .compose(Transformers.observeForUIV2())
-            .subscribe {
-                binding.heartButton?.setImageDrawable(
-                    ContextCompat.getDrawable(
-                        context(),
-                        it
-                    )
-                )
-            }
-            .addToDisposable(disposables)
-
-        this.viewModel.outputs.notifyDelegateOfHeartButtonClicked()
-            .compose(Transformers.observeForUIV2())
-            .subscribe {
-                delegate.onHeartButtonClicked(it)
-            }
-            .addToDisposable(disposables)
-
         binding.heartButton?.setOnClickListener {
-            this.viewModel.inputs.heartButtonClicked()
+            row?.let { delegate.onHeartButtonClicked(it.project) }
         }
     }
 
     @Throws(Exception::class)
     override fun bindData(data: Any?) {
-        val projectAndParams = requireNotNull(data as? Pair<Project, DiscoveryParams>)
-        viewModel.inputs.configureWith(projectAndParams)
+        val row = requireNotNull(data as? ProjectCardRow)
+        this.row = row
+
+        setStyledNameAndBlurb(row.name, row.blurb)
+        binding.projectCardPhoto.photo.isInvisible = row.imageIsInvisible
+        resizeProjectImage(row.photoUrl)
+        bindPatchableFields(row)
+
+        binding.projectCardStats.projectCardStatsViewGroup.isGone = row.statsViewGroupIsGone
+        binding.projectCardStats.deadlineCountdown.text = row.deadlineCountdown
+        binding.projectCardStats.deadlineCountdownUnit.text = row.project.deadlineCountdownDetail(context(), ksString)
+
+        binding.projectMetadataView.projectMetadataViewGroup.isGone = row.metadataViewGroupIsGone
+        binding.projectMetadataView.projectMetadataViewGroup.background =
+            ContextCompat.getDrawable(context(), row.metadataViewGroupBackground)
+        binding.projectMetadataView.backingGroup.isGone = row.backingViewGroupIsGone
+        binding.projectMetadataView.comingSoonGroup.isGone = row.comingSoonViewGroupIsGone
+        binding.projectMetadataView.featuredGroup.isGone = row.featuredViewGroupIsGone
+        binding.projectMetadataView.savedViewGroup.isGone = row.savedViewGroupIsGone
+        row.rootCategoryName?.let {
+            binding.projectMetadataView.featured.text = ksString.format(
+                context().getString(R.string.discovery_baseball_card_metadata_featured_project),
+                "category_name",
+                it
+            )
+        }
+        setDefaultTopPadding(row.setDefaultTopPadding)
+
+        binding.projectCardTags.projectTags.isGone = row.tagContainerIsGone
+        binding.projectCardTags.subcategoryContainer.isGone = row.subcategoryIsGone
+        binding.projectCardTags.subcategoryTextView.text = row.subcategoryName
+        binding.projectCardTags.projectWeLoveContainer.isGone = row.weLoveIsGone
+        binding.projectCardTags.locationContainer.isGone = row.locationContainerIsGone
+        binding.projectCardTags.locationTextView.text = row.locationName
+
+        bindFriends(row)
+        bindProjectState(row)
     }
 
-    private fun setSubcategoryTextView(subcategory: String) {
-        binding.projectCardTags.subcategoryTextView.text = subcategory
+    @Throws(Exception::class)
+    override fun bindPayloads(data: Any?, payloads: List<Any>): Boolean {
+        if (payloads.any { it !is Set<*> || it.any { payload -> payload !is ProjectCardPayload } }) {
+            return false
+        }
+        val row = requireNotNull(data as? ProjectCardRow)
+        this.row = row
+        bindPatchableFields(row)
+        return true
+    }
+
+    /**
+     * Views depending on the watch state, pledged amount or backers count, the only ones a [ProjectCardPayload]
+     * updates.
+     */
+    private fun bindPatchableFields(row: ProjectCardRow) {
+        binding.heartButton?.setImageDrawable(ContextCompat.getDrawable(context(), row.heartDrawable))
+        binding.projectCardStats.backersCount.text = row.backersCount
+        binding.projectCardStats.percent.text = row.percentageFunded
+        binding.percentageFunded.progress = row.percentageFundedProgress
+    }
+
+    private fun bindFriends(row: ProjectCardRow) {
+        binding.friendRowBackingGroup.friendBackingGroup.isGone = row.friendBackingViewIsGone
+        binding.friendRowBackingGroup.friendBackingAvatar2.isGone = row.friendAvatar2IsGone
+        binding.friendRowBackingGroup.friendBackingAvatar3.isGone = row.friendAvatar3IsGone
+        if (row.friends.isNotEmpty()) {
+            binding.friendRowBackingGroup.friendBackingMessage.text =
+                SocialUtils.projectCardFriendNamepile(context(), row.friends, ksString)
+        }
+        listOf(
+            binding.friendRowBackingGroup.friendBackingAvatar1,
+            binding.friendRowBackingGroup.friendBackingAvatar2,
+            binding.friendRowBackingGroup.friendBackingAvatar3
+        ).zip(row.friendAvatarUrls).forEach { (imageView, url) -> setFriendAvatarUrl(url, imageView) }
+    }
+
+    private fun bindProjectState(row: ProjectCardRow) {
+        binding.projectStateViewGroup.projectStateViewGroup.isGone = row.projectStateViewGroupIsGone
+        binding.projectStateViewGroup.fundingSuccessfulViewGroup.isGone = row.fundingSuccessfulViewGroupIsGone
+        binding.projectStateViewGroup.fundingUnsuccessfulViewGroup.isGone = row.fundingUnsuccessfulViewGroupIsGone
+
+        val stateChangedAt = row.stateChangedAt ?: return
+        val relativeDate = DateTimeUtils.relative(context(), ksString, stateChangedAt)
+        if (row.fundingSuccessfulViewGroupIsGone) {
+            binding.projectStateViewGroup.fundingUnsuccessfulDateTextView.text = relativeDate
+            row.fundingUnsuccessfulStatus?.let { binding.projectStateViewGroup.fundingUnsuccessfulTextView.setText(it) }
+        } else {
+            binding.projectStateViewGroup.fundingSuccessfulDateTextView.text = relativeDate
+        }
     }
 
-    private fun setStyledNameAndBlurb(nameAndBlurb: Pair<String, String>) {
-        val nameString =
-            if (isProjectNamePunctuated(nameAndBlurb.first)) nameAndBlurb.first.toString() + " " else nameAndBlurb.first.toString() + ": "
-        val blurbString = nameAndBlurb.second
+    private fun setStyledNameAndBlurb(name: String, blurb: String) {
+        val nameString = if (isProjectNamePunctuated(name)) "$name " else "$name: "
+        val blurbString = blurb
         val styledString = SpannableString(nameString + blurbString)
         styledString.setSpan(
             ForegroundColorSpan(context().getColor(R.color.kds_support_700)),
@@ -336,11 +175,6 @@ class ProjectCardViewHolder(
         return (screenWidthDp * screenDensityDp - reducedSizeDp).toInt()
     }
 
-    private fun setDeadlineCountdownText(project: Project) {
-        binding.projectCardStats.deadlineCountdownUnit.text =
-            project.deadlineCountdownDetail(context(), ksString)
-    }
-
     private fun setFriendAvatarUrl(avatarUrl: String, imageView: ImageView) {
         imageView.loadCircleImage(avatarUrl)
     }
@@ -373,7 +207,7 @@ class ProjectCardViewHolder(
     }
 
     override fun onClick(view: View) {
-        viewModel.inputs.projectCardClicked()
+        row?.let { delegate.projectCardViewHolderClicked(it.project) }
     }
 
     /**
@@ -399,32 +233,4 @@ class ProjectCardViewHolder(
     ) {
         landscapeViewGroup?.setPadding(left, top, right, bottom)
     }
-
-    private fun setCanceledTextView(projectCanceledAt: DateTime) {
-        binding.projectStateViewGroup.fundingUnsuccessfulDateTextView.text =
-            DateTimeUtils.relative(context(), ksString, projectCanceledAt)
-        binding.projectStateViewGroup.fundingUnsuccessfulTextView.setText(R.string.discovery_baseball_card_status_banner_canceled)
-    }
-
-    private fun setSuccessfullyFundedDateTextView(projectSuccessfulAt: DateTime) {
-        binding.projectStateViewGroup.fundingSuccessfulDateTextView.text =
-            DateTimeUtils.relative(context(), ksString, projectSuccessfulAt)
-    }
-
-    private fun setFailedAtTextView(projectFailedAt: DateTime) {
-        binding.projectStateViewGroup.fundingUnsuccessfulDateTextView.text =
-            DateTimeUtils.relative(context(), ksString, projectFailedAt)
-        binding.projectStateViewGroup.fundingUnsuccessfulTextView.setText(R.string.dashboard_creator_project_funding_unsuccessful)
-    }
-
-    private fun setSuspendedAtTextView(projectSuspendedAt: DateTime) {
-        binding.projectStateViewGroup.fundingUnsuccessfulDateTextView.text =
-            DateTimeUtils.relative(context(), ksString, projectSuspendedAt)
-    }
-
-    override fun destroy() {
-        disposables.clear()
-        viewModel.onCleared()
-        super.destroy()
-    }
 }
@@ -153,7 +153,6 @@ interface AccountViewModel {
         }
 
         override fun onCleared() {
-            apolloClient.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
@@ -261,7 +261,6 @@ interface ActivityFeedViewModel {
         }
 
         override fun onCleared() {
-            apolloClient.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
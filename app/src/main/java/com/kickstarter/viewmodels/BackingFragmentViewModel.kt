@@ -830,7 +830,6 @@ interface BackingFragmentViewModel {
         override fun pledgeIsPlot(): Observable<Boolean> = this.pledgeIsPlot
 
         override fun onCleared() {
-            apolloClient.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
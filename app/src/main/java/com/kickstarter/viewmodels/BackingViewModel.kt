@@ -108,7 +108,6 @@ interface BackingViewModel {
         }
 
         override fun onCleared() {
-            apolloClient.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
@@ -146,7 +146,6 @@ interface CancelPledgeViewModel {
         }
 
         override fun onCleared() {
-            apolloClient.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
@@ -293,7 +293,6 @@ interface ChangeEmailViewModel {
         }
 
         override fun onCleared() {
-            apolloClient.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
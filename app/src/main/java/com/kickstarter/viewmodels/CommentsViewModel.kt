@@ -593,7 +593,6 @@ interface CommentsViewModel {
             }
 
         override fun onCleared() {
-            apolloClient.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
@@ -92,7 +92,6 @@ interface CreatePasswordViewModel {
         }
 
         override fun onCleared() {
-            apolloClientV2.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
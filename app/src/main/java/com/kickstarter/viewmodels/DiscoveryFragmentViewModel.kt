@@ -11,10 +11,10 @@ import com.kickstarter.libs.featureflag.StatsigGateKey
 import com.kickstarter.libs.loadmore.ApolloPaginateV2
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.EventContextValues.ContextPageName.DISCOVER
-import com.kickstarter.libs.utils.ListUtils
+import com.kickstarter.libs.utils.IndexedDistinctList
 import com.kickstarter.libs.utils.RefTagUtils
 import com.kickstarter.libs.utils.extensions.addToDisposable
-import com.kickstarter.libs.utils.extensions.combineProjectsAndParams
+import com.kickstarter.libs.utils.extensions.discoveryProjectList
 import com.kickstarter.libs.utils.extensions.fillRootCategoryForFeaturedProjects
 import com.kickstarter.libs.utils.extensions.isNotNull
 import com.kickstarter.libs.utils.extensions.isTrue
@@ -31,6 +31,7 @@ import com.kickstarter.ui.adapters.DiscoveryOnboardingAdapter
 import com.kickstarter.ui.adapters.DiscoveryProjectCardAdapter
 import com.kickstarter.ui.adapters.DiscoveryVideoFeedBannerAdapter
 import com.kickstarter.ui.data.Editorial
+import com.kickstarter.ui.data.ProjectCardRow
 import com.kickstarter.ui.data.ProjectData.Companion.builder
 import com.kickstarter.ui.viewholders.ActivitySampleFriendBackingViewHolder
 import com.kickstarter.ui.viewholders.ActivitySampleFriendFollowViewHolder
@@ -40,6 +41,7 @@ import com.kickstarter.ui.viewholders.DiscoveryVideoFeedBannerViewHolder
 import com.statsig.androidsdk.EvalReason
 import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
+import io.reactivex.schedulers.Schedulers
 import io.reactivex.subjects.BehaviorSubject
 import io.reactivex.subjects.PublishSubject
 import kotlinx.coroutines.rx2.asObservable
@@ -86,6 +88,9 @@ interface DiscoveryFragmentViewModel {
         /** Emits a list of projects to display. */
         fun projectList(): Observable<List<Pair<Project, DiscoveryParams>>>
 
+        /** Emits the display ready rows of [projectList], built off the main thread. */
+        fun projectCards(): Observable<List<ProjectCardRow>>
+
         /** Emits a boolean that determines if an editorial should be shown.  */
         fun shouldShowEditorial(): Observable<Editorial>
 
@@ -142,13 +147,14 @@ interface DiscoveryFragmentViewModel {
         private val apiClient = requireNotNull(environment.apiClientV2())
         private val apolloClient = requireNotNull(environment.apolloClientV2())
         private val activitySamplePreference = environment.activitySamplePreference()
-        private val sharedPreferences = requireNotNull(environment.sharedPreferences())
+        private val refTagStore = requireNotNull(environment.refTagStore())
         private val cookieManager = requireNotNull(environment.cookieManager())
         private val currentUser = requireNotNull(environment.currentUserV2())
         private val lifecycleObservable = BehaviorSubject.create<Lifecycle.State>()
         private val featureFlagClient = environment.featureFlagClient()
         private val analyticEvents = requireNotNull(environment.analytics())
         private val statsigClient = requireNotNull(environment.statsigClient())
+        private val scheduler = environment.schedulerV2() ?: Schedulers.computation()
 
         @JvmField
         val inputs: Inputs = this
@@ -174,6 +180,7 @@ interface DiscoveryFragmentViewModel {
         private val heartContainerClicked = BehaviorSubject.create<Unit>()
         private val isFetchingProjects: BehaviorSubject<Boolean> = BehaviorSubject.create()
         private val projectList = BehaviorSubject.create<List<Pair<Project, DiscoveryParams>>>()
+        private val projectCards = BehaviorSubject.create<List<ProjectCardRow>>()
         private val showActivityFeed: Observable<Boolean>
         private val showLoginTout: Observable<Boolean>
         private val shouldShowEditorial = BehaviorSubject.create<Editorial?>()
@@ -226,7 +233,7 @@ interface DiscoveryFragmentViewModel {
                 }
                 .clearWhenStartingOver(false)
                 .concater { xs, ys ->
-                    ListUtils.concatDistinct(xs, ys)
+                    IndexedDistinctList.concat(xs, ys) { it.id() }
                 }
                 .build()
 
@@ -261,7 +268,7 @@ interface DiscoveryFragmentViewModel {
                     val cookieRefTag = RefTagUtils.storedCookieRefTagForProject(
                         it.second,
                         cookieManager,
-                        sharedPreferences
+                        refTagStore
                     )
                     val projectData = builder()
                         .refTagFromIntent(refTag.second)
@@ -285,21 +292,27 @@ interface DiscoveryFragmentViewModel {
                 projects.fillRootCategoryForFeaturedProjects(rootCategories)
             }
 
+            // - A next page is paired and appended on its own, the list is only rebuilt when starting over
             Observable.combineLatest(
                 projects,
                 selectedParams.distinctUntilChanged()
-            ) { projects, params ->
-                combineProjectsAndParams(
-                    projects,
-                    params
-                )
-            }
-                .filter { it.isNotNull() }
-                .map { it }
+            ) { projects, params -> Pair.create(projects, params) }
+                .scan(IndexedDistinctList.of(emptyList<Pair<Project, DiscoveryParams>>()) { it.first.id() }) { previous, projectsAndParams ->
+                    discoveryProjectList(projectsAndParams.first, projectsAndParams.second, previous)
+                }
+                .skip(1)
                 .subscribe {
-                    projectList.onNext(it.toList())
+                    projectList.onNext(it)
                 }.addToDisposable(disposables)
 
+            // - Cards only bind the rows, rows of projects already on screen are carried over to the next list
+            projectList
+                .observeOn(scheduler)
+                .scan(emptyList<ProjectCardRow>()) { previous, projects -> ProjectCardRow.fromProjects(projects, previous) }
+                .skip(1)
+                .subscribe { projectCards.onNext(it) }
+                .addToDisposable(disposables)
+
             showActivityFeed = activityClick
             startUpdateActivity = activityUpdateClick
             showLoginTout = discoveryOnboardingLoginToutClick
@@ -520,7 +533,6 @@ interface DiscoveryFragmentViewModel {
         }
 
         override fun onCleared() {
-            apolloClient.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
@@ -676,6 +688,7 @@ interface DiscoveryFragmentViewModel {
         override fun clearActivities(): Observable<Unit> = clearActivities
         override fun isFetchingProjects(): Observable<Boolean> = isFetchingProjects
         override fun projectList(): Observable<List<Pair<Project, DiscoveryParams>>> = projectList
+        override fun projectCards(): Observable<List<ProjectCardRow>> = projectCards
         override fun showActivityFeed(): Observable<Boolean> = showActivityFeed
         override fun showLoginTout(): Observable<Boolean> = showLoginTout
         override fun shouldShowEditorial(): Observable<Editorial> = shouldShowEditorial
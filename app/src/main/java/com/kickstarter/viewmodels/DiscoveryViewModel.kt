@@ -128,6 +128,7 @@ interface DiscoveryViewModel {
 
         private val apiClient = requireNotNull(environment.apiClientV2())
         private val apolloClient = requireNotNull(environment.apolloClientV2())
+        private val referenceDataStore = environment.referenceDataStore()
         private val currentUserType = requireNotNull(environment.currentUserV2())
         private val currentConfigType = requireNotNull(environment.currentConfigV2())
         val sharedPreferences = requireNotNull(environment.sharedPreferences())
@@ -332,19 +333,21 @@ interface DiscoveryViewModel {
                 }
                 .addToDisposable(disposables)
 
-            val categories = apolloClient.fetchCategories()
+            // - Stored categories come first, a refresh of stale ones may follow
+            val categories = (
+                referenceDataStore?.observeCategories { apolloClient.fetchCategories() }
+                    ?: apolloClient.fetchCategories()
+                )
                 .compose(Transformers.neverErrorV2())
-                .flatMapIterable { it }
-                .toSortedList()
-                .toObservable()
-                .share()
+                .map { it.sorted() }
+                .defaultIfEmpty(emptyList())
+                // - Stored categories are emitted on subscription, replayed for the drawer that subscribes second
+                .replay(1)
+                .refCount()
 
             // Combine root categories with the selected sort position.
             Observable.combineLatest<List<Category>?, Int, Pair<List<Category>, Int>>(
-                categories
-                    .flatMapIterable { it }
-                    .filter { it.isRoot }
-                    .toList().toObservable(),
+                categories.map { it.filter { category -> category.isRoot } },
                 pagerSelectedPage
             ) { c, psp -> Pair.create(c, psp) }
                 .subscribe { rootCategoriesAndPosition.onNext(it) }
@@ -537,7 +540,6 @@ interface DiscoveryViewModel {
         }
 
         override fun onCleared() {
-            apolloClient.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
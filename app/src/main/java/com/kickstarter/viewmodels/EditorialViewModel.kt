@@ -60,6 +60,7 @@ interface EditorialViewModel {
         private val title: BehaviorSubject<Int> = BehaviorSubject.create()
 
         private val apolloClient = requireNotNull(environment.apolloClientV2())
+        private val referenceDataStore = environment.referenceDataStore()
 
         private fun intent() = intent.let { Observable.just(it) }
 
@@ -119,7 +120,9 @@ interface EditorialViewModel {
         }
 
         private fun fetchCategories(): Observable<Notification<List<Category>>>? {
-            return this.apolloClient.fetchCategories()
+            val categories = this.referenceDataStore?.observeCategories { this.apolloClient.fetchCategories() }
+                ?: this.apolloClient.fetchCategories()
+            return categories
                 .doOnSubscribe { this.retryContainerIsGone.onNext(true) }
                 .materialize()
                 .share()
@@ -148,7 +148,6 @@ interface LoggedInViewHolderViewModel {
         }
 
         override fun onCleared() {
-            apolloClient.cleanDisposables()
             disposables.clear()
         }
 
@@ -147,7 +147,6 @@ interface MessageCreatorViewModel {
         }
 
         override fun onCleared() {
-            apolloClient.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
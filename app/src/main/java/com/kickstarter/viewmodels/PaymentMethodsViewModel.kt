@@ -208,7 +208,6 @@ class PaymentMethodsViewModel(environment: Environment) : ViewModel(), PaymentMe
     }
 
     override fun onCleared() {
-        apolloClient.cleanDisposables()
         compositeDisposable.clear()
         super.onCleared()
     }
@@ -1,7 +1,6 @@
 package com.kickstarter.viewmodels
 
 import android.content.Intent
-import android.content.SharedPreferences
 import android.util.Pair
 import androidx.lifecycle.ViewModel
 import androidx.lifecycle.ViewModelProvider
@@ -53,7 +52,7 @@ interface ProjectUpdatesViewModel {
         ViewModel(), Inputs, Outputs {
         private val client: ApolloClientTypeV2 = requireNotNull(environment.apolloClientV2())
         private val cookieManager: CookieManager = requireNotNull(environment.cookieManager())
-        private val sharedPreferences: SharedPreferences = requireNotNull(environment.sharedPreferences())
+        private val refTagStore = requireNotNull(environment.refTagStore())
         private val analyticEvents = requireNotNull(environment.analytics())
         private val nextPage = BehaviorSubject.create<Unit>()
         private val refresh = BehaviorSubject.create<Unit>()
@@ -84,7 +83,7 @@ interface ProjectUpdatesViewModel {
             projectData
                 .map {
                     it.storeCurrentCookieRefTag(
-                        cookieManager, sharedPreferences
+                        cookieManager, refTagStore
                     )
                 }
                 .subscribe {
@@ -139,7 +138,6 @@ interface ProjectUpdatesViewModel {
         }
 
         override fun onCleared() {
-            client.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
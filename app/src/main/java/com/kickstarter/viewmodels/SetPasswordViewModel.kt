@@ -134,7 +134,6 @@ interface SetPasswordViewModel {
         }
 
         override fun onCleared() {
-            apolloClientV2.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
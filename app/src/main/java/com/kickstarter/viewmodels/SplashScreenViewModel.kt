@@ -21,6 +21,9 @@ import com.kickstarter.libs.RefTag
 import com.kickstarter.libs.featureflag.FlagKey
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.rx.transformers.Transformers.combineLatestPair
+import com.kickstarter.libs.startup.StartupOrchestrator
+import com.kickstarter.libs.startup.StartupTask
+import com.kickstarter.libs.startup.StartupTiming
 import com.kickstarter.libs.utils.UrlUtils.appendRefTag
 import com.kickstarter.libs.utils.UrlUtils.refTag
 import com.kickstarter.libs.utils.extensions.addToDisposable
@@ -43,7 +46,6 @@ import com.kickstarter.libs.utils.extensions.isProjectUpdateUri
 import com.kickstarter.libs.utils.extensions.isProjectUri
 import com.kickstarter.libs.utils.extensions.isRewardFulfilledDl
 import com.kickstarter.libs.utils.extensions.isSettingsUrl
-import com.kickstarter.libs.utils.extensions.isTrue
 import com.kickstarter.libs.utils.extensions.isVideoFeedUri
 import com.kickstarter.models.Project
 import com.kickstarter.models.User
@@ -54,13 +56,10 @@ import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
 import io.reactivex.schedulers.Schedulers
 import io.reactivex.subjects.BehaviorSubject
-import kotlinx.coroutines.SupervisorJob
-import kotlinx.coroutines.async
-import kotlinx.coroutines.awaitAll
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.StateFlow
 import kotlinx.coroutines.flow.asStateFlow
-import kotlinx.coroutines.flow.filter
+import kotlinx.coroutines.flow.first
 import kotlinx.coroutines.launch
 import okhttp3.OkHttpClient
 import okhttp3.Request
@@ -163,7 +162,13 @@ interface SplashScreenViewModel {
 
         val outputs: Outputs = this
 
+        private val startup = StartupOrchestrator()
+
+        private val projectPrefetcher = environment.projectPrefetcher()
+        private var redirection: Observable<Response>? = null
+
         fun runInitializations() {
+            prefetchDeepLink()
 
             when (application.initializationState.value) {
                 InitializationState.FINISHED,
@@ -177,37 +182,72 @@ interface SplashScreenViewModel {
 
             application.mutableInitializationState.value = InitializationState.RUNNING
 
+            // - Remote config requires FirebaseApp.initializeApp(context) to be called before initializing
+            val remoteConfig = runCatching { Firebase.remoteConfig }.getOrNull() // TODO: Inject or set FirebaseRemoteConfig. Currently this just makes remoteConfig null in tests
+            ffClient?.initialize(remoteConfig)
+
             viewModelScope.launch {
-                // - Remote config requires FirebaseApp.initializeApp(context) to be called before initializing
-                val remoteConfig = runCatching { Firebase.remoteConfig }.getOrNull() // TODO: Inject or set FirebaseRemoteConfig. Currently this just makes remoteConfig null in tests
-                ffClient?.initialize(remoteConfig)
-
-                FirebaseHelper.identifier
-                    .filter { it.isNotBlank() }
-                    .collect {
-                        try {
-                            val ffClientInitialization = async(SupervisorJob()) {
-                                initializeFeatureFlagClient()
-                            }
-                            val isInitialized = awaitAll(ffClientInitialization)
-
-                            if (isInitialized.isNotEmpty() && isInitialized.all { it.isTrue() }) {
-                                mutableUiState.emit(SplashUIState.Finished)
-                                application.mutableInitializationState.value = InitializationState.FINISHED
-                                processIntent(externalCall = externalCall)
-                            } else {
-                                throw Exception()
-                            }
-                        } catch (e: Exception) {
-                            // todo: we're bringing the user into the app anyways to emulate current behavior. in the future we'll handle errors more robustly
+                startup.run(
+                    listOf(
+                        // - As before, routing waits for the installation id however long it takes, only the remote config fetch runs alongside it
+                        StartupTask(TASK_INSTALLATION_ID) {
+                            FirebaseHelper.identifier.first { it.isNotBlank() }
+                        },
+                        // - Past the deadline flags keep the last activated values, the fetch goes on and activates the new ones when done
+                        StartupTask(TASK_REMOTE_CONFIG, deadlineMillis = REMOTE_CONFIG_DEADLINE_MILLIS) {
+                            initializeFeatureFlagClient()
+                        },
+                        // - The user is brought into the app whatever the outcome of the remote config fetch
+                        StartupTask(TASK_ROUTE, dependsOn = setOf(TASK_INSTALLATION_ID, TASK_REMOTE_CONFIG)) {
                             mutableUiState.emit(SplashUIState.Finished)
                             application.mutableInitializationState.value = InitializationState.FINISHED
                             processIntent(externalCall = externalCall)
                         }
-                    }
+                    )
+                )
             }
         }
 
+        /**
+         * Per task timings of [runInitializations], the `finishedAtMillis` of [TASK_ROUTE] is the time until
+         * the launch intent is routed to Discovery or a deep link.
+         */
+        fun startupTrace(): List<StartupTiming> = startup.trace()
+
+        /**
+         * Starts resolving the launch deep link while [runInitializations] is still going: email links are
+         * redirected and the project of the target is fetched through [projectPrefetcher]. Routing and the project
+         * page then reuse those requests instead of starting them once feature flags are ready.
+         */
+        private fun prefetchDeepLink() {
+            val uri = intent?.data ?: return
+
+            if (uri.isEmailDomain()) {
+                redirectionFor(uri)
+                    .filter { it.priorResponse?.code == 302 }
+                    .map { it.request.url.toString().toUri() }
+                    .filter { it.isProjectUri() }
+                    .subscribe({ prefetchProject(it) }, { })
+                    .addToDisposable(disposables)
+            } else {
+                prefetchProject(uri)
+            }
+        }
+
+        private fun prefetchProject(uri: Uri) {
+            ProjectIntentMapper.paramFromUri(uri)?.let { projectFor(it) }
+        }
+
+        private fun projectFor(param: String): Observable<Project> =
+            projectPrefetcher?.prefetch(param) { apolloClient.getProject(param) } ?: apolloClient.getProject(param)
+
+        /**
+         * The redirect of an email link is followed once and replayed, whether it was started by
+         * [prefetchDeepLink] or by [processIntent].
+         */
+        private fun redirectionFor(uri: Uri): Observable<Response> =
+            redirection ?: externalCall.obtainUriFromRedirection(uri).cache().also { redirection = it }
+
         private fun processIntent(intent: Observable<Intent> = intent(), externalCall: CustomNetworkClient) {
             intent()
                 .filter {
@@ -236,7 +276,7 @@ interface SplashScreenViewModel {
                 .filter { it.isNotNull() }
                 .filter { it.isEmailDomain() }
                 .switchMap {
-                    externalCall.obtainUriFromRedirection(it)
+                    redirectionFor(it)
                 }
                 .filter { it.priorResponse?.code == 302 }
 
@@ -512,7 +552,7 @@ interface SplashScreenViewModel {
                 .compose(Transformers.neverErrorV2())
                 .distinctUntilChanged()
 
-        private fun getProject(it: String) = apolloClient.getProject(it)
+        private fun getProject(it: String) = projectFor(it)
             .materialize()
             .share()
             .distinctUntilChanged()
@@ -574,6 +614,14 @@ interface SplashScreenViewModel {
         override fun startPreLaunchProjectActivity(): Observable<Pair<Uri, Project>> = startPreLaunchProjectActivity
 
         override fun startVideoFeedActivity(): Observable<Unit> = startVideoFeedActivity
+
+        companion object {
+            const val TASK_INSTALLATION_ID = "firebase_installation_id"
+            const val TASK_REMOTE_CONFIG = "remote_config"
+            const val TASK_ROUTE = "route_intent"
+
+            const val REMOTE_CONFIG_DEADLINE_MILLIS = 3_000L
+        }
     }
 
     class Factory(private val environment: Environment, private val intent: Intent? = null, private val customNetworkClient: CustomNetworkClient? = null) : ViewModelProvider.Factory {
@@ -582,11 +630,13 @@ interface SplashScreenViewModel {
          * and return the response as Observable.
          */
         private var externalCall = object : CustomNetworkClient {
-            override fun obtainUriFromRedirection(uri: Uri): Observable<Response> {
-                val httpClient: OkHttpClient = OkHttpClient.Builder().build()
+            // - Shares the connection pool and dispatcher of the app, without the API interceptors
+            private val httpClient: OkHttpClient by lazy { environment.baseOkHttpClient() ?: OkHttpClient() }
 
+            override fun obtainUriFromRedirection(uri: Uri): Observable<Response> {
                 return Observable.fromCallable {
-                    httpClient.newCall(Request.Builder().url(uri.toString()).build()).execute()
+                    // - Only the redirect chain is read, the body goes back to the pool right away
+                    httpClient.newCall(Request.Builder().url(uri.toString()).build()).execute().also { it.close() }
                 }
                     .subscribeOn(Schedulers.io())
             }
@@ -89,6 +89,7 @@ interface ThanksViewModel {
         private val hasSeenGamesNewsletterPreference = environment.hasSeenGamesNewsletterPreference()
         private val currentUser = requireNotNull(environment.currentUserV2())
         private val sharedPreferences = requireNotNull(environment.sharedPreferences())
+        private val refTagStore = requireNotNull(environment.refTagStore())
         private val cookieManager = requireNotNull(environment.cookieManager())
         private val ffClient = requireNotNull(environment.featureFlagClient())
 
@@ -309,7 +310,7 @@ interface ThanksViewModel {
                     val cookieRefTag = RefTagUtils.storedCookieRefTagForProject(
                         dataCheckoutProjectPair.second,
                         cookieManager,
-                        sharedPreferences
+                        refTagStore
                     )
 
                     val projectData = ProjectData.builder()
@@ -442,7 +443,6 @@ interface ThanksViewModel {
         }
 
         override fun onCleared() {
-            apolloClient.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
@@ -535,7 +535,6 @@ interface ThreadViewModel {
         override fun closeThreadActivity(): Observable<Unit> = this.closeThreadActivity
 
         override fun onCleared() {
-            apolloClient.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
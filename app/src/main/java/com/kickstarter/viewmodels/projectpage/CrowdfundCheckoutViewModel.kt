@@ -76,6 +76,7 @@ class CrowdfundCheckoutViewModel(val environment: Environment, bundle: Bundle? =
     val currentUser = requireNotNull(environment.currentUserV2()?.loggedInUser()?.asFlow())
     val cookieManager = requireNotNull(environment.cookieManager())
     val sharedPreferences = requireNotNull(environment.sharedPreferences())
+    val refTagStore = requireNotNull(environment.refTagStore())
     val ffClient = requireNotNull(environment.featureFlagClient())
 
     private var pledgeData: PledgeData? = null
@@ -184,7 +185,7 @@ class CrowdfundCheckoutViewModel(val environment: Environment, bundle: Bundle? =
             refTag = RefTagUtils.storedCookieRefTagForProject(
                 project,
                 cookieManager,
-                sharedPreferences
+                refTagStore
             )
 
             when (pledgeReason) {
@@ -261,7 +262,7 @@ class CrowdfundCheckoutViewModel(val environment: Environment, bundle: Bundle? =
             refTag = RefTagUtils.storedCookieRefTagForProject(
                 project,
                 cookieManager,
-                sharedPreferences
+                refTagStore
             )
             shippingRule = pData.shippingRule()
 
@@ -79,6 +79,7 @@ interface PrelaunchProjectViewModel {
         private val apolloClientLegacy = requireNotNull(environment.apolloClientV2())
         private val currentConfig = requireNotNull(environment.currentConfigV2())
         private val sharedPreferences = requireNotNull(environment.sharedPreferences())
+        private val refTagStore = requireNotNull(environment.refTagStore())
         private val ffClient = requireNotNull(environment.featureFlagClient())
         private val attributionEvents = requireNotNull(environment.attributionEvents())
         private val statsigClient = requireNotNull(environment.statsigClient())
@@ -132,7 +133,7 @@ interface PrelaunchProjectViewModel {
                 .take(1)
                 .map {
                         p ->
-                    KsOptional.of(RefTagUtils.storedCookieRefTagForProject(p, this.cookieManager, this.sharedPreferences))
+                    KsOptional.of(RefTagUtils.storedCookieRefTagForProject(p, this.cookieManager, this.refTagStore))
                 }
 
             val refTag = intent
@@ -279,7 +280,7 @@ interface PrelaunchProjectViewModel {
                 .subscribe { data ->
                     // If a cookie hasn't been set for this ref+project then do so.
                     if (data.refTagFromCookie() == null) {
-                        data.refTagFromIntent()?.let { RefTagUtils.storeCookie(it, data.project(), this.cookieManager, this.sharedPreferences) }
+                        data.refTagFromIntent()?.let { RefTagUtils.storeCookie(it, data.project(), this.cookieManager, this.refTagStore) }
                     }
                     val dataWithStoredCookieRefTag = storeCurrentCookieRefTag(data)
 
@@ -333,7 +334,7 @@ interface PrelaunchProjectViewModel {
         private fun storeCurrentCookieRefTag(data: ProjectData): ProjectData {
             return data
                 .toBuilder()
-                .refTagFromCookie(RefTagUtils.storedCookieRefTagForProject(data.project(), cookieManager, sharedPreferences))
+                .refTagFromCookie(RefTagUtils.storedCookieRefTagForProject(data.project(), cookieManager, refTagStore))
                 .build()
         }
 
@@ -354,7 +355,6 @@ interface PrelaunchProjectViewModel {
             }
 
         override fun onCleared() {
-            apolloClient.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
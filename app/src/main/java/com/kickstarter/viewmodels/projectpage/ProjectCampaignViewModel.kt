@@ -1,5 +1,6 @@
 package com.kickstarter.viewmodels.projectpage
 
+import android.os.SystemClock
 import androidx.lifecycle.ViewModel
 import androidx.lifecycle.ViewModelProvider
 import com.kickstarter.libs.Environment
@@ -11,7 +12,9 @@ import com.kickstarter.libs.utils.extensions.isNotNull
 import com.kickstarter.ui.data.ProjectData
 import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
+import io.reactivex.schedulers.Schedulers
 import io.reactivex.subjects.BehaviorSubject
+import timber.log.Timber
 
 class ProjectCampaignViewModel {
     interface Inputs {
@@ -34,6 +37,8 @@ class ProjectCampaignViewModel {
         val outputs: Outputs = this
 
         private val htmlParser = HTMLParser()
+        private val storyCache = environment.storyViewElementCache()
+        private val scheduler = environment.schedulerV2() ?: Schedulers.computation()
         private val projectDataInput = BehaviorSubject.create<ProjectData>()
         private val storyViewElementsList = BehaviorSubject.create<List<ViewElement>>()
 
@@ -52,8 +57,7 @@ class ProjectCampaignViewModel {
 
             project.distinctUntilChanged()
                 .filter { it.story().isNotNull() }
-                .map { requireNotNull(it.story()) }
-                .map { htmlParser.parse(it) }
+                .switchMap { storyViewElements(it.id(), requireNotNull(it.story())) }
                 .subscribe {
                     storyViewElementsList.onNext(it)
                 }.addToDisposable(disposables)
@@ -98,6 +102,35 @@ class ProjectCampaignViewModel {
                 }.addToDisposable(disposables)
         }
 
+        /**
+         * Emits the view elements of [story] off the main thread: straight from the cache when the story was
+         * parsed before, otherwise in growing chunks while it's parsed so the first screen renders early.
+         * The last emission is always the complete list.
+         */
+        private fun storyViewElements(projectId: Long, story: String): Observable<List<ViewElement>> =
+            Observable.create<List<ViewElement>> { emitter ->
+                val cached = storyCache?.get(projectId, story)
+                if (cached != null) {
+                    emitter.onNext(cached)
+                    emitter.onComplete()
+                    return@create
+                }
+
+                val start = SystemClock.elapsedRealtime()
+                var firstChunkMillis = -1L
+                val elements = htmlParser.parse(story, STORY_CHUNK_SIZE) { chunk ->
+                    if (firstChunkMillis < 0) firstChunkMillis = SystemClock.elapsedRealtime() - start
+                    if (!emitter.isDisposed) emitter.onNext(chunk)
+                }
+                Timber.d(
+                    "Parsed story of project $projectId: ${story.length} chars into ${elements.size} elements " +
+                        "in ${SystemClock.elapsedRealtime() - start}ms, first chunk after ${firstChunkMillis}ms"
+                )
+
+                storyCache?.put(projectId, story, elements)
+                emitter.onComplete()
+            }.subscribeOn(scheduler)
+
         // - Inputs
         override fun configureWith(projectData: ProjectData) =
             this.projectDataInput.onNext(projectData)
@@ -120,6 +153,11 @@ class ProjectCampaignViewModel {
         }
     }
 
+    companion object {
+        // - Roughly a screen and a half of story blocks on a phone
+        private const val STORY_CHUNK_SIZE = 8
+    }
+
     class Factory(private val environment: Environment) : ViewModelProvider.Factory {
         override fun <T : ViewModel> create(modelClass: Class<T>): T {
             return ProjectCampaignViewModel(environment) as T
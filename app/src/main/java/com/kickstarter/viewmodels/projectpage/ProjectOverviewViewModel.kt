@@ -719,7 +719,6 @@ interface ProjectOverviewViewModel {
                 .addToDisposable(disposables)
         }
         override fun onCleared() {
-            apolloClient.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
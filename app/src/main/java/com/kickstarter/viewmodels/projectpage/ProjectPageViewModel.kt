@@ -308,7 +308,9 @@ interface ProjectPageViewModel {
         private val ksCurrency = requireNotNull(environment.ksCurrency())
         private val ffClient = requireNotNull(environment.featureFlagClient())
         private val sharedPreferences = requireNotNull(environment.sharedPreferences())
+        private val refTagStore = requireNotNull(environment.refTagStore())
         private val apolloClient = requireNotNull(environment.apolloClientV2())
+        private val projectPrefetcher = environment.projectPrefetcher()
         private val currentConfig = requireNotNull(environment.currentConfigV2())
         private val featureFlagClient = requireNotNull(environment.featureFlagClient())
         private val statsigClient = requireNotNull(environment.statsigClient())
@@ -418,7 +420,7 @@ interface ProjectPageViewModel {
                         FirebaseCrashlytics.getInstance().recordException(throwable)
                     }
             ).switchMap {
-                ProjectIntentMapper.project(it, this.apolloClient)
+                ProjectIntentMapper.project(it, this.apolloClient, this.projectPrefetcher)
                     .doOnSubscribe {
                         progressBarIsGone.onNext(false)
                     }
@@ -492,7 +494,7 @@ interface ProjectPageViewModel {
                         RefTagUtils.storedCookieRefTagForProject(
                             p,
                             this.cookieManager,
-                            this.sharedPreferences
+                            this.refTagStore
                         )
                     )
                 }
@@ -1180,7 +1182,7 @@ interface ProjectPageViewModel {
                                 it,
                                 data.project(),
                                 this.cookieManager,
-                                this.sharedPreferences
+                                this.refTagStore
                             )
                         }
                     }
@@ -1253,7 +1255,6 @@ interface ProjectPageViewModel {
         }
 
         override fun onCleared() {
-            apolloClient.cleanDisposables()
             disposables.clear()
             super.onCleared()
         }
@@ -1310,7 +1311,7 @@ interface ProjectPageViewModel {
                     RefTagUtils.storedCookieRefTagForProject(
                         data.project(),
                         cookieManager,
-                        sharedPreferences
+                        refTagStore
                     )
                 )
                 .build()
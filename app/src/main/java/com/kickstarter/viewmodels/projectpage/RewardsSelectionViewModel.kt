@@ -5,6 +5,7 @@ import androidx.annotation.VisibleForTesting
 import androidx.lifecycle.ViewModel
 import androidx.lifecycle.ViewModelProvider
 import androidx.lifecycle.viewModelScope
+import com.apollographql.apollo3.cache.normalized.FetchPolicy
 import com.kickstarter.libs.Config
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.utils.RewardUtils
@@ -18,6 +19,7 @@ import com.kickstarter.models.Project
 import com.kickstarter.models.Reward
 import com.kickstarter.models.ShippingCountryLocationsWrapper
 import com.kickstarter.models.ShippingRule
+import com.kickstarter.type.ProjectRewardsSort
 import com.kickstarter.ui.data.PledgeData
 import com.kickstarter.ui.data.PledgeFlowContext
 import com.kickstarter.ui.data.PledgeReason
@@ -121,50 +123,79 @@ class RewardsSelectionViewModel(private val environment: Environment, private va
             val shouldFetchShippableCountries = slug.isNotBlank()
 
             val shippingLocationsDeferred = async { apolloClient.fetchShippingCountryLocations(shouldFetchShippableCountries, slug) }
-            val rewardsDeferred = async { runCatching { apolloClient.getRewardsFromProject(slug).asFlow().first() } }
-
-            val rewardsResult = rewardsDeferred.await()
-            val rewards = rewardsResult
-                .getOrElse { throwable ->
-                    Timber.d(throwable, "Error fetching rewards for project: $slug")
-                    /* There was previously no code path or user journey for dealing with a failure to fetch rewards here,
-                      * so we will use an empty list of rewards in the interim. */
-                    emptyList()
+            // - Rewards cached by a previous visit are painted first, then replaced with the network response
+            var hasEmittedRewards = false
+            runCatching {
+                apolloClient.getRewardsFromProject(slug, ProjectRewardsSort.ELIGIBILITY, FetchPolicy.CacheAndNetwork)
+                    .asFlow()
+                    .collect { rewards ->
+                        updateShippingUIState(
+                            project,
+                            backing,
+                            slug,
+                            rewards,
+                            shippingLocationsDeferred.await(),
+                            keepSelectedShippingRule = hasEmittedRewards
+                        )
+                        hasEmittedRewards = true
+                    }
+            }.onFailure { throwable ->
+                Timber.d(throwable, "Error fetching rewards for project: $slug")
+                /* There was previously no code path or user journey for dealing with a failure to fetch rewards here,
+                  * so we will use an empty list of rewards in the interim. */
+                if (!hasEmittedRewards) {
+                    updateShippingUIState(project, backing, slug, emptyList(), shippingLocationsDeferred.await())
                 }
-                .let(RewardUtils::filterHasStarted)
-
-            val itemizedRewards = rewards.filterNot { RewardUtils.isNoReward(it) }
-            val allRewardsHaveRestrictedShipping =
-                itemizedRewards.isNotEmpty() && itemizedRewards.all { RewardUtils.shipsToRestrictedLocations(it) }
-
-            val shippingLocationsResult = shippingLocationsDeferred.await()
-            val shippingLocationsWrapper = shippingLocationsResult.getOrElse { throwable ->
-                Timber.d(throwable, "Error fetching shipping locations for project: $slug")
-                ShippingCountryLocationsWrapper()
             }
+        }
+    }
 
-            /* When fixed, we will use `shippingLocationsWrapper.shippableCountriesForProject` regardless. */
-            val shippingLocations = if (allRewardsHaveRestrictedShipping) {
-                itemizedRewards.flatMap { it.shippingRules() ?: emptyList() }.mapNotNull { it.location() }.distinctBy { it.id() }
-            } else {
-                shippingLocationsWrapper.shippableCountriesForProject ?: shippingLocationsWrapper.shippingCountryLocations
-            }
+    private suspend fun updateShippingUIState(
+        project: Project,
+        backing: Backing?,
+        slug: String,
+        fetchedRewards: List<Reward>,
+        shippingLocationsResult: Result<ShippingCountryLocationsWrapper>,
+        keepSelectedShippingRule: Boolean = false
+    ) {
+        val rewards = RewardUtils.filterHasStarted(fetchedRewards)
+
+        val itemizedRewards = rewards.filterNot { RewardUtils.isNoReward(it) }
+        val allRewardsHaveRestrictedShipping =
+            itemizedRewards.isNotEmpty() && itemizedRewards.all { RewardUtils.shipsToRestrictedLocations(it) }
+
+        val shippingLocationsWrapper = shippingLocationsResult.getOrElse { throwable ->
+            Timber.d(throwable, "Error fetching shipping locations for project: $slug")
+            ShippingCountryLocationsWrapper()
+        }
+
+        /* When fixed, we will use `shippingLocationsWrapper.shippableCountriesForProject` regardless. */
+        val shippingLocations = if (allRewardsHaveRestrictedShipping) {
+            itemizedRewards.flatMap { it.shippingRules() ?: emptyList() }.mapNotNull { it.location() }.distinctBy { it.id() }
+        } else {
+            shippingLocationsWrapper.shippableCountriesForProject ?: shippingLocationsWrapper.shippingCountryLocations
+        }
 
-            val config = currentConfig.asFlow().first()
+        val config = currentConfig.asFlow().first()
 
+        // - Rewards revalidated by the network keep the location picked while the cached ones were shown
+        val keepsSelection = keepSelectedShippingRule &&
+            shippingLocations.any { it.id() == selectedShippingRule.location()?.id() }
+        if (!keepsSelection) {
             val defaultLocation = getDefaultLocation(config, project, shippingLocations)
             selectedShippingRule = ShippingRule.builder().location(defaultLocation).build()
-            val sortedRewards = rewards.sortedByDescending { RewardViewUtils.isRewardSelectable(it, project, defaultLocation.id(), backing) }
-            val repositionedRewards = repositionRewards(sortedRewards, project, defaultLocation.id(), backing)
+        }
+        val selectedLocationId = selectedShippingRule.location()?.id()
+        val sortedRewards = rewards.sortedByDescending { RewardViewUtils.isRewardSelectable(it, project, selectedLocationId, backing) }
+        val repositionedRewards = repositionRewards(sortedRewards, project, selectedLocationId, backing)
 
-            mutableShippingUIState.update { previous ->
-                previous.copy(
-                    loading = false,
-                    shippingRules = shippingLocations.toShippingRules(),
-                    selectedShippingRule = selectedShippingRule,
-                    filteredRw = repositionedRewards
-                )
-            }
+        mutableShippingUIState.update { previous ->
+            previous.copy(
+                loading = false,
+                shippingRules = shippingLocations.toShippingRules(),
+                selectedShippingRule = selectedShippingRule,
+                filteredRw = repositionedRewards
+            )
         }
     }
 
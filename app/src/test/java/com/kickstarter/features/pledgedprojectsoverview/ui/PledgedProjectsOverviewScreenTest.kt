@@ -32,7 +32,7 @@ PledgedProjectsOverviewScreenTest : KSRobolectricTestCase() {
         var backClickedCount = 0
         composeTestRule.setContent {
             val ppoCardList = (0..10).map {
-                PPOCardFactory.confirmAddressCard()
+                PPOCardFactory.confirmAddressCard().toBuilder().backingId("$it").build()
             }
             val ppoCardPagingList = flowOf(PagingData.from(ppoCardList)).collectAsLazyPagingItems()
 
@@ -62,7 +62,7 @@ PledgedProjectsOverviewScreenTest : KSRobolectricTestCase() {
     fun `when v2 feature flag enabled, info button should appear and open bottom sheet`() {
         composeTestRule.setContent {
             val ppoCardList = (0..10).map {
-                PPOCardFactory.confirmAddressCard()
+                PPOCardFactory.confirmAddressCard().toBuilder().backingId("$it").build()
             }
             val ppoCardPagingList = flowOf(PagingData.from(ppoCardList)).collectAsLazyPagingItems()
 
@@ -96,7 +96,7 @@ PledgedProjectsOverviewScreenTest : KSRobolectricTestCase() {
     fun `when v2 feature flag off, should not show info button`() {
         composeTestRule.setContent {
             val ppoCardList = (0..10).map {
-                PPOCardFactory.confirmAddressCard()
+                PPOCardFactory.confirmAddressCard().toBuilder().backingId("$it").build()
             }
             val ppoCardPagingList = flowOf(PagingData.from(ppoCardList)).collectAsLazyPagingItems()
 
@@ -126,7 +126,7 @@ PledgedProjectsOverviewScreenTest : KSRobolectricTestCase() {
     fun `when total alert count 0, should not show alert count in header`() {
         composeTestRule.setContent {
             val ppoCardList = (0..10).map {
-                PPOCardFactory.confirmAddressCard()
+                PPOCardFactory.confirmAddressCard().toBuilder().backingId("$it").build()
             }
             val ppoCardPagingList = flowOf(PagingData.from(ppoCardList)).collectAsLazyPagingItems()
 
@@ -157,7 +157,7 @@ PledgedProjectsOverviewScreenTest : KSRobolectricTestCase() {
     fun `when total alert count more than 0, should show alert count in header`() {
         composeTestRule.setContent {
             val ppoCardList = (0..10).map {
-                PPOCardFactory.confirmAddressCard()
+                PPOCardFactory.confirmAddressCard().toBuilder().backingId("$it").build()
             }
             val ppoCardPagingList = flowOf(PagingData.from(ppoCardList)).collectAsLazyPagingItems()
 
@@ -189,7 +189,7 @@ PledgedProjectsOverviewScreenTest : KSRobolectricTestCase() {
     fun `Test BottomSheet layout is not added to composition hierarchy on initial state`() {
         composeTestRule.setContent {
             val ppoCardList = (0..10).map {
-                PPOCardFactory.confirmAddressCard()
+                PPOCardFactory.confirmAddressCard().toBuilder().backingId("$it").build()
             }
             val ppoCardPagingList = flowOf(PagingData.from(ppoCardList)).collectAsLazyPagingItems()
 
@@ -219,7 +219,7 @@ PledgedProjectsOverviewScreenTest : KSRobolectricTestCase() {
     fun `Test BottomSheet layout is added to compose hierarchy when info button clicked`() {
         composeTestRule.setContent {
             val ppoCardList = (0..10).map {
-                PPOCardFactory.confirmAddressCard()
+                PPOCardFactory.confirmAddressCard().toBuilder().backingId("$it").build()
             }
             val ppoCardPagingList = flowOf(PagingData.from(ppoCardList)).collectAsLazyPagingItems()
 
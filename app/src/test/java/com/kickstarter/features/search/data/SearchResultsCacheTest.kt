@@ -0,0 +1,78 @@
+package com.kickstarter.features.search.data
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.factories.CategoryFactory
+import com.kickstarter.mock.factories.ProjectFactory
+import com.kickstarter.models.Project
+import com.kickstarter.services.DiscoveryParams
+import org.junit.Test
+
+class SearchResultsCacheTest : KSRobolectricTestCase() {
+
+    private var now = 0L
+    private val cache = SearchResultsCache(maxPages = 2, clock = { now })
+
+    private fun params(term: String?) = DiscoveryParams.builder()
+        .sort(DiscoveryParams.Sort.MAGIC)
+        .term(term)
+        .build()
+
+    @Test
+    fun testGet_normalizesTheTerm() {
+        val envelope = SearchEnvelope(listOf(ProjectFactory.project()))
+        cache.put(params("Cats  game"), null, envelope)
+
+        assertEquals(envelope, cache.get(params(" cats game "), null))
+        assertEquals(envelope, cache.get(params("cats game"), ""))
+        assertNull(cache.get(params("cats game"), "next"))
+        assertNull(cache.get(params("cats"), null))
+
+        assertEquals(SearchResultsCache.Stats(hits = 2, misses = 2), cache.stats())
+        assertEquals(0.5f, cache.stats().hitRate)
+    }
+
+    @Test
+    fun testGet_keysOnFilters() {
+        val envelope = SearchEnvelope(listOf(ProjectFactory.project()))
+        cache.put(params("cats"), null, envelope)
+
+        val artParams = params("cats").toBuilder().category(CategoryFactory.artCategory()).build()
+        assertNull(cache.get(artParams, null))
+    }
+
+    @Test
+    fun testPut_evictsLeastRecentlyUsedPage() {
+        cache.put(params("a"), null, SearchEnvelope())
+        cache.put(params("b"), null, SearchEnvelope())
+        cache.get(params("a"), null)
+        cache.put(params("c"), null, SearchEnvelope())
+
+        assertNotNull(cache.get(params("a"), null))
+        assertNull(cache.get(params("b"), null))
+        assertNotNull(cache.get(params("c"), null))
+    }
+
+    @Test
+    fun testGet_ignoresExpiredPages() {
+        cache.put(params("cats"), null, SearchEnvelope())
+
+        now += SearchResultsCache.MAX_AGE_MILLIS + 1
+
+        assertNull(cache.get(params("cats"), null))
+    }
+
+    @Test
+    fun testProvisionalResults_narrowsShorterTerm() {
+        val catGame = ProjectFactory.project().toBuilder().name("Cat game").blurb("A card game").build()
+        val catBook = ProjectFactory.project().toBuilder().name("Cat book").blurb("Stories").build()
+        cache.put(params("cat"), null, SearchEnvelope(listOf(catGame, catBook)))
+
+        assertEquals(listOf(catGame), cache.provisionalResults(params("Cat ga")))
+        assertEquals(emptyList<Project>(), cache.provisionalResults(params("cats")))
+        assertNull(cache.provisionalResults(params("dog")))
+        assertNull(cache.provisionalResults(params(null)))
+
+        val artParams = params("cat g").toBuilder().category(CategoryFactory.artCategory()).build()
+        assertNull(cache.provisionalResults(artParams))
+    }
+}
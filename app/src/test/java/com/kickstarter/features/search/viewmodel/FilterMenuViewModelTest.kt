@@ -3,6 +3,7 @@ package com.kickstarter.features.search.viewmodel
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.MockCurrentUserV2
+import com.kickstarter.libs.ReferenceDataStore
 import com.kickstarter.libs.utils.extensions.isFalse
 import com.kickstarter.libs.utils.extensions.isTrue
 import com.kickstarter.mock.factories.CategoryFactory
@@ -13,6 +14,7 @@ import com.kickstarter.mock.services.MockApolloClientV2
 import com.kickstarter.models.Category
 import com.kickstarter.models.Location
 import com.kickstarter.models.Tag
+import io.reactivex.schedulers.Schedulers
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.ExperimentalCoroutinesApi
 import kotlinx.coroutines.flow.toList
@@ -140,6 +142,37 @@ class FilterMenuViewModelTest : KSRobolectricTestCase() {
         assertEquals(state.first().categoriesList, emptyList<Category>())
     }
 
+    @Test
+    fun `test rootCategories are served from the reference data store`() = runTest {
+        val dispatcher = UnconfinedTestDispatcher(testScheduler)
+        val referenceDataStore = ReferenceDataStore(null, writeScheduler = Schedulers.trampoline())
+        referenceDataStore.putCategories(CategoryFactory.rootCategories())
+
+        var networkCalls = 0
+        val environment = environment()
+            .toBuilder()
+            .referenceDataStore(referenceDataStore)
+            .apolloClientV2(
+                object : MockApolloClientV2() {
+                    override suspend fun getCategories(): Result<List<Category>> {
+                        networkCalls++
+                        return Result.success(emptyList())
+                    }
+                }).build()
+
+        setUpEnvironment(environment, dispatcher)
+
+        val state = mutableListOf<FilterMenuUIState>()
+        backgroundScope.launch(dispatcher) {
+            viewModel.getRootCategories()
+            viewModel.filterMenuUIState.toList(state)
+        }
+
+        advanceUntilIdle()
+        assertEquals(networkCalls, 0)
+        assertEquals(state.last().categoriesList, CategoryFactory.rootCategories())
+    }
+
     @Test
     fun `test obtain tags succeed`() = runTest {
         val dispatcher = UnconfinedTestDispatcher(testScheduler)
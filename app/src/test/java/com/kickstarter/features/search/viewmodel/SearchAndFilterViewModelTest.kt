@@ -13,8 +13,10 @@ import com.kickstarter.mock.factories.ProjectFactory
 import com.kickstarter.mock.services.MockApolloClientV2
 import com.kickstarter.models.Project
 import com.kickstarter.services.DiscoveryParams
+import com.kickstarter.services.apiresponses.commentresponse.PageInfoEnvelope
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.awaitCancellation
 import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.test.UnconfinedTestDispatcher
@@ -349,8 +351,12 @@ class SearchAndFilterViewModelTest : KSRobolectricTestCase() {
                     ): Result<SearchEnvelope> {
                         params = discoveryParams
                         pageCounter++
-                        val envelope = if (pageCounter == 2) SearchEnvelope(secondPageList)
-                        else SearchEnvelope(projectList)
+                        val pageInfo = PageInfoEnvelope.builder()
+                            .hasNextPage(true)
+                            .endCursor("cursor-$pageCounter")
+                            .build()
+                        val envelope = if (pageCounter == 2) SearchEnvelope(secondPageList, pageInfo)
+                        else SearchEnvelope(projectList, pageInfo)
                         return Result.success(envelope)
                     }
                 })
@@ -388,6 +394,99 @@ class SearchAndFilterViewModelTest : KSRobolectricTestCase() {
         segmentTrack.assertValues(EventName.CTA_CLICKED.eventName, EventName.PAGE_VIEWED.eventName, EventName.CTA_CLICKED.eventName, EventName.PAGE_VIEWED.eventName)
     }
 
+    @Test
+    fun `test loadMore requests the next cursor instead of the cached first page`() = runTest {
+        val projectList = listOf(ProjectFactory.project(), ProjectFactory.prelaunchProject(""))
+        val secondPageList = listOf(ProjectFactory.caProject(), ProjectFactory.mxProject())
+        val cursors = mutableListOf<String?>()
+
+        val dispatcher = UnconfinedTestDispatcher(testScheduler)
+        val environment = environment()
+            .toBuilder()
+            .apolloClientV2(
+                object : MockApolloClientV2() {
+                    override suspend fun getSearchProjects(
+                        discoveryParams: DiscoveryParams,
+                        cursor: String?
+                    ): Result<SearchEnvelope> {
+                        cursors.add(cursor)
+                        val pageInfo = PageInfoEnvelope.builder()
+                            .hasNextPage(true)
+                            .endCursor("cursor-${cursors.size}")
+                            .build()
+                        val envelope = if (cursor == null) SearchEnvelope(projectList, pageInfo)
+                        else SearchEnvelope(secondPageList, pageInfo)
+                        return Result.success(envelope)
+                    }
+                })
+            .statsigClient(MockStatsigClient(context = application()))
+            .build()
+
+        setUpEnvironment(environment, dispatcher)
+
+        val searchState = mutableListOf<SearchUIState>()
+        backgroundScope.launch(dispatcher) {
+            viewModel.updateSearchTerm("")
+            viewModel.updateParamsToSearchWith(null, DiscoveryParams.Sort.MAGIC)
+            viewModel.searchUIState.toList(searchState)
+        }
+
+        advanceUntilIdle()
+        viewModel.loadMore()
+        advanceUntilIdle()
+
+        assertEquals(listOf(null, "cursor-1"), cursors)
+        assertEquals(projectList + secondPageList, searchState.last().popularProjectsList)
+    }
+
+    @Test
+    fun `test editing the term cancels the request of the superseded term`() = runTest {
+        val projectList = listOf(ProjectFactory.project(), ProjectFactory.prelaunchProject(""))
+        val requestedTerms = mutableListOf<String?>()
+        val cancelledTerms = mutableListOf<String?>()
+
+        val dispatcher = UnconfinedTestDispatcher(testScheduler)
+        val environment = environment()
+            .toBuilder()
+            .apolloClientV2(
+                object : MockApolloClientV2() {
+                    override suspend fun getSearchProjects(
+                        discoveryParams: DiscoveryParams,
+                        cursor: String?
+                    ): Result<SearchEnvelope> {
+                        requestedTerms.add(discoveryParams.term())
+                        if (discoveryParams.term() != "hello") return Result.success(SearchEnvelope(projectList))
+
+                        try {
+                            awaitCancellation()
+                        } finally {
+                            cancelledTerms.add(discoveryParams.term())
+                        }
+                    }
+                })
+            .statsigClient(MockStatsigClient(context = application()))
+            .build()
+
+        setUpEnvironment(environment, dispatcher)
+
+        val searchState = mutableListOf<SearchUIState>()
+        backgroundScope.launch(dispatcher) {
+            viewModel.searchUIState.toList(searchState)
+        }
+
+        viewModel.updateSearchTerm("hello")
+        advanceUntilIdle()
+        assertEquals(listOf(null, "hello"), requestedTerms)
+        assertTrue(cancelledTerms.isEmpty())
+
+        viewModel.updateSearchTerm("hello world")
+        advanceUntilIdle()
+
+        assertEquals(listOf(null, "hello", "hello world"), requestedTerms)
+        assertEquals(listOf<String?>("hello"), cancelledTerms)
+        assertEquals(projectList, searchState.last().searchList)
+    }
+
     @Test
     fun `test for searching a tem with category, sorting, projectStatus, percentage raised, amount raised, goal, and location, other toggles load two pages`() = runTest {
         var params: DiscoveryParams? = null
@@ -0,0 +1,78 @@
+package com.kickstarter.features.socialshare
+
+import android.graphics.Bitmap
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.features.socialshare.data.ShareCardKey
+import com.kickstarter.features.socialshare.data.ShareCardVariant
+import com.kickstarter.features.socialshare.data.SocialShareData
+import kotlinx.coroutines.test.runTest
+import org.junit.Test
+import java.io.File
+import java.util.Locale
+
+class ShareImageCacheTest : KSRobolectricTestCase() {
+
+    private val shareData = SocialShareData(
+        projectName = "Ringo Move - The Ultimate Workout Bottle",
+        projectUrl = "https://www.kickstarter.com/projects/ringo/ringo-move",
+        imageUrl = "https://example.com/image.jpg",
+        creatorName = "Ringo",
+        projectId = 1L
+    )
+
+    private fun key(data: SocialShareData = shareData, locale: Locale = Locale.US) =
+        ShareCardKey.of(data, ShareCardVariant.PROJECT_CARD, locale)
+
+    private fun bitmap(): Bitmap = Bitmap.createBitmap(4, 4, Bitmap.Config.ARGB_8888)
+
+    private fun shareDir() = File(context().cacheDir, "share_images")
+
+    @Test
+    fun `key changes with the locale and what the card draws`() {
+        assertEquals(key(), key())
+        assertFalse(key() == key(locale = Locale.FRANCE))
+        assertFalse(key() == key(shareData.copy(projectName = "Ringo Move 2")))
+    }
+
+    @Test
+    fun `cachedUri returns the card written for the same key`() = runTest {
+        assertNull(ShareImageCache.cachedUri(context(), key()))
+
+        val uri = ShareImageCache.cacheBitmap(context(), key(), bitmap())
+
+        assertNotNull(uri)
+        assertEquals(uri, ShareImageCache.cachedUri(context(), key()))
+    }
+
+    @Test
+    fun `every entry gets its own uri`() = runTest {
+        val first = ShareImageCache.cacheBitmap(context(), key(), bitmap())
+        val second = ShareImageCache.cacheBitmap(context(), key(shareData.copy(projectId = 2L)), bitmap())
+
+        assertFalse(first == second)
+        assertNotNull(ShareImageCache.cachedUri(context(), key()))
+    }
+
+    @Test
+    fun `a new render replaces the one made before the project changed`() = runTest {
+        ShareImageCache.cacheBitmap(context(), key(), bitmap())
+        val renamed = key(shareData.copy(projectName = "Ringo Move 2"))
+        ShareImageCache.cacheBitmap(context(), renamed, bitmap())
+
+        assertNull(ShareImageCache.cachedUri(context(), key()))
+        assertEquals(listOf(renamed.fileName()), shareDir().list()?.toList())
+    }
+
+    @Test
+    fun `cacheBitmap trims the least recently used entries`() = runTest {
+        (1L..20L).forEach { projectId ->
+            ShareImageCache.cacheBitmap(context(), key(shareData.copy(projectId = projectId)), bitmap())
+            File(shareDir(), key(shareData.copy(projectId = projectId)).fileName()).setLastModified(projectId * 1_000)
+        }
+        ShareImageCache.cacheBitmap(context(), key(shareData.copy(projectId = 21L)), bitmap())
+
+        assertEquals(16, shareDir().list()?.size)
+        assertNull(ShareImageCache.cachedUri(context(), key(shareData.copy(projectId = 1L))))
+        assertNotNull(ShareImageCache.cachedUri(context(), key(shareData.copy(projectId = 21L))))
+    }
+}
@@ -16,6 +16,7 @@ import androidx.compose.ui.test.onNodeWithText
 import androidx.compose.ui.test.performClick
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.features.socialshare.SocialShareService
+import com.kickstarter.features.socialshare.data.ShareCardKey
 import com.kickstarter.features.socialshare.data.SocialShareData
 import com.kickstarter.features.socialshare.data.SocialSharePlatform
 import com.kickstarter.features.socialshare.viewmodel.SocialShareViewModel
@@ -311,7 +312,8 @@ class SocialShareSheetTest : KSRobolectricTestCase() {
         override suspend fun loadShareImage(imageUrl: String): Bitmap? {
             kotlinx.coroutines.awaitCancellation()
         }
-        override suspend fun cacheShareImage(bitmap: Bitmap): Uri = fakeImageUri
+        override suspend fun cachedShareImage(key: ShareCardKey): Uri? = null
+        override suspend fun cacheShareImage(key: ShareCardKey, bitmap: Bitmap): Uri = fakeImageUri
         override fun buildIntent(
             platform: SocialSharePlatform,
             shareData: SocialShareData,
@@ -5,6 +5,7 @@ import android.graphics.Bitmap
 import android.net.Uri
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.features.socialshare.SocialShareService
+import com.kickstarter.features.socialshare.data.ShareCardKey
 import com.kickstarter.features.socialshare.data.SocialShareData
 import com.kickstarter.features.socialshare.data.SocialSharePlatform
 import com.kickstarter.libs.RefTag
@@ -151,7 +152,7 @@ class SocialShareViewModelTest : KSRobolectricTestCase() {
         val dispatcher = UnconfinedTestDispatcher(testScheduler)
 
         val service = object : FakeSocialShareService() {
-            override suspend fun cacheShareImage(bitmap: Bitmap): Uri = fakeImageUri
+            override suspend fun cacheShareImage(key: ShareCardKey, bitmap: Bitmap): Uri = fakeImageUri
         }
 
         val viewModel = buildViewModel(service, dispatcher = dispatcher)
@@ -169,7 +170,7 @@ class SocialShareViewModelTest : KSRobolectricTestCase() {
         val dispatcher = UnconfinedTestDispatcher(testScheduler)
 
         val service = object : FakeSocialShareService() {
-            override suspend fun cacheShareImage(bitmap: Bitmap): Uri? = null
+            override suspend fun cacheShareImage(key: ShareCardKey, bitmap: Bitmap): Uri? = null
         }
 
         var errorMessage: String? = null
@@ -191,7 +192,7 @@ class SocialShareViewModelTest : KSRobolectricTestCase() {
         var cacheCount = 0
 
         val service = object : FakeSocialShareService() {
-            override suspend fun cacheShareImage(bitmap: Bitmap): Uri {
+            override suspend fun cacheShareImage(key: ShareCardKey, bitmap: Bitmap): Uri {
                 cacheCount++
                 return fakeImageUri
             }
@@ -207,6 +208,31 @@ class SocialShareViewModelTest : KSRobolectricTestCase() {
         assertEquals(1, cacheCount)
     }
 
+    @Test
+    fun `init reuses a card captured in a previous session`() = runTest {
+        val dispatcher = UnconfinedTestDispatcher(testScheduler)
+        var cacheCount = 0
+
+        val service = object : FakeSocialShareService() {
+            override suspend fun cachedShareImage(key: ShareCardKey): Uri = fakeImageUri
+            override suspend fun cacheShareImage(key: ShareCardKey, bitmap: Bitmap): Uri {
+                cacheCount++
+                return fakeImageUri
+            }
+        }
+
+        val viewModel = buildViewModel(service, dispatcher = dispatcher)
+        advanceUntilIdle()
+
+        assertEquals(fakeImageUri, viewModel.uiState.value.shareImageUri)
+        assertFalse(viewModel.uiState.value.isGeneratingImage)
+
+        viewModel.onCardCaptured(fakeBitmap())
+        advanceUntilIdle()
+
+        assertEquals(0, cacheCount)
+    }
+
     // - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - -
     // onPlatformSelected
     // - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - - -
@@ -443,7 +469,8 @@ class SocialShareViewModelTest : KSRobolectricTestCase() {
         override fun getInstalledPlatforms(): List<SocialSharePlatform> = fakePlatforms()
         override fun copyToClipboard(label: String, url: String) {}
         override suspend fun loadShareImage(imageUrl: String): Bitmap? = fakeBitmap()
-        override suspend fun cacheShareImage(bitmap: Bitmap): Uri? = fakeImageUri
+        override suspend fun cachedShareImage(key: ShareCardKey): Uri? = null
+        override suspend fun cacheShareImage(key: ShareCardKey, bitmap: Bitmap): Uri? = fakeImageUri
         override fun buildIntent(
             platform: SocialSharePlatform,
             shareData: SocialShareData,
@@ -0,0 +1,116 @@
+package com.kickstarter.features.videofeed.ui
+
+import androidx.media3.common.C
+import androidx.media3.exoplayer.ExoPlayer
+import androidx.media3.exoplayer.offline.Downloader
+import com.kickstarter.KSRobolectricTestCase
+import kotlinx.coroutines.runBlocking
+import org.junit.Test
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.never
+import org.mockito.Mockito.times
+import org.mockito.Mockito.verify
+import java.util.Collections
+
+class VideoPlayerPoolTest : KSRobolectricTestCase() {
+    private val created = mutableListOf<ExoPlayer>()
+    private val downloaded = Collections.synchronizedList(mutableListOf<String>())
+    private val pool = VideoPlayerPool(
+        context(),
+        capacity = 2,
+        createPlayer = { mock(ExoPlayer::class.java).also { created.add(it) } },
+        createDownloader = { _, videoUrl -> StoppingDownloader(videoUrl) }
+    )
+
+    @Test
+    fun testAcquire_returnsThePlayerOfTheSamePage() {
+        val player = pool.acquire(1L, "https://ksr.com/1.m3u8")
+
+        assertSame(player, pool.acquire(1L, "https://ksr.com/1.m3u8"))
+        assertEquals(1, created.size)
+        verify(player, times(1)).prepare()
+    }
+
+    @Test
+    fun testRecycle_afterTheUrlOfThePageChanged_keepsThePlayerInUse() {
+        val player = pool.acquire(1L, "https://ksr.com/1.m3u8")
+        assertSame(player, pool.acquire(1L, "https://ksr.com/1-hd.m3u8"))
+
+        // - The effect of the previous url is disposed after the page acquired the new one
+        pool.recycle(1L, "https://ksr.com/1.m3u8")
+
+        verify(player, times(2)).prepare()
+        verify(player, never()).stop()
+        assertSame(player, pool.acquire(1L, "https://ksr.com/1-hd.m3u8"))
+        assertEquals(1, created.size)
+    }
+
+    @Test
+    fun testRecycle_reusesIdlePlayers() {
+        val first = pool.acquire(1L, "https://ksr.com/1.m3u8")
+        pool.recycle(1L, "https://ksr.com/1.m3u8")
+
+        val second = pool.acquire(2L, "https://ksr.com/2.m3u8")
+
+        assertSame(first, second)
+        assertEquals(1, created.size)
+        verify(first).stop()
+        verify(first, never()).release()
+    }
+
+    @Test
+    fun testRecycle_releasesPlayersOverCapacity() {
+        val players = (1L..3L).map { pool.acquire(it, "https://ksr.com/$it.m3u8") }
+        assertEquals(3, created.size)
+
+        players.indices.forEach { pool.recycle(it + 1L, "https://ksr.com/${it + 1L}.m3u8") }
+
+        // - The first one comes back while the other two are still in use
+        verify(players[0]).release()
+        verify(players[1], never()).release()
+        verify(players[2], never()).release()
+    }
+
+    @Test
+    fun testRelease_releasesEveryPlayer() {
+        val inUse = pool.acquire(1L, "https://ksr.com/1.m3u8")
+        val idle = pool.acquire(2L, "https://ksr.com/2.m3u8")
+        pool.recycle(2L, "https://ksr.com/2.m3u8")
+
+        pool.release()
+        pool.recycle(1L, "https://ksr.com/1.m3u8")
+
+        verify(inUse).release()
+        verify(idle).release()
+    }
+
+    @Test
+    fun testPreload_cachesEveryUrlInOrder() = runBlocking {
+        pool.preload(listOf("https://ksr.com/1.m3u8", "https://ksr.com/2.m3u8"))
+        pool.awaitPreload()
+
+        assertEquals(listOf("https://ksr.com/1.m3u8", "https://ksr.com/2.m3u8"), downloaded)
+        assertTrue(pool.isPreloaded("https://ksr.com/1.m3u8"))
+        assertTrue(pool.isPreloaded("https://ksr.com/2.m3u8"))
+    }
+
+    /**
+     * Reports enough bytes right away and, like the HLS downloader, throws [InterruptedException] once the
+     * progress listener cancels it.
+     */
+    private inner class StoppingDownloader(private val videoUrl: String) : Downloader {
+        @Volatile private var isCanceled = false
+
+        override fun download(progressListener: Downloader.ProgressListener?) {
+            downloaded.add(videoUrl)
+            progressListener?.onProgress(C.LENGTH_UNSET.toLong(), VideoPlayerPool.PRELOAD_BYTES, C.PERCENTAGE_UNSET.toFloat())
+            if (isCanceled) throw InterruptedException()
+        }
+
+        override fun cancel() {
+            isCanceled = true
+        }
+
+        override fun remove() {}
+    }
+}
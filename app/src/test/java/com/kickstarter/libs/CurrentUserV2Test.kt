@@ -0,0 +1,100 @@
+package com.kickstarter.libs
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.preferences.MockStringPreference
+import com.kickstarter.libs.utils.KsOptional
+import com.kickstarter.mock.factories.UserFactory
+import com.kickstarter.models.User
+import io.reactivex.observers.TestObserver
+import io.reactivex.plugins.RxJavaPlugins
+import io.reactivex.schedulers.TestScheduler
+import org.junit.After
+import org.junit.Test
+
+class CurrentUserV2Test : KSRobolectricTestCase() {
+
+    private val deviceRegistrar = object : DeviceRegistrarType {
+        override fun registerDevice() {}
+        override fun unregisterDevice() {}
+    }
+
+    private fun currentUser(userPreference: MockStringPreference) =
+        CurrentUserV2(MockStringPreference(), deviceRegistrar, requireNotNull(environment().gson()), userPreference)
+
+    private fun persisted(user: User) = MockStringPreference(environment().gson()?.toJson(user, User::class.java))
+
+    @After
+    fun tearDownSchedulers() {
+        RxJavaPlugins.reset()
+    }
+
+    @Test
+    fun testObservable_emitsPersistedUserOnSubscription() {
+        val user = UserFactory.user()
+        val currentUser = currentUser(persisted(user))
+
+        val observer = TestObserver<KsOptional<User>>()
+        currentUser.observable().subscribe(observer)
+
+        observer.awaitCount(1)
+        observer.assertValueCount(1)
+        assertEquals(user.id(), observer.values().first().getValue()?.id())
+        assertTrue(currentUser.exists())
+    }
+
+    @Test
+    fun testObservable_subscribingBeforeBootstrap_doesNotBlock() {
+        val io = TestScheduler()
+        RxJavaPlugins.setIoSchedulerHandler { io }
+
+        val user = UserFactory.user()
+        val currentUser = currentUser(persisted(user))
+
+        // - The persisted user hasn't been read yet, subscribing returns right away without a value
+        val observer = TestObserver<KsOptional<User>>()
+        currentUser.observable().subscribe(observer)
+        observer.assertNoValues()
+
+        io.triggerActions()
+
+        observer.assertValueCount(1)
+        assertEquals(user.id(), observer.values().first().getValue()?.id())
+    }
+
+    @Test
+    fun testObservable_emitsEmptyWithoutPersistedUser() {
+        val observer = TestObserver<Boolean>()
+        currentUser(MockStringPreference()).isLoggedIn.subscribe(observer)
+
+        observer.awaitCount(1)
+        observer.assertValues(false)
+    }
+
+    @Test
+    fun testLoginBeforeBootstrap_winsOverPersistedUser() {
+        val io = TestScheduler()
+        RxJavaPlugins.setIoSchedulerHandler { io }
+
+        val loggedIn = UserFactory.user().toBuilder().id(2).build()
+        val currentUser = currentUser(persisted(UserFactory.user().toBuilder().id(1).build()))
+        currentUser.login(loggedIn)
+        io.triggerActions()
+
+        val observer = TestObserver<KsOptional<User>>()
+        currentUser.observable().subscribe(observer)
+        observer.assertValueCount(1)
+        assertEquals(2L, observer.values().first().getValue()?.id())
+    }
+
+    @Test
+    fun testLogoutBeforeBootstrap_winsOverPersistedUser() {
+        val io = TestScheduler()
+        RxJavaPlugins.setIoSchedulerHandler { io }
+
+        val currentUser = currentUser(persisted(UserFactory.user()))
+        currentUser.logout()
+        io.triggerActions()
+
+        assertNull(currentUser.getUser())
+    }
+}
@@ -1,5 +1,6 @@
 package com.kickstarter.libs
 
+import com.google.android.gms.tasks.Tasks
 import com.google.firebase.remoteconfig.FirebaseRemoteConfig
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.libs.featureflag.FeatureFlagClient
@@ -7,10 +8,14 @@ import com.kickstarter.libs.featureflag.FeatureFlagClient.Companion.INTERNAL_INT
 import com.kickstarter.libs.featureflag.FeatureFlagClient.Companion.RELEASE_INTERVAL
 import com.kickstarter.libs.featureflag.FlagKey
 import com.kickstarter.libs.featureflag.getFetchInterval
+import io.mockk.clearMocks
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.mockkStatic
+import io.mockk.verify
+import kotlinx.coroutines.test.runTest
 import org.junit.Test
+import timber.log.Timber
 
 class FeatureFlagClientTest : KSRobolectricTestCase() {
 
@@ -106,4 +111,74 @@ class FeatureFlagClientTest : KSRobolectricTestCase() {
         ffClient.initialize(null)
         assertEquals(ffClient2.getString(FlagKey.ANDROID_HIDE_APP_RATING_DIALOG), "")
     }
+
+    @Test
+    fun testFetchAndActivate_replacesSnapshot() = runTest {
+        val mockFirebase = mockk<FirebaseRemoteConfig>(relaxed = true)
+        val mockBuild = mockk<Build>()
+        every { mockFirebase.getBoolean(FlagKey.ANDROID_ENCRYPT.key) } returns false
+        every { mockBuild.isDebug } returns false
+
+        val ffClient = FeatureFlagClient(mockBuild)
+        ffClient.initialize(mockFirebase)
+
+        // - Values fetched but not activated yet don't change what the app reads
+        every { mockFirebase.getBoolean(FlagKey.ANDROID_ENCRYPT.key) } returns true
+        assertFalse(ffClient.getBoolean(FlagKey.ANDROID_ENCRYPT))
+
+        every { mockFirebase.fetchAndActivate() } returns Tasks.forResult(true)
+        assertTrue(ffClient.fetchAndActivate())
+        assertTrue(ffClient.getBoolean(FlagKey.ANDROID_ENCRYPT))
+    }
+
+    @Test
+    fun testReads_costNoRemoteConfigCallsOrLogs() {
+        val mockFirebase = mockk<FirebaseRemoteConfig>(relaxed = true)
+        val mockBuild = mockk<Build>()
+        every { mockFirebase.getBoolean(FlagKey.ANDROID_ENCRYPT.key) } returns true
+        every { mockBuild.isDebug } returns false
+
+        val keys = FlagKey.values()
+        val ffClient = FeatureFlagClient(mockBuild)
+        ffClient.initialize(mockFirebase)
+
+        // - Building the snapshot reads every key once per type, that's the whole cost of an activation
+        verify(exactly = keys.size) { mockFirebase.getBoolean(any()) }
+        verify(exactly = keys.size) { mockFirebase.getDouble(any()) }
+        verify(exactly = keys.size) { mockFirebase.getLong(any()) }
+        verify(exactly = keys.size) { mockFirebase.getString(any()) }
+        clearMocks(mockFirebase, answers = false)
+
+        val logs = mutableListOf<String>()
+        val tree = object : Timber.Tree() {
+            override fun log(priority: Int, tag: String?, message: String, t: Throwable?) {
+                logs.add(message)
+            }
+        }
+        Timber.plant(tree)
+        try {
+            repeat(READS) {
+                keys.forEach { key ->
+                    ffClient.getBoolean(key)
+                    ffClient.getDouble(key)
+                    ffClient.getLong(key)
+                    ffClient.getString(key)
+                }
+            }
+        } finally {
+            Timber.uproot(tree)
+        }
+
+        // - Zero remote config calls and zero log messages for READS reads of every key
+        verify(exactly = 0) { mockFirebase.getBoolean(any()) }
+        verify(exactly = 0) { mockFirebase.getDouble(any()) }
+        verify(exactly = 0) { mockFirebase.getLong(any()) }
+        verify(exactly = 0) { mockFirebase.getString(any()) }
+        assertTrue(logs.isEmpty())
+        assertTrue(ffClient.getBoolean(FlagKey.ANDROID_ENCRYPT))
+    }
+
+    companion object {
+        private const val READS = 1_000
+    }
 }
@@ -0,0 +1,37 @@
+package com.kickstarter.libs
+
+import android.app.ActivityManager
+import android.content.Context
+import com.kickstarter.KSRobolectricTestCase
+import org.junit.Test
+import org.robolectric.Shadows.shadowOf
+
+class ImagePipelineTest : KSRobolectricTestCase() {
+
+    @Test
+    fun testSizeBucket_roundsUpToTheClosestBucket() {
+        assertEquals(0, ImagePipeline.sizeBucket(0))
+        assertEquals(64, ImagePipeline.sizeBucket(1))
+        assertEquals(720, ImagePipeline.sizeBucket(700))
+        assertEquals(720, ImagePipeline.sizeBucket(720))
+        assertEquals(1080, ImagePipeline.sizeBucket(721))
+    }
+
+    @Test
+    fun testSizeBucket_keepsSizesOverTheLargestBucket() {
+        assertEquals(3000, ImagePipeline.sizeBucket(3000))
+    }
+
+    @Test
+    fun testMemoryBudget_followsTheDeviceRamClass() {
+        val activityManager = context().getSystemService(Context.ACTIVITY_SERVICE) as ActivityManager
+        shadowOf(activityManager).setMemoryClass(256)
+
+        assertEquals(64L * 1024 * 1024, ImagePipeline.memoryBudgetBytes(context()))
+        assertEquals((64L * 1024 * 1024 * 0.2).toLong(), ImagePipeline.glideMemoryBudgetBytes(context()))
+
+        shadowOf(activityManager).setIsLowRamDevice(true)
+
+        assertEquals((256L * 1024 * 1024 * 0.15).toLong(), ImagePipeline.memoryBudgetBytes(context()))
+    }
+}
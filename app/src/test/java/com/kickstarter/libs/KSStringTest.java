@@ -55,6 +55,17 @@ public class KSStringTest extends KSRobolectricTestCase {
     assertEquals("by %{name}", ksString().format(string, "invalid_key", "foo"));
   }
 
+  @Test
+  public void testFormat_sameStringWithDifferentValues() {
+    final String string = "%{remaining} of %{total}";
+    final KSString ksString = ksString();
+
+    assertEquals("1 of 5", ksString.format(string, "remaining", "1", "total", "5"));
+    assertEquals("2 of %{total}", ksString.format(string, "remaining", "2"));
+    ksString.clearTemplates();
+    assertEquals("3 of 5", ksString.format(string, "remaining", "3", "total", "5"));
+  }
+
   /**
    * Catch issue with regexp substitution where `$` needs to be escaped.
    */
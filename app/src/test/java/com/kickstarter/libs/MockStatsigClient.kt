@@ -108,6 +108,10 @@ open class MockStatsigClient(
             )
         }
 
+    override fun evaluateGate(gateName: String): FeatureGate = getFeatureGate(gateName)
+
+    override fun logGateExposure(gateName: String) {}
+
     override fun getExperiment(experimentName: String): DynamicConfig =
         DynamicConfig(
             name = experimentName,
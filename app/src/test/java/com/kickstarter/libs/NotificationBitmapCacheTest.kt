@@ -0,0 +1,36 @@
+package com.kickstarter.libs
+
+import android.graphics.Bitmap
+import com.kickstarter.KSRobolectricTestCase
+import org.junit.Test
+
+class NotificationBitmapCacheTest : KSRobolectricTestCase() {
+
+    @Test
+    fun testBitmapsAreKeyedByUrlAndTransform() {
+        val cache = NotificationBitmapCache()
+        val bitmap = Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888)
+
+        cache.put("https://ksr.com/avatar.jpg", NotificationBitmapCache.Transform.CIRCLE, bitmap)
+
+        assertEquals(bitmap, cache.get("https://ksr.com/avatar.jpg", NotificationBitmapCache.Transform.CIRCLE))
+        assertNull(cache.get("https://ksr.com/avatar.jpg", NotificationBitmapCache.Transform.ROUNDED_SQUARE))
+        assertNull(cache.get("https://ksr.com/other.jpg", NotificationBitmapCache.Transform.CIRCLE))
+    }
+
+    @Test
+    fun testLeastRecentlyUsedBitmapIsEvicted() {
+        val bitmapSize = Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888).byteCount
+        val cache = NotificationBitmapCache(maxSizeBytes = bitmapSize * 2)
+
+        cache.put("first", NotificationBitmapCache.Transform.CIRCLE, Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888))
+        cache.put("second", NotificationBitmapCache.Transform.CIRCLE, Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888))
+        cache.get("first", NotificationBitmapCache.Transform.CIRCLE)
+        cache.put("third", NotificationBitmapCache.Transform.CIRCLE, Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888))
+
+        assertNotNull(cache.get("first", NotificationBitmapCache.Transform.CIRCLE))
+        assertNull(cache.get("second", NotificationBitmapCache.Transform.CIRCLE))
+        assertNotNull(cache.get("third", NotificationBitmapCache.Transform.CIRCLE))
+        assertEquals(bitmapSize * 2, cache.size())
+    }
+}
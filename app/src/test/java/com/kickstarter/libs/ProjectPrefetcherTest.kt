@@ -0,0 +1,70 @@
+package com.kickstarter.libs
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.factories.ProjectFactory
+import io.reactivex.Observable
+import io.reactivex.schedulers.TestScheduler
+import org.junit.Test
+import java.util.concurrent.TimeUnit
+
+class ProjectPrefetcherTest : KSRobolectricTestCase() {
+
+    private var now = 0L
+    private val scheduler = TestScheduler()
+    private val prefetcher = ProjectPrefetcher({ now }, scheduler)
+
+    @Test
+    fun testPrefetch_startsOneFetchPerParam() {
+        var fetches = 0
+        val fetch = {
+            fetches++
+            Observable.just(ProjectFactory.project())
+        }
+
+        prefetcher.prefetch("skull-graphic-tee", fetch)
+        prefetcher.prefetch("skull-graphic-tee", fetch)
+
+        assertEquals(1, fetches)
+    }
+
+    @Test
+    fun testTake_handsTheFetchOverOnce() {
+        val project = ProjectFactory.project()
+        prefetcher.prefetch("skull-graphic-tee") { Observable.just(project) }
+
+        assertEquals(project, prefetcher.take("skull-graphic-tee")?.blockingFirst())
+        assertNull(prefetcher.take("skull-graphic-tee"))
+        assertNull(prefetcher.take("another-project"))
+    }
+
+    @Test
+    fun testTake_ignoresOldFetches() {
+        prefetcher.prefetch("skull-graphic-tee") { Observable.just(ProjectFactory.project()) }
+
+        now += ProjectPrefetcher.MAX_AGE_MILLIS + 1
+
+        assertNull(prefetcher.take("skull-graphic-tee"))
+    }
+
+    @Test
+    fun testPrefetch_dropsFetchesNobodyTakes() {
+        prefetcher.prefetch("skull-graphic-tee") { Observable.just(ProjectFactory.project()) }
+        assertEquals(1, prefetcher.size())
+
+        scheduler.advanceTimeBy(ProjectPrefetcher.MAX_AGE_MILLIS, TimeUnit.MILLISECONDS)
+
+        assertEquals(0, prefetcher.size())
+    }
+
+    @Test
+    fun testPrefetch_evictionLeavesANewerFetchOfTheSameParam() {
+        prefetcher.prefetch("skull-graphic-tee") { Observable.just(ProjectFactory.project()) }
+        prefetcher.take("skull-graphic-tee")
+
+        scheduler.advanceTimeBy(ProjectPrefetcher.MAX_AGE_MILLIS / 2, TimeUnit.MILLISECONDS)
+        prefetcher.prefetch("skull-graphic-tee") { Observable.just(ProjectFactory.project()) }
+        scheduler.advanceTimeBy(ProjectPrefetcher.MAX_AGE_MILLIS / 2, TimeUnit.MILLISECONDS)
+
+        assertEquals(1, prefetcher.size())
+    }
+}
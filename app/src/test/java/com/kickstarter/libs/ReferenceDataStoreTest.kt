@@ -0,0 +1,157 @@
+package com.kickstarter.libs
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.factories.CategoryFactory
+import com.kickstarter.mock.factories.LocationFactory
+import com.kickstarter.mock.factories.TagFactory
+import com.kickstarter.models.Category
+import io.reactivex.Observable
+import io.reactivex.observers.TestObserver
+import io.reactivex.schedulers.Schedulers
+import org.junit.Test
+import java.io.File
+import java.util.Locale
+
+class ReferenceDataStoreTest : KSRobolectricTestCase() {
+
+    private var now = 0L
+
+    private fun file() = File(context().filesDir, ReferenceDataStore.FILE_NAME).apply { delete() }
+
+    private var locale = Locale.US
+
+    private fun store(file: File?) =
+        ReferenceDataStore(file, writeScheduler = Schedulers.trampoline(), clock = { now }, locale = { locale })
+
+    @Test
+    fun testPut_readsBackFromDisk() {
+        val file = file()
+        val categories = listOf(CategoryFactory.artCategory(), CategoryFactory.ceramicsCategory())
+        val locations = listOf(LocationFactory.sydney(), LocationFactory.vancouver())
+
+        store(file).apply {
+            putCategories(categories)
+            putTags(TagFactory.tags())
+            putPopularLocations(locations)
+        }
+
+        val reloaded = store(file)
+        assertEquals(categories, reloaded.categories())
+        assertEquals(CategoryFactory.artCategory(), reloaded.categories()?.last()?.parent())
+        assertEquals(TagFactory.tags(), reloaded.tags())
+        assertEquals(locations.map { it.displayableName() }, reloaded.popularLocations()?.map { it.displayableName() })
+        assertFalse(reloaded.needsRefresh(ReferenceDataStore.Kind.CATEGORIES))
+    }
+
+    @Test
+    fun testNeedsRefresh_afterMaxAge() {
+        val store = store(null)
+        assertTrue(store.needsRefresh(ReferenceDataStore.Kind.TAGS))
+
+        store.putTags(TagFactory.tags())
+        assertFalse(store.needsRefresh(ReferenceDataStore.Kind.TAGS))
+
+        now += ReferenceDataStore.MAX_AGE_MILLIS + 1
+        assertTrue(store.needsRefresh(ReferenceDataStore.Kind.TAGS))
+        assertEquals(TagFactory.tags(), store.tags())
+
+        assertFalse(store.putTags(TagFactory.tags()))
+        assertFalse(store.needsRefresh(ReferenceDataStore.Kind.TAGS))
+        assertTrue(store.putTags(TagFactory.tags().take(1)))
+    }
+
+    @Test
+    fun testLocationsMatching_prefixOfAnyWord() {
+        val store = store(null)
+        store.rememberLocations(listOf(LocationFactory.sydney(), LocationFactory.vancouver(), LocationFactory.unitedStates()))
+
+        assertEquals(listOf(LocationFactory.vancouver().id()), store.locationsMatching("Van").map { it.id() })
+        assertEquals(listOf(LocationFactory.vancouver().id()), store.locationsMatching("canada").map { it.id() })
+        assertEquals(listOf(LocationFactory.unitedStates().id()), store.locationsMatching("brooklyn, n").map { it.id() })
+        assertTrue(store.locationsMatching("berlin").isEmpty())
+        assertTrue(store.locationsMatching(" ").isEmpty())
+    }
+
+    @Test
+    fun testRememberLocations_writesOnlyWhenSomethingNewIsIndexed() {
+        var writes = 0
+        val store = ReferenceDataStore(
+            file(),
+            writeScheduler = Schedulers.from { writes++; it.run() },
+            clock = { now },
+            locale = { locale }
+        )
+
+        store.rememberLocations(listOf(LocationFactory.sydney(), LocationFactory.vancouver()))
+        assertEquals(1, writes)
+
+        // - The same typeahead results again
+        store.rememberLocations(listOf(LocationFactory.vancouver(), LocationFactory.sydney()))
+        store.rememberLocations(emptyList())
+        assertEquals(1, writes)
+
+        store.rememberLocations(listOf(LocationFactory.sydney(), LocationFactory.unitedStates()))
+        assertEquals(2, writes)
+
+        val updated = LocationFactory.sydney().toBuilder().projectsCount(LocationFactory.sydney().projectsCount() + 1).build()
+        store.rememberLocations(listOf(updated))
+        assertEquals(3, writes)
+    }
+
+    @Test
+    fun testLocaleChange_discardsStoredData() {
+        val file = file()
+        store(file).apply {
+            putCategories(listOf(CategoryFactory.artCategory()))
+            rememberLocations(listOf(LocationFactory.vancouver()))
+        }
+
+        locale = Locale.GERMANY
+        val reloaded = store(file)
+        assertNull(reloaded.categories())
+        assertTrue(reloaded.needsRefresh(ReferenceDataStore.Kind.CATEGORIES))
+        assertTrue(reloaded.locationsMatching("Van").isEmpty())
+
+        // - Also while running, the app language can change without a restart
+        reloaded.putCategories(listOf(CategoryFactory.artCategory()))
+        locale = Locale.FRANCE
+        assertNull(reloaded.categories())
+    }
+
+    @Test
+    fun testLoad_discardsCorruptFile() {
+        val file = file().apply { writeText("not reference data") }
+
+        assertNull(store(file).categories())
+        assertFalse(file.exists())
+    }
+
+    @Test
+    fun testObserveCategories() {
+        val store = store(null)
+        var fetches = 0
+        val fetch = {
+            fetches++
+            Observable.just(listOf(CategoryFactory.artCategory()))
+        }
+
+        TestObserver<List<Category>>().apply {
+            store.observeCategories(fetch).subscribe(this)
+            assertValues(listOf(CategoryFactory.artCategory()))
+        }
+        TestObserver<List<Category>>().apply {
+            store.observeCategories(fetch).subscribe(this)
+            assertValues(listOf(CategoryFactory.artCategory()))
+        }
+        assertEquals(1, fetches)
+
+        // - Stale categories are served first, an unchanged refresh isn't emitted again
+        now += ReferenceDataStore.MAX_AGE_MILLIS + 1
+        TestObserver<List<Category>>().apply {
+            store.observeCategories(fetch).subscribe(this)
+            assertValues(listOf(CategoryFactory.artCategory()))
+            assertComplete()
+        }
+        assertEquals(2, fetches)
+    }
+}
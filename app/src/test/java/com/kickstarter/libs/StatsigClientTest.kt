@@ -2,9 +2,12 @@ package com.kickstarter.libs
 
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.libs.featureflag.StatsigClient
+import com.kickstarter.libs.featureflag.StatsigGateKey
 import com.kickstarter.mock.factories.UserFactory
+import com.statsig.androidsdk.EvalDetails
 import com.statsig.androidsdk.EvalReason
 import com.statsig.androidsdk.EvalSource
+import com.statsig.androidsdk.FeatureGate
 import com.statsig.androidsdk.InitializationDetails
 import com.statsig.androidsdk.InitializeFailReason
 import com.statsig.androidsdk.InitializeResponse
@@ -216,6 +219,52 @@ class StatsigClientTest : KSRobolectricTestCase() {
         assertFalse(result.getValue())
     }
 
+    @Test
+    fun `checkGate - Reads the gate snapshot and logs one exposure per gate and user`() {
+        val evaluated = mutableListOf<String>()
+        val exposures = mutableListOf<String>()
+        var videoFeedEnabled = true
+        val client = object : StatsigClient(
+            build = mockk<Build> { every { isRelease } returns false },
+            context = application(),
+            currentUser = requireNotNull(environment().currentUserV2()),
+            segmentTrackingClient = mockSegmentTrackingClient(),
+            sdkInitializer = { null }
+        ) {
+            override fun evaluateGate(gateName: String): FeatureGate {
+                evaluated += gateName
+                val value = gateName == StatsigGateKey.ANDROID_VIDEO_FEED.key && videoFeedEnabled
+                return FeatureGate(gateName, EvalDetails(EvalSource.Network, EvalReason.Recognized), value)
+            }
+
+            override fun logGateExposure(gateName: String) {
+                exposures += gateName
+            }
+        }
+
+        client.refreshGateSnapshot()
+        repeat(3) {
+            assertTrue(client.checkGate(StatsigGateKey.ANDROID_VIDEO_FEED.key))
+            assertFalse(client.getFeatureGate(StatsigGateKey.ANDROID_OPEN_CALLS.key).getValue())
+        }
+
+        assertEquals(StatsigGateKey.values().map { it.key }, evaluated)
+        assertEquals(listOf(StatsigGateKey.ANDROID_VIDEO_FEED.key, StatsigGateKey.ANDROID_OPEN_CALLS.key), exposures)
+
+        // - Refreshed for the same user, nothing is logged again
+        client.refreshGateSnapshot()
+        assertTrue(client.checkGate(StatsigGateKey.ANDROID_VIDEO_FEED.key))
+        assertEquals(2, exposures.size)
+
+        // - A new user gets new values, and is exposed again
+        videoFeedEnabled = false
+        client.refreshGateSnapshot(StatsigUser("1"))
+
+        assertFalse(client.checkGate(StatsigGateKey.ANDROID_VIDEO_FEED.key))
+        assertFalse(client.checkGate(StatsigGateKey.ANDROID_VIDEO_FEED.key))
+        assertEquals(3, exposures.size)
+    }
+
     @Test
     fun `getExperiment - unrecognized`() = runTest {
         val standardTestDispatcher = StandardTestDispatcher(testScheduler)
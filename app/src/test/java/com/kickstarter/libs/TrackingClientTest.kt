@@ -0,0 +1,79 @@
+package com.kickstarter.libs
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.MockCurrentConfigV2
+import com.kickstarter.mock.factories.ConfigFactory
+import com.kickstarter.mock.factories.UserFactory
+import org.junit.Test
+import java.util.concurrent.Executor
+
+class TrackingClientTest : KSRobolectricTestCase() {
+
+    private val queued = mutableListOf<Runnable>()
+    private val tracked = mutableListOf<Map<String, Any?>>()
+    private var now = 100L
+    private var snapshotsBuilt = 0
+
+    private fun client() = object : SegmentTrackingClient(
+        requireNotNull(environment().build()),
+        application(),
+        MockCurrentConfigV2().apply { config(ConfigFactory.config()) },
+        MockCurrentUserV2(),
+        MockSharedPreferences()
+    ) {
+        override fun isEnabled() = true
+        override fun time() = now
+        override fun deviceOrientation(): String {
+            snapshotsBuilt++
+            return super.deviceOrientation()
+        }
+        override fun trackingData(eventName: String, newProperties: Map<String, Any?>) {
+            tracked += newProperties
+        }
+    }.apply {
+        // - Events wait in the queue until the test runs them
+        trackingExecutor = Executor { queued += it }
+    }
+
+    @Test
+    fun testTrack_usesUserAndTimestampOfWhenTheEventHappened() {
+        val user = UserFactory.user()
+        val client = client()
+        client.identify(user)
+
+        client.track("Project Page Viewed", mapOf("context_page" to "project"))
+        client.reset()
+        now = 200L
+        client.track("Log Out")
+        queued.forEach { it.run() }
+
+        assertEquals(2, tracked.size)
+        assertEquals("project", tracked[0]["context_page"])
+        assertEquals(user.id().toString(), tracked[0]["user_uid"])
+        assertEquals(true, tracked[0]["session_user_is_logged_in"])
+        assertEquals(100L, tracked[0]["context_timestamp"])
+
+        assertNull(tracked[1]["user_uid"])
+        assertEquals(false, tracked[1]["session_user_is_logged_in"])
+        assertEquals(200L, tracked[1]["context_timestamp"])
+    }
+
+    @Test
+    fun testTrack_assemblesPropertiesOnTheTrackingThreadAndReusesThem() {
+        val client = client()
+        client.identify(UserFactory.user())
+
+        client.track("Project Page Viewed")
+        client.track("Project Page Viewed")
+        assertEquals(0, snapshotsBuilt)
+
+        queued.forEach { it.run() }
+        assertEquals(1, snapshotsBuilt)
+        assertEquals(tracked[0]["session_device_orientation"], tracked[1]["session_device_orientation"])
+
+        client.invalidatePropertiesSnapshot()
+        client.track("Project Page Viewed")
+        queued.last().run()
+        assertEquals(2, snapshotsBuilt)
+    }
+}
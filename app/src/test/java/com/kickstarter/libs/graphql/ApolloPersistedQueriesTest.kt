@@ -0,0 +1,75 @@
+package com.kickstarter.libs.graphql
+
+import com.apollographql.apollo3.ApolloClient
+import com.kickstarter.ClearUserUnseenActivityMutation
+import com.kickstarter.FetchCategoryQuery
+import kotlinx.coroutines.runBlocking
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+
+class ApolloPersistedQueriesTest {
+
+    private lateinit var server: MockWebServer
+    private lateinit var apolloClient: ApolloClient
+
+    @Before
+    fun setUp() {
+        server = MockWebServer()
+        server.start()
+        apolloClient = ApolloPersistedQueries.configure(
+            ApolloClient.Builder().serverUrl(server.url("/graph").toString())
+        ).build()
+    }
+
+    @After
+    fun tearDown() {
+        server.shutdown()
+    }
+
+    @Test
+    fun testKnownHash_sendsASingleGetWithoutTheDocument() = runBlocking {
+        server.enqueue(MockResponse().setBody("""{"data":{"category":null}}"""))
+
+        apolloClient.query(FetchCategoryQuery("art")).execute()
+
+        val request = server.takeRequest()
+        val url = requireNotNull(request.requestUrl)
+        assertEquals("GET", request.method)
+        assertNull(url.queryParameter("query"))
+        assertTrue(url.queryParameter("extensions").orEmpty().contains(FetchCategoryQuery.OPERATION_ID))
+        assertEquals(1, server.requestCount)
+    }
+
+    @Test
+    fun testUnknownHash_retriesWithTheFullDocument() = runBlocking {
+        server.enqueue(MockResponse().setBody("""{"errors":[{"message":"PersistedQueryNotFound"}]}"""))
+        server.enqueue(MockResponse().setBody("""{"data":{"category":null}}"""))
+
+        val response = apolloClient.query(FetchCategoryQuery("art")).execute()
+
+        assertFalse(response.hasErrors())
+        assertEquals("GET", server.takeRequest().method)
+        val retry = server.takeRequest()
+        assertEquals("POST", retry.method)
+        assertTrue(retry.body.readUtf8().contains(FetchCategoryQuery.OPERATION_DOCUMENT))
+        assertEquals(2, server.requestCount)
+    }
+
+    @Test
+    fun testMutations_areAlwaysPosted() = runBlocking {
+        server.enqueue(MockResponse().setBody("""{"data":{"clearUserUnseenActivity":{"activityIndicatorCount":0}}}"""))
+
+        apolloClient.mutation(ClearUserUnseenActivityMutation()).execute()
+
+        val request = server.takeRequest()
+        assertEquals("POST", request.method)
+        assertFalse(request.body.readUtf8().contains("\"query\""))
+    }
+}
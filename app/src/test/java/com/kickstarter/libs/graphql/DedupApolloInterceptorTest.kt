@@ -0,0 +1,234 @@
+package com.kickstarter.libs.graphql
+
+import com.apollographql.apollo3.ApolloClient
+import com.apollographql.apollo3.api.ApolloRequest
+import com.apollographql.apollo3.api.ApolloResponse
+import com.apollographql.apollo3.api.Operation
+import com.apollographql.apollo3.interceptor.ApolloInterceptorChain
+import com.kickstarter.ClearUserUnseenActivityMutation
+import com.kickstarter.FetchCategoryQuery
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.awaitCancellation
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.collect
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withTimeout
+import kotlinx.coroutines.yield
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Before
+import org.junit.Test
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class DedupApolloInterceptorTest {
+
+    private lateinit var server: MockWebServer
+    private var now = 0L
+    private var accessToken: String? = null
+    private val interceptor = DedupApolloInterceptor(accessToken = { accessToken }, ttlMillis = 1_000, clock = { now })
+
+    private lateinit var apolloClient: ApolloClient
+
+    @Before
+    fun setUp() {
+        server = MockWebServer()
+        server.start()
+        apolloClient = ApolloClient.Builder()
+            .serverUrl(server.url("/graph").toString())
+            .addInterceptor(interceptor)
+            .build()
+    }
+
+    @After
+    fun tearDown() {
+        server.shutdown()
+    }
+
+    @Test
+    fun testConcurrentIdenticalQueries_shareOneNetworkCall() = runBlocking {
+        server.enqueue(categoryResponse().setBodyDelay(300, TimeUnit.MILLISECONDS))
+
+        val responses = listOf(
+            async { apolloClient.query(FetchCategoryQuery("art")).execute() },
+            async { apolloClient.query(FetchCategoryQuery("art")).execute() }
+        ).awaitAll()
+
+        assertEquals(2, responses.size)
+        assertEquals(1, server.requestCount)
+        assertEquals(Pair(1, 1), interceptor.stats()["FetchCategory"])
+    }
+
+    @Test
+    fun testDifferentVariables_areNotShared() = runBlocking {
+        server.enqueue(categoryResponse())
+        server.enqueue(categoryResponse())
+
+        apolloClient.query(FetchCategoryQuery("art")).execute()
+        apolloClient.query(FetchCategoryQuery("games")).execute()
+
+        assertEquals(2, server.requestCount)
+    }
+
+    @Test
+    fun testResponse_isReusedUntilTheTtlExpires() = runBlocking {
+        server.enqueue(categoryResponse())
+        server.enqueue(categoryResponse())
+
+        apolloClient.query(FetchCategoryQuery("art")).execute()
+        now = 999
+        apolloClient.query(FetchCategoryQuery("art")).execute()
+        assertEquals(1, server.requestCount)
+
+        now = 1_000
+        apolloClient.query(FetchCategoryQuery("art")).execute()
+        assertEquals(2, server.requestCount)
+    }
+
+    @Test
+    fun testErrors_areNotCached() = runBlocking {
+        server.enqueue(MockResponse().setBody("""{"errors":[{"message":"Something went wrong"}],"data":null}"""))
+        server.enqueue(categoryResponse())
+
+        apolloClient.query(FetchCategoryQuery("art")).execute()
+        apolloClient.query(FetchCategoryQuery("art")).execute()
+
+        assertEquals(2, server.requestCount)
+    }
+
+    @Test
+    fun testClear_dropsCachedResponses() = runBlocking {
+        server.enqueue(categoryResponse())
+        server.enqueue(categoryResponse())
+
+        apolloClient.query(FetchCategoryQuery("art")).execute()
+        interceptor.clear()
+        apolloClient.query(FetchCategoryQuery("art")).execute()
+
+        assertEquals(2, server.requestCount)
+    }
+
+    @Test
+    fun testMutations_alwaysHitTheNetwork() = runBlocking {
+        val body = """{"data":{"clearUserUnseenActivity":{"activityIndicatorCount":0}}}"""
+        server.enqueue(MockResponse().setBody(body))
+        server.enqueue(MockResponse().setBody(body))
+
+        apolloClient.mutation(ClearUserUnseenActivityMutation()).execute()
+        apolloClient.mutation(ClearUserUnseenActivityMutation()).execute()
+
+        assertEquals(2, server.requestCount)
+    }
+
+    @Test
+    fun testExpiredResponses_areEvicted() = runBlocking {
+        server.enqueue(categoryResponse())
+        server.enqueue(categoryResponse())
+
+        apolloClient.query(FetchCategoryQuery("art")).execute()
+        now = 1_000
+        apolloClient.query(FetchCategoryQuery("games")).execute()
+
+        assertEquals(1, interceptor.cachedResponseCount())
+    }
+
+    @Test
+    fun testMutation_dropsCachedResponses() = runBlocking {
+        server.enqueue(categoryResponse())
+        server.enqueue(MockResponse().setBody("""{"data":{"clearUserUnseenActivity":{"activityIndicatorCount":0}}}"""))
+        server.enqueue(categoryResponse())
+
+        apolloClient.query(FetchCategoryQuery("art")).execute()
+        apolloClient.mutation(ClearUserUnseenActivityMutation()).execute()
+        apolloClient.query(FetchCategoryQuery("art")).execute()
+
+        assertEquals(3, server.requestCount)
+    }
+
+    @Test
+    fun testDifferentUsers_areNotShared() = runBlocking {
+        server.enqueue(categoryResponse())
+        server.enqueue(categoryResponse())
+
+        apolloClient.query(FetchCategoryQuery("art")).execute()
+        accessToken = "token"
+        apolloClient.query(FetchCategoryQuery("art")).execute()
+
+        assertEquals(2, server.requestCount)
+    }
+
+    @Test
+    fun testCancellingTheOnlyWaiter_cancelsTheCall() = runBlocking {
+        val chain = HangingChain()
+
+        val waiter = launch(Dispatchers.IO) {
+            interceptor.intercept(ApolloRequest.Builder(FetchCategoryQuery("art")).build(), chain).collect()
+        }
+        withTimeout(5_000) { chain.started.await() }
+        waiter.cancel()
+
+        withTimeout(5_000) { chain.cancelled.await() }
+        assertEquals(0, interceptor.inFlightCount())
+    }
+
+    @Test
+    fun testCancellingOneOfTwoWaiters_keepsTheCall() = runBlocking {
+        val chain = HangingChain()
+        val request = ApolloRequest.Builder(FetchCategoryQuery("art")).build()
+
+        val first = launch(Dispatchers.IO) { interceptor.intercept(request, chain).collect() }
+        withTimeout(5_000) { chain.started.await() }
+        val second = launch(Dispatchers.IO) { interceptor.intercept(request, chain).collect() }
+        // - The second subscriber joined once its call is counted as saved
+        withTimeout(5_000) { while (interceptor.stats()["FetchCategory"]?.second != 1) yield() }
+        first.cancel()
+        first.join()
+
+        assertFalse(chain.cancelled.isCompleted)
+        assertEquals(1, interceptor.inFlightCount())
+        second.cancel()
+        withTimeout(5_000) { chain.cancelled.await() }
+        assertEquals(1, chain.calls.get())
+    }
+
+    @Test
+    fun testClear_detachesCallsInFlight() = runBlocking {
+        server.enqueue(categoryResponse().setBodyDelay(300, TimeUnit.MILLISECONDS))
+        server.enqueue(categoryResponse())
+
+        val beforeLogout = async { apolloClient.query(FetchCategoryQuery("art")).execute() }
+        server.takeRequest(5, TimeUnit.SECONDS)
+        interceptor.clear()
+        apolloClient.query(FetchCategoryQuery("art")).execute()
+        beforeLogout.await()
+
+        assertEquals(2, server.requestCount)
+    }
+
+    /** Chain whose network call never answers, and records when it's cancelled. */
+    private class HangingChain : ApolloInterceptorChain {
+        val calls = AtomicInteger()
+        val started = CompletableDeferred<Unit>()
+        val cancelled = CompletableDeferred<Unit>()
+
+        override fun <D : Operation.Data> proceed(request: ApolloRequest<D>): Flow<ApolloResponse<D>> = flow {
+            calls.incrementAndGet()
+            started.complete(Unit)
+            try {
+                awaitCancellation()
+            } finally {
+                cancelled.complete(Unit)
+            }
+        }
+    }
+
+    private fun categoryResponse() = MockResponse().setBody("""{"data":{"category":null}}""")
+}
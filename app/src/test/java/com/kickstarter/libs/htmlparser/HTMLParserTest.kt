@@ -386,4 +386,16 @@ class HTMLParserTest {
         assertTrue(imageViewGif.src.isGif())
         assertTrue(imageViewWebp.src.isWebp())
     }
+
+    @Test
+    fun testParseInChunks() {
+        val html = (1..5).joinToString("") { "<p>Paragraph $it</p>" }
+        val chunks = mutableListOf<List<ViewElement>>()
+
+        val viewElements = HTMLParser().parse(html, 2) { chunks.add(it) }
+
+        assertEquals(listOf(2, 4, 5), chunks.map { it.size })
+        assertEquals(viewElements, chunks.last())
+        assertEquals(HTMLParser().parse(html), viewElements)
+    }
 }
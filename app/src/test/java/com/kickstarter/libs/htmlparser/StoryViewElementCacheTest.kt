@@ -0,0 +1,60 @@
+package com.kickstarter.libs.htmlparser
+
+import com.kickstarter.KSRobolectricTestCase
+import org.junit.Test
+import java.io.File
+
+class StoryViewElementCacheTest : KSRobolectricTestCase() {
+    private val story = "<p>Story with <strong>bold</strong> and a <a href=\"https://ksr.com\">link</a></p>"
+    private val elements = listOf(
+        TextViewElement(
+            listOf(
+                TextComponent("Story with ", null, listOf(TextComponent.TextStyleType.UNKNOWN)),
+                TextComponent("link", "https://ksr.com", listOf(TextComponent.TextStyleType.LINK))
+            )
+        ),
+        ImageViewElement("https://ksr.com/image.jpg", null, "Caption"),
+        VideoViewElement("https://ksr.com/video.mp4", null, 0),
+        AudioViewElement("https://ksr.com/audio.mp3"),
+        ExternalSourceViewElement("<iframe src=\"https://ksr.com\"></iframe>")
+    )
+
+    private fun directory() = File(context().cacheDir, StoryViewElementCache.DIRECTORY).apply { deleteRecursively() }
+
+    @Test
+    fun testGet_readsBackFromDisk() {
+        val directory = directory()
+        StoryViewElementCache(directory).put(1L, story, elements)
+
+        val cache = StoryViewElementCache(directory)
+
+        assertEquals(elements, cache.get(1L, story))
+        assertNull(cache.get(2L, story))
+        assertNull(cache.get(1L, "$story<p>Edited</p>"))
+    }
+
+    @Test
+    fun testPut_dropsOlderVersionsOfTheStory() {
+        val directory = directory()
+        val cache = StoryViewElementCache(directory)
+        cache.put(1L, story, elements)
+        cache.put(1L, "$story<p>Edited</p>", elements.take(1))
+        cache.put(2L, story, elements)
+
+        cache.clearMemory()
+
+        assertNull(cache.get(1L, story))
+        assertEquals(elements.take(1), cache.get(1L, "$story<p>Edited</p>"))
+        assertEquals(2, directory.listFiles()?.size)
+    }
+
+    @Test
+    fun testGet_discardsCorruptFiles() {
+        val directory = directory()
+        StoryViewElementCache(directory).put(1L, story, elements)
+        directory.listFiles()?.forEach { it.writeText("{ not a list") }
+
+        assertNull(StoryViewElementCache(directory).get(1L, story))
+        assertEquals(0, directory.listFiles()?.size)
+    }
+}
@@ -4,6 +4,7 @@ import android.content.Context
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.libs.Build
 import com.kickstarter.libs.MockSharedPreferences
+import com.kickstarter.libs.featureflag.FlagKey
 import com.kickstarter.libs.keystore.EncryptionEngine
 import com.kickstarter.libs.keystore.KSKeyStore
 import com.kickstarter.mock.MockFeatureFlagClient
@@ -50,4 +51,53 @@ class EncryptionEngineTest : KSRobolectricTestCase() {
 
         assertEquals(textForEncryption, decrypted)
     }
+
+    @Test
+    fun testKeyStoreIsQueriedOnce_whenEncryptionEnabled() {
+        var keyStoreLookups = 0
+        val mockKSKeyStore = object : KSKeyStore {
+            override var ksKeyStore: KeyStore? = null
+
+            override fun getSecretKey(keyAlias: String): Key? {
+                keyStoreLookups++
+                return SecretKeySpec("aesEncryptionKey".toByteArray(), "AES")
+            }
+        }
+        val mockffClient = object : MockFeatureFlagClient() {
+            override fun getBoolean(FlagKey: FlagKey): Boolean = FlagKey == com.kickstarter.libs.featureflag.FlagKey.ANDROID_ENCRYPT
+        }
+        val engine = EncryptionEngine(
+            sharedPreferences = MockSharedPreferences(),
+            "Alias",
+            context,
+            mockffClient,
+        )
+
+        engine.ksKeyStore = mockKSKeyStore
+
+        engine.set("token")
+        repeat(10) { engine.get() }
+
+        assertEquals(1, keyStoreLookups)
+    }
+
+    @Test
+    fun testDelete_invalidatesCachedValue() {
+        val mockffClient = MockFeatureFlagClient()
+        val engine = EncryptionEngine(
+            sharedPreferences = MockSharedPreferences(),
+            "Alias",
+            context,
+            mockffClient,
+        )
+
+        engine.set("token")
+        assertEquals("token", engine.get())
+
+        engine.delete()
+        assertEquals("", engine.get())
+
+        engine.set("new token")
+        assertEquals("new token", engine.get())
+    }
 }
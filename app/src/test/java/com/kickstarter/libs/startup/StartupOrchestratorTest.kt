@@ -0,0 +1,89 @@
+package com.kickstarter.libs.startup
+
+import com.kickstarter.KSRobolectricTestCase
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.awaitCancellation
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.test.TestScope
+import kotlinx.coroutines.test.runTest
+import org.junit.Assert.assertThrows
+import org.junit.Test
+
+@OptIn(ExperimentalCoroutinesApi::class)
+class StartupOrchestratorTest : KSRobolectricTestCase() {
+
+    private fun TestScope.orchestrator() = StartupOrchestrator { testScheduler.currentTime }
+
+    @Test
+    fun testRun_startsIndependentTasksInParallel() = runTest {
+        val orchestrator = orchestrator()
+
+        orchestrator.run(
+            listOf(
+                StartupTask("a") { delay(100) },
+                StartupTask("b") { delay(200) },
+                StartupTask("c", dependsOn = setOf("a", "b")) { delay(50) }
+            )
+        )
+
+        assertEquals(0L, orchestrator.timing("a")?.startedAtMillis)
+        assertEquals(0L, orchestrator.timing("b")?.startedAtMillis)
+        assertEquals(200L, orchestrator.timing("c")?.startedAtMillis)
+        assertEquals(250L, orchestrator.timing("c")?.finishedAtMillis)
+        assertEquals(listOf("a", "b", "c"), orchestrator.trace().map { it.name })
+    }
+
+    @Test
+    fun testRun_deadlineUnblocksDependents() = runTest {
+        val orchestrator = orchestrator()
+        var routed = false
+
+        orchestrator.run(
+            listOf(
+                StartupTask("remote_config", deadlineMillis = 3_000) { awaitCancellation() },
+                StartupTask("route", dependsOn = setOf("remote_config")) { routed = true }
+            )
+        )
+
+        assertTrue(routed)
+        assertEquals(StartupTiming.Outcome.TIMED_OUT, orchestrator.timing("remote_config")?.outcome)
+        assertEquals(3_000L, orchestrator.timing("route")?.finishedAtMillis)
+    }
+
+    @Test
+    fun testRun_failuresDoNotStopTheGraph() = runTest {
+        val orchestrator = orchestrator()
+
+        orchestrator.run(
+            listOf(
+                StartupTask("segment") { throw IllegalStateException() },
+                StartupTask("statsig", dependsOn = setOf("segment")) { }
+            )
+        )
+
+        assertEquals(StartupTiming.Outcome.FAILED, orchestrator.timing("segment")?.outcome)
+        assertEquals(StartupTiming.Outcome.COMPLETED, orchestrator.timing("statsig")?.outcome)
+    }
+
+    @Test
+    fun testRun_rejectsInvalidGraphs() {
+        val orchestrator = StartupOrchestrator()
+
+        assertThrows(IllegalArgumentException::class.java) {
+            runBlocking {
+                orchestrator.run(listOf(StartupTask("a", dependsOn = setOf("missing")) { }))
+            }
+        }
+        assertThrows(IllegalArgumentException::class.java) {
+            runBlocking {
+                orchestrator.run(
+                    listOf(
+                        StartupTask("a", dependsOn = setOf("b")) { },
+                        StartupTask("b", dependsOn = setOf("a")) { }
+                    )
+                )
+            }
+        }
+    }
+}
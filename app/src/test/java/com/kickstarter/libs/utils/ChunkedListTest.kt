@@ -0,0 +1,74 @@
+package com.kickstarter.libs.utils
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class ChunkedListTest {
+
+    @Test
+    fun testEmpty() {
+        val list = ChunkedList.empty<Int>()
+
+        assertTrue(list.isEmpty())
+        assertEquals(emptyList<Int>(), list)
+        assertSame(list, list.append(emptyList()))
+    }
+
+    @Test
+    fun testAppend() {
+        val first = ChunkedList.of(listOf(1, 2, 3))
+        val second = first.append(listOf(4, 5))
+        val third = second.append(emptyList()).append(listOf(6))
+
+        assertEquals(listOf(1, 2, 3), first)
+        assertEquals(listOf(1, 2, 3, 4, 5), second)
+        assertEquals(listOf(1, 2, 3, 4, 5, 6), third)
+        assertEquals(listOf(1, 2, 3, 4, 5, 6).hashCode(), third.hashCode())
+    }
+
+    @Test
+    fun testPrepend() {
+        val list = ChunkedList.of(listOf(3, 4)).prepend(listOf(1, 2))
+
+        assertEquals(listOf(1, 2, 3, 4), list)
+    }
+
+    @Test
+    fun testGet() {
+        val list = (0 until 10).fold(ChunkedList.empty<Int>()) { acc, page ->
+            acc.append((page * 7 until page * 7 + 7).toList())
+        }
+
+        assertEquals(70, list.size)
+        (0 until 70).forEach { assertEquals(it, list[it]) }
+        assertEquals((0 until 70).toList(), list.toList())
+        assertEquals(listOf(6, 7, 8), list.subList(6, 9))
+    }
+
+    @Test(expected = IndexOutOfBoundsException::class)
+    fun testGet_outOfBounds() {
+        ChunkedList.of(listOf(1, 2)).get(2)
+    }
+
+    @Test
+    fun testConcat() {
+        val xs = ChunkedList.of(listOf("a", "b"))
+
+        assertEquals(listOf("a", "b", "c"), ChunkedList.concat(xs, listOf("c")))
+        assertEquals(listOf("z", "a", "b"), ChunkedList.concat(listOf("z"), xs))
+        assertEquals(listOf("a", "b", "a", "b"), ChunkedList.concat(xs, xs))
+        assertEquals(listOf("y", "z"), ChunkedList.concat(listOf("y"), listOf("z")))
+    }
+
+    @Test
+    fun testAppend_copiesThePage() {
+        val page = mutableListOf(1, 2)
+        val list = ChunkedList.of(page)
+
+        page.add(3)
+
+        assertEquals(listOf(1, 2), list)
+    }
+}
@@ -0,0 +1,52 @@
+package com.kickstarter.libs.utils
+
+import com.kickstarter.libs.NumberOptions
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotSame
+import org.junit.Assert.assertSame
+import org.junit.Test
+import java.math.RoundingMode
+import java.text.NumberFormat
+import java.util.Locale
+
+class FormatterCacheTest {
+
+    @After
+    fun tearDown() {
+        FormatterCache.clear()
+    }
+
+    @Test
+    fun testGetOrPut_createsOncePerKey() {
+        val first = FormatterCache.getOrPut(listOf("test", Locale.US)) { NumberFormat.getInstance(Locale.US) }
+        val second = FormatterCache.getOrPut(listOf("test", Locale.US)) { NumberFormat.getInstance(Locale.US) }
+        val german = FormatterCache.getOrPut(listOf("test", Locale.GERMAN)) { NumberFormat.getInstance(Locale.GERMAN) }
+
+        assertSame(first, second)
+        assertNotSame(first, german)
+    }
+
+    @Test
+    fun testClear() {
+        val first = FormatterCache.getOrPut(listOf("test", Locale.US)) { NumberFormat.getInstance(Locale.US) }
+        FormatterCache.clear()
+        val second = FormatterCache.getOrPut(listOf("test", Locale.US)) { NumberFormat.getInstance(Locale.US) }
+
+        assertEquals(1, FormatterCache.size())
+        assertNotSame(first, second)
+    }
+
+    @Test
+    fun testCachedNumberFormats_doNotShareOptions() {
+        val precise = NumberOptions.builder().precision(2).roundingMode(RoundingMode.HALF_UP).build()
+        val currency = NumberOptions.builder().currencySymbol("$").build()
+
+        repeat(2) {
+            assertEquals("1,234.57", NumberUtils.format(1234.567f, precise, Locale.US))
+            assertEquals("1,235", NumberUtils.format(1234.567f, NumberOptions.builder().build(), Locale.US))
+            assertEquals("$1,235", NumberUtils.format(1234.567f, currency, Locale.US))
+            assertEquals("1.235", NumberUtils.format(1234.567f, NumberOptions.builder().build(), Locale.GERMAN))
+        }
+    }
+}
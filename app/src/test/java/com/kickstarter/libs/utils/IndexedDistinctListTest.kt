@@ -0,0 +1,75 @@
+package com.kickstarter.libs.utils
+
+import com.kickstarter.libs.utils.IndexedDistinctList.Change
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertSame
+import org.junit.Test
+
+class IndexedDistinctListTest {
+
+    private data class Item(val id: Long, val name: String)
+
+    @Test
+    fun testOf_dropsRepeatedKeys() {
+        val list = IndexedDistinctList.of(listOf(Item(1, "a"), Item(2, "b"), Item(1, "c"))) { it.id }
+
+        assertEquals(listOf(Item(1, "a"), Item(2, "b")), list)
+        assertEquals(listOf(Change(Change.Type.INSERTED, 0, 2)), list.changes)
+    }
+
+    @Test
+    fun testAppendDistinct() {
+        val first = IndexedDistinctList.of(listOf(1, 2, 3)) { it }
+        val second = first.appendDistinct(listOf(3, 4, 5))
+
+        assertEquals(listOf(1, 2, 3), first)
+        assertEquals(listOf(1, 2, 3, 4, 5), second)
+        assertEquals(listOf(Change(Change.Type.INSERTED, 3, 2)), second.changes)
+        assertSame(second, second.appendDistinct(listOf(1, 5)))
+        assertSame(second, second.appendDistinct(emptyList()))
+    }
+
+    @Test
+    fun testAppendDistinct_toAnOlderVersion() {
+        val first = IndexedDistinctList.of(listOf(1, 2)) { it }
+        val second = first.appendDistinct(listOf(3))
+        val branch = first.appendDistinct(listOf(3, 4))
+
+        assertEquals(listOf(1, 2), first)
+        assertEquals(listOf(1, 2, 3), second)
+        assertEquals(listOf(1, 2, 3, 4), branch)
+        assertEquals(-1, first.indexOfKey(3))
+        assertEquals(2, second.indexOfKey(3))
+    }
+
+    @Test
+    fun testReplace_keepsThePosition() {
+        val list = IndexedDistinctList.of(listOf(Item(1, "a"), Item(2, "b"), Item(3, "c"))) { it.id }
+        val replaced = list.replace(Item(2, "starred"))
+
+        assertEquals(listOf(Item(1, "a"), Item(2, "b"), Item(3, "c")), list)
+        assertEquals(listOf(Item(1, "a"), Item(2, "starred"), Item(3, "c")), replaced)
+        assertEquals(listOf(Change(Change.Type.CHANGED, 1, 1)), replaced.changes)
+        assertSame(list, list.replace(Item(4, "d")))
+    }
+
+    @Test
+    fun testConcat_matchesConcatDistinct() {
+        listOf(500, 2_000, 10_000).forEach { total ->
+            // - Every page repeats the last project of the previous one, as Discovery does when projects move
+            val pages = (0 until total step PAGE_SIZE).map { start ->
+                (maxOf(start - 1, 0) until minOf(start + PAGE_SIZE, total)).map { Item(it.toLong(), "project $it") }
+            }
+
+            val expected = pages.fold(emptyList<Item>()) { xs, ys -> ListUtils.concatDistinct(xs, ys) }
+            val actual = pages.fold(emptyList<Item>()) { xs, ys -> IndexedDistinctList.concat(xs, ys) { it.id } }
+
+            assertEquals(total, actual.size)
+            assertEquals(expected, actual)
+        }
+    }
+
+    companion object {
+        private const val PAGE_SIZE = 15
+    }
+}
@@ -0,0 +1,68 @@
+package com.kickstarter.libs.utils
+
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.MockSharedPreferences
+import org.junit.Test
+import java.util.concurrent.TimeUnit
+
+class RefTagStoreTest : KSRobolectricTestCase() {
+    private val preferences = MockSharedPreferences()
+    private val legacyPreferences = MockSharedPreferences()
+    private var now = TimeUnit.DAYS.toMillis(1_000)
+
+    private fun store() = RefTagStore(preferences, legacyPreferences) { now }
+
+    @Test
+    fun testGet_ignoresExpiredAttributions() {
+        val store = store()
+        store.put(1L, "discovery%3F1", now + 1_000)
+
+        assertEquals("discovery%3F1", store.get(1L))
+        assertNull(store.get(2L))
+
+        now += 1_000
+        assertNull(store.get(1L))
+    }
+
+    @Test
+    fun testPut_persistsAcrossInstances() {
+        store().put(1L, "discovery%3F1", now + 1_000)
+
+        assertEquals("discovery%3F1", store().get(1L))
+    }
+
+    @Test
+    fun testCompact_removesExpiredAttributionsFromDisk() {
+        val store = store()
+        store.put(1L, "discovery%3F1", now + 1_000)
+        store.put(2L, "search%3F1", now + 5_000)
+
+        now += 2_000
+        store.compact()
+
+        assertEquals(1, store.size())
+        assertNull(preferences.getString("1", null))
+        assertEquals(1, store().size())
+    }
+
+    @Test
+    fun testMigration_movesLegacyKeysOutOfTheMainPreferences() {
+        val setAtSeconds = TimeUnit.MILLISECONDS.toSeconds(now) - TimeUnit.DAYS.toSeconds(1)
+        val expiredSetAtSeconds = TimeUnit.MILLISECONDS.toSeconds(now) - TimeUnit.DAYS.toSeconds(90)
+        legacyPreferences.edit()
+            .putString("ref_1", "discovery%3F$setAtSeconds")
+            .putString("ref_2", "search%3F$expiredSetAtSeconds")
+            .putString("unrelated", "value")
+            .apply()
+
+        val store = store()
+
+        assertEquals("discovery%3F$setAtSeconds", store.get(1L))
+        assertNull(store.get(2L))
+        assertEquals(setOf("unrelated"), legacyPreferences.all.keys)
+
+        // - Runs once, keys written to the main preferences afterwards are left alone
+        legacyPreferences.edit().putString("ref_3", "discovery%3F$setAtSeconds").apply()
+        assertNull(store().get(3L))
+    }
+}
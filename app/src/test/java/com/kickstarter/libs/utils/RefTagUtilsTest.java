@@ -1,7 +1,5 @@
 package com.kickstarter.libs.utils;
 
-import android.content.SharedPreferences;
-
 import com.kickstarter.KSRobolectricTestCase;
 import com.kickstarter.libs.utils.extensions.ProjectExt;
 import com.kickstarter.mock.factories.ProjectFactory;
@@ -19,7 +17,7 @@ import java.net.CookieStore;
 import java.net.HttpCookie;
 
 public final class RefTagUtilsTest extends KSRobolectricTestCase {
-  final static SharedPreferences sharedPreferences = new MockSharedPreferences();
+  final RefTagStore refTagStore = new RefTagStore(new MockSharedPreferences(), new MockSharedPreferences());
 
   @Test
   public void testCookieNameForProject() {
@@ -43,8 +41,8 @@ public final class RefTagUtilsTest extends KSRobolectricTestCase {
     final RefTag refTag = RefTag.recommended();
 
     // set the cookie and retrieve the ref tag
-    cookieStore.add(null, new HttpCookie("ref_" + project.id(), refTag.tag() + "%3F" + SystemUtils.secondsSinceEpoch()));
-    final RefTag retrievedRefTag = RefTagUtils.storedCookieRefTagForProject(project, cookieManager, sharedPreferences);
+    cookieStore.add(null, RefTagUtils.buildCookieWithRefTagAndProject(refTag, project));
+    final RefTag retrievedRefTag = RefTagUtils.storedCookieRefTagForProject(project, cookieManager, refTagStore);
 
     assertNotNull(retrievedRefTag);
     assertEquals(refTag, retrievedRefTag);
@@ -82,8 +80,8 @@ public final class RefTagUtilsTest extends KSRobolectricTestCase {
     final RefTag refTag = RefTag.recommended();
 
     // set and retrieve the cookie
-    cookieStore.add(null, new HttpCookie("ref_" + project.id(), refTag.tag() + "%3F" + SystemUtils.secondsSinceEpoch()));
-    final HttpCookie cookie = RefTagUtils.findRefTagCookieForProject(project, cookieManager, sharedPreferences);
+    cookieStore.add(null, RefTagUtils.buildCookieWithRefTagAndProject(refTag, project));
+    final HttpCookie cookie = RefTagUtils.findRefTagCookieForProject(project, cookieManager, refTagStore);
 
     assertNotNull(cookie);
     assertEquals(RefTagUtils.cookieNameForProject(project), cookie.getName());
@@ -96,8 +94,32 @@ public final class RefTagUtilsTest extends KSRobolectricTestCase {
     final Project project = ProjectFactory.project();
 
     // retrieve the cookie
-    final HttpCookie cookie = RefTagUtils.findRefTagCookieForProject(project, cookieManager, sharedPreferences);
+    final HttpCookie cookie = RefTagUtils.findRefTagCookieForProject(project, cookieManager, refTagStore);
 
     assertNull(cookie);
   }
+
+  @Test
+  public void testFindRefTagCookieForProject_PrefersTheCookieJarOverTheStore() {
+    final CookieManager cookieManager = new CookieManager();
+    final Project project = ProjectFactory.project();
+
+    RefTagUtils.storeCookie(RefTag.discovery(), project, new CookieManager(), refTagStore);
+    // a newer cookie for the project, e.g. set from the web
+    cookieManager.getCookieStore().add(null, RefTagUtils.buildCookieWithRefTagAndProject(RefTag.recommended(), project));
+
+    assertEquals(RefTag.recommended(), RefTagUtils.storedCookieRefTagForProject(project, cookieManager, refTagStore));
+  }
+
+  @Test
+  public void testStoreCookie_StoresInTheAttributionStore() {
+    final Project project = ProjectFactory.project();
+    final RefTag refTag = RefTag.discovery();
+
+    RefTagUtils.storeCookie(refTag, project, new CookieManager(), refTagStore);
+
+    // a fresh cookie manager, e.g. after the app restarted, still finds the attribution
+    assertEquals(refTag, RefTagUtils.storedCookieRefTagForProject(project, new CookieManager(), refTagStore));
+    assertEquals(RefTagUtils.cookieValueForRefTag(refTag), refTagStore.get(project.id()));
+  }
 }
@@ -4,6 +4,7 @@ import android.content.Context
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.R
 import com.kickstarter.libs.Config
+import com.kickstarter.libs.utils.IndexedDistinctList
 import com.kickstarter.mock.factories.CategoryFactory
 import com.kickstarter.mock.factories.CheckoutWaveFactory
 import com.kickstarter.mock.factories.ConfigFactory
@@ -127,6 +128,47 @@ class ProjectExtTest : KSRobolectricTestCase() {
         assertEquals(projectsAndParams[1].second.sort(), DiscoveryParams.Sort.MAGIC)
     }
 
+    @Test
+    fun testUpdateStartedProjectAndDiscoveryParamsList_withDiscoveryProjectList() {
+        val discoveryParams = DiscoveryParams.builder().sort(DiscoveryParams.Sort.MAGIC).build()
+        val first = ProjectFactory.project().toBuilder().id(1).isStarred(false).build()
+        val second = ProjectFactory.project().toBuilder().id(2).isStarred(false).build()
+        val projectsAndParams = discoveryProjectList(listOf(first, second, first), discoveryParams)
+
+        val updated = second.toBuilder().isStarred(true).build()
+            .updateStartedProjectAndDiscoveryParamsList(projectsAndParams)
+
+        assertEquals(2, projectsAndParams.size)
+        assertEquals(2, updated.size)
+        assertFalse(updated[0].first.isStarred())
+        assertTrue(updated[1].first.isStarred())
+        assertFalse(projectsAndParams[1].first.isStarred())
+        assertEquals(DiscoveryParams.Sort.MAGIC, updated[1].second.sort())
+    }
+
+    @Test
+    fun testDiscoveryProjectList_appendsNextPage() {
+        val discoveryParams = DiscoveryParams.builder().sort(DiscoveryParams.Sort.MAGIC).build()
+        val first = ProjectFactory.project().toBuilder().id(1).build()
+        val second = ProjectFactory.project().toBuilder().id(2).build()
+        val third = ProjectFactory.project().toBuilder().id(3).build()
+        val firstPage = IndexedDistinctList.of(listOf(first, second)) { it.id() }
+        val previous = discoveryProjectList(firstPage, discoveryParams)
+
+        val nextPage = IndexedDistinctList.concat(firstPage, listOf(second, third)) { it.id() }
+        val appended = discoveryProjectList(nextPage, discoveryParams, previous)
+
+        assertEquals(listOf(1L, 2L, 3L), appended.map { it.first.id() })
+        assertSame(previous[0], appended[0])
+        assertEquals(listOf(IndexedDistinctList.Change(IndexedDistinctList.Change.Type.INSERTED, 2, 1)), appended.changes)
+
+        val otherParams = DiscoveryParams.builder().sort(DiscoveryParams.Sort.NEWEST).build()
+        val rebuilt = discoveryProjectList(nextPage, otherParams, appended)
+
+        assertEquals(3, rebuilt.size)
+        assertEquals(DiscoveryParams.Sort.NEWEST, rebuilt[0].second.sort())
+    }
+
     @Test
     fun testDeadlineCountdown_shouldReturnCorrectString() {
         `when`(context.getString(R.string.discovery_baseball_card_deadline_units_secs)).thenReturn("secs")
@@ -0,0 +1,189 @@
+package com.kickstarter.services
+
+import com.apollographql.apollo3.ApolloClient
+import com.apollographql.apollo3.cache.normalized.FetchPolicy
+import com.apollographql.apollo3.cache.normalized.api.MemoryCacheFactory
+import com.apollographql.apollo3.cache.normalized.fetchPolicy
+import com.apollographql.apollo3.cache.normalized.normalizedCache
+import com.apollographql.apollo3.exception.ApolloException
+import com.apollographql.apollo3.exception.CacheMissException
+import com.google.gson.Gson
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.libs.graphql.RelayIdCacheKeyGenerator
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import org.junit.After
+import org.junit.Test
+import java.util.concurrent.TimeUnit
+
+class KSApolloClientV2Test : KSRobolectricTestCase() {
+
+    private lateinit var server: MockWebServer
+    private lateinit var client: KSApolloClientV2
+
+    override fun setUp() {
+        super.setUp()
+        server = MockWebServer()
+        server.start()
+
+        val apolloClient = ApolloClient.Builder()
+            .serverUrl(server.url("/graph").toString())
+            .build()
+        client = KSApolloClientV2(apolloClient, Gson())
+    }
+
+    @After
+    fun tearDown() {
+        server.shutdown()
+    }
+
+    @Test
+    fun testObservable_doesNotExecuteUntilSubscribed() {
+        server.enqueue(unseenActivityResponse(3))
+
+        val observable = client.clearUnseenActivity()
+        assertEquals(0, server.requestCount)
+
+        val observer = observable.test()
+        observer.awaitTerminalEvent(5, TimeUnit.SECONDS)
+
+        observer.assertValue(3)
+        observer.assertComplete()
+        assertEquals(1, server.requestCount)
+    }
+
+    @Test
+    fun testObservable_isColdForEverySubscriber() {
+        server.enqueue(unseenActivityResponse(3))
+        server.enqueue(unseenActivityResponse(0))
+
+        val observable = client.clearUnseenActivity()
+        val first = observable.test()
+        first.awaitTerminalEvent(5, TimeUnit.SECONDS)
+        val second = observable.test()
+        second.awaitTerminalEvent(5, TimeUnit.SECONDS)
+
+        first.assertValue(3)
+        second.assertValue(0)
+        assertEquals(2, server.requestCount)
+    }
+
+    @Test
+    fun testGraphQLErrors_areEmittedAsErrors() {
+        server.enqueue(
+            MockResponse().setBody("""{"errors":[{"message":"Something went wrong"}],"data":null}""")
+        )
+
+        val observer = client.clearUnseenActivity().test()
+        observer.awaitTerminalEvent(5, TimeUnit.SECONDS)
+
+        observer.assertNoValues()
+        observer.assertError { it.message == "Something went wrong" }
+    }
+
+    @Test
+    fun testMissingData_isEmittedAsError() {
+        server.enqueue(MockResponse().setBody("""{"data":{"clearUserUnseenActivity":null}}"""))
+
+        val observer = client.clearUnseenActivity().test()
+        observer.awaitTerminalEvent(5, TimeUnit.SECONDS)
+
+        observer.assertNoValues()
+        observer.assertError(Exception::class.java)
+    }
+
+    @Test
+    fun testDispose_cancelsTheCall() {
+        server.enqueue(unseenActivityResponse(3).setBodyDelay(2, TimeUnit.SECONDS))
+
+        val observer = client.clearUnseenActivity().test()
+        assertNotNull(server.takeRequest(5, TimeUnit.SECONDS))
+        observer.dispose()
+
+        assertFalse(observer.awaitTerminalEvent(3, TimeUnit.SECONDS))
+        observer.assertNoValues()
+        observer.assertNotComplete()
+    }
+
+    @Test
+    fun testCacheOnly_afterNetworkResponse_emitsCachedCategories() {
+        val client = cachingClient()
+        server.enqueue(rootCategoriesResponse("Art"))
+        client.fetchCategories(FetchPolicy.NetworkOnly).test().awaitTerminalEvent(5, TimeUnit.SECONDS)
+
+        val observer = client.fetchCategories(FetchPolicy.CacheOnly).test()
+        observer.awaitTerminalEvent(5, TimeUnit.SECONDS)
+
+        observer.assertValue { it.map { category -> category.name() } == listOf("Art") }
+        observer.assertComplete()
+        assertEquals(1, server.requestCount)
+    }
+
+    @Test
+    fun testCacheOnly_cacheMiss_isEmittedAsError() {
+        val observer = cachingClient().fetchCategories(FetchPolicy.CacheOnly).test()
+        observer.awaitTerminalEvent(5, TimeUnit.SECONDS)
+
+        observer.assertNoValues()
+        observer.assertError(CacheMissException::class.java)
+        assertEquals(0, server.requestCount)
+    }
+
+    @Test
+    fun testCacheAndNetwork_emitsCachedThenNetworkCategories() {
+        val client = cachingClient()
+        server.enqueue(rootCategoriesResponse("Art"))
+        server.enqueue(rootCategoriesResponse("Arts"))
+        client.fetchCategories(FetchPolicy.NetworkOnly).test().awaitTerminalEvent(5, TimeUnit.SECONDS)
+
+        val observer = client.fetchCategories(FetchPolicy.CacheAndNetwork).test()
+        observer.awaitTerminalEvent(5, TimeUnit.SECONDS)
+
+        assertEquals(listOf(listOf("Art"), listOf("Arts")), observer.values().map { categories -> categories.map { it.name() } })
+        observer.assertComplete()
+        assertEquals(2, server.requestCount)
+    }
+
+    @Test
+    fun testCacheAndNetwork_cacheMiss_emitsNetworkCategories() {
+        server.enqueue(rootCategoriesResponse("Art"))
+
+        val observer = cachingClient().fetchCategories(FetchPolicy.CacheAndNetwork).test()
+        observer.awaitTerminalEvent(5, TimeUnit.SECONDS)
+
+        observer.assertValue { it.map { category -> category.name() } == listOf("Art") }
+        observer.assertComplete()
+    }
+
+    @Test
+    fun testCacheAndNetwork_networkError_emitsCachedCategoriesThenError() {
+        val client = cachingClient()
+        server.enqueue(rootCategoriesResponse("Art"))
+        server.enqueue(MockResponse().setResponseCode(500))
+        client.fetchCategories(FetchPolicy.NetworkOnly).test().awaitTerminalEvent(5, TimeUnit.SECONDS)
+
+        val observer = client.fetchCategories(FetchPolicy.CacheAndNetwork).test()
+        observer.awaitTerminalEvent(5, TimeUnit.SECONDS)
+
+        observer.assertValue { it.map { category -> category.name() } == listOf("Art") }
+        observer.assertError(ApolloException::class.java)
+    }
+
+    private fun cachingClient() = KSApolloClientV2(
+        ApolloClient.Builder()
+            .serverUrl(server.url("/graph").toString())
+            .normalizedCache(MemoryCacheFactory(), RelayIdCacheKeyGenerator)
+            .fetchPolicy(FetchPolicy.NetworkOnly)
+            .build(),
+        Gson()
+    )
+
+    private fun rootCategoriesResponse(name: String) = MockResponse().setBody(
+        """{"data":{"rootCategories":[{"__typename":"Category","analyticsName":"$name","id":"Q2F0ZWdvcnktMQ==",""" +
+            """"name":"$name","slug":"art","totalProjectCount":10,"url":"https://www.kickstarter.com/discover/categories/art",""" +
+            """"parentCategory":null,"subcategories":{"__typename":"CategorySubcategoriesConnection","nodes":[]}}]}}"""
+    )
+
+    private fun unseenActivityResponse(count: Int) =
+        MockResponse().setBody("""{"data":{"clearUserUnseenActivity":{"activityIndicatorCount":$count}}}""")
+}
@@ -0,0 +1,102 @@
+package com.kickstarter.services.interceptors
+
+import okhttp3.Cache
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotNull
+import org.junit.Assert.assertNull
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+
+class CacheControlInterceptorTest {
+
+    @get:Rule
+    val temporaryFolder = TemporaryFolder()
+
+    private lateinit var server: MockWebServer
+    private lateinit var client: OkHttpClient
+
+    @Before
+    fun setUp() {
+        server = MockWebServer()
+        server.start()
+        client = OkHttpClient.Builder()
+            .cache(Cache(temporaryFolder.newFolder("http_cache"), 1024 * 1024))
+            .addNetworkInterceptor(CacheControlInterceptor())
+            .build()
+    }
+
+    @After
+    fun tearDown() {
+        server.shutdown()
+    }
+
+    @Test
+    fun testCacheablePath_withoutCacheControl_isServedFromCache() {
+        server.enqueue(MockResponse().setBody("categories").addHeader("ETag", "\"abc\""))
+
+        assertEquals("categories", execute("/v1/categories").first)
+        val (body, fromCache) = execute("/v1/categories")
+
+        assertEquals("categories", body)
+        assertEquals(true, fromCache)
+        assertEquals(1, server.requestCount)
+    }
+
+    @Test
+    fun testNotCacheablePath_alwaysHitsTheNetwork() {
+        server.enqueue(MockResponse().setBody("first"))
+        server.enqueue(MockResponse().setBody("second"))
+
+        assertEquals("first", execute("/v1/users/self").first)
+        assertEquals("second", execute("/v1/users/self").first)
+        assertEquals(2, server.requestCount)
+    }
+
+    @Test
+    fun testNoStoreResponse_isNotCached() {
+        server.enqueue(MockResponse().setBody("first").addHeader("Cache-Control", "no-store"))
+        server.enqueue(MockResponse().setBody("second"))
+
+        execute("/v1/app/android/config")
+        assertEquals("second", execute("/v1/app/android/config").first)
+        assertEquals(2, server.requestCount)
+    }
+
+    @Test
+    fun testCachedResponse_isNotSharedAcrossUsers() {
+        server.enqueue(MockResponse().setBody("user 1"))
+        server.enqueue(MockResponse().setBody("user 2"))
+
+        assertEquals("user 1", execute("/v1/locations/brooklyn", token = "1").first)
+        assertEquals("user 2", execute("/v1/locations/brooklyn", token = "2").first)
+        assertEquals(2, server.requestCount)
+    }
+
+    @Test
+    fun testMaxAgeSeconds() {
+        assertNotNull(CacheControlInterceptor.maxAgeSeconds(request("/v1/categories")))
+        assertNotNull(CacheControlInterceptor.maxAgeSeconds(request("/v1/categories/art")))
+        assertNotNull(CacheControlInterceptor.maxAgeSeconds(request("/v1/locations/brooklyn")))
+        assertNotNull(CacheControlInterceptor.maxAgeSeconds(request("/v1/app/android/config")))
+        assertNull(CacheControlInterceptor.maxAgeSeconds(request("/v1/users/self")))
+        assertNull(CacheControlInterceptor.maxAgeSeconds(request("/v1/categories/art/projects")))
+    }
+
+    private fun request(path: String, token: String? = null): Request =
+        Request.Builder()
+            .url(server.url(path))
+            .apply { token?.let { header("X-Auth", "token $it") } }
+            .build()
+
+    private fun execute(path: String, token: String? = null): Pair<String, Boolean> =
+        client.newCall(request(path, token)).execute().use { response ->
+            Pair(response.body.string(), response.cacheResponse != null && response.networkResponse == null)
+        }
+}
@@ -0,0 +1,59 @@
+package com.kickstarter.ui.adapters
+
+import android.util.Pair
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.mock.factories.ActivityFactory
+import com.kickstarter.mock.factories.ProjectFactory
+import com.kickstarter.services.DiscoveryParams
+import com.kickstarter.ui.data.ProjectCardRow
+import org.junit.Test
+import java.util.EnumSet
+
+class KSDiffCallbackTest : KSRobolectricTestCase() {
+    private val callback = KSDiffCallback()
+    private val params = DiscoveryParams.builder().sort(DiscoveryParams.Sort.MAGIC).build()
+
+    @Test
+    fun testAreItemsTheSame_usesStableIds() {
+        val project = ProjectFactory.project().toBuilder().id(1).name("First").build()
+        val renamed = project.toBuilder().name("Renamed").build()
+        val other = project.toBuilder().id(2).build()
+
+        assertTrue(callback.areItemsTheSame(project, renamed))
+        assertFalse(callback.areItemsTheSame(project, other))
+        assertTrue(callback.areItemsTheSame(Pair.create(project, params), Pair.create(renamed, params)))
+        assertFalse(callback.areItemsTheSame(Pair.create(project, params), Pair.create(other, params)))
+        assertTrue(callback.areItemsTheSame(true, true))
+        assertFalse(callback.areItemsTheSame(ActivityFactory.activity(), project))
+    }
+
+    @Test
+    fun testGetChangePayload_forPatchableProjectFields() {
+        val project = ProjectFactory.project().toBuilder().isStarred(false).backersCount(10).build()
+        val starred = project.toBuilder().isStarred(true).build()
+        val backed = project.toBuilder().backersCount(11).pledged(project.pledged() + 10).build()
+
+        assertEquals(EnumSet.of(ProjectCardPayload.WATCH), callback.getChangePayload(Pair.create(project, params), Pair.create(starred, params)))
+        assertEquals(EnumSet.of(ProjectCardPayload.PLEDGED, ProjectCardPayload.BACKERS), callback.getChangePayload(project, backed))
+    }
+
+    @Test
+    fun testProjectCardRows_diffLikeTheirProjectAndParams() {
+        val project = ProjectFactory.project().toBuilder().id(1).isStarred(false).build()
+        val starred = ProjectCardRow.from(project.toBuilder().isStarred(true).build(), params)
+
+        assertTrue(callback.areItemsTheSame(ProjectCardRow.from(project, params), starred))
+        assertEquals(EnumSet.of(ProjectCardPayload.WATCH), callback.getChangePayload(ProjectCardRow.from(project, params), starred))
+    }
+
+    @Test
+    fun testGetChangePayload_rebindsOtherChanges() {
+        val project = ProjectFactory.project().toBuilder().isStarred(false).build()
+        val renamedAndStarred = project.toBuilder().isStarred(true).name("Renamed").build()
+        val otherParams = DiscoveryParams.builder().sort(DiscoveryParams.Sort.NEWEST).build()
+
+        assertEquals(false, callback.getChangePayload(project, renamedAndStarred))
+        assertEquals(false, callback.getChangePayload(Pair.create(project, params), Pair.create(project.toBuilder().isStarred(true).build(), otherParams)))
+        assertEquals(false, callback.getChangePayload(1, 2))
+    }
+}
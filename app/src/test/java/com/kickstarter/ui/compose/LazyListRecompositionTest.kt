@@ -0,0 +1,92 @@
+package com.kickstarter.ui.compose
+
+import androidx.compose.foundation.lazy.LazyColumn
+import androidx.compose.foundation.lazy.itemsIndexed
+import androidx.compose.runtime.Composable
+import androidx.compose.runtime.mutableStateOf
+import androidx.compose.runtime.remember
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.models.Project
+import com.kickstarter.ui.activities.compose.search.getCardProjectState
+import com.kickstarter.ui.compose.designsystem.KSProjectCardSmall
+import com.kickstarter.ui.compose.designsystem.KSTheme
+import org.junit.Test
+
+class LazyListRecompositionTest : KSRobolectricTestCase() {
+
+    private val counter = RecompositionCounter()
+    private val projects = mutableStateOf(emptyList<Project>())
+
+    private fun project(id: Long) = Project.builder()
+        .id(id)
+        .name("Project $id")
+        .state(Project.STATE_LIVE)
+        .build()
+
+    private fun setContent(initial: List<Project>) {
+        projects.value = initial
+        composeTestRule.setContent {
+            KSTheme {
+                val list = projects.value
+                val keys = remember(list) { lazyListKeys(list) { it.id() } }
+                LazyColumn {
+                    itemsIndexed(list, key = { index, _ -> keys[index] }) { _, project ->
+                        ProjectRow(project, counter)
+                    }
+                }
+            }
+        }
+        composeTestRule.waitForIdle()
+    }
+
+    @Test
+    fun testAppendingAPage_composesOnlyTheNewRows() {
+        setContent((1L..3L).map { project(it) })
+
+        projects.value = projects.value + (4L..5L).map { project(it) }
+        composeTestRule.waitForIdle()
+
+        (1L..5L).forEach { assertEquals(1, counter.count(it)) }
+    }
+
+    @Test
+    fun testWatchingAProject_recomposesOnlyItsRow() {
+        setContent((1L..3L).map { project(it) })
+
+        projects.value = projects.value.map { if (it.id() == 2L) it.toBuilder().isStarred(true).build() else it }
+        composeTestRule.waitForIdle()
+
+        assertEquals(1, counter.count(1L))
+        assertEquals(2, counter.count(2L))
+        assertEquals(1, counter.count(3L))
+    }
+
+    @Test
+    fun testRefreshWithEqualProjects_skipsEveryRow() {
+        setContent((1L..3L).map { project(it) })
+
+        projects.value = (1L..3L).map { project(it) }
+        composeTestRule.waitForIdle()
+
+        (1L..3L).forEach { assertEquals(1, counter.count(it)) }
+    }
+
+    @Test
+    fun testLazyListKeys_disambiguatesRepeatedIds() {
+        val keys = lazyListKeys(listOf(project(1), project(2), project(1), null)) { it.id() }
+
+        assertEquals(listOf("1", "2", "1#2", "position_3"), keys)
+    }
+}
+
+@Composable
+private fun ProjectRow(project: Project, counter: RecompositionCounter) {
+    counter.Track(project.id())
+    KSProjectCardSmall(
+        photo = project.photo(),
+        title = project.name(),
+        state = getCardProjectState(project),
+        fundedPercentage = project.percentageFunded().toInt(),
+        onClick = {}
+    )
+}
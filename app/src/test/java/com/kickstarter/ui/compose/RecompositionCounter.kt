@@ -0,0 +1,22 @@
+package com.kickstarter.ui.compose
+
+import androidx.compose.runtime.Composable
+import androidx.compose.runtime.NonSkippableComposable
+import androidx.compose.runtime.SideEffect
+
+/**
+ * Counts how many times the composables calling [Track] were composed, by key, so tests can assert that a list
+ * update only composes the rows that changed.
+ */
+class RecompositionCounter {
+    private val counts = mutableMapOf<Any, Int>()
+
+    /** Never skipped, so it counts every composition of its caller. */
+    @Composable
+    @NonSkippableComposable
+    fun Track(key: Any) {
+        SideEffect { counts.merge(key, 1, Int::plus) }
+    }
+
+    fun count(key: Any) = counts[key] ?: 0
+}
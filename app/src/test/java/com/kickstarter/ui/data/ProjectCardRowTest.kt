@@ -0,0 +1,277 @@
+package com.kickstarter.ui.data
+
+import android.util.Pair
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.R
+import com.kickstarter.libs.utils.NumberUtils
+import com.kickstarter.libs.utils.ProgressBarUtils
+import com.kickstarter.mock.factories.CategoryFactory.artCategory
+import com.kickstarter.mock.factories.CategoryFactory.bluesCategory
+import com.kickstarter.mock.factories.CategoryFactory.category
+import com.kickstarter.mock.factories.CategoryFactory.ceramicsCategory
+import com.kickstarter.mock.factories.ProjectFactory.project
+import com.kickstarter.mock.factories.ProjectFactory.staffPick
+import com.kickstarter.mock.factories.UserFactory.user
+import com.kickstarter.models.Project
+import com.kickstarter.services.DiscoveryParams
+import com.kickstarter.services.DiscoveryParams.Companion.builder
+import org.joda.time.DateTime
+import org.junit.Test
+
+class ProjectCardRowTest : KSRobolectricTestCase() {
+
+    private fun row(project: Project, params: DiscoveryParams = builder().build()) = ProjectCardRow.from(project, params)
+
+    @Test
+    fun testHeartDrawable() {
+        assertEquals(R.drawable.icon__heart, row(project().toBuilder().isStarred(true).build()).heartDrawable)
+        assertEquals(R.drawable.icon__heart_outline, row(project().toBuilder().isStarred(false).build()).heartDrawable)
+    }
+
+    @Test
+    fun testBackersCount() {
+        assertEquals(NumberUtils.format(50), row(project().toBuilder().backersCount(50).build()).backersCount)
+    }
+
+    @Test
+    fun testBackingViewGroupIsGone() {
+        assertFalse(row(project().toBuilder().isBacking(true).build()).backingViewGroupIsGone)
+        assertTrue(row(project().toBuilder().isBacking(false).isStarred(false).featuredAt(null).build()).backingViewGroupIsGone)
+    }
+
+    @Test
+    fun testDeadlineCountdown() {
+        val project = project().toBuilder()
+            .deadline(DateTime().plusSeconds(60 * 60 * 24 + 1))
+            .build()
+
+        assertEquals("24", row(project).deadlineCountdown)
+    }
+
+    @Test
+    fun testFeaturedViewGroupIsGone_isFeatured() {
+        assertFalse(row(project().toBuilder().featuredAt(DateTime.now()).build()).featuredViewGroupIsGone)
+    }
+
+    @Test
+    fun testFriends_withOneFriend() {
+        val project = project().toBuilder().friends(listOf(user())).build()
+        val row = row(project)
+
+        assertFalse(row.friendBackingViewIsGone)
+        assertEquals(project.friends(), row.friends)
+        assertEquals(listOf(project.friends()[0].avatar().small()), row.friendAvatarUrls)
+        assertTrue(row.friendAvatar2IsGone)
+        assertTrue(row.friendAvatar3IsGone)
+    }
+
+    @Test
+    fun testFriends_withTwoFriends() {
+        val project = project().toBuilder().friends(listOf(user(), user())).build()
+        val row = row(project)
+
+        assertEquals(project.friends().map { it.avatar().small() }, row.friendAvatarUrls)
+        assertFalse(row.friendAvatar2IsGone)
+        assertTrue(row.friendAvatar3IsGone)
+    }
+
+    @Test
+    fun testFriends_withThreeFriends() {
+        val project = project().toBuilder().friends(listOf(user(), user(), user())).build()
+        val row = row(project)
+
+        assertEquals(project.friends().map { it.avatar().small() }, row.friendAvatarUrls)
+        assertFalse(row.friendAvatar2IsGone)
+        assertFalse(row.friendAvatar3IsGone)
+    }
+
+    @Test
+    fun testFriends_withoutFriends() {
+        val row = row(project().toBuilder().friends(null).build())
+
+        assertTrue(row.friendBackingViewIsGone)
+        assertTrue(row.friendAvatarUrls.isEmpty())
+    }
+
+    @Test
+    fun testFundingViewGroups() {
+        val live = row(project().toBuilder().state(Project.STATE_LIVE).build())
+        assertTrue(live.fundingUnsuccessfulViewGroupIsGone)
+        assertTrue(live.projectStateViewGroupIsGone)
+        assertFalse(live.statsViewGroupIsGone)
+        assertNull(live.stateChangedAt)
+
+        val failedAt = DateTime.now()
+        val failed = row(project().toBuilder().state(Project.STATE_FAILED).stateChangedAt(failedAt).build())
+        assertFalse(failed.fundingUnsuccessfulViewGroupIsGone)
+        assertTrue(failed.fundingSuccessfulViewGroupIsGone)
+        assertEquals(R.string.dashboard_creator_project_funding_unsuccessful, failed.fundingUnsuccessfulStatus)
+        assertEquals(failedAt, failed.stateChangedAt)
+
+        val canceled = row(project().toBuilder().state(Project.STATE_CANCELED).stateChangedAt(failedAt).build())
+        assertTrue(canceled.statsViewGroupIsGone)
+        assertEquals(R.string.discovery_baseball_card_status_banner_canceled, canceled.fundingUnsuccessfulStatus)
+
+        val successful = row(project().toBuilder().state(Project.STATE_SUCCESSFUL).build())
+        assertFalse(successful.fundingSuccessfulViewGroupIsGone)
+        assertFalse(successful.projectStateViewGroupIsGone)
+        assertNotNull(successful.stateChangedAt)
+    }
+
+    @Test
+    fun testStateChangedAt() {
+        val changedAt = DateTime.now()
+
+        listOf(Project.STATE_CANCELED, Project.STATE_FAILED, Project.STATE_SUCCESSFUL, Project.STATE_SUSPENDED).forEach {
+            assertEquals(changedAt, row(project().toBuilder().state(it).stateChangedAt(changedAt).build()).stateChangedAt)
+        }
+
+        val suspended = row(project().toBuilder().state(Project.STATE_SUSPENDED).build())
+        assertFalse(suspended.fundingUnsuccessfulViewGroupIsGone)
+        assertNull(suspended.fundingUnsuccessfulStatus)
+    }
+
+    @Test
+    fun testPhoto() {
+        val project = project()
+        assertEquals(project.photo()?.full(), row(project).photoUrl)
+        assertFalse(row(project).imageIsInvisible)
+        assertTrue(row(project.toBuilder().photo(null).build()).imageIsInvisible)
+    }
+
+    @Test
+    fun testLocation() {
+        assertFalse(row(project(), builder().tagId(Editorial.LIGHTS_ON.tagId).build()).locationContainerIsGone)
+        assertTrue(row(project(), builder().sort(DiscoveryParams.Sort.MAGIC).build()).locationContainerIsGone)
+        assertEquals("Brooklyn, NY", row(project()).locationName)
+        assertNull(row(project().toBuilder().location(null).build()).locationName)
+    }
+
+    @Test
+    fun testMetadataViewGroup() {
+        val backing = row(project().toBuilder().isBacking(true).build())
+        assertEquals(R.drawable.rect_green_grey_stroke, backing.metadataViewGroupBackground)
+        assertFalse(backing.setDefaultTopPadding)
+
+        assertFalse(row(project().toBuilder().isStarred(true).build()).metadataViewGroupIsGone)
+
+        val comingSoon = row(project().toBuilder().displayPrelaunch(true).build())
+        assertEquals(R.drawable.rect_green_grey_stroke, comingSoon.metadataViewGroupBackground)
+
+        val saved = row(project().toBuilder().isStarred(true).build())
+        assertEquals(R.drawable.rect_white_grey_stroke, saved.metadataViewGroupBackground)
+        assertFalse(saved.setDefaultTopPadding)
+
+        val none = row(project().toBuilder().isBacking(false).isStarred(false).featuredAt(null).build())
+        assertTrue(none.metadataViewGroupIsGone)
+        assertTrue(none.backingViewGroupIsGone)
+        assertTrue(none.savedViewGroupIsGone)
+        assertTrue(none.comingSoonViewGroupIsGone)
+        assertTrue(none.featuredViewGroupIsGone)
+        assertTrue(none.setDefaultTopPadding)
+    }
+
+    @Test
+    fun testNameAndBlurb() {
+        val row = row(project().toBuilder().name("Farquaad").blurb("Somebody once told me").build())
+
+        assertEquals("Farquaad", row.name)
+        assertEquals("Somebody once told me", row.blurb)
+    }
+
+    @Test
+    fun testPercentageFunded() {
+        val successful = project().toBuilder().state(Project.STATE_SUCCESSFUL).build()
+        assertEquals(ProgressBarUtils.progress(successful.percentageFunded()), row(successful).percentageFundedProgress)
+        assertEquals(NumberUtils.flooredPercentage(successful.percentageFunded()), row(successful).percentageFunded)
+
+        val failed = project().toBuilder().state(Project.STATE_FAILED).build()
+        assertEquals(ProgressBarUtils.progress(0.0f), row(failed).percentageFundedProgress)
+    }
+
+    @Test
+    fun testSubcategoryIsGone() {
+        val artProject = project().toBuilder().category(artCategory()).build()
+        val ceramicsProject = project().toBuilder().category(ceramicsCategory()).build()
+        val allProjects = builder().category(category()).build()
+        val artProjects = builder().category(artCategory()).build()
+        val ceramicsProjects = builder().category(ceramicsCategory()).build()
+
+        assertFalse(row(artProject, allProjects).subcategoryIsGone)
+        assertFalse(row(ceramicsProject, allProjects).subcategoryIsGone)
+        assertFalse(row(ceramicsProject, artProjects).subcategoryIsGone)
+        assertTrue(row(ceramicsProject, ceramicsProjects).subcategoryIsGone)
+        assertTrue(row(artProject, artProjects).subcategoryIsGone)
+        assertEquals(ceramicsCategory().name(), row(ceramicsProject).subcategoryName)
+    }
+
+    @Test
+    fun testTagContainerIsGone() {
+        val artProject = project().toBuilder().category(artCategory()).build()
+        val ceramicsProject = project().toBuilder().category(ceramicsCategory()).build()
+        val ceramicsStaffPickProject = staffPick().toBuilder().category(ceramicsCategory()).build()
+        val artStaffPickProject = staffPick().toBuilder().category(artCategory()).build()
+        val allProjects = builder().category(category()).build()
+        val artProjects = builder().category(artCategory()).build()
+        val staffPicks = builder().staffPicks(true).build()
+        val ceramicsProjects = builder().category(ceramicsCategory()).build()
+
+        assertFalse(row(artProject, allProjects).tagContainerIsGone)
+        assertFalse(row(artStaffPickProject, allProjects).tagContainerIsGone)
+        assertTrue(row(artProject, artProjects).tagContainerIsGone)
+        assertFalse(row(artStaffPickProject, artProjects).tagContainerIsGone)
+        assertFalse(row(ceramicsProject, artProjects).tagContainerIsGone)
+        assertFalse(row(ceramicsStaffPickProject, ceramicsProjects).tagContainerIsGone)
+        assertTrue(row(ceramicsProject, ceramicsProjects).tagContainerIsGone)
+        assertFalse(row(ceramicsProject, staffPicks).tagContainerIsGone)
+        assertFalse(row(artStaffPickProject, staffPicks).tagContainerIsGone)
+    }
+
+    @Test
+    fun testWeLoveIsGone() {
+        assertTrue(row(project(), builder().build()).weLoveIsGone)
+        assertFalse(row(staffPick(), builder().build()).weLoveIsGone)
+        assertTrue(row(staffPick(), builder().staffPicks(true).build()).weLoveIsGone)
+    }
+
+    @Test
+    fun testRootCategoryName() {
+        val category = bluesCategory()
+
+        assertEquals(category.root()?.name(), row(project().toBuilder().category(category).build()).rootCategoryName)
+    }
+
+    @Test
+    fun testSavedAndComingSoonViewGroups() {
+        assertFalse(row(project().toBuilder().isStarred(true).build()).savedViewGroupIsGone)
+        assertTrue(row(project().toBuilder().isBacking(true).isStarred(true).build()).savedViewGroupIsGone)
+
+        listOf(true, false).forEach { isStarred ->
+            val preLaunch = row(project().toBuilder().displayPrelaunch(true).isStarred(isStarred).build())
+            assertTrue(preLaunch.savedViewGroupIsGone)
+            assertTrue(preLaunch.backingViewGroupIsGone)
+            assertFalse(preLaunch.comingSoonViewGroupIsGone)
+        }
+
+        val preLaunchBacked = row(project().toBuilder().isBacking(true).displayPrelaunch(true).isStarred(true).build())
+        assertFalse(preLaunchBacked.backingViewGroupIsGone)
+        assertTrue(preLaunchBacked.comingSoonViewGroupIsGone)
+    }
+
+    @Test
+    fun testFromProjects_carriesOverUnchangedRows() {
+        val params = builder().build()
+        val first = project().toBuilder().id(1).build()
+        val second = project().toBuilder().id(2).build()
+        val previous = ProjectCardRow.fromProjects(listOf(Pair.create(first, params)))
+
+        val starred = first.toBuilder().isStarred(true).build()
+        val rows = ProjectCardRow.fromProjects(listOf(Pair.create(first, params), Pair.create(second, params)), previous)
+        val patched = ProjectCardRow.fromProjects(listOf(Pair.create(starred, params)), previous)
+
+        assertSame(previous[0], rows[0])
+        assertEquals(second, rows[1].project)
+        assertNotSame(previous[0], patched[0])
+        assertEquals(R.drawable.icon__heart, patched[0].heartDrawable)
+    }
+}
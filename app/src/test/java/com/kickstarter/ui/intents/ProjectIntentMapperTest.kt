@@ -3,6 +3,8 @@ package com.kickstarter.ui.intents
 import android.content.Intent
 import android.net.Uri
 import androidx.core.net.toUri
+import com.apollographql.apollo3.cache.normalized.FetchPolicy
+import com.apollographql.apollo3.exception.CacheMissException
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.libs.RefTag
 import com.kickstarter.libs.utils.KsOptional
@@ -40,6 +42,50 @@ class ProjectIntentMapperTest : KSRobolectricTestCase() {
         resultTestV2.assertValueCount(1)
     }
 
+    @Test
+    fun testProject_fromProjectParam_paintsCachedProjectThenNetworkProject() {
+        val cached = ProjectFactory.project()
+        val fresh = ProjectFactory.backedProject()
+        val intent = Intent().putExtra(IntentKey.PROJECT_PARAM, "skull-graphic-tee")
+
+        val projects = ProjectIntentMapper.project(intent, cachingApolloClient(cached) { io.reactivex.Observable.just(fresh) }).test()
+
+        projects.assertValues(cached, fresh)
+        projects.assertComplete()
+    }
+
+    @Test
+    fun testProject_fromProjectParam_cacheMiss_emitsNetworkProject() {
+        val fresh = ProjectFactory.backedProject()
+        val intent = Intent().putExtra(IntentKey.PROJECT_PARAM, "skull-graphic-tee")
+
+        val projects = ProjectIntentMapper.project(intent, cachingApolloClient(null) { io.reactivex.Observable.just(fresh) }).test()
+
+        projects.assertValues(fresh)
+        projects.assertComplete()
+    }
+
+    @Test
+    fun testProject_fromProjectParam_networkError_onlyRetriesNetwork() {
+        val cached = ProjectFactory.project()
+        val fresh = ProjectFactory.backedProject()
+        val intent = Intent().putExtra(IntentKey.PROJECT_PARAM, "skull-graphic-tee")
+        var networkAttempts = 0
+
+        val apolloClient = cachingApolloClient(cached) {
+            io.reactivex.Observable.defer {
+                networkAttempts++
+                if (networkAttempts < 3) io.reactivex.Observable.error(Exception("offline"))
+                else io.reactivex.Observable.just(fresh)
+            }
+        }
+        val projects = ProjectIntentMapper.project(intent, apolloClient).test()
+
+        projects.assertValues(cached, fresh)
+        projects.assertComplete()
+        assertEquals(3, networkAttempts)
+    }
+
     @Test
     fun testProject_emitsTwiceFromProjectExtra_V2() {
         val project = ProjectFactory.project()
@@ -99,6 +145,18 @@ class ProjectIntentMapperTest : KSRobolectricTestCase() {
     fun cleanUp() {
         disposables.clear()
     }
+    private fun cachingApolloClient(cached: Project?, network: () -> io.reactivex.Observable<Project>) =
+        object : MockApolloClientV2() {
+            override fun getProject(slug: String, fetchPolicy: FetchPolicy): io.reactivex.Observable<Project> =
+                when (fetchPolicy) {
+                    FetchPolicy.CacheOnly ->
+                        if (cached == null) io.reactivex.Observable.error(CacheMissException(slug))
+                        else io.reactivex.Observable.just(cached)
+                    FetchPolicy.NetworkOnly -> network()
+                    else -> io.reactivex.Observable.error(IllegalArgumentException("Unexpected fetch policy $fetchPolicy"))
+                }
+        }
+
     private fun attacheTestResultSubscriber(
         intent: Intent,
         resultTestV2: io.reactivex.subscribers.TestSubscriber<Project>
@@ -0,0 +1,117 @@
+package com.kickstarter.ui.viewholders
+
+import android.view.ContextThemeWrapper
+import android.view.LayoutInflater
+import android.view.View
+import com.kickstarter.KSRobolectricTestCase
+import com.kickstarter.R
+import com.kickstarter.databinding.ProjectCardViewBinding
+import com.kickstarter.libs.utils.NumberUtils
+import com.kickstarter.mock.factories.ProjectFactory.project
+import com.kickstarter.models.Project
+import com.kickstarter.services.DiscoveryParams
+import com.kickstarter.ui.adapters.ProjectCardPayload
+import com.kickstarter.ui.data.ProjectCardRow
+import org.junit.Before
+import org.junit.Test
+
+class ProjectCardViewHolderTest : KSRobolectricTestCase() {
+
+    private lateinit var binding: ProjectCardViewBinding
+    private lateinit var viewHolder: ProjectCardViewHolder
+
+    private val clickedProjects = mutableListOf<Project>()
+    private val heartClickedProjects = mutableListOf<Project>()
+
+    @Before
+    fun setUpViewHolder() {
+        binding = ProjectCardViewBinding.inflate(LayoutInflater.from(ContextThemeWrapper(context(), R.style.KSTheme)))
+        viewHolder = ProjectCardViewHolder(
+            binding,
+            object : ProjectCardViewHolder.Delegate {
+                override fun projectCardViewHolderClicked(project: Project) {
+                    clickedProjects.add(project)
+                }
+
+                override fun onHeartButtonClicked(project: Project) {
+                    heartClickedProjects.add(project)
+                }
+            }
+        )
+    }
+
+    private fun row(project: Project) = ProjectCardRow.from(project, DiscoveryParams.builder().build())
+
+    @Test
+    fun testNotifyDelegateOfProjectClick() {
+        val project = project()
+        viewHolder.bindData(row(project))
+
+        binding.root.performClick()
+
+        assertEquals(listOf(project), clickedProjects)
+        assertTrue(heartClickedProjects.isEmpty())
+    }
+
+    @Test
+    fun testNotifyDelegateOfHeartButtonClick() {
+        val project = project()
+        viewHolder.bindData(row(project))
+
+        binding.heartButton?.performClick()
+
+        assertEquals(listOf(project), heartClickedProjects)
+        assertTrue(clickedProjects.isEmpty())
+    }
+
+    @Test
+    fun testBindPayloads_updatesOnlyPatchableViews() {
+        val project = project().toBuilder().isStarred(false).backersCount(50).build()
+        val patched = project.toBuilder().isStarred(true).backersCount(51).name("Patched").build()
+        viewHolder.bindData(row(project))
+        val nameAndBlurb = binding.nameAndBlurbTextView.text.toString()
+
+        val isPatched = viewHolder.bindPayloads(row(patched), listOf(setOf(ProjectCardPayload.WATCH, ProjectCardPayload.BACKERS)))
+        binding.heartButton?.performClick()
+
+        assertTrue(isPatched)
+        assertEquals(NumberUtils.format(51), binding.projectCardStats.backersCount.text.toString())
+        assertEquals(nameAndBlurb, binding.nameAndBlurbTextView.text.toString())
+        assertEquals(listOf(patched), heartClickedProjects)
+    }
+
+    @Test
+    fun testBindPayloads_fallsBackToFullBindForOtherPayloads() {
+        viewHolder.bindData(row(project()))
+
+        assertFalse(viewHolder.bindPayloads(row(project()), listOf("unknown")))
+    }
+
+    @Test
+    fun testBindData_metadataAndBadges() {
+        viewHolder.bindData(row(project().toBuilder().isBacking(true).isStarred(true).build()))
+
+        assertEquals(View.VISIBLE, binding.projectMetadataView.projectMetadataViewGroup.visibility)
+        assertEquals(View.VISIBLE, binding.projectMetadataView.backingGroup.visibility)
+        assertEquals(View.GONE, binding.projectMetadataView.savedViewGroup.visibility)
+        assertEquals(View.GONE, binding.projectMetadataView.comingSoonGroup.visibility)
+
+        viewHolder.bindData(row(project().toBuilder().isBacking(false).isStarred(false).featuredAt(null).build()))
+
+        assertEquals(View.GONE, binding.projectMetadataView.projectMetadataViewGroup.visibility)
+    }
+
+    @Test
+    fun testBindData_projectState() {
+        viewHolder.bindData(row(project().toBuilder().state(Project.STATE_FAILED).build()))
+
+        assertEquals(View.VISIBLE, binding.projectStateViewGroup.projectStateViewGroup.visibility)
+        assertEquals(View.GONE, binding.projectStateViewGroup.fundingSuccessfulViewGroup.visibility)
+        assertEquals(View.VISIBLE, binding.projectStateViewGroup.fundingUnsuccessfulViewGroup.visibility)
+        assertEquals(
+            context().getString(R.string.dashboard_creator_project_funding_unsuccessful),
+            binding.projectStateViewGroup.fundingUnsuccessfulTextView.text.toString()
+        )
+        assertEquals(View.GONE, binding.projectCardStats.projectCardStatsViewGroup.visibility)
+    }
+}
@@ -4,6 +4,7 @@ import android.content.Intent
 import android.content.Intent.ACTION_MAIN
 import android.content.Intent.CATEGORY_LAUNCHER
 import android.net.Uri
+import android.os.Looper
 import android.util.Pair
 import androidx.lifecycle.ViewModelProvider.AndroidViewModelFactory.Companion.APPLICATION_KEY
 import androidx.lifecycle.viewmodel.MutableCreationExtras
@@ -12,7 +13,9 @@ import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.FirebaseHelper
 import com.kickstarter.libs.MockCurrentUserV2
+import com.kickstarter.libs.ProjectPrefetcher
 import com.kickstarter.libs.featureflag.FlagKey
+import com.kickstarter.libs.startup.StartupTiming
 import com.kickstarter.libs.utils.extensions.addToDisposable
 import com.kickstarter.mock.MockFeatureFlagClient
 import com.kickstarter.mock.factories.ProjectFactory
@@ -25,6 +28,7 @@ import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
 import io.reactivex.subscribers.TestSubscriber
 import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.awaitCancellation
 import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.test.UnconfinedTestDispatcher
@@ -38,6 +42,8 @@ import org.junit.Assert.assertThrows
 import org.junit.Test
 import org.mockito.Mockito.mock
 import org.mockito.Mockito.`when`
+import org.robolectric.Shadows.shadowOf
+import java.time.Duration
 import java.util.Optional
 
 class DeepLinkViewModelTest : KSRobolectricTestCase() {
@@ -153,6 +159,65 @@ class DeepLinkViewModelTest : KSRobolectricTestCase() {
         startPMOrderEditWebview.assertNoValues()
     }
 
+    @Test
+    fun `test startup trace measures the time to discovery`() {
+        val url = "ksr://www.kickstarter.com/?app_banner=1&ref=nav"
+
+        setUpEnvironment(intent = intentWithData(url), environment = environment().toBuilder().featureFlagClient(MockFeatureFlagClient()).build())
+        vm.runInitializations()
+        shadowOf(Looper.getMainLooper()).idle()
+
+        startDiscoveryActivity.assertValue { it.isEmpty }
+        val trace = vm.startupTrace()
+        assertEquals(
+            listOf(
+                SplashScreenViewModel.DeepLinkViewModel.TASK_INSTALLATION_ID,
+                SplashScreenViewModel.DeepLinkViewModel.TASK_REMOTE_CONFIG,
+                SplashScreenViewModel.DeepLinkViewModel.TASK_ROUTE
+            ).sorted(),
+            trace.map { it.name }.sorted()
+        )
+        assertTrue(trace.all { it.outcome == StartupTiming.Outcome.COMPLETED })
+    }
+
+    @Test
+    fun `test remote config past its deadline does not block routing`() {
+        val url = "ksr://www.kickstarter.com/?app_banner=1&ref=nav"
+        val slowRemoteConfig = object : MockFeatureFlagClient() {
+            override suspend fun fetchAndActivate(): Boolean = awaitCancellation()
+        }
+
+        setUpEnvironment(intent = intentWithData(url), environment = environment().toBuilder().featureFlagClient(slowRemoteConfig).build())
+        vm.runInitializations()
+
+        startDiscoveryActivity.assertNoValues()
+
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(SplashScreenViewModel.DeepLinkViewModel.REMOTE_CONFIG_DEADLINE_MILLIS))
+
+        startDiscoveryActivity.assertValue { it.isEmpty }
+        val remoteConfig = vm.startupTrace().first { it.name == SplashScreenViewModel.DeepLinkViewModel.TASK_REMOTE_CONFIG }
+        val route = vm.startupTrace().first { it.name == SplashScreenViewModel.DeepLinkViewModel.TASK_ROUTE }
+        assertEquals(StartupTiming.Outcome.TIMED_OUT, remoteConfig.outcome)
+        assertTrue(route.finishedAtMillis >= SplashScreenViewModel.DeepLinkViewModel.REMOTE_CONFIG_DEADLINE_MILLIS)
+    }
+
+    @Test
+    fun `test routing waits for the installation id`() {
+        val url = "ksr://www.kickstarter.com/?app_banner=1&ref=nav"
+
+        setUpEnvironment(intent = intentWithData(url), environment = environment().toBuilder().featureFlagClient(MockFeatureFlagClient()).build())
+        FirebaseHelper.mutableIdentifier().value = ""
+        vm.runInitializations()
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofSeconds(10))
+
+        startDiscoveryActivity.assertNoValues()
+
+        FirebaseHelper.mutableIdentifier().value = "Test"
+        shadowOf(Looper.getMainLooper()).idle()
+
+        startDiscoveryActivity.assertValue { it.isEmpty }
+    }
+
     @Test
     fun `test initialization states update correctly when firebase is initialized`() = runTest {
         val url =
@@ -731,6 +796,72 @@ class DeepLinkViewModelTest : KSRobolectricTestCase() {
         startPMOrderEditWebview.assertNoValues()
     }
 
+    @Test
+    fun testProjectDeepLink_fetchesTheProjectOnce_andHandsItToTheProjectPage() {
+        val project = ProjectFactory.backedProject().toBuilder().displayPrelaunch(false)
+            .deadline(DateTime.now().plusDays(2)).build()
+        var fetches = 0
+        val projectPrefetcher = ProjectPrefetcher()
+
+        val environment = environment().toBuilder()
+            .apolloClientV2(object : MockApolloClientV2() {
+                override fun getProject(slug: String): Observable<Project> {
+                    fetches++
+                    return Observable.just(project)
+                }
+            })
+            .projectPrefetcher(projectPrefetcher)
+            .featureFlagClient(MockFeatureFlagClient())
+            .build()
+
+        val url =
+            "https://www.kickstarter.com/projects/smithsonian/smithsonian-anthology-of-hip-hop-and-rap"
+        setUpEnvironment(environment, intentWithData(url))
+
+        vm.runInitializations()
+
+        startProjectActivity.assertValueCount(1)
+        assertEquals(1, fetches)
+        assertNotNull(projectPrefetcher.take("smithsonian-anthology-of-hip-hop-and-rap"))
+    }
+
+    @Test
+    fun testEmailDomain_followsTheRedirectOnce() {
+        val projectUriAfterRedirection = "https://www.kickstarter.com/projects/lunar1622/the-nasa-approved-tech-watch-with-moon-dust"
+
+        val httpUrl = mock(HttpUrl::class.java)
+        val mockedResponse = mock(Response::class.java)
+        val mockedRequest = mock(Request::class.java)
+
+        `when`(httpUrl.toString()).thenReturn(projectUriAfterRedirection)
+        `when`(mockedResponse.priorResponse).thenReturn(mockedResponse)
+        `when`(mockedResponse.request).thenReturn(mockedRequest)
+        `when`(mockedResponse.code).thenReturn(302)
+        `when`(mockedRequest.url).thenReturn(httpUrl)
+
+        var redirections = 0
+        val externalCall = object : CustomNetworkClient {
+            override fun obtainUriFromRedirection(uri: Uri): Observable<Response> {
+                redirections++
+                return Observable.just(mockedResponse)
+            }
+        }
+        val projectPrefetcher = ProjectPrefetcher()
+        val environment = environment().toBuilder()
+            .projectPrefetcher(projectPrefetcher)
+            .featureFlagClient(MockFeatureFlagClient())
+            .build()
+
+        val url = "https://clicks.kickstarter.com/f/a/tkHp7b-QTkKgs07EBNX69w~~/AAQRxQA~/RgRnG6LxP0SNaHR0cHM6Ly93d3cua2lja3N0YXJ0ZXIuY29t"
+        setUpEnvironment(intent = intentWithData(url), externalCall = externalCall, environment = environment)
+
+        vm.runInitializations()
+
+        startProjectActivity.assertValue(Uri.parse(projectUriAfterRedirection))
+        assertEquals(1, redirections)
+        assertNotNull(projectPrefetcher.take("the-nasa-approved-tech-watch-with-moon-dust"))
+    }
+
     @Test
     /* 2025-12-08 Not changing this test, but noting that this corresponds to the
      * `lastPathSegmentIsProjects()` method in the VM. Since this now overlaps with support for
@@ -40,6 +40,7 @@ import com.kickstarter.services.DiscoveryParams.Companion.getDefaultParams
 import com.kickstarter.services.apiresponses.ActivityEnvelope
 import com.kickstarter.services.apiresponses.DiscoverEnvelope
 import com.kickstarter.ui.data.Editorial
+import com.kickstarter.ui.data.ProjectCardRow
 import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
 import io.reactivex.schedulers.TestScheduler
@@ -366,6 +367,20 @@ class DiscoveryFragmentViewModelTest : KSRobolectricTestCase() {
         clearActivitiesTest.assertValueCount(2)
     }
 
+    @Test
+    fun testProjectCards_areBuiltForEveryProject() {
+        setUpEnvironment(environment().toBuilder().schedulerV2(testScheduler).build())
+        val projectCards = TestSubscriber<List<ProjectCardRow>>()
+        vm.outputs.projectCards().subscribe { projectCards.onNext(it) }.addToDisposable(disposables)
+
+        setUpInitialHomeAllProjectsParams()
+        vm.inputs.fragmentLifeCycle(Lifecycle.State.RESUMED)
+        testScheduler.advanceTimeBy(3, TimeUnit.SECONDS)
+
+        val rows = projectCards.values().last()
+        assertEquals(projects.values().last().map { it.first }, rows.map { it.project })
+    }
+
     @Test
     fun testLoginToutToSaveProject() {
         val currentUser: CurrentUserTypeV2 = MockCurrentUserV2()
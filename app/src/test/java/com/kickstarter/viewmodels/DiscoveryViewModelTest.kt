@@ -8,6 +8,7 @@ import com.kickstarter.R
 import com.kickstarter.libs.CurrentUserTypeV2
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.MockCurrentUserV2
+import com.kickstarter.libs.ReferenceDataStore
 import com.kickstarter.libs.featureflag.FlagKey
 import com.kickstarter.libs.rx.transformers.Transformers
 import com.kickstarter.libs.utils.EventName
@@ -16,11 +17,13 @@ import com.kickstarter.libs.utils.extensions.fromJson
 import com.kickstarter.libs.utils.extensions.positionFromSort
 import com.kickstarter.mock.MockFeatureFlagClient
 import com.kickstarter.mock.factories.ApiExceptionFactory
+import com.kickstarter.mock.factories.CategoryFactory
 import com.kickstarter.mock.factories.CategoryFactory.artCategory
 import com.kickstarter.mock.factories.CategoryFactory.musicCategory
 import com.kickstarter.mock.factories.UserFactory.noRecommendations
 import com.kickstarter.mock.factories.UserFactory.user
 import com.kickstarter.mock.services.MockApiClientV2
+import com.kickstarter.mock.services.MockApolloClientV2
 import com.kickstarter.models.Category
 import com.kickstarter.models.User
 import com.kickstarter.services.DiscoveryParams
@@ -36,6 +39,7 @@ import com.kickstarter.ui.viewholders.discoverydrawer.TopFilterViewHolder
 import io.reactivex.Observable
 import io.reactivex.disposables.CompositeDisposable
 import io.reactivex.plugins.RxJavaPlugins
+import io.reactivex.schedulers.Schedulers
 import io.reactivex.subscribers.TestSubscriber
 import org.junit.After
 import org.junit.Test
@@ -618,6 +622,64 @@ class DiscoveryViewModelTest : KSRobolectricTestCase() {
         position.assertValues(0, 1)
     }
 
+    @Test
+    fun testStaleStoredCategories_unchangedRefresh() {
+        val stored = listOf(artCategory(), musicCategory())
+        assertCategoriesWithStaleStore(stored, Observable.just(stored), stored)
+    }
+
+    @Test
+    fun testStaleStoredCategories_failedRefresh() {
+        val stored = listOf(artCategory(), musicCategory())
+        assertCategoriesWithStaleStore(stored, Observable.error(Exception()), stored)
+    }
+
+    @Test
+    fun testStaleStoredCategories_changedRefresh() {
+        val stored = listOf(artCategory(), musicCategory())
+        val refreshed = CategoryFactory.rootCategories()
+        assertCategoriesWithStaleStore(stored, Observable.just(refreshed), refreshed)
+    }
+
+    /**
+     * Stale stored categories are emitted once, before their refresh. Both the root categories and the drawer must
+     * get them, and keep them when the refresh doesn't emit.
+     */
+    private fun assertCategoriesWithStaleStore(
+        stored: List<Category>,
+        refresh: Observable<List<Category>>,
+        expected: List<Category>
+    ) {
+        var now = 0L
+        val referenceDataStore = ReferenceDataStore(null, writeScheduler = Schedulers.trampoline(), clock = { now })
+        referenceDataStore.putCategories(stored.sorted())
+        now += ReferenceDataStore.MAX_AGE_MILLIS + 1
+
+        val env = environment().toBuilder()
+            .referenceDataStore(referenceDataStore)
+            .apolloClientV2(object : MockApolloClientV2() {
+                override fun fetchCategories(): Observable<List<Category>> = refresh
+            })
+            .build()
+        setUpEnvironment(env)
+
+        val drawerData = TestSubscriber<NavigationDrawerData>()
+        vm.outputs.navigationDrawerData().subscribe { drawerData.onNext(it) }.addToDisposable(disposables)
+        vm.outputs.rootCategoriesAndPosition()
+            .map { cp -> cp.first }
+            .subscribe { rootCategories.onNext(it) }.addToDisposable(disposables)
+
+        vm.provideIntent(Intent(Intent.ACTION_MAIN))
+        vm.inputs.discoveryPagerAdapterSetPrimaryPage(Mockito.mock(DiscoveryPagerAdapter::class.java), 0)
+
+        assertEquals(expected.sorted(), rootCategories.values().last())
+        val drawerCategoryIds = drawerData.values().last().sections()
+            .flatMap { it.rows() }
+            .mapNotNull { it.params().category()?.id() }
+            .toSet()
+        assertEquals(expected.map { it.id() }.toSet(), drawerCategoryIds)
+    }
+
     @Test
     fun testDrawerMenuIcon_whenLoggedOut() {
         setUpEnvironment(environment())
@@ -3,11 +3,13 @@ package com.kickstarter.viewmodels
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.htmlparser.AudioViewElement
+import com.kickstarter.libs.htmlparser.StoryViewElementCache
 import com.kickstarter.libs.htmlparser.ViewElement
 import com.kickstarter.mock.factories.ProjectDataFactory
 import com.kickstarter.mock.factories.ProjectFactory
 import com.kickstarter.viewmodels.projectpage.ProjectCampaignViewModel
 import io.reactivex.disposables.CompositeDisposable
+import io.reactivex.schedulers.Schedulers
 import io.reactivex.subscribers.TestSubscriber
 import org.junit.After
 import org.junit.Test
@@ -64,16 +66,49 @@ class ProjectCampaignViewModelTests : KSRobolectricTestCase() {
             .build()
         val projectData = ProjectDataFactory.project(project)
 
-        setUpEnvironment(environment())
+        val storyCache = StoryViewElementCache(null)
+        setUpEnvironment(
+            environment().toBuilder()
+                .schedulerV2(Schedulers.trampoline())
+                .storyViewElementCache(storyCache)
+                .build()
+        )
         this.vm.inputs.configureWith(projectData)
 
-        this.storyViewElementsList.assertValueCount(1)
+        // - Streamed in growing chunks, the first screen is emitted before the rest of the story is parsed
+        val chunkSizes = this.storyViewElementsList.values().map { it.size }
+        assertTrue(chunkSizes.size > 1)
+        assertTrue(chunkSizes.first() in 8 until 25)
+        assertEquals(chunkSizes.sorted(), chunkSizes)
+        assertEquals(25, chunkSizes.last())
         disposables.add(
             this.vm.storyViewElements().subscribe {
                 assertEquals(it.size, 25)
                 assertTrue(it.filterIsInstance<AudioViewElement>().size == 2)
             }
         )
+        assertEquals(25, storyCache.get(project.id(), requireNotNull(project.story()))?.size)
+    }
+
+    @Test
+    fun cachedStoryTest() {
+        val project = ProjectFactory.project()
+            .toBuilder()
+            .story("<p>First paragraph</p><p>Second paragraph</p>")
+            .build()
+        val cached = listOf<ViewElement>(AudioViewElement("cached"))
+        val storyCache = StoryViewElementCache(null)
+        storyCache.put(project.id(), requireNotNull(project.story()), cached)
+
+        setUpEnvironment(
+            environment().toBuilder()
+                .schedulerV2(Schedulers.trampoline())
+                .storyViewElementCache(storyCache)
+                .build()
+        )
+        this.vm.inputs.configureWith(ProjectDataFactory.project(project))
+
+        this.storyViewElementsList.assertValue(cached)
     }
 
     @Test
@@ -1,5 +1,6 @@
 package com.kickstarter.viewmodels
 
+import com.apollographql.apollo3.cache.normalized.FetchPolicy
 import com.kickstarter.KSRobolectricTestCase
 import com.kickstarter.libs.Environment
 import com.kickstarter.libs.MockCurrentUserV2
@@ -7,15 +8,19 @@ import com.kickstarter.libs.utils.EventName
 import com.kickstarter.mock.MockCurrentConfigV2
 import com.kickstarter.mock.factories.BackingFactory
 import com.kickstarter.mock.factories.ConfigFactory
+import com.kickstarter.mock.factories.LocationFactory
 import com.kickstarter.mock.factories.ProjectDataFactory
 import com.kickstarter.mock.factories.ProjectFactory
 import com.kickstarter.mock.factories.RewardFactory
 import com.kickstarter.mock.factories.ShippingRuleFactory
 import com.kickstarter.mock.factories.ShippingRulesEnvelopeFactory
 import com.kickstarter.mock.factories.UserFactory
+import com.kickstarter.mock.services.MockApolloClientV2
 import com.kickstarter.models.Backing
 import com.kickstarter.models.Project
 import com.kickstarter.models.Reward
+import com.kickstarter.models.ShippingCountryLocationsWrapper
+import com.kickstarter.type.ProjectRewardsSort
 import com.kickstarter.ui.data.PledgeReason
 import com.kickstarter.ui.data.ProjectData
 import com.kickstarter.viewmodels.projectpage.FlowUIState
@@ -23,6 +28,8 @@ import com.kickstarter.viewmodels.projectpage.RewardSelectionUIState
 import com.kickstarter.viewmodels.projectpage.RewardsSelectionViewModel
 import com.kickstarter.viewmodels.usecases.GetShippingRulesUseCase
 import com.kickstarter.viewmodels.usecases.ShippingRulesState
+import io.reactivex.Observable
+import io.reactivex.subjects.PublishSubject
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.ExperimentalCoroutinesApi
 import kotlinx.coroutines.flow.toList
@@ -531,6 +538,44 @@ class RewardsSelectionViewModelTest : KSRobolectricTestCase() {
         assertEquals(shippingUiState.last().shippingRules, testShippingRulesList.shippingRules())
     }
 
+    @Test
+    fun `network rewards revalidating the cached ones keep the shipping rule selected meanwhile`() = runTest {
+        Dispatchers.setMain(UnconfinedTestDispatcher(testScheduler))
+
+        val rewards = PublishSubject.create<List<Reward>>()
+        val currentConfig = MockCurrentConfigV2()
+        currentConfig.config(ConfigFactory.configForUSUser())
+        val env = environment()
+            .toBuilder()
+            .currentConfig2(currentConfig)
+            .apolloClientV2(object : MockApolloClientV2() {
+                override fun getRewardsFromProject(
+                    slug: String,
+                    sort: ProjectRewardsSort,
+                    fetchPolicy: FetchPolicy
+                ): Observable<List<Reward>> = rewards
+
+                override suspend fun fetchShippingCountryLocations(forProject: Boolean, slug: String?): Result<ShippingCountryLocationsWrapper> =
+                    Result.success(ShippingCountryLocationsWrapper(listOf(LocationFactory.unitedStates(), LocationFactory.germany())))
+            })
+            .build()
+
+        createViewModel(env)
+        viewModel.provideProjectData(ProjectDataFactory.project(ProjectFactory.project()))
+
+        // - Cached rewards
+        rewards.onNext(listOf(RewardFactory.reward()))
+        assertEquals(LocationFactory.unitedStates().id(), viewModel.shippingUIState.value.selectedShippingRule.location()?.id())
+
+        viewModel.selectedShippingRule(ShippingRuleFactory.germanyShippingRule())
+
+        // - Network rewards
+        rewards.onNext(listOf(RewardFactory.reward()))
+        rewards.onComplete()
+        assertEquals(LocationFactory.germany().id(), viewModel.shippingUIState.value.selectedShippingRule.location()?.id())
+        assertEquals(ShippingRuleFactory.germanyShippingRule(), viewModel.getPledgeData()?.first?.shippingRule())
+    }
+
     @Test
     fun `When user is updating reward selection, if selecting a different reward and had addOns backed, show alert`() = runTest {
         val reward = RewardFactory.digitalReward()